@@ -56,6 +56,11 @@ public class EventBusOptionsConverter {
             obj.setConnectTimeout(((Number)member.getValue()).intValue());
           }
           break;
+        case "consumerSelection":
+          if (member.getValue() instanceof String) {
+            obj.setConsumerSelection(io.vertx.core.eventbus.ConsumerSelection.valueOf((String)member.getValue()));
+          }
+          break;
         case "crlPaths":
           if (member.getValue() instanceof JsonArray) {
             ((Iterable<Object>)member.getValue()).forEach( item -> {
@@ -268,6 +273,9 @@ public class EventBusOptionsConverter {
     }
     json.put("clusterPublicPort", obj.getClusterPublicPort());
     json.put("connectTimeout", obj.getConnectTimeout());
+    if (obj.getConsumerSelection() != null) {
+      json.put("consumerSelection", obj.getConsumerSelection().name());
+    }
     if (obj.getCrlPaths() != null) {
       JsonArray array = new JsonArray();
       obj.getCrlPaths().forEach(item -> array.add(item));
@@ -41,6 +41,16 @@ public class OpenOptionsConverter {
             obj.setDsync((Boolean)member.getValue());
           }
           break;
+        case "memoryMapWindowSize":
+          if (member.getValue() instanceof Number) {
+            obj.setMemoryMapWindowSize(((Number)member.getValue()).intValue());
+          }
+          break;
+        case "memoryMapped":
+          if (member.getValue() instanceof Boolean) {
+            obj.setMemoryMapped((Boolean)member.getValue());
+          }
+          break;
         case "perms":
           if (member.getValue() instanceof String) {
             obj.setPerms((String)member.getValue());
@@ -85,6 +95,8 @@ public class OpenOptionsConverter {
     json.put("createNew", obj.isCreateNew());
     json.put("deleteOnClose", obj.isDeleteOnClose());
     json.put("dsync", obj.isDsync());
+    json.put("memoryMapWindowSize", obj.getMemoryMapWindowSize());
+    json.put("memoryMapped", obj.isMemoryMapped());
     if (obj.getPerms() != null) {
       json.put("perms", obj.getPerms());
     }
@@ -0,0 +1,41 @@
+package io.vertx.core.file;
+
+import io.vertx.core.json.JsonObject;
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.impl.JsonUtil;
+import java.time.Instant;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * Converter and mapper for {@link io.vertx.core.file.WatchOptions}.
+ * NOTE: This class has been automatically generated from the {@link io.vertx.core.file.WatchOptions} original class using Vert.x codegen.
+ */
+public class WatchOptionsConverter {
+
+
+   static void fromJson(Iterable<java.util.Map.Entry<String, Object>> json, WatchOptions obj) {
+    for (java.util.Map.Entry<String, Object> member : json) {
+      switch (member.getKey()) {
+        case "debounce":
+          if (member.getValue() instanceof Number) {
+            obj.setDebounce(((Number)member.getValue()).longValue());
+          }
+          break;
+        case "recursive":
+          if (member.getValue() instanceof Boolean) {
+            obj.setRecursive((Boolean)member.getValue());
+          }
+          break;
+      }
+    }
+  }
+
+   static void toJson(WatchOptions obj, JsonObject json) {
+    toJson(obj, json.getMap());
+  }
+
+   static void toJson(WatchOptions obj, java.util.Map<String, Object> json) {
+    json.put("debounce", obj.getDebounce());
+    json.put("recursive", obj.isRecursive());
+  }
+}
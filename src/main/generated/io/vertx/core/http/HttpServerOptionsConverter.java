@@ -101,6 +101,16 @@ public class HttpServerOptionsConverter {
             obj.setPerMessageWebSocketCompressionSupported((Boolean)member.getValue());
           }
           break;
+        case "precompressedFilesSupported":
+          if (member.getValue() instanceof Boolean) {
+            obj.setPrecompressedFilesSupported((Boolean)member.getValue());
+          }
+          break;
+        case "sendDateHeader":
+          if (member.getValue() instanceof Boolean) {
+            obj.setSendDateHeader((Boolean)member.getValue());
+          }
+          break;
         case "tracingPolicy":
           if (member.getValue() instanceof String) {
             obj.setTracingPolicy(io.vertx.core.tracing.TracingPolicy.valueOf((String)member.getValue()));
@@ -162,6 +172,8 @@ public class HttpServerOptionsConverter {
     json.put("maxWebSocketMessageSize", obj.getMaxWebSocketMessageSize());
     json.put("perFrameWebSocketCompressionSupported", obj.getPerFrameWebSocketCompressionSupported());
     json.put("perMessageWebSocketCompressionSupported", obj.getPerMessageWebSocketCompressionSupported());
+    json.put("precompressedFilesSupported", obj.isPrecompressedFilesSupported());
+    json.put("sendDateHeader", obj.isSendDateHeader());
     if (obj.getTracingPolicy() != null) {
       json.put("tracingPolicy", obj.getTracingPolicy().name());
     }
@@ -34,6 +34,11 @@ public class RequestOptionsConverter {
             });
           }
           break;
+        case "hedgingDelay":
+          if (member.getValue() instanceof Number) {
+            obj.setHedgingDelay(((Number)member.getValue()).longValue());
+          }
+          break;
         case "host":
           if (member.getValue() instanceof String) {
             obj.setHost((String)member.getValue());
@@ -76,6 +81,7 @@ public class RequestOptionsConverter {
     if (obj.getFollowRedirects() != null) {
       json.put("followRedirects", obj.getFollowRedirects());
     }
+    json.put("hedgingDelay", obj.getHedgingDelay());
     if (obj.getHost() != null) {
       json.put("host", obj.getHost());
     }
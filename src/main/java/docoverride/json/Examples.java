@@ -11,6 +11,7 @@
 
 package docoverride.json;
 
+import io.vertx.core.http.HttpClientRequest;
 import io.vertx.core.http.HttpServerRequest;
 import io.vertx.core.json.Json;
 import io.vertx.core.json.JsonArray;
@@ -72,6 +73,15 @@ public class Examples {
     int intVal = jsonObject.getInteger("some-other-key");
   }
 
+  public void lazyDecoding(HttpServerRequest request, HttpClientRequest forward) {
+    request.bodyHandler(buff -> {
+      JsonObject jsonObject = JsonObject.lazy(buff);
+      String type = jsonObject.getString("type");
+      // The original bytes are sent as is since the object is not modified
+      forward.putHeader("x-type", type).end(jsonObject.toBuffer());
+    });
+  }
+
   public void example3() {
     JsonArray array = new JsonArray();
     array.add("foo").add(123).add(false);
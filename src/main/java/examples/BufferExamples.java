@@ -12,6 +12,7 @@
 package examples;
 
 import io.vertx.core.buffer.Buffer;
+import io.vertx.core.buffer.BufferReader;
 import io.vertx.core.net.NetSocket;
 
 /**
@@ -64,4 +65,27 @@ public class BufferExamples {
     System.out.println(buff.getUnsignedByte(pos));
   }
 
+  public void example10(NetSocket socket) {
+    Buffer buff = Buffer.buffer();
+    buff.writer()
+      .writeVarInt(42)
+      .writeVarInt(5)
+      .writeString("hello");
+    socket.write(buff);
+  }
+
+  public void example11(Buffer buff) {
+    BufferReader reader = buff.reader();
+    int id = reader.readVarInt();
+    int len = reader.readVarInt();
+    String name = reader.readString(len);
+  }
+
+  public void example12(Buffer buff) {
+    int end = buff.indexOf(Buffer.buffer("\r\n\r\n"));
+    if (end != -1) {
+      Buffer headers = buff.slice(0, end);
+    }
+  }
+
 }
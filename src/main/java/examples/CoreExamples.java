@@ -22,6 +22,8 @@ import io.vertx.core.http.*;
 import io.vertx.core.impl.logging.Logger;
 import io.vertx.core.impl.logging.LoggerFactory;
 import io.vertx.core.json.JsonObject;
+import io.vertx.core.metrics.LatencyMetricsFactory;
+import io.vertx.core.metrics.MetricsOptions;
 import io.vertx.core.net.NetClient;
 import io.vertx.core.net.NetServer;
 import io.vertx.core.net.SocketAddress;
@@ -441,4 +443,19 @@ public class CoreExamples {
         });
       });
   }
+
+  public void latencyMetrics() {
+    Vertx vertx = Vertx.vertx(new VertxOptions().setMetricsOptions(new MetricsOptions()
+      .setEnabled(true)
+      .setFactory(new LatencyMetricsFactory())));
+  }
+
+  public void latencyMetricsSnapshot(Vertx vertx, HttpServer server) {
+    // The metrics of the Vert.x instance
+    JsonObject metrics = LatencyMetricsFactory.snapshot(vertx);
+
+    // The metrics of the server
+    JsonObject serverMetrics = LatencyMetricsFactory.snapshot(server);
+    double p99 = serverMetrics.getJsonObject("latency").getDouble("p99");
+  }
 }
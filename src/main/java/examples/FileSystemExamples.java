@@ -14,8 +14,11 @@ package examples;
 import io.vertx.core.Vertx;
 import io.vertx.core.buffer.Buffer;
 import io.vertx.core.file.AsyncFile;
+import io.vertx.core.file.FileChangeEvent;
 import io.vertx.core.file.FileSystem;
 import io.vertx.core.file.OpenOptions;
+import io.vertx.core.file.WatchOptions;
+import io.vertx.core.streams.ReadStream;
 
 /**
  * Created by tim on 09/01/15.
@@ -149,5 +152,17 @@ public class FileSystemExamples {
       }
     });
   }
-}
 
+  public void watch(Vertx vertx) {
+    vertx.fileSystem().watch("src/main/resources", new WatchOptions().setDebounce(500), result -> {
+      if (result.succeeded()) {
+        ReadStream<FileChangeEvent> changes = result.result();
+        changes.handler(change -> {
+          System.out.println(change.type() + " " + change.path());
+        });
+      } else {
+        System.err.println("Cannot watch directory " + result.cause());
+      }
+    });
+  }
+}
@@ -994,6 +994,16 @@ public class HTTPExamples {
 
   }
 
+  public void example56_2(HttpServer server) {
+
+    WebSocketGroup group = WebSocketGroup.create(SlowConsumerPolicy.DROP);
+
+    server.webSocketHandler(webSocket -> group.add(webSocket));
+
+    // Later, send a message to all the WebSockets of the group
+    group.writeTextMessage("Geronimo!");
+  }
+
   public void example57(WebSocket webSocket) {
 
     webSocket.frameHandler(frame -> {
@@ -12,9 +12,12 @@
 package examples;
 
 import io.vertx.core.buffer.Buffer;
+import io.vertx.core.json.pointer.JsonPointer;
 import io.vertx.core.parsetools.JsonParser;
 import io.vertx.core.parsetools.RecordParser;
 
+import java.util.Arrays;
+
 /**
  * Example using the record parser.
  */
@@ -205,4 +208,21 @@ public class ParseToolsExamples {
       // Catch any parsing or decoding error
     });
   }
+
+  public void jsonParserExample8() {
+
+    JsonParser parser = JsonParser.newParser();
+
+    // Only emit the id and the name of the user of each object of the stream
+    parser.projectionMode(Arrays.asList(JsonPointer.from("/id"), JsonPointer.from("/user/name")));
+
+    parser.handler(event -> {
+      // Each event is a value located by one of the pointers
+      System.out.println(event.pointer() + " : " + event.value());
+    });
+
+    parser.handle(Buffer.buffer("{\"id\":1,\"user\":{\"name\":\"Bob\",\"friends\":[...]},\"history\":[...]}\n"));
+    parser.handle(Buffer.buffer("{\"id\":2,\"user\":{\"name\":\"Morane\",\"friends\":[...]},\"history\":[...]}\n"));
+    parser.end();
+  }
 }
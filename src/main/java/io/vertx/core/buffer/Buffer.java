@@ -351,6 +351,30 @@ public interface Buffer extends ClusterSerializable, Shareable {
    */
   String getString(int start, int end);
 
+  /**
+   * Returns the position of the first occurrence of {@code value} in the Buffer, or {@code -1} if the Buffer
+   * does not contain it.
+   */
+  int indexOf(byte value);
+
+  /**
+   * Returns the position of the first occurrence of {@code value} in the Buffer starting at position {@code from},
+   * or {@code -1} if the Buffer does not contain it.
+   */
+  int indexOf(byte value, int from);
+
+  /**
+   * Returns the position of the first occurrence of the bytes of {@code needle} in the Buffer, or {@code -1}
+   * if the Buffer does not contain them.
+   */
+  int indexOf(Buffer needle);
+
+  /**
+   * Returns the position of the first occurrence of the bytes of {@code needle} in the Buffer starting at
+   * position {@code from}, or {@code -1} if the Buffer does not contain them.
+   */
+  int indexOf(Buffer needle, int from);
+
   /**
    * Appends the specified {@code Buffer} to the end of this Buffer. The buffer will expand as necessary to accommodate
    * any bytes written.<p>
@@ -709,4 +733,15 @@ public interface Buffer extends ClusterSerializable, Shareable {
   @GenIgnore(GenIgnore.PERMITTED_TYPE)
   ByteBuf getByteBuf();
 
+  /**
+   * Returns a reader reading the Buffer from its first byte. The reader reads the content of the Buffer as is
+   * without copying it.
+   */
+  BufferReader reader();
+
+  /**
+   * Returns a writer appending to the end of the Buffer.
+   */
+  BufferWriter writer();
+
 }
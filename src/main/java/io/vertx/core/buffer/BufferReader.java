@@ -0,0 +1,130 @@
+/*
+ * Copyright (c) 2011-2019 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.core.buffer;
+
+import io.vertx.codegen.annotations.Fluent;
+import io.vertx.codegen.annotations.VertxGen;
+
+/**
+ * A cursor reading a {@link Buffer} sequentially, obtained with {@link Buffer#reader()}.
+ * <p>
+ * Each read advances the position of the reader by the number of bytes read. The content is read in place: the
+ * strings are decoded from the buffer bytes and {@link #readSlice(int)} returns a view of the buffer, so protocol
+ * parsers do not need to copy the buffer with {@link Buffer#getBytes(int, int)} or {@link Buffer#getBuffer(int, int)}.
+ * <p>
+ * A read beyond the length of the buffer throws an {@link IndexOutOfBoundsException} and does not change the position.
+ */
+@VertxGen
+public interface BufferReader {
+
+  /**
+   * @return the buffer being read
+   */
+  Buffer buffer();
+
+  /**
+   * @return the position of the next byte to read
+   */
+  int position();
+
+  /**
+   * Set the position of the next byte to read.
+   *
+   * @param position the position, between {@code 0} and the length of the buffer
+   * @return a reference to this, so the API can be used fluently
+   */
+  @Fluent
+  BufferReader position(int position);
+
+  /**
+   * @return the number of bytes between the position and the end of the buffer
+   */
+  int remaining();
+
+  /**
+   * Advance the position of {@code length} bytes.
+   *
+   * @return a reference to this, so the API can be used fluently
+   */
+  @Fluent
+  BufferReader skip(int length);
+
+  /**
+   * Returns the position of the first occurrence of {@code value} from the position of the reader, or {@code -1}
+   * if the rest of the buffer does not contain it. The position of the reader does not change.
+   */
+  int indexOf(byte value);
+
+  /**
+   * Returns the position of the first occurrence of the bytes of {@code needle} from the position of the reader,
+   * or {@code -1} if the rest of the buffer does not contain them. The position of the reader does not change.
+   */
+  int indexOf(Buffer needle);
+
+  byte readByte();
+
+  short readUnsignedByte();
+
+  short readShort();
+
+  short readShortLE();
+
+  int readUnsignedShort();
+
+  int readUnsignedShortLE();
+
+  int readInt();
+
+  int readIntLE();
+
+  long readUnsignedInt();
+
+  long readUnsignedIntLE();
+
+  long readLong();
+
+  long readLongLE();
+
+  float readFloat();
+
+  double readDouble();
+
+  /**
+   * Read a variable length integer written by {@link BufferWriter#writeVarInt(int)}.
+   *
+   * @throws IllegalStateException when the encoding is longer than 5 bytes
+   */
+  int readVarInt();
+
+  /**
+   * Read a variable length long written by {@link BufferWriter#writeVarLong(long)}.
+   *
+   * @throws IllegalStateException when the encoding is longer than 10 bytes
+   */
+  long readVarLong();
+
+  /**
+   * Read a string of {@code length} bytes decoded in UTF-8.
+   */
+  String readString(int length);
+
+  /**
+   * Read {@code length} bytes as a slice of the buffer: modifying the content of the slice or of the buffer
+   * affects each other's content.
+   */
+  Buffer readSlice(int length);
+
+  /**
+   * Read {@code length} bytes as a copy.
+   */
+  Buffer readBuffer(int length);
+}
@@ -0,0 +1,90 @@
+/*
+ * Copyright (c) 2011-2019 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.core.buffer;
+
+import io.vertx.codegen.annotations.Fluent;
+import io.vertx.codegen.annotations.VertxGen;
+
+/**
+ * A cursor appending to the end of a {@link Buffer}, obtained with {@link Buffer#writer()}.
+ * <p>
+ * In addition to the fixed length types, the writer encodes variable length integers and encodes strings in UTF-8
+ * directly into the buffer.
+ */
+@VertxGen
+public interface BufferWriter {
+
+  /**
+   * @return the buffer being written
+   */
+  Buffer buffer();
+
+  /**
+   * @return the position of the next byte to write, i.e the length of the buffer
+   */
+  int position();
+
+  @Fluent
+  BufferWriter writeByte(byte b);
+
+  @Fluent
+  BufferWriter writeShort(short s);
+
+  @Fluent
+  BufferWriter writeShortLE(short s);
+
+  @Fluent
+  BufferWriter writeInt(int i);
+
+  @Fluent
+  BufferWriter writeIntLE(int i);
+
+  @Fluent
+  BufferWriter writeLong(long l);
+
+  @Fluent
+  BufferWriter writeLongLE(long l);
+
+  @Fluent
+  BufferWriter writeFloat(float f);
+
+  @Fluent
+  BufferWriter writeDouble(double d);
+
+  /**
+   * Write an integer with a variable length encoding: 7 bits per byte, least significant group first, the high bit
+   * of a byte is set when more bytes follow. Values below {@code 128} take a single byte, negative values take 5 bytes.
+   *
+   * @return a reference to this, so the API can be used fluently
+   */
+  @Fluent
+  BufferWriter writeVarInt(int i);
+
+  /**
+   * Like {@link #writeVarInt(int)} for a long, negative values take 10 bytes.
+   *
+   * @return a reference to this, so the API can be used fluently
+   */
+  @Fluent
+  BufferWriter writeVarLong(long l);
+
+  /**
+   * Write a string encoded in UTF-8, without encoding it to an intermediate byte array.
+   *
+   * @return a reference to this, so the API can be used fluently
+   */
+  @Fluent
+  BufferWriter writeString(String s);
+
+  @Fluent
+  BufferWriter writeBuffer(Buffer buffer);
+}
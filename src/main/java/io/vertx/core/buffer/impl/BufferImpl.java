@@ -13,9 +13,12 @@ package io.vertx.core.buffer.impl;
 
 
 import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufUtil;
 import io.netty.buffer.Unpooled;
 import io.netty.util.CharsetUtil;
 import io.vertx.core.buffer.Buffer;
+import io.vertx.core.buffer.BufferReader;
+import io.vertx.core.buffer.BufferWriter;
 import io.vertx.core.impl.Arguments;
 import io.vertx.core.json.JsonArray;
 import io.vertx.core.json.JsonObject;
@@ -229,6 +232,59 @@ public class BufferImpl implements Buffer {
     return new String(bytes, StandardCharsets.UTF_8);
   }
 
+  public int indexOf(byte value) {
+    return indexOf(value, 0, buffer.writerIndex());
+  }
+
+  public int indexOf(byte value, int from) {
+    return indexOf(value, Math.max(0, from), buffer.writerIndex());
+  }
+
+  public int indexOf(Buffer needle) {
+    return indexOf(needle, 0);
+  }
+
+  public int indexOf(Buffer needle, int from) {
+    ByteBuf other = ((BufferImpl) needle).buffer;
+    int len = other.writerIndex();
+    from = Math.max(0, from);
+    if (len == 0) {
+      return from <= buffer.writerIndex() ? from : -1;
+    }
+    byte first = other.getByte(0);
+    int last = buffer.writerIndex() - len;
+    for (int i = indexOf(first, from, last + 1);i != -1;i = indexOf(first, i + 1, last + 1)) {
+      if (ByteBufUtil.equals(buffer, i, other, 0, len)) {
+        return i;
+      }
+    }
+    return -1;
+  }
+
+  private static final long LOW_BITS = 0x7F7F7F7F7F7F7F7FL;
+
+  /**
+   * Find the first occurrence of {@code value} between {@code from} and {@code to}, eight bytes are compared at once.
+   */
+  private int indexOf(byte value, int from, int to) {
+    long pattern = (value & 0xFFL) * 0x0101010101010101L;
+    int i = from;
+    for (;i + 8 <= to;i += 8) {
+      long word = buffer.getLong(i) ^ pattern;
+      // Sets the high bit of the bytes that are zero, i.e equal to the value
+      long match = ~((word & LOW_BITS) + LOW_BITS | word | LOW_BITS);
+      if (match != 0) {
+        return i + (Long.numberOfLeadingZeros(match) >>> 3);
+      }
+    }
+    for (;i < to;i++) {
+      if (buffer.getByte(i) == value) {
+        return i;
+      }
+    }
+    return -1;
+  }
+
   public Buffer appendBuffer(Buffer buff) {
     BufferImpl impl = (BufferImpl) buff;
     ByteBuf byteBuf = impl.buffer;
@@ -503,6 +559,16 @@ public class BufferImpl implements Buffer {
     return buffer;
   }
 
+  @Override
+  public BufferReader reader() {
+    return new BufferReaderImpl(this);
+  }
+
+  @Override
+  public BufferWriter writer() {
+    return new BufferWriterImpl(this);
+  }
+
   public ByteBuf getByteBuf() {
     ByteBuf duplicate = buffer.duplicate();
     if (buffer.getClass() != VertxHeapByteBuf.class && buffer.getClass() != VertxUnsafeHeapByteBuf.class) {
@@ -512,6 +578,13 @@ public class BufferImpl implements Buffer {
   }
 
   private Buffer append(String str, Charset charset) {
+    if (charset.equals(StandardCharsets.UTF_8)) {
+      // Encode in place
+      int len = ByteBufUtil.utf8Bytes(str);
+      ensureExpandableBy(len);
+      ByteBufUtil.reserveAndWriteUtf8(buffer, str, len);
+      return this;
+    }
     byte[] bytes = str.getBytes(charset);
     ensureExpandableBy(bytes.length);
     buffer.writeBytes(bytes);
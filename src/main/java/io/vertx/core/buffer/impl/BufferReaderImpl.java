@@ -0,0 +1,212 @@
+/*
+ * Copyright (c) 2011-2019 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.core.buffer.impl;
+
+import io.netty.buffer.ByteBuf;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.buffer.BufferReader;
+import io.vertx.core.impl.Arguments;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Reads the {@code ByteBuf} of a buffer, the {@code ByteBuf} is obtained for each read since the buffer replaces it
+ * when it grows beyond its max capacity.
+ */
+class BufferReaderImpl implements BufferReader {
+
+  private final BufferImpl buffer;
+  private int position;
+
+  BufferReaderImpl(BufferImpl buffer) {
+    this.buffer = buffer;
+  }
+
+  @Override
+  public Buffer buffer() {
+    return buffer;
+  }
+
+  @Override
+  public int position() {
+    return position;
+  }
+
+  @Override
+  public BufferReader position(int position) {
+    Arguments.require(position >= 0 && position <= buffer.length(), "Position must be between 0 and the buffer length");
+    this.position = position;
+    return this;
+  }
+
+  @Override
+  public int remaining() {
+    return buffer.length() - position;
+  }
+
+  @Override
+  public BufferReader skip(int length) {
+    advance(length);
+    return this;
+  }
+
+  @Override
+  public int indexOf(byte value) {
+    return buffer.indexOf(value, position);
+  }
+
+  @Override
+  public int indexOf(Buffer needle) {
+    return buffer.indexOf(needle, position);
+  }
+
+  /**
+   * Advance the position of {@code length} bytes.
+   *
+   * @return the position before advancing
+   */
+  private int advance(int length) {
+    int pos = position;
+    if (length < 0 || length > buffer.length() - pos) {
+      throw new IndexOutOfBoundsException("Cannot read " + length + " bytes at position " + pos + ", the buffer length is " + buffer.length());
+    }
+    position = pos + length;
+    return pos;
+  }
+
+  @Override
+  public byte readByte() {
+    return buffer.byteBuf().getByte(advance(1));
+  }
+
+  @Override
+  public short readUnsignedByte() {
+    return buffer.byteBuf().getUnsignedByte(advance(1));
+  }
+
+  @Override
+  public short readShort() {
+    return buffer.byteBuf().getShort(advance(2));
+  }
+
+  @Override
+  public short readShortLE() {
+    return buffer.byteBuf().getShortLE(advance(2));
+  }
+
+  @Override
+  public int readUnsignedShort() {
+    return buffer.byteBuf().getUnsignedShort(advance(2));
+  }
+
+  @Override
+  public int readUnsignedShortLE() {
+    return buffer.byteBuf().getUnsignedShortLE(advance(2));
+  }
+
+  @Override
+  public int readInt() {
+    return buffer.byteBuf().getInt(advance(4));
+  }
+
+  @Override
+  public int readIntLE() {
+    return buffer.byteBuf().getIntLE(advance(4));
+  }
+
+  @Override
+  public long readUnsignedInt() {
+    return buffer.byteBuf().getUnsignedInt(advance(4));
+  }
+
+  @Override
+  public long readUnsignedIntLE() {
+    return buffer.byteBuf().getUnsignedIntLE(advance(4));
+  }
+
+  @Override
+  public long readLong() {
+    return buffer.byteBuf().getLong(advance(8));
+  }
+
+  @Override
+  public long readLongLE() {
+    return buffer.byteBuf().getLongLE(advance(8));
+  }
+
+  @Override
+  public float readFloat() {
+    return buffer.byteBuf().getFloat(advance(4));
+  }
+
+  @Override
+  public double readDouble() {
+    return buffer.byteBuf().getDouble(advance(8));
+  }
+
+  @Override
+  public int readVarInt() {
+    ByteBuf buf = buffer.byteBuf();
+    int len = buffer.length();
+    int pos = position;
+    int value = 0;
+    for (int shift = 0;shift < 35;shift += 7) {
+      if (pos == len) {
+        throw new IndexOutOfBoundsException("Truncated variable length integer at position " + position);
+      }
+      byte b = buf.getByte(pos++);
+      value |= (b & 0x7F) << shift;
+      if (b >= 0) {
+        position = pos;
+        return value;
+      }
+    }
+    throw new IllegalStateException("Malformed variable length integer at position " + position);
+  }
+
+  @Override
+  public long readVarLong() {
+    ByteBuf buf = buffer.byteBuf();
+    int len = buffer.length();
+    int pos = position;
+    long value = 0;
+    for (int shift = 0;shift < 70;shift += 7) {
+      if (pos == len) {
+        throw new IndexOutOfBoundsException("Truncated variable length long at position " + position);
+      }
+      byte b = buf.getByte(pos++);
+      value |= (long) (b & 0x7F) << shift;
+      if (b >= 0) {
+        position = pos;
+        return value;
+      }
+    }
+    throw new IllegalStateException("Malformed variable length long at position " + position);
+  }
+
+  @Override
+  public String readString(int length) {
+    return buffer.byteBuf().toString(advance(length), length, StandardCharsets.UTF_8);
+  }
+
+  @Override
+  public Buffer readSlice(int length) {
+    int pos = advance(length);
+    return buffer.slice(pos, pos + length);
+  }
+
+  @Override
+  public Buffer readBuffer(int length) {
+    int pos = advance(length);
+    return buffer.getBuffer(pos, pos + length);
+  }
+}
@@ -0,0 +1,123 @@
+/*
+ * Copyright (c) 2011-2019 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.core.buffer.impl;
+
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.buffer.BufferWriter;
+
+/**
+ * Appends to a buffer.
+ */
+class BufferWriterImpl implements BufferWriter {
+
+  private final BufferImpl buffer;
+
+  BufferWriterImpl(BufferImpl buffer) {
+    this.buffer = buffer;
+  }
+
+  @Override
+  public Buffer buffer() {
+    return buffer;
+  }
+
+  @Override
+  public int position() {
+    return buffer.length();
+  }
+
+  @Override
+  public BufferWriter writeByte(byte b) {
+    buffer.appendByte(b);
+    return this;
+  }
+
+  @Override
+  public BufferWriter writeShort(short s) {
+    buffer.appendShort(s);
+    return this;
+  }
+
+  @Override
+  public BufferWriter writeShortLE(short s) {
+    buffer.appendShortLE(s);
+    return this;
+  }
+
+  @Override
+  public BufferWriter writeInt(int i) {
+    buffer.appendInt(i);
+    return this;
+  }
+
+  @Override
+  public BufferWriter writeIntLE(int i) {
+    buffer.appendIntLE(i);
+    return this;
+  }
+
+  @Override
+  public BufferWriter writeLong(long l) {
+    buffer.appendLong(l);
+    return this;
+  }
+
+  @Override
+  public BufferWriter writeLongLE(long l) {
+    buffer.appendLongLE(l);
+    return this;
+  }
+
+  @Override
+  public BufferWriter writeFloat(float f) {
+    buffer.appendFloat(f);
+    return this;
+  }
+
+  @Override
+  public BufferWriter writeDouble(double d) {
+    buffer.appendDouble(d);
+    return this;
+  }
+
+  @Override
+  public BufferWriter writeVarInt(int i) {
+    while ((i & ~0x7F) != 0) {
+      buffer.appendByte((byte) (i & 0x7F | 0x80));
+      i >>>= 7;
+    }
+    buffer.appendByte((byte) i);
+    return this;
+  }
+
+  @Override
+  public BufferWriter writeVarLong(long l) {
+    while ((l & ~0x7FL) != 0) {
+      buffer.appendByte((byte) (l & 0x7F | 0x80));
+      l >>>= 7;
+    }
+    buffer.appendByte((byte) l);
+    return this;
+  }
+
+  @Override
+  public BufferWriter writeString(String s) {
+    buffer.appendString(s);
+    return this;
+  }
+
+  @Override
+  public BufferWriter writeBuffer(Buffer buff) {
+    buffer.appendBuffer(buff);
+    return this;
+  }
+}
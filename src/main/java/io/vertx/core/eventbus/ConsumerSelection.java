@@ -0,0 +1,39 @@
+/*
+ * Copyright (c) 2011-2019 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.core.eventbus;
+
+import io.vertx.codegen.annotations.VertxGen;
+
+/**
+ * The policy choosing the consumer of a point-to-point message among the local consumers registered at
+ * the message address.
+ */
+@VertxGen
+public enum ConsumerSelection {
+
+  /**
+   * The consumers are chosen in turn.
+   */
+  ROUND_ROBIN,
+
+  /**
+   * A consumer running on the event loop of the thread delivering the message is preferred, so the message
+   * is not handed off to another event loop. When there is no such consumer, the consumers are chosen in turn.
+   */
+  LOCAL,
+
+  /**
+   * Two consumers are chosen at random and the consumer with the fewest messages waiting for delivery is chosen.
+   */
+  LEAST_PENDING
+
+}
@@ -41,10 +41,16 @@ public class DeliveryOptions {
    */
   public static final boolean DEFAULT_LOCAL_ONLY = false;
 
+  /**
+   * Whether the message should be delivered inline to consumers running on the sender event loop by default = false.
+   */
+  public static final boolean DEFAULT_INLINE_DELIVERY = false;
+
   private long timeout = DEFAULT_TIMEOUT;
   private String codecName;
   private MultiMap headers;
   private boolean localOnly = DEFAULT_LOCAL_ONLY;
+  private boolean inlineDelivery = DEFAULT_INLINE_DELIVERY;
 
   /**
    * Default constructor
@@ -62,6 +68,7 @@ public class DeliveryOptions {
     this.codecName = other.getCodecName();
     this.headers = other.getHeaders();
     this.localOnly = other.localOnly;
+    this.inlineDelivery = other.inlineDelivery;
   }
 
   /**
@@ -83,6 +90,7 @@ public class DeliveryOptions {
       }
     }
     this.localOnly = json.getBoolean("localOnly", DEFAULT_LOCAL_ONLY);
+    this.inlineDelivery = json.getBoolean("inlineDelivery", DEFAULT_INLINE_DELIVERY);
   }
 
   /**
@@ -100,6 +108,7 @@ public class DeliveryOptions {
       json.put("headers", hJson);
     }
     json.put("localOnly", localOnly);
+    json.put("inlineDelivery", inlineDelivery);
     return json;
   }
 
@@ -217,4 +226,28 @@ public class DeliveryOptions {
     this.localOnly = localOnly;
     return this;
   }
+
+  /**
+   * @return whether the message should be delivered inline to consumers running on the sender event loop
+   */
+  public boolean isInlineDelivery() {
+    return inlineDelivery;
+  }
+
+  /**
+   * Whether a message should be delivered inline to local consumers running on the sender event loop. Defaults to {@code false}.
+   *
+   * <p>
+   * When the sender runs on the event loop of an event loop context consumer, the consumer handler is called directly
+   * instead of being scheduled on the event loop task queue. The delivery still falls back to the task queue when the
+   * consumer is already handling a message or when earlier messages are waiting to be delivered to it, so a handler is
+   * never re-entered and the message order is preserved.
+   *
+   * @param inlineDelivery {@code true} to deliver inline, {@code false} otherwise
+   * @return a reference to this, so the API can be used fluently
+   */
+  public DeliveryOptions setInlineDelivery(boolean inlineDelivery) {
+    this.inlineDelivery = inlineDelivery;
+    return this;
+  }
 }
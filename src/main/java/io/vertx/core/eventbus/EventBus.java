@@ -20,6 +20,8 @@ import io.vertx.core.Future;
 import io.vertx.core.Handler;
 import io.vertx.core.metrics.Measured;
 
+import java.util.List;
+
 /**
  * A Vert.x event-bus is a light-weight distributed messaging system which allows different parts of your application,
  * or different applications and services to communicate with each in a loosely coupled way.
@@ -58,6 +60,48 @@ public interface EventBus extends Measured {
   @Fluent
   EventBus send(String address, @Nullable Object message, DeliveryOptions options);
 
+  /**
+   * Sends a batch of messages.
+   * <p>
+   * The messages will be delivered together to at most one of the handlers registered to the address, in the list
+   * order. The batch is sent as a single message, e.g a single frame on the wire when the handler is on another node,
+   * and is delivered to the handler as individual messages, or as a list with {@link MessageConsumer#batchHandler}.
+   * <p>
+   * The messages of the batch cannot be replied.
+   * <p>
+   * In a cluster, the node receiving the batch must support batches too: a node of a previous version fails to decode
+   * the batch, so send the messages individually until every node of the cluster is upgraded.
+   *
+   * @param address  the address to send it to
+   * @param messages  the messages, the elements may be {@code null}
+   * @return a reference to this, so the API can be used fluently
+   */
+  @Fluent
+  @GenIgnore
+  default EventBus sendBatch(String address, List<?> messages) {
+    return sendBatch(address, messages, new DeliveryOptions());
+  }
+
+  /**
+   * Like {@link #sendBatch(String, List)} but specifying {@code options} that can be used to configure the delivery,
+   * the codec name applies to every message of the batch.
+   * <p>
+   * The default implementation sends each message individually.
+   *
+   * @param address  the address to send it to
+   * @param messages  the messages, the elements may be {@code null}
+   * @param options  delivery options
+   * @return a reference to this, so the API can be used fluently
+   */
+  @Fluent
+  @GenIgnore
+  default EventBus sendBatch(String address, List<?> messages, DeliveryOptions options) {
+    for (Object message : messages) {
+      send(address, message, options);
+    }
+    return this;
+  }
+
   /**
    * Sends a message and and specify a {@code replyHandler} that will be called if the recipient
    * subsequently replies to the message.
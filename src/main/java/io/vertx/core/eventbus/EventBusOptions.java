@@ -18,6 +18,7 @@ import io.vertx.core.http.ClientAuth;
 import io.vertx.core.json.JsonObject;
 import io.vertx.core.net.*;
 
+import java.util.Objects;
 import java.util.Set;
 import java.util.concurrent.TimeUnit;
 
@@ -65,6 +66,13 @@ public class EventBusOptions extends TCPSSLOptions {
   private long clusterPingReplyInterval = DEFAULT_CLUSTER_PING_REPLY_INTERVAL;
   private JsonObject clusterNodeMetadata;
 
+  /**
+   * The default consumer selection = {@link ConsumerSelection#ROUND_ROBIN}.
+   */
+  public static final ConsumerSelection DEFAULT_CONSUMER_SELECTION = ConsumerSelection.ROUND_ROBIN;
+
+  private ConsumerSelection consumerSelection = DEFAULT_CONSUMER_SELECTION;
+
   // Attributes used to configure the server of the event bus when the event bus is clustered.
 
   /**
@@ -141,6 +149,7 @@ public class EventBusOptions extends TCPSSLOptions {
     this.clusterPingInterval = other.clusterPingInterval;
     this.clusterPingReplyInterval = other.clusterPingReplyInterval;
     this.clusterNodeMetadata = other.clusterNodeMetadata == null ? null : other.clusterNodeMetadata.copy();
+    this.consumerSelection = other.consumerSelection;
 
     this.port = other.port;
     this.host = other.host;
@@ -665,4 +674,26 @@ public class EventBusOptions extends TCPSSLOptions {
     this.clusterNodeMetadata = clusterNodeMetadata;
     return this;
   }
+
+  /**
+   * @return the policy choosing the consumer of a point-to-point message
+   */
+  public ConsumerSelection getConsumerSelection() {
+    return consumerSelection;
+  }
+
+  /**
+   * Set the policy choosing the consumer of a point-to-point message among the local consumers registered at the
+   * message address.
+   * <p>
+   * The default {@link ConsumerSelection#ROUND_ROBIN} policy chooses the consumers in turn, regardless of the
+   * event loop they run on.
+   *
+   * @param consumerSelection the policy
+   * @return a reference to this, so the API can be used fluently
+   */
+  public EventBusOptions setConsumerSelection(ConsumerSelection consumerSelection) {
+    this.consumerSelection = Objects.requireNonNull(consumerSelection, "consumerSelection");
+    return this;
+  }
 }
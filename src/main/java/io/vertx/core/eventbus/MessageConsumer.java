@@ -17,6 +17,9 @@ import io.vertx.core.Future;
 import io.vertx.core.Handler;
 import io.vertx.core.streams.ReadStream;
 
+import java.util.Collections;
+import java.util.List;
+
 /**
  * An event bus consumer object representing a stream of message to an {@link EventBus} address that can
  * be read from.
@@ -39,6 +42,30 @@ public interface MessageConsumer<T> extends ReadStream<Message<T>> {
   @Override
   MessageConsumer<T> handler(Handler<Message<T>> handler);
 
+  /**
+   * Set a handler receiving the messages of this consumer in batches, instead of calling a {@link #handler} for
+   * each message.
+   * <p>
+   * A batch is delivered when it holds {@code maxSize} messages or {@code maxDelay} milliseconds after its first
+   * message was received, whichever comes first. Messages sent together with {@link EventBus#sendBatch} are
+   * received in bulk by the consumer.
+   * <p>
+   * Like {@link #handler}, setting the batch handler registers the consumer.
+   * <p>
+   * The default implementation delivers each message in a batch of its own.
+   *
+   * @param maxSize the maximum number of messages of a batch
+   * @param maxDelay the maximum delay in milliseconds between the reception of a message and the delivery of its batch
+   * @param handler the handler receiving the batches
+   * @return a reference to this, so the API can be used fluently
+   */
+  default MessageConsumer<T> batchHandler(int maxSize, long maxDelay, Handler<List<Message<T>>> handler) {
+    if (handler == null) {
+      return handler(null);
+    }
+    return handler(msg -> handler.handle(Collections.singletonList(msg)));
+  }
+
   @Override
   MessageConsumer<T> pause();
 
@@ -18,6 +18,7 @@ import io.vertx.core.eventbus.impl.codecs.*;
 import io.vertx.core.json.JsonArray;
 import io.vertx.core.json.JsonObject;
 
+import java.util.List;
 import java.util.Objects;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
@@ -45,6 +46,7 @@ public class CodecManager {
   public static final MessageCodec<Byte, Byte> BYTE_MESSAGE_CODEC = new ByteMessageCodec();
   public static final MessageCodec<ReplyException, ReplyException> REPLY_EXCEPTION_MESSAGE_CODEC = new ReplyExceptionMessageCodec();
 
+  private final MessageCodec<MessageBatch, MessageBatch> batchCodec = new BatchMessageCodec(this);
   private final MessageCodec[] systemCodecs;
   private final ConcurrentMap<String, MessageCodec> userCodecMap = new ConcurrentHashMap<>();
   private final ConcurrentMap<Class, MessageCodec> defaultCodecMap = new ConcurrentHashMap<>();
@@ -52,7 +54,34 @@ public class CodecManager {
   public CodecManager() {
     this.systemCodecs = codecs(NULL_MESSAGE_CODEC, PING_MESSAGE_CODEC, STRING_MESSAGE_CODEC, BUFFER_MESSAGE_CODEC, JSON_OBJECT_MESSAGE_CODEC, JSON_ARRAY_MESSAGE_CODEC,
       BYTE_ARRAY_MESSAGE_CODEC, INT_MESSAGE_CODEC, LONG_MESSAGE_CODEC, FLOAT_MESSAGE_CODEC, DOUBLE_MESSAGE_CODEC,
-      BOOLEAN_MESSAGE_CODEC, SHORT_MESSAGE_CODEC, CHAR_MESSAGE_CODEC, BYTE_MESSAGE_CODEC, REPLY_EXCEPTION_MESSAGE_CODEC);
+      BOOLEAN_MESSAGE_CODEC, SHORT_MESSAGE_CODEC, CHAR_MESSAGE_CODEC, BYTE_MESSAGE_CODEC, REPLY_EXCEPTION_MESSAGE_CODEC,
+      batchCodec);
+  }
+
+  /**
+   * Create the body of a batch message, each body is associated with its codec.
+   *
+   * @param bodies the bodies
+   * @param codecName the codec name applying to all bodies or {@code null}
+   * @return the batch
+   */
+  public MessageBatch batch(List<?> bodies, String codecName) {
+    int size = bodies.size();
+    Object[] array = new Object[size];
+    MessageCodec[] codecs = new MessageCodec[size];
+    for (int i = 0;i < size;i++) {
+      Object body = bodies.get(i);
+      array[i] = body;
+      codecs[i] = lookupCodec(body, codecName);
+    }
+    return new MessageBatch(array, codecs);
+  }
+
+  /**
+   * @return whether the {@code codec} is the codec of batch messages
+   */
+  public boolean isBatchCodec(MessageCodec codec) {
+    return codec == batchCodec;
   }
 
   public MessageCodec lookupCodec(Object body, String codecName) {
@@ -90,6 +119,8 @@ public class CodecManager {
       codec = CHAR_MESSAGE_CODEC;
     } else if (body instanceof Byte) {
       codec = BYTE_MESSAGE_CODEC;
+    } else if (body instanceof MessageBatch) {
+      codec = batchCodec;
     } else if (body instanceof ReplyException) {
       codec = defaultCodecMap.get(body.getClass());
       if (codec == null) {
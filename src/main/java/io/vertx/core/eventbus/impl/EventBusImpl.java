@@ -17,19 +17,21 @@ import io.vertx.core.impl.ContextInternal;
 import io.vertx.core.impl.VertxInternal;
 import io.vertx.core.impl.logging.Logger;
 import io.vertx.core.impl.logging.LoggerFactory;
-import io.vertx.core.impl.utils.ConcurrentCyclicSequence;
+import io.vertx.core.impl.utils.ConcurrentCyclicSet;
 import io.vertx.core.spi.metrics.EventBusMetrics;
 import io.vertx.core.spi.metrics.MetricsProvider;
 import io.vertx.core.spi.metrics.VertxMetrics;
 
 import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Objects;
+import java.util.Random;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.CopyOnWriteArrayList;
-import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
 
 /**
  * A local event bus implementation
@@ -42,17 +44,32 @@ public class EventBusImpl implements EventBusInternal, MetricsProvider {
 
   private final List<Handler<DeliveryContext>> sendInterceptors = new CopyOnWriteArrayList<>();
   private final List<Handler<DeliveryContext>> receiveInterceptors = new CopyOnWriteArrayList<>();
-  private final AtomicLong replySequence = new AtomicLong(0);
   protected final VertxInternal vertx;
   protected final EventBusMetrics metrics;
-  protected final ConcurrentMap<String, ConcurrentCyclicSequence<HandlerHolder>> handlerMap = new ConcurrentHashMap<>();
+  protected final ConcurrentMap<String, ConcurrentCyclicSet<HandlerHolder>> handlerMap = new ConcurrentHashMap<>();
   protected final CodecManager codecManager = new CodecManager();
+  private final ReplyTable replies;
+  final ConsumerSelection consumerSelection;
   protected volatile boolean started;
 
   public EventBusImpl(VertxInternal vertx) {
+    this(vertx, new EventBusOptions());
+  }
+
+  public EventBusImpl(VertxInternal vertx, EventBusOptions options) {
+    this(vertx, options, "__vertx.reply.", null);
+  }
+
+  /**
+   * @param replyAddressPrefix the prefix of the reply addresses, followed by the reply correlation id and token
+   * @param replyTokens the source of the reply address tokens or {@code null} when they need not be unpredictable
+   */
+  protected EventBusImpl(VertxInternal vertx, EventBusOptions options, String replyAddressPrefix, Random replyTokens) {
     VertxMetrics metrics = vertx.metricsSPI();
     this.vertx = vertx;
     this.metrics = metrics != null ? metrics.createEventBusMetrics() : null;
+    this.replies = new ReplyTable(vertx, replyAddressPrefix, replyTokens);
+    this.consumerSelection = options.getConsumerSelection();
   }
 
   @Override
@@ -104,6 +121,14 @@ public class EventBusImpl implements EventBusInternal, MetricsProvider {
     return this;
   }
 
+  @Override
+  public EventBus sendBatch(String address, List<?> messages, DeliveryOptions options) {
+    Objects.requireNonNull(messages, "messages");
+    MessageImpl msg = createMessage(true, address, options.getHeaders(), codecManager.batch(messages, options.getCodecName()), null);
+    sendOrPubInternal(msg, options, null, null);
+    return this;
+  }
+
   @Override
   public <T> Future<Message<T>> request(String address, Object message, DeliveryOptions options) {
     MessageImpl msg = createMessage(true, address, options.getHeaders(), message, options.getCodecName());
@@ -236,6 +261,14 @@ public class EventBusImpl implements EventBusInternal, MetricsProvider {
   }
 
   protected <T> HandlerHolder<T> addRegistration(String address, HandlerRegistration<T> registration, boolean replyHandler, boolean localOnly, Promise<Void> promise) {
+    if (replyHandler) {
+      // Reply handlers are only known by the reply table
+      replies.add((ReplyHandler<T>) registration);
+      if (promise != null) {
+        promise.complete();
+      }
+      return new HandlerHolder<>(registration, true, true, registration.context);
+    }
     HandlerHolder<T> holder = addLocalRegistration(address, registration, replyHandler, localOnly);
     onLocalRegistration(holder, promise);
     return holder;
@@ -255,11 +288,14 @@ public class EventBusImpl implements EventBusInternal, MetricsProvider {
 
     HandlerHolder<T> holder = createHandlerHolder(registration, replyHandler, localOnly, context);
 
-    ConcurrentCyclicSequence<HandlerHolder> handlers = new ConcurrentCyclicSequence<HandlerHolder>().add(holder);
-    ConcurrentCyclicSequence<HandlerHolder> actualHandlers = handlerMap.merge(
-      address,
-      handlers,
-      (old, prev) -> old.add(prev.first()));
+    // The handlers are modified in place while the map entry is locked
+    handlerMap.compute(address, (key, handlers) -> {
+      if (handlers == null) {
+        handlers = consumerSelection == ConsumerSelection.LOCAL ? new ConcurrentCyclicSet<>(EVENT_LOOP) : new ConcurrentCyclicSet<>();
+      }
+      handlers.add(holder);
+      return handlers;
+    });
 
     if (context.isDeployment()) {
       context.addCloseHook(registration);
@@ -273,6 +309,11 @@ public class EventBusImpl implements EventBusInternal, MetricsProvider {
   }
 
   protected <T> void removeRegistration(HandlerHolder<T> handlerHolder, Promise<Void> promise) {
+    if (handlerHolder.isReplyHandler()) {
+      replies.remove((ReplyHandler<T>) handlerHolder.getHandler());
+      promise.complete();
+      return;
+    }
     removeLocalRegistration(handlerHolder);
     onLocalUnregistration(handlerHolder, promise);
   }
@@ -283,12 +324,9 @@ public class EventBusImpl implements EventBusInternal, MetricsProvider {
 
   private <T> void removeLocalRegistration(HandlerHolder<T> holder) {
     String address = holder.getHandler().address;
-    handlerMap.compute(address, (key, val) -> {
-      if (val == null) {
-        return null;
-      }
-      ConcurrentCyclicSequence<HandlerHolder> next = val.remove(holder);
-      return next.size() == 0 ? null : next;
+    handlerMap.computeIfPresent(address, (key, handlers) -> {
+      handlers.remove(holder);
+      return handlers.size() == 0 ? null : handlers;
     });
     if (holder.setRemoved() && holder.getContext().deploymentID() != null) {
       holder.getContext().removeCloseHook(holder.getHandler());
@@ -329,11 +367,19 @@ public class EventBusImpl implements EventBusInternal, MetricsProvider {
   }
 
   protected ReplyException deliverMessageLocally(MessageImpl msg) {
-    ConcurrentCyclicSequence<HandlerHolder> handlers = handlerMap.get(msg.address());
+    ReplyHandler<?> replyHandler = replies.get(msg.address());
+    if (replyHandler != null) {
+      if (metrics != null) {
+        metrics.messageReceived(msg.address(), !msg.isSend(), isMessageLocal(msg), 1);
+      }
+      replyHandler.receive(msg.copyBeforeReceive());
+      return null;
+    }
+    ConcurrentCyclicSet<HandlerHolder> handlers = handlerMap.get(msg.address());
     if (handlers != null) {
       if (msg.isSend()) {
         //Choose one
-        HandlerHolder holder = handlers.next();
+        HandlerHolder holder = selectHandler(handlers);
         if (metrics != null) {
           metrics.messageReceived(msg.address(), !msg.isSend(), isMessageLocal(msg), holder != null ? 1 : 0);
         }
@@ -360,23 +406,36 @@ public class EventBusImpl implements EventBusInternal, MetricsProvider {
     }
   }
 
+  // The handlers are partitioned by event loop for the LOCAL selection
+  private static final Function<HandlerHolder, Object> EVENT_LOOP = holder -> holder.context.isEventLoopContext() ? holder.context.nettyEventLoop() : null;
+  private static final Comparator<HandlerHolder> LEAST_QUEUED = Comparator.comparingInt(holder -> holder.handler.queued());
+
+  private HandlerHolder selectHandler(ConcurrentCyclicSet<HandlerHolder> handlers) {
+    switch (consumerSelection) {
+      case LOCAL:
+        ContextInternal current = vertx.getContext();
+        return handlers.nextOf(current != null && current.isEventLoopContext() ? current.nettyEventLoop() : null);
+      case LEAST_PENDING:
+        return handlers.next(LEAST_QUEUED);
+      default:
+        return handlers.next();
+    }
+  }
+
   protected void checkStarted() {
     if (!started) {
       throw new IllegalStateException("Event Bus is not started");
     }
   }
 
-  protected String generateReplyAddress() {
-    return "__vertx.reply." + Long.toString(replySequence.incrementAndGet());
-  }
-
   <T> ReplyHandler<T> createReplyHandler(MessageImpl message,
                                                  boolean src,
                                                  DeliveryOptions options) {
     long timeout = options.getSendTimeout();
-    String replyAddress = generateReplyAddress();
+    long id = replies.nextId();
+    String replyAddress = replies.address(id, replies.nextToken());
     message.setReplyAddress(replyAddress);
-    ReplyHandler<T> handler = new ReplyHandler<>(this, vertx.getOrCreateContext(), replyAddress, message.address, src, timeout);
+    ReplyHandler<T> handler = new ReplyHandler<>(this, vertx.getOrCreateContext(), id, replyAddress, message.address, src, timeout);
     handler.register();
     return handler;
   }
@@ -388,6 +447,7 @@ public class EventBusImpl implements EventBusInternal, MetricsProvider {
 
   public <T> void sendOrPubInternal(OutboundDeliveryContext<T> senderCtx) {
     checkStarted();
+    senderCtx.message.inlineDelivery = senderCtx.options != null && senderCtx.options.isInlineDelivery();
     senderCtx.iter = sendInterceptors.iterator();
     senderCtx.bus = this;
     senderCtx.metrics = metrics;
@@ -403,11 +463,14 @@ public class EventBusImpl implements EventBusInternal, MetricsProvider {
   private Future<Void> unregisterAll() {
     // Unregister all handlers explicitly - don't rely on context hooks
     List<Future> futures = new ArrayList<>();
-    for (ConcurrentCyclicSequence<HandlerHolder> handlers : handlerMap.values()) {
+    for (ConcurrentCyclicSet<HandlerHolder> handlers : handlerMap.values()) {
       for (HandlerHolder holder : handlers) {
         futures.add(holder.getHandler().unregister());
       }
     }
+    for (ReplyHandler<?> handler : replies.handlers()) {
+      futures.add(handler.unregister());
+    }
     return CompositeFuture.join(futures).mapEmpty();
   }
 }
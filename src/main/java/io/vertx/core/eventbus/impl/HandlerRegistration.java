@@ -11,6 +11,7 @@
 package io.vertx.core.eventbus.impl;
 
 import io.vertx.core.*;
+import io.vertx.core.eventbus.ConsumerSelection;
 import io.vertx.core.eventbus.DeliveryContext;
 import io.vertx.core.eventbus.Message;
 import io.vertx.core.impl.ContextInternal;
@@ -22,10 +23,12 @@ import io.vertx.core.spi.tracing.VertxTracer;
 import io.vertx.core.tracing.TracingPolicy;
 
 import java.util.Iterator;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
 
 public abstract class HandlerRegistration<T> implements Closeable {
 
   private static final Logger log = LoggerFactory.getLogger(HandlerRegistration.class);
+  private static final AtomicIntegerFieldUpdater<HandlerRegistration> SCHEDULED_UPDATER = AtomicIntegerFieldUpdater.newUpdater(HandlerRegistration.class, "scheduled");
 
   public final ContextInternal context;
   public final EventBusImpl bus;
@@ -33,6 +36,13 @@ public abstract class HandlerRegistration<T> implements Closeable {
   public final boolean src;
   private HandlerHolder<T> registered;
   private Object metric;
+  // Messages scheduled on the event loop and not yet delivered, updated with SCHEDULED_UPDATER, only counted when
+  // the registration received an inline delivery message or when the bus chooses the least pending consumer
+  private volatile int scheduled;
+  private volatile boolean countScheduled;
+  private volatile boolean scheduledUncounted;
+  // State accessed exclusively from the event loop thread
+  private boolean receiving;
 
   HandlerRegistration(ContextInternal context,
                       EventBusImpl bus,
@@ -42,19 +52,70 @@ public abstract class HandlerRegistration<T> implements Closeable {
     this.bus = bus;
     this.src = src;
     this.address = address;
+    this.countScheduled = bus.consumerSelection == ConsumerSelection.LEAST_PENDING;
   }
 
   void receive(MessageImpl msg) {
     if (bus.metrics != null) {
       bus.metrics.scheduleMessage(metric, msg.isLocal());
     }
-    context.nettyEventLoop().execute(() -> {
+    boolean inline = msg.inlineDelivery && context.isEventLoopContext() && context.nettyEventLoop().inEventLoop();
+    if (msg.inlineDelivery && !countScheduled) {
+      // Scheduled messages are counted from the first inline delivery message, this message cannot be delivered
+      // inline when messages were scheduled before without being counted
+      countScheduled = true;
+      inline &= !scheduledUncounted;
+    }
+    if (inline && canDeliverInline()) {
+      deliver(msg);
+    } else if (countScheduled) {
+      SCHEDULED_UPDATER.incrementAndGet(this);
+      context.nettyEventLoop().execute(() -> {
+        SCHEDULED_UPDATER.decrementAndGet(this);
+        deliver(msg);
+      });
+    } else {
+      if (!scheduledUncounted) {
+        scheduledUncounted = true;
+      }
+      context.nettyEventLoop().execute(() -> deliver(msg));
+    }
+  }
+
+  /**
+   * Messages are delivered inline only when no message is scheduled for delivery, so the order of the messages is
+   * preserved, and when this registration is not already receiving a message, so a handler is never re-entered, e.g
+   * when two consumers exchange messages the delivery falls back to the event loop task queue.
+   */
+  private boolean canDeliverInline() {
+    return scheduled == 0 && !receiving;
+  }
+
+  private void deliver(MessageImpl msg) {
+    receiving = true;
+    try {
       // Need to check handler is still there - the handler might have been removed after the message were sent but
       // before it was received
       if (!doReceive(msg) && bus.metrics != null) {
         bus.metrics.discardMessage(metric, msg.isLocal(), msg);
       }
-    });
+    } finally {
+      receiving = false;
+    }
+  }
+
+  /**
+   * @return an estimate of the number of messages waiting for delivery, only used to choose a consumer
+   */
+  int queued() {
+    return scheduled + pending();
+  }
+
+  /**
+   * @return an estimate of the number of messages received and buffered by the registration
+   */
+  protected int pending() {
+    return 0;
   }
 
   protected abstract boolean doReceive(Message<T> msg);
@@ -87,6 +87,18 @@ public class MessageConsumerImpl<T> extends HandlerRegistration<T> implements Me
     return this;
   }
 
+  /**
+   * Discard a message received while the buffer of a paused consumer is full, must be called under this lock.
+   */
+  private void discardNewest(Message<T> message) {
+    discard(message);
+    if (discardHandler != null) {
+      discardHandler.handle(message);
+    } else {
+      log.warn("Discarding message as more than " + maxBufferedMessages + " buffered in paused consumer. address: " + address);
+    }
+  }
+
   @Override
   public synchronized int getMaxBufferedMessages() {
     return maxBufferedMessages;
@@ -109,10 +121,20 @@ public class MessageConsumerImpl<T> extends HandlerRegistration<T> implements Me
 
   @Override
   public synchronized Future<Void> unregister() {
-    handler = null;
-    if (endHandler != null) {
+    Handler<Void> endHandler = this.endHandler;
+    if (handler instanceof Batcher) {
+      // Deliver the last batch from the consumer context, before signalling the end
+      Batcher batcher = (Batcher) handler;
+      context.runOnContext(v -> {
+        batcher.flush();
+        if (endHandler != null) {
+          endHandler.handle(null);
+        }
+      });
+    } else if (endHandler != null) {
       endHandler.handle(null);
     }
+    handler = null;
     if (pending.size() > 0) {
       Queue<Message<T>> discarded = pending;
       Handler<Message<T>> handler = discardHandler;
@@ -135,7 +157,15 @@ public class MessageConsumerImpl<T> extends HandlerRegistration<T> implements Me
     return fut;
   }
 
+  @Override
+  protected int pending() {
+    return pending.size();
+  }
+
   protected boolean doReceive(Message<T> message) {
+    if (eventBus.codecManager.isBatchCodec(((MessageImpl<?, ?>) message).codec())) {
+      return doReceiveBatch(((MessageImpl<?, ?>) message).unbatch());
+    }
     Handler<Message<T>> theHandler;
     synchronized (this) {
       if (handler == null) {
@@ -146,12 +176,7 @@ public class MessageConsumerImpl<T> extends HandlerRegistration<T> implements Me
           pending.add(message);
           return true;
         } else {
-          discard(message);
-          if (discardHandler != null) {
-            discardHandler.handle(message);
-          } else {
-            log.warn("Discarding message as more than " + maxBufferedMessages + " buffered in paused consumer. address: " + address);
-          }
+          discardNewest(message);
         }
         return true;
       } else {
@@ -169,6 +194,47 @@ public class MessageConsumerImpl<T> extends HandlerRegistration<T> implements Me
     return true;
   }
 
+  /**
+   * Receive the messages of a batch in bulk: the messages are handled in this task as long as there is demand
+   * and buffered otherwise, instead of one task per message.
+   */
+  private boolean doReceiveBatch(List<Message<T>> messages) {
+    synchronized (this) {
+      if (handler == null) {
+        return false;
+      }
+    }
+    for (Message<T> message : messages) {
+      Handler<Message<T>> theHandler;
+      synchronized (this) {
+        if (handler == null) {
+          // Unregistered by a previous message of the batch
+          discard(message);
+          continue;
+        }
+        if (demand == 0L) {
+          if (pending.size() < maxBufferedMessages) {
+            pending.add(message);
+          } else {
+            discardNewest(message);
+          }
+          continue;
+        }
+        if (pending.size() > 0) {
+          pending.add(message);
+          message = pending.poll();
+        }
+        if (demand != Long.MAX_VALUE) {
+          demand--;
+        }
+        theHandler = handler;
+      }
+      dispatch(theHandler, message, context.duplicate());
+    }
+    checkNextTick();
+    return true;
+  }
+
   @Override
   protected void dispatch(Message<T> msg, ContextInternal context, Handler<Message<T>> handler) {
     if (handler == null) {
@@ -239,6 +305,59 @@ public class MessageConsumerImpl<T> extends HandlerRegistration<T> implements Me
     return this;
   }
 
+  @Override
+  public MessageConsumer<T> batchHandler(int maxSize, long maxDelay, Handler<List<Message<T>>> handler) {
+    Arguments.require(maxSize > 0, "Max batch size must be > 0");
+    Arguments.require(maxDelay > 0, "Max batch delay must be > 0");
+    Objects.requireNonNull(handler, "handler");
+    return handler(new Batcher(maxSize, maxDelay, handler));
+  }
+
+  /**
+   * Accumulates the messages delivered to the consumer, this is only accessed from the consumer context.
+   */
+  private class Batcher implements Handler<Message<T>> {
+
+    private final int maxSize;
+    private final long maxDelay;
+    private final Handler<List<Message<T>>> handler;
+    private List<Message<T>> batch;
+    private long timerID = -1L;
+
+    Batcher(int maxSize, long maxDelay, Handler<List<Message<T>>> handler) {
+      this.maxSize = maxSize;
+      this.maxDelay = maxDelay;
+      this.handler = handler;
+    }
+
+    @Override
+    public void handle(Message<T> message) {
+      if (batch == null) {
+        batch = new ArrayList<>(Math.min(maxSize, 16));
+        timerID = context.setTimer(maxDelay, id -> {
+          timerID = -1L;
+          flush();
+        });
+      }
+      batch.add(message);
+      if (batch.size() >= maxSize) {
+        flush();
+      }
+    }
+
+    void flush() {
+      if (timerID != -1L) {
+        vertx.cancelTimer(timerID);
+        timerID = -1L;
+      }
+      List<Message<T>> messages = batch;
+      if (messages != null) {
+        batch = null;
+        handler.handle(messages);
+      }
+    }
+  }
+
   @Override
   public ReadStream<T> bodyStream() {
     return new BodyReadStream<>(this);
@@ -14,9 +14,11 @@ package io.vertx.core.eventbus.impl;
 import io.vertx.core.Future;
 import io.vertx.core.MultiMap;
 import io.vertx.core.eventbus.*;
+import io.vertx.core.eventbus.impl.codecs.MessageBatch;
 import io.vertx.core.impl.logging.Logger;
 import io.vertx.core.impl.logging.LoggerFactory;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 
@@ -36,6 +38,7 @@ public class MessageImpl<U, V> implements Message<V> {
   protected V receivedBody;
   protected boolean send;
   protected Object trace;
+  boolean inlineDelivery;
 
   public MessageImpl(EventBusImpl bus) {
     this.bus = bus;
@@ -69,12 +72,31 @@ public class MessageImpl<U, V> implements Message<V> {
       this.receivedBody = messageCodec.transform(other.sentBody);
     }
     this.send = other.send;
+    this.inlineDelivery = other.inlineDelivery;
   }
 
   public MessageImpl<U, V> copyBeforeReceive() {
     return new MessageImpl<>(this);
   }
 
+  /**
+   * Expand a message sent with {@link EventBusImpl#sendBatch}, the messages share the headers of this message.
+   *
+   * @return the messages of the batch
+   */
+  <T> List<Message<T>> unbatch() {
+    MessageBatch batch = (MessageBatch) body();
+    MultiMap headers = headers();
+    int size = batch.size();
+    List<Message<T>> messages = new ArrayList<>(size);
+    for (int i = 0;i < size;i++) {
+      MessageImpl<Object, T> message = new MessageImpl<>(address, headers, null, batch.codec(i), send, bus);
+      message.receivedBody = (T) batch.body(i);
+      messages.add(message);
+    }
+    return messages;
+  }
+
   @Override
   public String address() {
     return address;
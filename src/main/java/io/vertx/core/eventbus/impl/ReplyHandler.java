@@ -11,12 +11,12 @@
 
 package io.vertx.core.eventbus.impl;
 
+import io.netty.channel.EventLoop;
 import io.vertx.core.Future;
 import io.vertx.core.Handler;
 import io.vertx.core.Promise;
 import io.vertx.core.eventbus.Message;
 import io.vertx.core.eventbus.ReplyException;
-import io.vertx.core.eventbus.ReplyFailure;
 import io.vertx.core.impl.ContextInternal;
 import io.vertx.core.spi.tracing.TagExtractor;
 import io.vertx.core.spi.tracing.VertxTracer;
@@ -26,21 +26,27 @@ class ReplyHandler<T> extends HandlerRegistration<T> {
   private final EventBusImpl eventBus;
   private final ContextInternal context;
   private final Promise<Message<T>> result;
-  private final long timeoutID;
   private final boolean src;
-  private final String repliedAddress;
+  final String repliedAddress;
+  final long id;
+  final long timeout;
   Object trace;
 
-  ReplyHandler(EventBusImpl eventBus, ContextInternal context, String address, String repliedAddress, boolean src, long timeout) {
+  // Expiry state guarded by the lock of the ReplyTable shard of the context event loop
+  long deadline;
+  boolean linked;
+  ReplyHandler<?> prev;
+  ReplyHandler<?> next;
+
+  ReplyHandler(EventBusImpl eventBus, ContextInternal context, long id, String address, String repliedAddress, boolean src, long timeout) {
     super(context, eventBus, address, src);
     this.eventBus = eventBus;
     this.context = context;
     this.result = context.promise();
     this.src = src;
     this.repliedAddress = repliedAddress;
-    this.timeoutID = eventBus.vertx.setTimer(timeout, id -> {
-      fail(new ReplyException(ReplyFailure.TIMEOUT, "Timed out after waiting " + timeout + "(ms) for a reply. address: " + address + ", repliedAddress: " + repliedAddress));
-    });
+    this.id = id;
+    this.timeout = timeout;
   }
 
   private void trace(Object reply, Throwable failure) {
@@ -51,15 +57,19 @@ class ReplyHandler<T> extends HandlerRegistration<T> {
     }
   }
 
+  /**
+   * @return the event loop of the requesting context
+   */
+  EventLoop eventLoop() {
+    return context.nettyEventLoop();
+  }
+
   Future<Message<T>> result() {
     return result.future();
   }
 
   void fail(ReplyException failure) {
     unregister(ar -> {});
-    if (failure.failureType() == ReplyFailure.NO_HANDLERS) {
-      eventBus.vertx.cancelTimer(timeoutID);
-    }
     if (result.tryFail(failure)) {
       if (eventBus.metrics != null) {
         eventBus.metrics.replyFailure(repliedAddress, failure.failureType());
@@ -85,7 +95,6 @@ class ReplyHandler<T> extends HandlerRegistration<T> {
 
   @Override
   protected void dispatch(Message<T> reply, ContextInternal context, Handler<Message<T>> handler /* null */) {
-    eventBus.vertx.cancelTimer(timeoutID);
     if (reply.body() instanceof ReplyException) {
       // This is kind of clunky - but hey-ho
       fail((ReplyException) reply.body());
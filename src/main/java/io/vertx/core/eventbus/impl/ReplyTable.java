@@ -0,0 +1,262 @@
+/*
+ * Copyright (c) 2011-2019 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.core.eventbus.impl;
+
+import io.netty.channel.EventLoop;
+import io.vertx.core.eventbus.ReplyException;
+import io.vertx.core.eventbus.ReplyFailure;
+import io.vertx.core.impl.ContextInternal;
+import io.vertx.core.impl.VertxInternal;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Correlates replies with the {@link ReplyHandler} waiting for them.
+ * <p>
+ * Reply handlers are not registered in the event bus handler map, instead the reply address carries a sequence
+ * number used as key of this table followed by a random token, a reply is only accepted when its address carries
+ * the token of the handler so the reply addresses cannot be guessed from the sequence.
+ * <p>
+ * The reply timeouts are sharded per event loop of the requesting context, so requesters on different event loops
+ * do not contend on the same lock. The timeouts of a shard share a single timer: handlers are kept in a linked list
+ * per timeout value which is therefore ordered by deadline, the timer is set for the earliest deadline of all lists.
+ * The timer is set on a context owned by the shard, on the same event loop.
+ * <p>
+ * A reply handler is not bound to the deployment of the requester: it stays in the table after the deployment is
+ * undeployed, until the reply is received or the timeout expires, it is not leaked since every handler has a timeout.
+ */
+class ReplyTable {
+
+  private final VertxInternal vertx;
+  private final String prefix;
+  private final Random random;
+  private final AtomicLong sequence = new AtomicLong();
+  private final ConcurrentMap<Long, ReplyHandler<?>> handlers = new ConcurrentHashMap<>();
+  private final ConcurrentMap<EventLoop, Shard> shards = new ConcurrentHashMap<>();
+
+  /**
+   * @param random the source of the reply tokens, when {@code null} the tokens are drawn from
+   *               {@link ThreadLocalRandom} which is cheaper but predictable
+   */
+  ReplyTable(VertxInternal vertx, String prefix, Random random) {
+    this.vertx = vertx;
+    this.prefix = prefix;
+    this.random = random;
+  }
+
+  /**
+   * @return a new correlation id
+   */
+  long nextId() {
+    return sequence.incrementAndGet();
+  }
+
+  /**
+   * @return a new random token
+   */
+  long nextToken() {
+    return random != null ? random.nextLong() : ThreadLocalRandom.current().nextLong();
+  }
+
+  /**
+   * @return the reply address of the correlation {@code id} and {@code token}
+   */
+  String address(long id, long token) {
+    return prefix + id + '.' + Long.toHexString(token);
+  }
+
+  /**
+   * @return the handler waiting for a reply sent to {@code address} or {@code null}
+   */
+  ReplyHandler<?> get(String address) {
+    if (!address.startsWith(prefix)) {
+      return null;
+    }
+    int from = prefix.length();
+    int sep = address.indexOf('.', from);
+    long id = sep == -1 ? -1L : parseId(address, from, sep);
+    if (id <= 0) {
+      return null;
+    }
+    ReplyHandler<?> handler = handlers.get(id);
+    // The token must match as well
+    return handler != null && handler.address.equals(address) ? handler : null;
+  }
+
+  Collection<ReplyHandler<?>> handlers() {
+    return handlers.values();
+  }
+
+  void add(ReplyHandler<?> handler) {
+    handlers.put(handler.id, handler);
+    shards.computeIfAbsent(handler.eventLoop(), Shard::new).link(handler);
+  }
+
+  boolean remove(ReplyHandler<?> handler) {
+    if (!handlers.remove(handler.id, handler)) {
+      return false;
+    }
+    Shard shard = shards.get(handler.eventLoop());
+    if (shard != null) {
+      shard.unlink(handler);
+    }
+    return true;
+  }
+
+  /**
+   * The timeouts of the reply handlers of an event loop.
+   */
+  private class Shard {
+
+    private final ContextInternal context;
+
+    // Guarded by this
+    private final Map<Long, Expiry> lists = new HashMap<>();
+    private long timerID = -1L;
+    private long timerDeadline;
+
+    Shard(EventLoop eventLoop) {
+      // A timer set on the context of a deployment would be cancelled when it is undeployed
+      context = vertx.createEventLoopContext(eventLoop, null, null);
+    }
+
+    synchronized void link(ReplyHandler<?> handler) {
+      long now = now();
+      handler.deadline = now + handler.timeout;
+      Expiry list = lists.computeIfAbsent(handler.timeout, t -> new Expiry());
+      ReplyHandler<?> tail = list.tail;
+      if (tail == null) {
+        list.head = handler;
+      } else {
+        tail.next = handler;
+        handler.prev = tail;
+      }
+      list.tail = handler;
+      handler.linked = true;
+      // A timer past its deadline has been cancelled or is about to fire, in both cases set a new one
+      if (timerID == -1L || handler.deadline < timerDeadline || timerDeadline < now) {
+        schedule(handler.deadline, now);
+      }
+    }
+
+    synchronized void unlink(ReplyHandler<?> handler) {
+      if (!handler.linked) {
+        return;
+      }
+      handler.linked = false;
+      Expiry list = lists.get(handler.timeout);
+      if (handler.prev == null) {
+        list.head = handler.next;
+      } else {
+        handler.prev.next = handler.next;
+      }
+      if (handler.next == null) {
+        list.tail = handler.prev;
+      } else {
+        handler.next.prev = handler.prev;
+      }
+      handler.prev = null;
+      handler.next = null;
+      if (list.head == null) {
+        lists.remove(handler.timeout);
+      }
+    }
+
+    /**
+     * Must be called under this lock.
+     */
+    private void schedule(long deadline, long now) {
+      if (timerID != -1L) {
+        vertx.cancelTimer(timerID);
+        timerID = -1L;
+      }
+      timerDeadline = deadline;
+      timerID = context.setTimer(Math.max(1L, deadline - now), this::expire);
+    }
+
+    private void expire(long id) {
+      List<ReplyHandler<?>> expired = new ArrayList<>();
+      long now = now();
+      synchronized (this) {
+        if (timerID != id) {
+          return;
+        }
+        timerID = -1L;
+        long next = Long.MAX_VALUE;
+        Iterator<Expiry> it = lists.values().iterator();
+        while (it.hasNext()) {
+          Expiry list = it.next();
+          ReplyHandler<?> handler;
+          while ((handler = list.head) != null && handler.deadline <= now) {
+            list.head = handler.next;
+            handler.linked = false;
+            handler.next = null;
+            if (list.head != null) {
+              list.head.prev = null;
+            }
+            expired.add(handler);
+          }
+          if (handler == null) {
+            list.tail = null;
+            it.remove();
+          } else {
+            next = Math.min(next, handler.deadline);
+          }
+        }
+        if (next != Long.MAX_VALUE) {
+          schedule(next, now);
+        }
+      }
+      for (ReplyHandler<?> handler : expired) {
+        handler.fail(new ReplyException(ReplyFailure.TIMEOUT, "Timed out after waiting " + handler.timeout + "(ms) for a reply. address: " + handler.address + ", repliedAddress: " + handler.repliedAddress));
+      }
+    }
+  }
+
+  private static long parseId(String address, int from, int to) {
+    if (from == to || to - from > 18) {
+      return -1L;
+    }
+    long id = 0L;
+    for (int i = from;i < to;i++) {
+      char c = address.charAt(i);
+      if (c < '0' || c > '9') {
+        return -1L;
+      }
+      id = id * 10 + (c - '0');
+    }
+    return id;
+  }
+
+  /**
+   * The handlers sharing the same timeout, linked in deadline order.
+   */
+  private static class Expiry {
+    ReplyHandler<?> head;
+    ReplyHandler<?> tail;
+  }
+
+  private static long now() {
+    return TimeUnit.NANOSECONDS.toMillis(System.nanoTime());
+  }
+}
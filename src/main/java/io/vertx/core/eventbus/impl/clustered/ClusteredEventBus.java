@@ -33,6 +33,7 @@ import io.vertx.core.spi.cluster.NodeInfo;
 import io.vertx.core.spi.cluster.NodeSelector;
 import io.vertx.core.spi.cluster.RegistrationInfo;
 
+import java.security.SecureRandom;
 import java.util.Objects;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
@@ -62,7 +63,8 @@ public class ClusteredEventBus extends EventBusImpl {
   private NetServer server;
 
   public ClusteredEventBus(VertxInternal vertx, VertxOptions options, ClusterManager clusterManager, NodeSelector nodeSelector) {
-    super(vertx);
+    // The reply address prefix and tokens are cryptographically secure so reply addresses can't be guessed
+    super(vertx, options.getEventBusOptions(), "__vertx.reply." + UUID.randomUUID().toString() + ".", new SecureRandom());
     this.options = options.getEventBusOptions();
     this.clusterManager = clusterManager;
     this.nodeSelector = nodeSelector;
@@ -198,12 +200,6 @@ public class ClusteredEventBus extends EventBusImpl {
     sendContext.written(cause);
   }
 
-  @Override
-  protected String generateReplyAddress() {
-    // The address is a cryptographically secure id that can't be guessed
-    return "__vertx.reply." + UUID.randomUUID().toString();
-  }
-
   @Override
   protected boolean isMessageLocal(MessageImpl msg) {
     ClusteredMessage clusteredMessage = (ClusteredMessage) msg;
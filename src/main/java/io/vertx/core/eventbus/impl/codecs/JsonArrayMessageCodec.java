@@ -36,7 +36,7 @@ public class JsonArrayMessageCodec implements MessageCodec<JsonArray, JsonArray>
 
   @Override
   public JsonArray transform(JsonArray jsonArray) {
-    return jsonArray.copy();
+    return jsonArray.isFrozen() ? jsonArray : jsonArray.copy();
   }
 
   @Override
@@ -20,6 +20,21 @@ import io.vertx.core.json.JsonObject;
  */
 public class JsonObjectMessageCodec implements MessageCodec<JsonObject, JsonObject> {
 
+  /**
+   * When set to {@code true}, the JSON objects received from the cluster are decoded lazily, see {@link JsonObject#lazy}.
+   */
+  public static final String LAZY_DECODING_PROP_NAME = "vertx.lazyJsonObjectDecoding";
+
+  private final boolean lazy;
+
+  public JsonObjectMessageCodec() {
+    this(Boolean.getBoolean(LAZY_DECODING_PROP_NAME));
+  }
+
+  public JsonObjectMessageCodec(boolean lazy) {
+    this.lazy = lazy;
+  }
+
   @Override
   public void encodeToWire(Buffer buffer, JsonObject jsonObject) {
     Buffer encoded = jsonObject.toBuffer();
@@ -31,12 +46,16 @@ public class JsonObjectMessageCodec implements MessageCodec<JsonObject, JsonObje
   public JsonObject decodeFromWire(int pos, Buffer buffer) {
     int length = buffer.getInt(pos);
     pos += 4;
+    if (lazy) {
+      // Copy the bytes since the lazy object keeps them
+      return JsonObject.lazy(buffer.getBuffer(pos, pos + length));
+    }
     return new JsonObject(buffer.slice(pos, pos + length));
   }
 
   @Override
   public JsonObject transform(JsonObject jsonObject) {
-    return jsonObject.copy();
+    return jsonObject.isFrozen() ? jsonObject : jsonObject.copy();
   }
 
   @Override
@@ -0,0 +1,40 @@
+/*
+ * Copyright (c) 2011-2019 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.core.eventbus.impl.codecs;
+
+import io.vertx.core.eventbus.MessageCodec;
+
+/**
+ * The body of a message carrying a batch of message bodies, each body is encoded with its own codec.
+ */
+public final class MessageBatch {
+
+  private final Object[] bodies;
+  private final MessageCodec[] codecs;
+
+  public MessageBatch(Object[] bodies, MessageCodec[] codecs) {
+    this.bodies = bodies;
+    this.codecs = codecs;
+  }
+
+  public int size() {
+    return bodies.length;
+  }
+
+  public Object body(int index) {
+    return bodies[index];
+  }
+
+  public MessageCodec codec(int index) {
+    return codecs[index];
+  }
+}
@@ -181,4 +181,29 @@ public interface AsyncFile extends ReadStream<Buffer>, WriteStream<Buffer> {
    */
   @Fluent
   AsyncFile setReadBufferSize(int readBufferSize);
+
+  /**
+   * Sets the maximum buffer size used to read the data from the file when the file is used as a
+   * {@link io.vertx.core.streams.ReadStream}.
+   * <p/>
+   * When this value is greater than the {@link #setReadBufferSize read buffer size}, the size of the reads grows up
+   * to this value while the consumer keeps up with the stream, e.g. the destination of a pipe is writable, and
+   * shrinks back to the read buffer size when the stream is paused. Defaults to {@code 0}, the reads have then always
+   * the read buffer size.
+   *
+   * @param maxReadBufferSize the maximum buffer size
+   * @return a reference to this, so the API can be used fluently
+   */
+  @Fluent
+  AsyncFile setMaxReadBufferSize(int maxReadBufferSize);
+
+  /**
+   * Sets the number of reads performed concurrently ahead of the consumer when using the file as a
+   * {@link io.vertx.core.streams.ReadStream}, defaults to {@code 1}.
+   *
+   * @param readAheadDepth the number of reads
+   * @return a reference to this, so the API can be used fluently
+   */
+  @Fluent
+  AsyncFile setReadAheadDepth(int readAheadDepth);
 }
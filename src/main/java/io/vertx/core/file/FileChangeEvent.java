@@ -0,0 +1,32 @@
+/*
+ * Copyright (c) 2011-2019 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.core.file;
+
+import io.vertx.codegen.annotations.VertxGen;
+
+/**
+ * A change of a file reported by {@link FileSystem#watch(String, WatchOptions)}.
+ */
+@VertxGen
+public interface FileChangeEvent {
+
+  /**
+   * @return the absolute path of the file
+   */
+  String path();
+
+  /**
+   * @return the type of change
+   */
+  FileChangeType type();
+
+}
@@ -18,6 +18,7 @@ import io.vertx.core.AsyncResult;
 import io.vertx.core.Future;
 import io.vertx.core.Handler;
 import io.vertx.core.buffer.Buffer;
+import io.vertx.core.streams.ReadStream;
 
 import java.util.List;
 
@@ -730,6 +731,27 @@ public interface FileSystem {
    */
   FileSystemProps fsPropsBlocking(String path) ;
 
+  /**
+   * Watch the changes of a file or of a directory and its sub-directories, asynchronously.
+   * <p>
+   * The changes are notified by the file system (e.g inotify on Linux) instead of being polled, they are reported
+   * to the stream when no change has occurred during the {@link WatchOptions#setDebounce debounce} period.
+   * <p>
+   * Setting a {@code null} handler on the stream stops watching, the stream ends when the watched file is deleted.
+   *
+   * @param path  path to the file or directory
+   * @param options  the watch options
+   * @param handler  the handler called with the stream of changes
+   * @return a reference to this, so the API can be used fluently
+   */
+  @Fluent
+  FileSystem watch(String path, WatchOptions options, Handler<AsyncResult<ReadStream<FileChangeEvent>>> handler);
+
+  /**
+   * Like {@link #watch(String, WatchOptions, Handler)} but returns a {@code Future} of the asynchronous result
+   */
+  Future<ReadStream<FileChangeEvent>> watch(String path, WatchOptions options);
+
   /**
    * Creates a new directory in the default temporary-file directory, using the given
    * prefix to generate its name, asynchronously.
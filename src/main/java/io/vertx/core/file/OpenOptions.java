@@ -12,6 +12,7 @@
 package io.vertx.core.file;
 
 import io.vertx.codegen.annotations.DataObject;
+import io.vertx.core.impl.Arguments;
 import io.vertx.core.json.JsonObject;
 
 /**
@@ -38,6 +39,16 @@ public class OpenOptions {
    */
   public static final boolean DEFAULT_APPEND = false;
 
+  /**
+   * Whether the file should be read through a memory mapping by default = false.
+   */
+  public static final boolean DEFAULT_MEMORYMAPPED = false;
+
+  /**
+   * The size in bytes of the memory mapped window of the file by default = 64 MB.
+   */
+  public static final int DEFAULT_MEMORYMAPWINDOWSIZE = 64 * 1024 * 1024;
+
   private String perms = DEFAULT_PERMS;
   private boolean read = DEFAULT_READ;
   private boolean write = DEFAULT_WRITE;
@@ -49,6 +60,8 @@ public class OpenOptions {
   private boolean truncateExisting = DEFAULT_TRUNCATEEXISTING;
   private boolean sparse = DEFAULT_SPARSE;
   private boolean append = DEFAULT_APPEND;
+  private boolean memoryMapped = DEFAULT_MEMORYMAPPED;
+  private int memoryMapWindowSize = DEFAULT_MEMORYMAPWINDOWSIZE;
 
   /**
    * Default constructor
@@ -74,6 +87,8 @@ public class OpenOptions {
     this.truncateExisting = other.truncateExisting;
     this.sparse = other.sparse;
     this.append = other.append;
+    this.memoryMapped = other.memoryMapped;
+    this.memoryMapWindowSize = other.memoryMapWindowSize;
   }
 
   /**
@@ -300,4 +315,47 @@ public class OpenOptions {
     this.append = append;
     return this;
   }
+
+  /**
+   * @return true if the file content is read from a memory mapping of the file, false otherwise
+   */
+  public boolean isMemoryMapped() {
+    return memoryMapped;
+  }
+
+  /**
+   * Whether the file content should be read from a memory mapping of the file. Defaults to {@code false}.
+   * <p/>
+   * The file is mapped by windows of {@link #getMemoryMapWindowSize()} bytes, the buffers delivered when the file
+   * is read as a stream are views over the mapping and the random reads are copied from the mapping. A window is
+   * released when it and the buffers viewing it are garbage collected, so such buffers remain valid after the file
+   * is closed.
+   *
+   * @param memoryMapped true to read the file from a memory mapping, false otherwise
+   * @return a reference to this, so the API can be used fluently
+   */
+  public OpenOptions setMemoryMapped(boolean memoryMapped) {
+    this.memoryMapped = memoryMapped;
+    return this;
+  }
+
+  /**
+   * @return the size of the regions of the file mapped in memory
+   */
+  public int getMemoryMapWindowSize() {
+    return memoryMapWindowSize;
+  }
+
+  /**
+   * Set the size of the regions of the file mapped in memory when the file is memory mapped,
+   * defaults to {@code 64MB}.
+   *
+   * @param memoryMapWindowSize the window size in bytes
+   * @return a reference to this, so the API can be used fluently
+   */
+  public OpenOptions setMemoryMapWindowSize(int memoryMapWindowSize) {
+    Arguments.require(memoryMapWindowSize > 0, "memoryMapWindowSize must be > 0");
+    this.memoryMapWindowSize = memoryMapWindowSize;
+    return this;
+  }
 }
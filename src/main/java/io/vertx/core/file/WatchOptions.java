@@ -0,0 +1,101 @@
+/*
+ * Copyright (c) 2011-2019 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.core.file;
+
+import io.vertx.codegen.annotations.DataObject;
+import io.vertx.core.impl.Arguments;
+import io.vertx.core.json.JsonObject;
+
+/**
+ * Describes the options of a file system watch.
+ */
+@DataObject(generateConverter = true, publicConverter = false)
+public class WatchOptions {
+
+  /**
+   * Whether the sub-directories of a watched directory are watched by default = true.
+   */
+  public static final boolean DEFAULT_RECURSIVE = true;
+
+  /**
+   * The default debounce period in milliseconds = 100.
+   */
+  public static final long DEFAULT_DEBOUNCE = 100L;
+
+  private boolean recursive = DEFAULT_RECURSIVE;
+  private long debounce = DEFAULT_DEBOUNCE;
+
+  /**
+   * Default constructor.
+   */
+  public WatchOptions() {
+  }
+
+  /**
+   * Copy constructor.
+   *
+   * @param other the options to copy
+   */
+  public WatchOptions(WatchOptions other) {
+    this.recursive = other.recursive;
+    this.debounce = other.debounce;
+  }
+
+  /**
+   * Constructor to create options from JSON.
+   *
+   * @param json the JSON
+   */
+  public WatchOptions(JsonObject json) {
+    this();
+    WatchOptionsConverter.fromJson(json, this);
+  }
+
+  /**
+   * @return true if the sub-directories of a watched directory are watched, false otherwise
+   */
+  public boolean isRecursive() {
+    return recursive;
+  }
+
+  /**
+   * Whether the sub-directories of a watched directory are watched, including the ones created after the watch
+   * started. Defaults to {@code true}.
+   *
+   * @param recursive true to watch the sub-directories, false otherwise
+   * @return a reference to this, so the API can be used fluently
+   */
+  public WatchOptions setRecursive(boolean recursive) {
+    this.recursive = recursive;
+    return this;
+  }
+
+  /**
+   * @return the debounce period in milliseconds
+   */
+  public long getDebounce() {
+    return debounce;
+  }
+
+  /**
+   * Set the debounce period in milliseconds: the changes are reported when no change has occurred during this period,
+   * the successive changes of a file are then merged in a single event. Defaults to {@code 100}.
+   *
+   * @param debounce the debounce period in milliseconds
+   * @return a reference to this, so the API can be used fluently
+   */
+  public WatchOptions setDebounce(long debounce) {
+    Arguments.require(debounce >= 0, "debounce must be >= 0");
+    this.debounce = debounce;
+    return this;
+  }
+}
@@ -12,6 +12,7 @@
 package io.vertx.core.file.impl;
 
 import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
 import io.vertx.core.AsyncResult;
 import io.vertx.core.Future;
 import io.vertx.core.Handler;
@@ -25,6 +26,7 @@ import io.vertx.core.impl.ContextInternal;
 import io.vertx.core.impl.VertxInternal;
 import io.vertx.core.impl.logging.Logger;
 import io.vertx.core.impl.logging.LoggerFactory;
+import io.vertx.core.net.impl.PartialPooledByteBufAllocator;
 import io.vertx.core.streams.impl.InboundBuffer;
 
 import java.io.IOException;
@@ -36,6 +38,7 @@ import java.nio.file.Paths;
 import java.nio.file.StandardOpenOption;
 import java.nio.file.attribute.FileAttribute;
 import java.nio.file.attribute.PosixFilePermissions;
+import java.util.ArrayDeque;
 import java.util.HashSet;
 import java.util.Objects;
 import java.util.concurrent.atomic.AtomicBoolean;
@@ -56,9 +59,11 @@ public class AsyncFileImpl implements AsyncFile {
   private static final Logger log = LoggerFactory.getLogger(AsyncFile.class);
 
   public static final int DEFAULT_READ_BUFFER_SIZE = 8192;
+  public static final int DEFAULT_READ_AHEAD_DEPTH = 1;
 
   private final VertxInternal vertx;
   private final AsynchronousFileChannel ch;
+  private final MappedFile mapped;
   private final ContextInternal context;
   private boolean closed;
   private Runnable closedDeferred;
@@ -70,6 +75,15 @@ public class AsyncFileImpl implements AsyncFile {
   private int maxWrites = 128 * 1024;    // TODO - we should tune this for best performance
   private int lwm = maxWrites / 2;
   private int readBufferSize = DEFAULT_READ_BUFFER_SIZE;
+  private int maxReadBufferSize;
+  private int readAheadDepth = DEFAULT_READ_AHEAD_DEPTH;
+  private int chunkSize = DEFAULT_READ_BUFFER_SIZE;
+  private final ArrayDeque<ReadAhead> readAheads = new ArrayDeque<>();
+  private long readAheadPos;
+  private long readAheadLength;
+  private boolean readAheadEnd;
+  private boolean readAheadPaused;
+  private boolean mappedReading;
   private InboundBuffer<Buffer> queue;
   private Handler<Buffer> handler;
   private Handler<Void> endHandler;
@@ -103,6 +117,19 @@ public class AsyncFileImpl implements AsyncFile {
     } catch (IOException e) {
       throw new FileSystemException(e);
     }
+    if (options.isMemoryMapped() && options.isRead()) {
+      try {
+        mapped = new MappedFile(file, options.getMemoryMapWindowSize());
+      } catch (IOException e) {
+        try {
+          ch.close();
+        } catch (IOException ignore) {
+        }
+        throw new FileSystemException(e);
+      }
+    } else {
+      mapped = null;
+    }
     this.context = context;
     this.queue = new InboundBuffer<>(context, 0);
     queue.handler(buff -> {
@@ -156,8 +183,12 @@ public class AsyncFileImpl implements AsyncFile {
     Arguments.require(position >= 0, "position must be >= 0");
     Arguments.require(length >= 0, "length must be >= 0");
     check();
-    ByteBuffer bb = ByteBuffer.allocate(length);
-    doRead(buffer, offset, bb, position, promise);
+    if (mapped != null) {
+      doMappedRead(buffer, offset, position, length, promise);
+    } else {
+      ByteBuffer bb = ByteBuffer.allocate(length);
+      doRead(buffer, offset, bb, position, promise);
+    }
     return promise.future();
   }
 
@@ -257,6 +288,21 @@ public class AsyncFileImpl implements AsyncFile {
   @Override
   public synchronized AsyncFile setReadBufferSize(int readBufferSize) {
     this.readBufferSize = readBufferSize;
+    this.chunkSize = readBufferSize;
+    return this;
+  }
+
+  @Override
+  public synchronized AsyncFile setMaxReadBufferSize(int maxReadBufferSize) {
+    Arguments.require(maxReadBufferSize >= 0, "maxReadBufferSize must be >= 0");
+    this.maxReadBufferSize = maxReadBufferSize;
+    return this;
+  }
+
+  @Override
+  public synchronized AsyncFile setReadAheadDepth(int readAheadDepth) {
+    Arguments.require(readAheadDepth >= 1, "readAheadDepth must be >= 1");
+    this.readAheadDepth = readAheadDepth;
     return this;
   }
 
@@ -335,15 +381,30 @@ public class AsyncFileImpl implements AsyncFile {
   @Override
   public synchronized AsyncFile setReadPos(long readPos) {
     this.readPos = readPos;
+    restartReadAheads();
     return this;
   }
 
   @Override
   public synchronized AsyncFile setReadLength(long readLength) {
     this.readLength = readLength;
+    restartReadAheads();
     return this;
   }
 
+  /**
+   * Discard the reads issued for the previous read position or length, the reads in progress are ignored when they
+   * complete, and read again from the current ones.
+   */
+  private void restartReadAheads() {
+    if (!readAheads.isEmpty()) {
+      discardReadAheads();
+      if (!closed && handler != null) {
+        context.runOnContext(v -> readAhead());
+      }
+    }
+  }
+
   @Override
   public synchronized long getReadLength() {
     return readLength;
@@ -390,30 +451,270 @@ public class AsyncFileImpl implements AsyncFile {
   }
 
   private void doRead() {
-    doRead(ByteBuffer.allocate(readBufferSize));
+    if (mapped != null) {
+      context.runOnContext(v -> doMappedRead());
+    } else {
+      synchronized (this) {
+        readAheadPaused = false;
+      }
+      context.runOnContext(v -> readAhead());
+    }
   }
 
-  private synchronized void doRead(ByteBuffer bb) {
-    Buffer buff = Buffer.buffer(readBufferSize);
-    int readSize = (int) Math.min((long)readBufferSize, readLength);
-    bb.limit(readSize);
-    Promise<Buffer> promise = context.promise();
-    promise.future().onComplete(ar -> {
-      if (ar.succeeded()) {
-        Buffer buffer = ar.result();
-        readPos += buffer.length();
-        readLength -= buffer.length();
-        // Empty buffer represents end of file
-        if (queue.write(buffer) && buffer.length() > 0) {
-          doRead(bb);
+  /**
+   * Update the size of the next reads after a buffer has been written to the queue, the size grows while the
+   * consumer accepts the buffers and shrinks when it pauses the stream.
+   */
+  private synchronized void adaptChunkSize(boolean flowing) {
+    int max = Math.max(readBufferSize, maxReadBufferSize);
+    if (flowing) {
+      chunkSize = (int) Math.min((long) chunkSize * 2, max);
+    } else {
+      chunkSize = Math.max(chunkSize / 2, readBufferSize);
+    }
+  }
+
+  /**
+   * Deliver the completed reads in the file order and then issue reads until {@link #readAheadDepth} reads are
+   * in progress, this is executed on the context thread.
+   */
+  private void readAhead() {
+    while (true) {
+      ReadAhead ra;
+      synchronized (this) {
+        if (closed || handler == null || readAheadPaused) {
+          return;
+        }
+        ra = readAheads.peek();
+        if (ra == null || !ra.done) {
+          fillReadAheads();
+          return;
+        }
+        readAheads.poll();
+        if (ra.failure == null) {
+          readPos += ra.bytesRead;
+          readLength -= ra.bytesRead;
+          if (ra.bytesRead < ra.length) {
+            // End of file, the following reads are useless
+            discardReadAheads();
+          }
+        } else {
+          ra.discard();
+          discardReadAheads();
         }
+      }
+      if (ra.failure != null) {
+        handleException(ra.failure);
+        return;
+      }
+      Buffer buffer = ra.buffer();
+      boolean flowing = queue.write(buffer);
+      // Empty buffer represents end of file
+      if (buffer.length() == 0) {
+        return;
+      }
+      if (ra.bytesRead < ra.length) {
+        queue.write(Buffer.buffer());
+        return;
+      }
+      adaptChunkSize(flowing);
+      if (!flowing) {
+        synchronized (this) {
+          readAheadPaused = true;
+        }
+        return;
+      }
+    }
+  }
+
+  private void fillReadAheads() {
+    if (readAheads.isEmpty()) {
+      readAheadPos = readPos;
+      readAheadLength = readLength;
+      readAheadEnd = false;
+    }
+    while (!readAheadEnd && readAheads.size() < readAheadDepth) {
+      int length = (int) Math.min((long)chunkSize, readAheadLength);
+      ReadAhead ra = new ReadAhead(readAheadPos, length);
+      readAheads.add(ra);
+      readAheadPos += length;
+      readAheadLength -= length;
+      readAheadEnd = length == 0;
+      ra.read();
+    }
+  }
+
+  private void discardReadAheads() {
+    readAheadEnd = true;
+    ReadAhead ra;
+    while ((ra = readAheads.poll()) != null) {
+      ra.discard();
+    }
+  }
+
+  /**
+   * A read of the stream into a pooled direct buffer, the buffer is released when the read is delivered or
+   * discarded.
+   */
+  private class ReadAhead implements java.nio.channels.CompletionHandler<Integer, Object> {
+
+    private final long position;
+    private final int length;
+    private ByteBuf buf;
+    private ByteBuffer bb;
+    private int bytesRead;
+    private Throwable failure;
+    private boolean done;
+    private boolean discarded;
+
+    ReadAhead(long position, int length) {
+      this.position = position;
+      this.length = length;
+    }
+
+    void read() {
+      if (length == 0) {
+        done = true;
+        context.runOnContext(v -> readAhead());
       } else {
+        buf = PartialPooledByteBufAllocator.INSTANCE.directBuffer(length);
+        bb = buf.nioBuffer(0, length);
+        ch.read(bb, position, null, this);
+      }
+    }
+
+    @Override
+    public void completed(Integer result, Object attachment) {
+      if (result != -1 && bb.hasRemaining()) {
+        // partial read, resubmit
+        ch.read(bb, position + bb.position(), null, this);
+      } else {
+        context.runOnContext(v -> handleCompletion(bb.position(), null));
+      }
+    }
+
+    @Override
+    public void failed(Throwable exc, Object attachment) {
+      context.runOnContext(v -> handleCompletion(0, exc));
+    }
+
+    private void handleCompletion(int bytesRead, Throwable failure) {
+      synchronized (AsyncFileImpl.this) {
+        if (discarded || closed) {
+          release();
+          return;
+        }
+        this.bytesRead = bytesRead;
+        this.failure = failure;
+        this.done = true;
+      }
+      readAhead();
+    }
+
+    void discard() {
+      discarded = true;
+      if (done) {
+        release();
+      }
+    }
+
+    Buffer buffer() {
+      Buffer buffer = Buffer.buffer(bytesRead);
+      if (bytesRead > 0) {
+        buffer.setBytes(0, buf.nioBuffer(0, bytesRead));
+      }
+      release();
+      return buffer;
+    }
+
+    private void release() {
+      if (buf != null) {
+        buf.release();
+        buf = null;
+      }
+    }
+  }
+
+  /**
+   * Deliver a view over the mapped file, the view is loaded on a worker thread since mapping the file and reading
+   * it might block on disk I/O, the next view is loaded when the queue accepts the view.
+   * <p/>
+   * The loads are not ordered with the other internal blocking tasks of the context, so they do not wait behind the
+   * reads of the other files, a single load is pending at a time anyway.
+   */
+  private void doMappedRead() {
+    long position;
+    int length;
+    synchronized (this) {
+      if (closed || handler == null || mappedReading) {
+        return;
+      }
+      mappedReading = true;
+      position = readPos;
+      length = (int) Math.min((long)chunkSize, readLength);
+    }
+    context.<ByteBuffer>executeBlockingInternal(fut -> {
+      try {
+        fut.complete(mapped.load(position, length));
+      } catch (Exception e) {
+        fut.fail(e);
+      }
+    }, false, ar -> {
+      Buffer buffer = null;
+      boolean moved;
+      synchronized (this) {
+        mappedReading = false;
+        if (closed || handler == null) {
+          return;
+        }
+        // The read position changed in the meantime, read again at the new position
+        moved = readPos != position;
+        if (!moved && ar.succeeded()) {
+          buffer = Buffer.buffer(Unpooled.wrappedBuffer(ar.result()));
+          readPos += buffer.length();
+          readLength -= buffer.length();
+        }
+      }
+      if (moved) {
+        doMappedRead();
+      } else if (ar.failed()) {
         handleException(ar.cause());
+      } else if (buffer.length() == 0) {
+        // Empty buffer represents end of file
+        queue.write(buffer);
+      } else {
+        boolean flowing = queue.write(buffer);
+        adaptChunkSize(flowing);
+        if (flowing) {
+          doMappedRead();
+        }
       }
     });
-    doRead(buff, 0, bb, readPos, promise);
   }
 
+  /**
+   * Copy the file content from the mapping on a worker thread, since mapping the file and reading it might block on
+   * disk I/O. Like the reads of an unmapped file, concurrent reads are not ordered and can run in parallel.
+   */
+  private void doMappedRead(Buffer writeBuff, int offset, long position, int length, Promise<Buffer> promise) {
+    context.<Buffer>executeBlockingInternal(fut -> {
+      try {
+        int read = 0;
+        while (read < length) {
+          ByteBuffer bb = mapped.slice(position + read, length - read);
+          if (!bb.hasRemaining()) {
+            break;
+          }
+          int len = bb.remaining();
+          writeBuff.setBytes(offset + read, bb);
+          read += len;
+        }
+        fut.complete(writeBuff);
+      } catch (Exception e) {
+        fut.fail(e);
+      }
+    }, false, promise);
+  }
 
   private void handleBuffer(Buffer buff) {
     Handler<Buffer> handler;
@@ -555,7 +856,13 @@ public class AsyncFileImpl implements AsyncFile {
   private void doClose(Handler<AsyncResult<Void>> handler) {
     context.executeBlockingInternal(res -> {
       try {
-        ch.close();
+        try {
+          ch.close();
+        } finally {
+          if (mapped != null) {
+            mapped.close();
+          }
+        }
         res.complete(null);
       } catch (IOException e) {
         res.fail(e);
@@ -567,6 +874,7 @@ public class AsyncFileImpl implements AsyncFile {
     check();
 
     closed = true;
+    discardReadAheads();
 
     if (writesOutstanding == 0) {
       doClose(handler);
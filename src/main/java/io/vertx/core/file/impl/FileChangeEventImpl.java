@@ -0,0 +1,41 @@
+/*
+ * Copyright (c) 2011-2019 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.core.file.impl;
+
+import io.vertx.core.file.FileChangeEvent;
+import io.vertx.core.file.FileChangeType;
+
+public class FileChangeEventImpl implements FileChangeEvent {
+
+  private final String path;
+  private final FileChangeType type;
+
+  public FileChangeEventImpl(String path, FileChangeType type) {
+    this.path = path;
+    this.type = type;
+  }
+
+  @Override
+  public String path() {
+    return path;
+  }
+
+  @Override
+  public FileChangeType type() {
+    return type;
+  }
+
+  @Override
+  public String toString() {
+    return type + " " + path;
+  }
+}
@@ -19,13 +19,16 @@ import io.vertx.core.Promise;
 import io.vertx.core.buffer.Buffer;
 import io.vertx.core.file.AsyncFile;
 import io.vertx.core.file.CopyOptions;
+import io.vertx.core.file.FileChangeEvent;
 import io.vertx.core.file.FileProps;
 import io.vertx.core.file.FileSystem;
 import io.vertx.core.file.FileSystemException;
 import io.vertx.core.file.FileSystemProps;
 import io.vertx.core.file.OpenOptions;
+import io.vertx.core.file.WatchOptions;
 import io.vertx.core.impl.ContextInternal;
 import io.vertx.core.impl.VertxInternal;
+import io.vertx.core.streams.ReadStream;
 
 import java.io.File;
 import java.io.FilenameFilter;
@@ -38,6 +41,7 @@ import java.nio.file.FileVisitOption;
 import java.nio.file.FileVisitResult;
 import java.nio.file.Files;
 import java.nio.file.LinkOption;
+import java.nio.file.NoSuchFileException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.nio.file.SimpleFileVisitor;
@@ -505,6 +509,17 @@ public class FileSystemImpl implements FileSystem {
     return fsPropsInternal(path).perform();
   }
 
+  @Override
+  public FileSystem watch(String path, WatchOptions options, Handler<AsyncResult<ReadStream<FileChangeEvent>>> handler) {
+    watch(path, options).onComplete(handler);
+    return this;
+  }
+
+  @Override
+  public Future<ReadStream<FileChangeEvent>> watch(String path, WatchOptions options) {
+    return watchInternal(path, options).run();
+  }
+
   @Override
   public FileSystem createTempDirectory(String prefix, Handler<AsyncResult<String>> handler) {
     createTempDirectory(prefix).onComplete(handler);
@@ -1128,6 +1143,25 @@ public class FileSystemImpl implements FileSystem {
     };
   }
 
+  private BlockingAction<ReadStream<FileChangeEvent>> watchInternal(String path, WatchOptions options) {
+    Objects.requireNonNull(path);
+    Objects.requireNonNull(options);
+    return new BlockingAction<ReadStream<FileChangeEvent>>() {
+      public ReadStream<FileChangeEvent> perform() {
+        try {
+          Path target = vertx.resolveFile(path).toPath().toAbsolutePath();
+          Path parent = target.getParent();
+          if (!Files.exists(target) && (parent == null || !Files.isDirectory(parent))) {
+            throw new NoSuchFileException(target.toString());
+          }
+          return new FileWatchStream(context, target, options);
+        } catch (IOException e) {
+          throw new FileSystemException(e);
+        }
+      }
+    };
+  }
+
   protected abstract class BlockingAction<T> implements Handler<Promise<T>> {
 
     protected final ContextInternal context;
@@ -0,0 +1,139 @@
+/*
+ * Copyright (c) 2011-2019 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.core.file.impl;
+
+import io.vertx.core.Closeable;
+import io.vertx.core.Handler;
+import io.vertx.core.Promise;
+import io.vertx.core.file.FileChangeEvent;
+import io.vertx.core.file.WatchOptions;
+import io.vertx.core.impl.ContextInternal;
+import io.vertx.core.streams.ReadStream;
+import io.vertx.core.streams.impl.InboundBuffer;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+
+/**
+ * The stream of the changes reported by a {@link FileWatcher}, setting a {@code null} handler stops watching.
+ */
+class FileWatchStream implements ReadStream<FileChangeEvent>, Closeable {
+
+  private final ContextInternal context;
+  private final InboundBuffer<FileChangeEvent> pending;
+  private final FileWatcher watcher;
+  private Handler<FileChangeEvent> handler;
+  private Handler<Throwable> exceptionHandler;
+  private Handler<Void> endHandler;
+  private boolean ended;
+
+  FileWatchStream(ContextInternal context, Path path, WatchOptions options) throws IOException {
+    this.context = context;
+    this.pending = new InboundBuffer<>(context);
+    this.watcher = new FileWatcher(path, options.isRecursive(), options.getDebounce(), this::handleEvents, this::handleEnd);
+    pending.handler(this::handleEvent);
+    context.addCloseHook(this);
+  }
+
+  private void handleEvents(List<FileChangeEvent> events) {
+    context.runOnContext(v -> pending.write(events));
+  }
+
+  private void handleEvent(FileChangeEvent event) {
+    Handler<FileChangeEvent> h;
+    synchronized (this) {
+      h = handler;
+    }
+    if (h != null) {
+      context.dispatch(event, h);
+    }
+  }
+
+  private void handleEnd(Throwable failure) {
+    context.removeCloseHook(this);
+    context.runOnContext(v -> {
+      if (pending.isEmpty()) {
+        end(failure);
+      } else {
+        pending.emptyHandler(v2 -> end(failure));
+      }
+    });
+  }
+
+  private void end(Throwable failure) {
+    Handler<Throwable> exceptionHandler;
+    Handler<Void> endHandler;
+    synchronized (this) {
+      if (ended) {
+        return;
+      }
+      ended = true;
+      exceptionHandler = this.exceptionHandler;
+      endHandler = this.endHandler;
+    }
+    if (failure != null && exceptionHandler != null) {
+      context.dispatch(failure, exceptionHandler);
+    }
+    if (endHandler != null) {
+      context.dispatch(endHandler);
+    }
+  }
+
+  @Override
+  public void close(Promise<Void> completion) {
+    watcher.close();
+    completion.complete();
+  }
+
+  @Override
+  public synchronized FileWatchStream exceptionHandler(Handler<Throwable> handler) {
+    exceptionHandler = handler;
+    return this;
+  }
+
+  @Override
+  public FileWatchStream handler(Handler<FileChangeEvent> handler) {
+    synchronized (this) {
+      this.handler = handler;
+    }
+    if (handler == null) {
+      context.removeCloseHook(this);
+      watcher.close();
+    }
+    return this;
+  }
+
+  @Override
+  public FileWatchStream pause() {
+    pending.pause();
+    return this;
+  }
+
+  @Override
+  public FileWatchStream resume() {
+    pending.resume();
+    return this;
+  }
+
+  @Override
+  public FileWatchStream fetch(long amount) {
+    pending.fetch(amount);
+    return this;
+  }
+
+  @Override
+  public synchronized FileWatchStream endHandler(Handler<Void> handler) {
+    endHandler = handler;
+    return this;
+  }
+}
@@ -0,0 +1,294 @@
+/*
+ * Copyright (c) 2011-2019 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.core.file.impl;
+
+import io.vertx.core.Handler;
+import io.vertx.core.file.FileChangeEvent;
+import io.vertx.core.file.FileChangeType;
+
+import java.io.IOException;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.LinkOption;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import static java.nio.file.StandardWatchEventKinds.*;
+
+/**
+ * Watches a file or a directory tree with a {@link WatchService}, the file system notifies the changes so nothing is
+ * done while nothing changes.
+ * <p>
+ * The changes are debounced: they are reported in a batch when no change has been notified during the debounce
+ * period, the successive changes of a file within a batch are merged in a single event.
+ * <p>
+ * When the watched file or directory does not exist yet, its deepest existing parent directory is watched until it
+ * is created. The watch ends when the watched file or directory is deleted.
+ * <p>
+ * The watchers share a single watch service polled by a single thread, see {@link WatchPoller}. The handlers are
+ * called from this thread and should not block since they delay the changes of the other watchers.
+ */
+public class FileWatcher {
+
+  private final WatchPoller poller;
+  private final Path root;
+  private final boolean recursive;
+  private final long debounce;
+  private final Handler<List<FileChangeEvent>> handler;
+  private final Handler<Throwable> endHandler;
+  private final Map<Path, FileChangeType> pending = new LinkedHashMap<>();
+  private long deadline;
+  private boolean ending;
+  private volatile boolean closed;
+
+  // Guarded by the poller
+  final Set<WatchKey> keys = new HashSet<>();
+
+  /**
+   * Create a watcher, the watched directories are registered when this constructor returns.
+   *
+   * @param root the watched file or directory, when it does not exist one of its parent directories must exist
+   * @param recursive whether to watch the sub-directories of {@code root}
+   * @param debounce the debounce period in milliseconds
+   * @param handler the handler called with the changes
+   * @param endHandler the handler called when the watch ends because of a failure or because {@code root} has been
+   *                   deleted, the failure is {@code null} in the latter case
+   */
+  public FileWatcher(Path root, boolean recursive, long debounce, Handler<List<FileChangeEvent>> handler,
+                     Handler<Throwable> endHandler) throws IOException {
+    this.root = root.toAbsolutePath().normalize();
+    this.recursive = recursive;
+    this.debounce = TimeUnit.MILLISECONDS.toNanos(debounce);
+    this.handler = handler;
+    this.endHandler = endHandler;
+    this.poller = WatchPoller.of(this.root.getFileSystem());
+    Path dir = this.root;
+    while (dir != null && !Files.isDirectory(dir)) {
+      dir = dir.getParent();
+    }
+    if (dir == null) {
+      throw new NoSuchFileException(this.root.toString());
+    }
+    poller.add(this);
+    try {
+      synchronized (this) {
+        watchFrom(dir, false);
+      }
+    } catch (IOException e) {
+      close();
+      throw e;
+    }
+  }
+
+  /**
+   * Stop watching, the pending changes are discarded.
+   */
+  public void close() {
+    closed = true;
+    poller.remove(this);
+  }
+
+  /**
+   * Called by the poller with the events of a watched directory.
+   */
+  synchronized void handleEvents(Path dir, List<WatchEvent<?>> events) throws IOException {
+    if (closed) {
+      return;
+    }
+    for (WatchEvent<?> event : events) {
+      WatchEvent.Kind<?> kind = event.kind();
+      if (kind == OVERFLOW) {
+        // Events have been lost
+        if (dir.startsWith(root)) {
+          merge(dir, FileChangeType.MODIFY);
+        }
+        continue;
+      }
+      Path path = dir.resolve((Path) event.context());
+      if (path.startsWith(root)) {
+        if (kind == ENTRY_CREATE) {
+          merge(path, FileChangeType.CREATE);
+          if ((recursive || path.equals(root)) && Files.isDirectory(path, LinkOption.NOFOLLOW_LINKS)) {
+            registerTree(path, true);
+          }
+        } else if (kind == ENTRY_DELETE) {
+          merge(path, FileChangeType.DELETE);
+        } else {
+          merge(path, FileChangeType.MODIFY);
+        }
+      } else if (kind == ENTRY_CREATE && root.startsWith(path) && Files.isDirectory(path, LinkOption.NOFOLLOW_LINKS)) {
+        // A missing parent of the root has been created
+        watchFrom(path, true);
+      }
+    }
+  }
+
+  /**
+   * Called by the poller when a watched directory cannot be watched anymore, e.g it has been deleted.
+   *
+   * @param last whether it was the last watched directory
+   */
+  synchronized void handleInvalidKey(Path dir, boolean last) {
+    if (closed) {
+      return;
+    }
+    if (dir.equals(root)) {
+      merge(root, FileChangeType.DELETE);
+    }
+    if (last) {
+      // Nothing left to watch, flush now
+      ending = true;
+    }
+  }
+
+  /**
+   * Called by the poller to report the pending changes once the debounce period has elapsed.
+   *
+   * @return the time in nanoseconds until the changes are reported or {@code -1} when no change is pending
+   */
+  long flush(long now) {
+    List<FileChangeEvent> events;
+    boolean end;
+    synchronized (this) {
+      if (closed || (pending.isEmpty() && !ending)) {
+        return -1L;
+      }
+      if (!ending && deadline - now > 0L) {
+        return deadline - now;
+      }
+      end = ending || pending.get(root) == FileChangeType.DELETE;
+      events = new ArrayList<>(pending.size());
+      pending.forEach((path, type) -> events.add(new FileChangeEventImpl(path.toString(), type)));
+      pending.clear();
+    }
+    if (events.size() > 0) {
+      handler.handle(events);
+    }
+    if (end && !closed) {
+      close();
+      endHandler.handle(null);
+    }
+    return -1L;
+  }
+
+  /**
+   * Called by the poller when the changes could not be handled.
+   */
+  void fail(Throwable failure) {
+    if (!closed) {
+      close();
+      endHandler.handle(failure);
+    }
+  }
+
+  /**
+   * Merge a change of {@code path} with the pending change of the same path.
+   */
+  private void merge(Path path, FileChangeType type) {
+    deadline = System.nanoTime() + debounce;
+    FileChangeType prev = pending.get(path);
+    if (prev == null) {
+      pending.put(path, type);
+    } else if (prev == FileChangeType.CREATE) {
+      if (type == FileChangeType.DELETE) {
+        pending.remove(path);
+      }
+    } else if (prev == FileChangeType.DELETE) {
+      if (type == FileChangeType.CREATE) {
+        pending.put(path, FileChangeType.MODIFY);
+      }
+    } else if (type == FileChangeType.DELETE) {
+      pending.put(path, FileChangeType.DELETE);
+    }
+  }
+
+  /**
+   * Watch the directories from {@code dir} down to {@code root}, the directories missing on the way are watched
+   * when they are created.
+   *
+   * @param dir an existing directory that is {@code root} or one of its parents
+   * @param created whether {@code dir} has just been created
+   */
+  private void watchFrom(Path dir, boolean created) throws IOException {
+    while (!dir.equals(root)) {
+      register(dir);
+      Path next = dir.resolve(root.getName(dir.getNameCount()).toString());
+      if (!Files.isDirectory(next, LinkOption.NOFOLLOW_LINKS)) {
+        if (created && next.equals(root) && Files.exists(next, LinkOption.NOFOLLOW_LINKS)) {
+          // Created before its parent was watched
+          merge(root, FileChangeType.CREATE);
+        }
+        return;
+      }
+      dir = next;
+    }
+    if (created) {
+      merge(root, FileChangeType.CREATE);
+    }
+    registerTree(root, created);
+  }
+
+  /**
+   * Register {@code dir} and, when the watch is recursive, its sub-directories.
+   *
+   * @param created whether the directory has just been created, its content is then reported as created since it
+   *                has not been watched
+   */
+  private void registerTree(Path dir, boolean created) throws IOException {
+    if (!recursive) {
+      register(dir);
+      return;
+    }
+    Files.walkFileTree(dir, new SimpleFileVisitor<Path>() {
+      @Override
+      public FileVisitResult preVisitDirectory(Path d, BasicFileAttributes attrs) throws IOException {
+        register(d);
+        if (created && !d.equals(dir)) {
+          merge(d, FileChangeType.CREATE);
+        }
+        return FileVisitResult.CONTINUE;
+      }
+      @Override
+      public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) {
+        if (created) {
+          merge(file, FileChangeType.CREATE);
+        }
+        return FileVisitResult.CONTINUE;
+      }
+      @Override
+      public FileVisitResult visitFileFailed(Path file, IOException exc) {
+        // Deleted in the meantime
+        return FileVisitResult.CONTINUE;
+      }
+    });
+  }
+
+  private void register(Path dir) throws IOException {
+    try {
+      poller.register(this, dir);
+    } catch (NoSuchFileException ignore) {
+      // Deleted in the meantime
+    }
+  }
+}
@@ -0,0 +1,110 @@
+/*
+ * Copyright (c) 2011-2019 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.core.file.impl;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Reads a file through a read-only memory mapping of a window of the file, the window is moved when a read
+ * falls outside of it.
+ * <p/>
+ * A window is never unmapped explicitly since the views obtained from it might still be in use, even after the file
+ * is closed, it is released when it and its views are garbage collected.
+ * <p/>
+ * Mapping a window and reading a view might block on disk I/O, so this must be used from a worker thread.
+ */
+class MappedFile {
+
+  private static final ByteBuffer EMPTY = ByteBuffer.allocate(0);
+  private static final int PAGE_SIZE = 4096;
+
+  private final FileChannel ch;
+  private final int windowSize;
+  private MappedByteBuffer window;
+  private long windowPos;
+  private boolean closed;
+  private int touched;
+
+  MappedFile(Path file, int windowSize) throws IOException {
+    this.ch = FileChannel.open(file, StandardOpenOption.READ);
+    this.windowSize = windowSize;
+  }
+
+  /**
+   * Returns a view over the file content at {@code position}, the view has at most {@code length} bytes and is
+   * empty when {@code position} is at the end of the file.
+   * <p/>
+   * The view is shorter than {@code length} when the requested region spans beyond the end of the file or
+   * beyond the window size.
+   */
+  synchronized ByteBuffer slice(long position, int length) throws IOException {
+    if (closed) {
+      throw new IllegalStateException("File handle is closed");
+    }
+    if (length == 0) {
+      return EMPTY;
+    }
+    if (window == null || position < windowPos || position + Math.min(length, windowSize) > windowPos + window.limit()) {
+      if (window != null && position >= windowPos && position < windowPos + window.limit() && window.limit() < windowSize) {
+        // The window ends with the file as it was when it was mapped, remap it when the file has grown
+        if (ch.size() <= windowPos + window.limit()) {
+          return view(position, length);
+        }
+      }
+      long size = ch.size();
+      if (position >= size) {
+        return EMPTY;
+      }
+      window = ch.map(FileChannel.MapMode.READ_ONLY, position, Math.min(windowSize, size - position));
+      windowPos = position;
+    }
+    return view(position, length);
+  }
+
+  /**
+   * Like {@link #slice(long, int)} but also reads the pages of the view, so the view can be read without page faults
+   * as long as the operating system does not evict the pages.
+   */
+  ByteBuffer load(long position, int length) throws IOException {
+    ByteBuffer view = slice(position, length);
+    int sum = 0;
+    for (int i = 0;i < view.limit();i += PAGE_SIZE) {
+      sum += view.get(i);
+    }
+    // Prevent the reads from being optimized away
+    touched = sum;
+    return view;
+  }
+
+  private ByteBuffer view(long position, int length) {
+    int from = (int) (position - windowPos);
+    int to = (int) Math.min(window.limit(), from + (long) length);
+    ByteBuffer view = window.duplicate();
+    view.position(from);
+    view.limit(to);
+    return view.slice();
+  }
+
+  synchronized void close() throws IOException {
+    if (!closed) {
+      closed = true;
+      // Closing the channel does not unmap the window
+      window = null;
+      ch.close();
+    }
+  }
+}
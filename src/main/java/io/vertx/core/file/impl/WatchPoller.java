@@ -0,0 +1,208 @@
+/*
+ * Copyright (c) 2011-2019 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.core.file.impl;
+
+import io.vertx.core.impl.VertxThreadFactory;
+
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystem;
+import java.nio.file.Path;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+
+import static java.nio.file.StandardWatchEventKinds.*;
+
+/**
+ * Polls a single {@link WatchService} for all the {@link FileWatcher} of a file system.
+ * <p>
+ * The watch service and its polling thread are created with the first watcher and closed with the last one. The
+ * watchers of the same directory share its watch key, the events of the key are dispatched to each of them.
+ */
+final class WatchPoller {
+
+  private static final ConcurrentMap<FileSystem, WatchPoller> pollers = new ConcurrentHashMap<>();
+  // The polling thread blocks while no change is notified, it is not checked
+  private static final ThreadFactory threadFactory = new VertxThreadFactory("vert.x-file-watcher-thread-", null, true, 0L, TimeUnit.NANOSECONDS);
+
+  /**
+   * @return the poller of {@code fileSystem}
+   */
+  static WatchPoller of(FileSystem fileSystem) {
+    return pollers.computeIfAbsent(fileSystem, WatchPoller::new);
+  }
+
+  private final FileSystem fileSystem;
+
+  // Guarded by this
+  private final Set<FileWatcher> watchers = new HashSet<>();
+  private final Map<WatchKey, Registration> registrations = new HashMap<>();
+  private WatchService service;
+
+  private WatchPoller(FileSystem fileSystem) {
+    this.fileSystem = fileSystem;
+  }
+
+  /**
+   * Add a watcher, starting the polling thread when it is the first one.
+   */
+  synchronized void add(FileWatcher watcher) throws IOException {
+    if (service == null) {
+      WatchService s = fileSystem.newWatchService();
+      Thread thread = threadFactory.newThread(() -> run(s));
+      // Do not prevent the JVM from exiting while a file is watched
+      thread.setDaemon(true);
+      thread.start();
+      service = s;
+    }
+    watchers.add(watcher);
+  }
+
+  /**
+   * Remove a watcher and cancel the keys no other watcher uses, stopping the polling thread when it is the last one.
+   */
+  synchronized void remove(FileWatcher watcher) {
+    if (!watchers.remove(watcher)) {
+      return;
+    }
+    for (WatchKey key : watcher.keys) {
+      Registration registration = registrations.get(key);
+      if (registration != null && registration.watchers.remove(watcher) && registration.watchers.isEmpty()) {
+        registrations.remove(key);
+        key.cancel();
+      }
+    }
+    watcher.keys.clear();
+    if (watchers.isEmpty()) {
+      try {
+        // The polling thread stops when the service is closed
+        service.close();
+      } catch (IOException ignore) {
+      }
+      service = null;
+    }
+  }
+
+  /**
+   * Register {@code dir} for {@code watcher}.
+   */
+  synchronized void register(FileWatcher watcher, Path dir) throws IOException {
+    if (!watchers.contains(watcher)) {
+      // Closed
+      return;
+    }
+    WatchKey key = dir.register(service, ENTRY_CREATE, ENTRY_DELETE, ENTRY_MODIFY);
+    registrations.computeIfAbsent(key, k -> new Registration(dir)).watchers.add(watcher);
+    watcher.keys.add(key);
+  }
+
+  private void run(WatchService service) {
+    try {
+      while (true) {
+        long timeout = flush();
+        WatchKey key = timeout < 0 ? service.take() : service.poll(timeout, TimeUnit.NANOSECONDS);
+        if (key != null) {
+          handle(key);
+        }
+      }
+    } catch (ClosedWatchServiceException | InterruptedException ignore) {
+      // Closed
+    }
+  }
+
+  /**
+   * Flush the changes of the watchers whose debounce period has elapsed.
+   *
+   * @return the time in nanoseconds until the next flush or {@code -1} when no change is pending
+   */
+  private long flush() {
+    List<FileWatcher> list;
+    synchronized (this) {
+      list = new ArrayList<>(watchers);
+    }
+    long now = System.nanoTime();
+    long timeout = -1L;
+    for (FileWatcher watcher : list) {
+      long remaining;
+      try {
+        remaining = watcher.flush(now);
+      } catch (Throwable t) {
+        watcher.fail(t);
+        continue;
+      }
+      if (remaining >= 0L && (timeout < 0L || remaining < timeout)) {
+        timeout = remaining;
+      }
+    }
+    return timeout;
+  }
+
+  private void handle(WatchKey key) {
+    List<WatchEvent<?>> events = key.pollEvents();
+    boolean valid = key.reset();
+    Path dir;
+    List<FileWatcher> targets;
+    Set<FileWatcher> ended = new HashSet<>();
+    synchronized (this) {
+      Registration registration = valid ? registrations.get(key) : registrations.remove(key);
+      if (registration == null) {
+        // Stale key of a directory no watcher is interested in anymore
+        key.cancel();
+        return;
+      }
+      dir = registration.dir;
+      targets = new ArrayList<>(registration.watchers);
+      if (!valid) {
+        for (FileWatcher watcher : targets) {
+          watcher.keys.remove(key);
+          if (watcher.keys.isEmpty()) {
+            ended.add(watcher);
+          }
+        }
+      }
+    }
+    for (FileWatcher watcher : targets) {
+      try {
+        watcher.handleEvents(dir, events);
+        if (!valid) {
+          watcher.handleInvalidKey(dir, ended.contains(watcher));
+        }
+      } catch (Throwable t) {
+        watcher.fail(t);
+      }
+    }
+  }
+
+  /**
+   * The watchers of a directory.
+   */
+  private static class Registration {
+
+    final Path dir;
+    final Set<FileWatcher> watchers = new HashSet<>(2);
+
+    Registration(Path dir) {
+      this.dir = dir;
+    }
+  }
+}
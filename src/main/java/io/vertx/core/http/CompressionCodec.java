@@ -0,0 +1,38 @@
+/*
+ * Copyright (c) 2011-2019 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.core.http;
+
+import io.netty.channel.ChannelHandler;
+
+/**
+ * A content coding the server can use to compress HTTP/1.x responses, in addition to the built-in {@code gzip}
+ * and {@code deflate} codings, e.g {@code br} or {@code zstd} backed by a third party Netty encoder.
+ *
+ * @see HttpServerOptions#addCompressor(CompressionCodec)
+ */
+public interface CompressionCodec {
+
+  /**
+   * @return the content coding token matched against the {@code Accept-Encoding} request header and sent in the
+   *         {@code Content-Encoding} response header
+   */
+  String contentEncoding();
+
+  /**
+   * Create the encoder of a response body, the returned handler encodes {@code ByteBuf} messages into
+   * {@code ByteBuf} messages and is used for a single response.
+   *
+   * @return the encoder
+   */
+  ChannelHandler createEncoder();
+
+}
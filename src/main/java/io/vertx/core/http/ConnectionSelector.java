@@ -0,0 +1,74 @@
+/*
+ * Copyright (c) 2011-2019 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.core.http;
+
+import java.util.Collection;
+
+/**
+ * Selects the pooled connection lent to a request among the available connections of an HTTP client pool.
+ * <p/>
+ * A selector is set with {@link HttpClientOptions#setConnectionSelector(ConnectionSelector)}. When none is set,
+ * the client lends the first available connection, the order being determined by the pool recycling policy.
+ */
+@FunctionalInterface
+public interface ConnectionSelector {
+
+  /**
+   * Select the connection with the fewest in-flight requests, ties are broken by the lowest observed latency.
+   * <p/>
+   * This avoids packing pipelined or multiplexed requests on the first connection where a single slow response
+   * would block the requests queued behind it.
+   */
+  ConnectionSelector LEAST_LOADED = candidates -> {
+    Candidate selected = null;
+    for (Candidate candidate : candidates) {
+      if (selected == null
+        || candidate.inFlight() < selected.inFlight()
+        || (candidate.inFlight() == selected.inFlight() && candidate.latency() < selected.latency())) {
+        selected = candidate;
+      }
+    }
+    return selected;
+  };
+
+  /**
+   * The view of a pooled connection offered to the selector.
+   */
+  interface Candidate {
+
+    /**
+     * @return the number of times the connection is currently borrowed
+     */
+    long inFlight();
+
+    /**
+     * @return the number of times the connection can be borrowed concurrently
+     */
+    long concurrency();
+
+    /**
+     * @return the smoothed time in nanoseconds between a borrow and its recycle, approximated for multiplexed
+     *         connections recycling out of order, {@code 0} when not yet observed
+     */
+    long latency();
+
+  }
+
+  /**
+   * Select a connection, this is called under the pool lock.
+   *
+   * @param candidates the available connections, never empty
+   * @return one of the {@code candidates}, any other result lends the first available connection
+   */
+  Candidate select(Collection<? extends Candidate> candidates);
+
+}
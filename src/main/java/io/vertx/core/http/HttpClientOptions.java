@@ -12,6 +12,7 @@
 package io.vertx.core.http;
 
 import io.vertx.codegen.annotations.DataObject;
+import io.vertx.codegen.annotations.GenIgnore;
 import io.vertx.core.buffer.Buffer;
 import io.vertx.core.impl.Arguments;
 import io.vertx.core.json.JsonObject;
@@ -247,6 +248,7 @@ public class HttpClientOptions extends ClientOptionsBase {
   private int webSocketClosingTimeout;
 
   private TracingPolicy tracingPolicy;
+  private ConnectionSelector connectionSelector;
 
   /**
    * Default constructor
@@ -299,6 +301,7 @@ public class HttpClientOptions extends ClientOptionsBase {
     this.webSocketRequestServerNoContext = other.webSocketRequestServerNoContext;
     this.webSocketClosingTimeout = other.webSocketClosingTimeout;
     this.tracingPolicy = other.tracingPolicy;
+    this.connectionSelector = other.connectionSelector;
   }
 
   /**
@@ -1303,6 +1306,29 @@ public class HttpClientOptions extends ClientOptionsBase {
     return this;
   }
 
+  /**
+   * @return the selector of the pooled connections, {@code null} when the connections are lent in the pool order
+   */
+  @GenIgnore
+  public ConnectionSelector getConnectionSelector() {
+    return connectionSelector;
+  }
+
+  /**
+   * Set the selector choosing the pooled connection lent to a request among the available connections.
+   * <p>
+   * When no selector is set, the connections are lent in the pool order. Pipelined or HTTP/2 clients can use
+   * {@link ConnectionSelector#LEAST_LOADED} to avoid queuing requests behind a slow response.
+   *
+   * @param connectionSelector the selector or {@code null} to lend the connections in the pool order
+   * @return a reference to this, so the API can be used fluently
+   */
+  @GenIgnore
+  public HttpClientOptions setConnectionSelector(ConnectionSelector connectionSelector) {
+    this.connectionSelector = connectionSelector;
+    return this;
+  }
+
   /**
    * @return the tracing policy
    */
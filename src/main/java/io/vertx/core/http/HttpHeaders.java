@@ -17,6 +17,7 @@ import io.netty.util.AsciiString;
 import io.vertx.codegen.annotations.GenIgnore;
 import io.vertx.codegen.annotations.VertxGen;
 import io.vertx.core.MultiMap;
+import io.vertx.core.http.impl.headers.CachedDateHeader;
 import io.vertx.core.http.impl.headers.HeadersMultiMap;
 
 /**
@@ -423,6 +424,31 @@ public interface HttpHeaders {
     return HeadersMultiMap.httpHeaders();
   }
 
+  /**
+   * Create a copy of {@code headers} that is encoded once.
+   * <p/>
+   * Add the returned headers to a response with {@link MultiMap#addAll(MultiMap)} before setting any other header,
+   * the HTTP/1.x response head will then write the encoded headers with a single copy instead of encoding
+   * each header. This is useful for headers sent with many responses, e.g {@code Content-Type} or {@code Server}.
+   * <p/>
+   * Removing or modifying one of the pre-encoded headers on a response falls back to the regular encoding.
+   *
+   * @param headers the headers
+   * @return the pre-encoded headers
+   */
+  static MultiMap preEncoded(MultiMap headers) {
+    return HeadersMultiMap.preEncoded(headers);
+  }
+
+  /**
+   * @return the current date formatted for the {@code Date} header, the value is computed at most once per second
+   *         and per event loop
+   */
+  @GenIgnore(GenIgnore.PERMITTED_TYPE)
+  static CharSequence date() {
+    return CachedDateHeader.now();
+  }
+
   static MultiMap set(String name, String value) {
     return HeadersMultiMap.httpHeaders().set(name, value);
   }
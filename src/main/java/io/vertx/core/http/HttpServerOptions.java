@@ -12,6 +12,7 @@
 package io.vertx.core.http;
 
 import io.vertx.codegen.annotations.DataObject;
+import io.vertx.codegen.annotations.GenIgnore;
 import io.vertx.core.Handler;
 import io.vertx.core.buffer.Buffer;
 import io.vertx.core.impl.Arguments;
@@ -141,8 +142,21 @@ public class HttpServerOptions extends NetServerOptions {
    */
   public static final TracingPolicy DEFAULT_TRACING_POLICY = TracingPolicy.ALWAYS;
 
+  /**
+   * Default support for serving precompressed files = {@code false}
+   */
+  public static final boolean DEFAULT_PRECOMPRESSED_FILES_SUPPORTED = false;
+
+  /**
+   * Default sending of the {@code Date} header = {@code false}
+   */
+  public static final boolean DEFAULT_SEND_DATE_HEADER = false;
+
   private boolean compressionSupported;
   private int compressionLevel;
+  private List<CompressionCodec> compressors;
+  private boolean precompressedFilesSupported;
+  private boolean sendDateHeader;
   private int maxWebSocketFrameSize;
   private int maxWebSocketMessageSize;
   private List<String> webSocketSubProtocols;
@@ -182,6 +196,9 @@ public class HttpServerOptions extends NetServerOptions {
     super(other);
     this.compressionSupported = other.isCompressionSupported();
     this.compressionLevel = other.getCompressionLevel();
+    this.compressors = other.compressors != null ? new ArrayList<>(other.compressors) : null;
+    this.precompressedFilesSupported = other.precompressedFilesSupported;
+    this.sendDateHeader = other.sendDateHeader;
     this.maxWebSocketFrameSize = other.maxWebSocketFrameSize;
     this.maxWebSocketMessageSize = other.maxWebSocketMessageSize;
     this.webSocketSubProtocols = other.webSocketSubProtocols != null ? new ArrayList<>(other.webSocketSubProtocols) : null;
@@ -230,6 +247,9 @@ public class HttpServerOptions extends NetServerOptions {
   private void init() {
     compressionSupported = DEFAULT_COMPRESSION_SUPPORTED;
     compressionLevel = DEFAULT_COMPRESSION_LEVEL;
+    compressors = null;
+    precompressedFilesSupported = DEFAULT_PRECOMPRESSED_FILES_SUPPORTED;
+    sendDateHeader = DEFAULT_SEND_DATE_HEADER;
     maxWebSocketFrameSize = DEFAULT_MAX_WEBSOCKET_FRAME_SIZE;
     maxWebSocketMessageSize = DEFAULT_MAX_WEBSOCKET_MESSAGE_SIZE;
     handle100ContinueAutomatically = DEFAULT_HANDLE_100_CONTINE_AUTOMATICALLY;
@@ -522,6 +542,76 @@ public class HttpServerOptions extends NetServerOptions {
     return this;
   }
 
+  /**
+   * @return the additional compression codecs, in preference order
+   */
+  @GenIgnore
+  public List<CompressionCodec> getCompressors() {
+    return compressors;
+  }
+
+  /**
+   * Add a compression codec used for HTTP/1.x responses when compression support is turned on
+   * (@see setCompressionSupported) and the client accepts its content coding.
+   * <p>
+   * Codecs are tried in the order they were added before falling back to the built-in {@code gzip/deflate} codings.
+   *
+   * @param compressor the codec
+   * @return a reference to this, so the API can be used fluently
+   */
+  @GenIgnore
+  public HttpServerOptions addCompressor(CompressionCodec compressor) {
+    Objects.requireNonNull(compressor, "No null compressor accepted");
+    if (compressors == null) {
+      compressors = new ArrayList<>();
+    }
+    compressors.add(compressor);
+    return this;
+  }
+
+  /**
+   * @return {@code true} if the server serves precompressed sibling files
+   */
+  public boolean isPrecompressedFilesSupported() {
+    return precompressedFilesSupported;
+  }
+
+  /**
+   * Set whether {@link HttpServerResponse#sendFile} serves a precompressed sibling of the file when the client
+   * accepts its content coding, e.g {@code index.html.br}, {@code index.html.zst} or {@code index.html.gz} for
+   * {@code index.html}, in this order.
+   * <p>
+   * The sibling is only used when the whole file is sent and the response has no {@code Content-Encoding} header,
+   * so the file is not compressed again on each request.
+   *
+   * @param precompressedFilesSupported {@code true} to serve precompressed files
+   * @return a reference to this, so the API can be used fluently
+   */
+  public HttpServerOptions setPrecompressedFilesSupported(boolean precompressedFilesSupported) {
+    this.precompressedFilesSupported = precompressedFilesSupported;
+    return this;
+  }
+
+  /**
+   * @return {@code true} if the server sets the {@code Date} header of the HTTP/1.x responses
+   */
+  public boolean isSendDateHeader() {
+    return sendDateHeader;
+  }
+
+  /**
+   * Set whether the server sets the {@code Date} header of the HTTP/1.x responses that don't have one.
+   * <p>
+   * The value is formatted at most once per second and per event loop.
+   *
+   * @param sendDateHeader {@code true} to send the {@code Date} header
+   * @return a reference to this, so the API can be used fluently
+   */
+  public HttpServerOptions setSendDateHeader(boolean sendDateHeader) {
+    this.sendDateHeader = sendDateHeader;
+    return this;
+  }
+
   public boolean isAcceptUnmaskedFrames() {
     return acceptUnmaskedFrames;
   }
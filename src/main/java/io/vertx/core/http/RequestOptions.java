@@ -70,6 +70,11 @@ public class RequestOptions {
    */
   public static final long DEFAULT_TIMEOUT = 0;
 
+  /**
+   * The default request hedging delay = {@code 0} (disabled)
+   */
+  public static final long DEFAULT_HEDGING_DELAY = 0;
+
   private SocketAddress server;
   private HttpMethod method;
   private String host;
@@ -79,6 +84,7 @@ public class RequestOptions {
   private MultiMap headers;
   private boolean followRedirects;
   private long timeout;
+  private long hedgingDelay;
 
   /**
    * Default constructor
@@ -92,6 +98,7 @@ public class RequestOptions {
     uri = DEFAULT_URI;
     followRedirects = DEFAULT_FOLLOW_REDIRECTS;
     timeout = DEFAULT_TIMEOUT;
+    hedgingDelay = DEFAULT_HEDGING_DELAY;
   }
 
   /**
@@ -107,6 +114,7 @@ public class RequestOptions {
     setSsl(other.ssl);
     setURI(other.uri);
     setTimeout(other.timeout);
+    setHedgingDelay(other.hedgingDelay);
     if (other.headers != null) {
       setHeaders(MultiMap.caseInsensitiveMultiMap().setAll(other.headers));
     }
@@ -289,6 +297,31 @@ public class RequestOptions {
     return this;
   }
 
+  /**
+   * @return the delay in milliseconds after which a duplicate of an idempotent request is sent
+   */
+  public long getHedgingDelay() {
+    return hedgingDelay;
+  }
+
+  /**
+   * Set the delay after which a duplicate of the request is sent when no response has been received yet.
+   *
+   * <p> Hedging only applies to idempotent methods ({@code GET}, {@code HEAD}, {@code OPTIONS}, {@code TRACE},
+   * {@code PUT} and {@code DELETE}) sent with a single {@code end} call. The duplicate is sent on another stream
+   * obtained from the pool, the first response received wins and the other stream is reset.
+   *
+   * @param hedgingDelay the delay in milliseconds, {@code 0} disables hedging
+   * @return a reference to this, so the API can be used fluently
+   */
+  public RequestOptions setHedgingDelay(long hedgingDelay) {
+    if (hedgingDelay < 0) {
+      throw new IllegalArgumentException("hedgingDelay must be >= 0");
+    }
+    this.hedgingDelay = hedgingDelay;
+    return this;
+  }
+
   private URL parseUrl(String surl) {
     // Note - parsing a URL this way is slower than specifying host, port and relativeURI
     try {
@@ -0,0 +1,91 @@
+/*
+ * Copyright (c) 2011-2019 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.core.http;
+
+import io.vertx.codegen.annotations.Fluent;
+import io.vertx.codegen.annotations.VertxGen;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.impl.WebSocketGroupImpl;
+
+/**
+ * A group of server WebSockets to broadcast messages to.
+ * <p>
+ * A message written to the group is encoded in WebSocket frames once, the encoded frames are then shared by the
+ * members of the group and written by each member on its own event loop. Broadcast messages are never compressed,
+ * even when a member has negotiated a compression extension.
+ * <p>
+ * The members which write queue is full are handled according to the group {@link SlowConsumerPolicy}.
+ * <p>
+ * A closed member is removed from the group.
+ */
+@VertxGen
+public interface WebSocketGroup {
+
+  /**
+   * Create a group queuing the messages written to its slow members.
+   *
+   * @return the group
+   */
+  static WebSocketGroup create() {
+    return create(SlowConsumerPolicy.QUEUE);
+  }
+
+  /**
+   * Create a group handling its slow members with the given {@code policy}.
+   *
+   * @param policy the slow consumer policy
+   * @return the group
+   */
+  static WebSocketGroup create(SlowConsumerPolicy policy) {
+    return new WebSocketGroupImpl(policy, HttpServerOptions.DEFAULT_MAX_WEBSOCKET_FRAME_SIZE);
+  }
+
+  /**
+   * Add a WebSocket to this group.
+   *
+   * @param webSocket the WebSocket
+   * @return a reference to this, so the API can be used fluently
+   */
+  @Fluent
+  WebSocketGroup add(ServerWebSocket webSocket);
+
+  /**
+   * Remove a WebSocket from this group.
+   *
+   * @param webSocket the WebSocket
+   * @return a reference to this, so the API can be used fluently
+   */
+  @Fluent
+  WebSocketGroup remove(ServerWebSocket webSocket);
+
+  /**
+   * @return the number of members of this group
+   */
+  int size();
+
+  /**
+   * Broadcast a text message to the members of this group.
+   *
+   * @param text the message
+   * @return the number of members the message was written to
+   */
+  int writeTextMessage(String text);
+
+  /**
+   * Broadcast a binary message to the members of this group.
+   *
+   * @param data the message
+   * @return the number of members the message was written to
+   */
+  int writeBinaryMessage(Buffer data);
+
+}
@@ -12,6 +12,7 @@ package io.vertx.core.http.impl;
 
 import io.vertx.core.AsyncResult;
 import io.vertx.core.Handler;
+import io.vertx.core.http.ConnectionSelector;
 import io.vertx.core.net.impl.clientconnection.Pool;
 import io.vertx.core.impl.ContextInternal;
 import io.vertx.core.spi.metrics.ClientMetrics;
@@ -32,6 +33,7 @@ class ClientHttpStreamEndpoint extends ClientHttpEndpointBase {
                                   int port,
                                   ContextInternal ctx,
                                   HttpChannelConnector connector,
+                                  ConnectionSelector selector,
                                   Runnable dispose) {
     super(metrics, port, host, metric, dispose);
     this.pool = new Pool<>(
@@ -42,7 +44,8 @@ class ClientHttpStreamEndpoint extends ClientHttpEndpointBase {
       maxSize,
       this::connectionAdded,
       this::connectionRemoved,
-      false);
+      false,
+      selector);
   }
 
   void checkExpired() {
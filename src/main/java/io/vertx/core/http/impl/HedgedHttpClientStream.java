@@ -0,0 +1,427 @@
+/*
+ * Copyright (c) 2011-2019 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.core.http.impl;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.handler.codec.http2.Http2Error;
+import io.vertx.core.AsyncResult;
+import io.vertx.core.Handler;
+import io.vertx.core.MultiMap;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.HttpFrame;
+import io.vertx.core.http.HttpMethod;
+import io.vertx.core.http.HttpVersion;
+import io.vertx.core.http.StreamPriority;
+import io.vertx.core.http.StreamResetException;
+import io.vertx.core.impl.ContextInternal;
+
+/**
+ * A client stream that sends a duplicate of the request on a second stream when no response
+ * has been received after a delay. The first stream to receive a response head wins, the other
+ * stream is reset.
+ *
+ * <p> Only requests written with a single {@link #writeHead} call ending the request are hedged, since
+ * the request must be replayed on the second stream. Until a winner is elected the primary stream
+ * is the one exposed to the request.
+ */
+class HedgedHttpClientStream implements HttpClientStream {
+
+  static boolean isIdempotent(HttpMethod method) {
+    return method == HttpMethod.GET
+      || method == HttpMethod.HEAD
+      || method == HttpMethod.OPTIONS
+      || method == HttpMethod.TRACE
+      || method == HttpMethod.PUT
+      || method == HttpMethod.DELETE;
+  }
+
+  private final HttpClientImpl client;
+  private final ContextInternal context;
+  private final EndpointKey key;
+  private final long delay;
+  private final HttpClientStream primary;
+  private HttpClientStream hedge;
+  private HttpClientStream winner;
+  private boolean reset;
+  private long timerID = -1L;
+  private boolean paused;
+  private HttpRequestHead head;
+  private ByteBuf body;
+  private StreamPriority priority;
+  private Handler<HttpClientPush> pushHandler;
+  private Handler<HttpFrame> unknownFrameHandler;
+  private Handler<Throwable> exceptionHandler;
+  private Handler<HttpResponseHead> headHandler;
+  private Handler<Buffer> chunkHandler;
+  private Handler<MultiMap> endHandler;
+  private Handler<StreamPriority> priorityHandler;
+
+  HedgedHttpClientStream(HttpClientImpl client, ContextInternal context, EndpointKey key, long delay, HttpClientStream primary) {
+    this.client = client;
+    this.context = context;
+    this.key = key;
+    this.delay = delay;
+    this.primary = primary;
+    init(primary);
+  }
+
+  private void init(HttpClientStream stream) {
+    stream.pushHandler(push -> {
+      Handler<HttpClientPush> handler;
+      synchronized (this) {
+        handler = pushHandler;
+      }
+      if (handler != null && isWinner(stream)) {
+        handler.handle(push);
+      }
+    });
+    stream.unknownFrameHandler(frame -> {
+      Handler<HttpFrame> handler;
+      synchronized (this) {
+        handler = unknownFrameHandler;
+      }
+      if (handler != null && isWinner(stream)) {
+        handler.handle(frame);
+      }
+    });
+    stream.headHandler(response -> handleHead(stream, response));
+    stream.chunkHandler(chunk -> {
+      Handler<Buffer> handler;
+      synchronized (this) {
+        handler = chunkHandler;
+      }
+      if (handler != null && isWinner(stream)) {
+        handler.handle(chunk);
+      }
+    });
+    stream.endHandler(trailers -> {
+      Handler<MultiMap> handler;
+      synchronized (this) {
+        handler = endHandler;
+      }
+      if (handler != null && isWinner(stream)) {
+        handler.handle(trailers);
+      }
+    });
+    stream.priorityHandler(streamPriority -> {
+      Handler<StreamPriority> handler;
+      synchronized (this) {
+        handler = priorityHandler;
+      }
+      if (handler != null && isWinner(stream)) {
+        handler.handle(streamPriority);
+      }
+    });
+    stream.exceptionHandler(err -> handleException(stream, err));
+  }
+
+  private synchronized boolean isWinner(HttpClientStream stream) {
+    return winner == stream;
+  }
+
+  private synchronized HttpClientStream current() {
+    return winner != null ? winner : primary;
+  }
+
+  private void handleHead(HttpClientStream stream, HttpResponseHead response) {
+    HttpClientStream loser;
+    Handler<HttpResponseHead> handler;
+    synchronized (this) {
+      if (winner != null) {
+        return;
+      }
+      winner = stream;
+      loser = stream == primary ? hedge : primary;
+      handler = headHandler;
+      cancelHedge();
+    }
+    if (loser != null) {
+      loser.reset(new StreamResetException(Http2Error.CANCEL.code()));
+    }
+    if (handler != null) {
+      handler.handle(response);
+    }
+  }
+
+  private void handleException(HttpClientStream stream, Throwable err) {
+    HttpClientStream other;
+    Handler<Throwable> handler;
+    synchronized (this) {
+      if (winner == null) {
+        if (stream != primary) {
+          // The duplicate failed before any response, the primary carries on
+          if (stream == hedge) {
+            hedge = null;
+          }
+          return;
+        }
+        winner = primary;
+        other = hedge;
+        cancelHedge();
+      } else if (winner != stream) {
+        return;
+      } else {
+        other = null;
+      }
+      handler = exceptionHandler;
+    }
+    if (other != null) {
+      other.reset(new StreamResetException(Http2Error.CANCEL.code()));
+    }
+    if (handler != null) {
+      handler.handle(err);
+    }
+  }
+
+  /**
+   * Must be called under this lock.
+   */
+  private void cancelHedge() {
+    if (timerID != -1L) {
+      client.getVertx().cancelTimer(timerID);
+      timerID = -1L;
+    }
+    if (body != null) {
+      body.release();
+      body = null;
+    }
+    head = null;
+  }
+
+  private void sendHedge(long id) {
+    synchronized (this) {
+      timerID = -1L;
+      if (winner != null || reset) {
+        return;
+      }
+    }
+    client.createStream(context, key, ar -> {
+      if (ar.failed()) {
+        // No duplicate can be sent, the primary carries on alone
+        synchronized (this) {
+          cancelHedge();
+        }
+        return;
+      }
+      HttpClientStream stream = ar.result();
+      HttpRequestHead request;
+      ByteBuf buf;
+      StreamPriority streamPriority;
+      boolean pause;
+      synchronized (this) {
+        if (winner != null || reset || head == null) {
+          request = null;
+          buf = null;
+          streamPriority = null;
+          pause = false;
+        } else {
+          hedge = stream;
+          request = head;
+          buf = body;
+          streamPriority = priority;
+          pause = paused;
+          head = null;
+          body = null;
+        }
+      }
+      if (request == null) {
+        stream.reset(new StreamResetException(Http2Error.CANCEL.code()));
+        return;
+      }
+      init(stream);
+      if (pause) {
+        stream.doPause();
+      }
+      stream.writeHead(request, false, buf, true, streamPriority, false, res -> {
+        if (res.failed()) {
+          handleHedgeFailure(stream);
+        }
+      });
+    });
+  }
+
+  /**
+   * The duplicate could not be sent, drop it unless it already won so the primary carries on alone.
+   */
+  private void handleHedgeFailure(HttpClientStream stream) {
+    synchronized (this) {
+      if (hedge != stream || winner == stream) {
+        return;
+      }
+      hedge = null;
+    }
+    stream.reset(new StreamResetException(Http2Error.CANCEL.code()));
+  }
+
+  /**
+   * @return the streams receiving the response until a winner is elected, the winner afterwards
+   */
+  private synchronized HttpClientStream[] receivers() {
+    if (winner != null) {
+      return new HttpClientStream[] { winner };
+    } else if (hedge != null) {
+      return new HttpClientStream[] { primary, hedge };
+    } else {
+      return new HttpClientStream[] { primary };
+    }
+  }
+
+  @Override
+  public int id() {
+    return current().id();
+  }
+
+  @Override
+  public Object metric() {
+    return current().metric();
+  }
+
+  @Override
+  public HttpVersion version() {
+    return current().version();
+  }
+
+  @Override
+  public HttpClientConnection connection() {
+    return current().connection();
+  }
+
+  @Override
+  public ContextInternal getContext() {
+    return primary.getContext();
+  }
+
+  @Override
+  public void writeHead(HttpRequestHead request, boolean chunked, ByteBuf buf, boolean end, StreamPriority priority, boolean connect, Handler<AsyncResult<Void>> handler) {
+    if (end && !connect) {
+      synchronized (this) {
+        head = request;
+        body = buf != null ? buf.copy() : null;
+        this.priority = priority;
+        timerID = context.setTimer(delay, this::sendHedge);
+      }
+    }
+    primary.writeHead(request, chunked, buf, end, priority, connect, handler);
+  }
+
+  @Override
+  public void writeBuffer(ByteBuf buf, boolean end, Handler<AsyncResult<Void>> listener) {
+    primary.writeBuffer(buf, end, listener);
+  }
+
+  @Override
+  public void writeFrame(int type, int flags, ByteBuf payload) {
+    current().writeFrame(type, flags, payload);
+  }
+
+  @Override
+  public void continueHandler(Handler<Void> handler) {
+    primary.continueHandler(handler);
+  }
+
+  @Override
+  public void drainHandler(Handler<Void> handler) {
+    primary.drainHandler(handler);
+  }
+
+  @Override
+  public synchronized void pushHandler(Handler<HttpClientPush> handler) {
+    pushHandler = handler;
+  }
+
+  @Override
+  public synchronized void unknownFrameHandler(Handler<HttpFrame> handler) {
+    unknownFrameHandler = handler;
+  }
+
+  @Override
+  public synchronized void exceptionHandler(Handler<Throwable> handler) {
+    exceptionHandler = handler;
+  }
+
+  @Override
+  public synchronized void headHandler(Handler<HttpResponseHead> handler) {
+    headHandler = handler;
+  }
+
+  @Override
+  public synchronized void chunkHandler(Handler<Buffer> handler) {
+    chunkHandler = handler;
+  }
+
+  @Override
+  public synchronized void endHandler(Handler<MultiMap> handler) {
+    endHandler = handler;
+  }
+
+  @Override
+  public synchronized void priorityHandler(Handler<StreamPriority> handler) {
+    priorityHandler = handler;
+  }
+
+  @Override
+  public void doSetWriteQueueMaxSize(int size) {
+    primary.doSetWriteQueueMaxSize(size);
+  }
+
+  @Override
+  public boolean isNotWritable() {
+    return primary.isNotWritable();
+  }
+
+  @Override
+  public void doPause() {
+    synchronized (this) {
+      paused = true;
+    }
+    for (HttpClientStream stream : receivers()) {
+      stream.doPause();
+    }
+  }
+
+  @Override
+  public void doFetch(long amount) {
+    synchronized (this) {
+      paused = false;
+    }
+    for (HttpClientStream stream : receivers()) {
+      stream.doFetch(amount);
+    }
+  }
+
+  @Override
+  public void reset(Throwable cause) {
+    HttpClientStream other;
+    synchronized (this) {
+      if (reset) {
+        return;
+      }
+      reset = true;
+      other = winner == null ? hedge : null;
+      cancelHedge();
+    }
+    current().reset(cause);
+    if (other != null) {
+      other.reset(cause);
+    }
+  }
+
+  @Override
+  public StreamPriority priority() {
+    return current().priority();
+  }
+
+  @Override
+  public void updatePriority(StreamPriority streamPriority) {
+    current().updatePriority(streamPriority);
+  }
+}
@@ -33,6 +33,7 @@ import io.vertx.core.http.Cookie;
 import io.vertx.core.http.HttpHeaders;
 import io.vertx.core.http.HttpMethod;
 import io.vertx.core.http.HttpServerResponse;
+import io.vertx.core.http.impl.headers.CachedDateHeader;
 import io.vertx.core.http.impl.headers.HeadersMultiMap;
 import io.vertx.core.impl.ContextInternal;
 import io.vertx.core.impl.future.PromiseInternal;
@@ -519,14 +520,23 @@ public class Http1xServerResponse implements HttpServerResponse, HttpResponse {
         return;
       }
 
-      long contentLength = Math.min(length, file.length() - offset);
-      bytesWritten = contentLength;
       if (!headers.contains(HttpHeaders.CONTENT_TYPE)) {
         String contentType = MimeMapping.getMimeTypeForFilename(filename);
         if (contentType != null) {
           headers.set(HttpHeaders.CONTENT_TYPE, contentType);
         }
       }
+      if (conn.options.isPrecompressedFilesSupported() && offset == 0 && length >= file.length() && !headers.contains(HttpHeaders.CONTENT_ENCODING)) {
+        int idx = HttpUtils.resolvePrecompressed(file.getPath(), request.headers().get(HttpHeaders.ACCEPT_ENCODING));
+        if (idx != -1) {
+          file = new File(HttpUtils.precompressedFile(file.getPath(), idx));
+          length = file.length();
+          headers.set(HttpHeaders.CONTENT_ENCODING, HttpUtils.precompressedEncoding(idx));
+          headers.add(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        }
+      }
+      long contentLength = Math.min(length, file.length() - offset);
+      bytesWritten = contentLength;
       prepareHeaders(bytesWritten);
 
       ChannelFuture channelFuture;
@@ -682,6 +692,9 @@ public class Http1xServerResponse implements HttpServerResponse, HttpResponse {
         headers.set(HttpHeaders.CONTENT_LENGTH, value);
       }
     }
+    if (conn.options.isSendDateHeader() && !headers.contains(HttpHeaders.DATE)) {
+      headers.set(HttpHeaders.DATE, CachedDateHeader.now());
+    }
     if (headersEndHandler != null) {
       headersEndHandler.handle(null);
     }
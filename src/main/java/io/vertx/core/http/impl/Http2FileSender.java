@@ -0,0 +1,218 @@
+/*
+ * Copyright (c) 2011-2019 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.core.http.impl;
+
+import io.netty.buffer.ByteBuf;
+import io.vertx.core.AsyncResult;
+import io.vertx.core.Future;
+import io.vertx.core.Handler;
+import io.vertx.core.impl.ContextInternal;
+import io.vertx.core.impl.VertxInternal;
+import io.vertx.core.net.impl.ConnectionBase;
+import io.vertx.core.net.impl.PartialPooledByteBufAllocator;
+
+import java.io.EOFException;
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+
+/**
+ * Sends a region of a file as the body of an HTTP/2 response.
+ * <p/>
+ * The file is read on the worker pool into pooled direct buffers sized after the flow-control window of the stream,
+ * the buffers are handed as is to the HTTP/2 encoder which releases them. The next region is read as long as the
+ * stream is writable, otherwise it is read when the stream becomes writable again.
+ * <p/>
+ * A single region of a file is read at a time, the reads are not ordered with the other internal blocking tasks of
+ * the context so the files of the streams of a connection are read in parallel.
+ */
+class Http2FileSender {
+
+  static final int MIN_CHUNK_SIZE = 16 * 1024;
+  static final int MAX_CHUNK_SIZE = 1024 * 1024;
+
+  /**
+   * Open the file region, this method is blocking.
+   */
+  static Http2FileSender open(VertxInternal vertx, String filename, long offset, long length) throws IOException {
+    File file = vertx.resolveFile(filename);
+    if (!file.exists()) {
+      throw new FileNotFoundException();
+    }
+    // RandomAccessFile makes sure that this is an actual file that can be read, i.e is not a directory
+    RandomAccessFile raf = new RandomAccessFile(file, "r");
+    try {
+      FileChannel ch = raf.getChannel();
+      long contentLength = Math.max(0L, Math.min(length, ch.size() - offset));
+      return new Http2FileSender(ch, offset, contentLength);
+    } catch (IOException e) {
+      raf.close();
+      throw e;
+    }
+  }
+
+  private final FileChannel ch;
+  private final long length;
+  private long position;
+  private long remaining;
+  private Http2ServerResponseImpl response;
+  private VertxHttp2Stream<?> stream;
+  private ContextInternal context;
+  private Handler<AsyncResult<Void>> handler;
+  private boolean reading;
+  private boolean done;
+
+  private Http2FileSender(FileChannel ch, long position, long length) {
+    this.ch = ch;
+    this.position = position;
+    this.length = length;
+    this.remaining = length;
+  }
+
+  /**
+   * @return the number of bytes to send
+   */
+  long length() {
+    return length;
+  }
+
+  /**
+   * Start sending the file, the response headers must have been sent already.
+   *
+   * @param response the response
+   * @param stream the response stream
+   * @param context the connection context
+   * @param handler the handler called when the response is ended or has failed
+   */
+  void send(Http2ServerResponseImpl response, VertxHttp2Stream<?> stream, ContextInternal context, Handler<AsyncResult<Void>> handler) {
+    synchronized (this) {
+      this.response = response;
+      this.stream = stream;
+      this.context = context;
+      this.handler = handler;
+    }
+    if (length == 0) {
+      response.write(null, true, this::handleEnd);
+    } else {
+      response.drainHandler(v -> context.runOnContext(v2 -> sendChunk()));
+      context.runOnContext(v -> sendChunk());
+    }
+  }
+
+  /**
+   * Called when the response is closed, the sending fails unless the file has been entirely sent.
+   */
+  void handleClose() {
+    ContextInternal context;
+    synchronized (this) {
+      context = this.context;
+    }
+    // When the sending has not started yet, the response state is checked when it starts
+    if (context != null) {
+      context.runOnContext(v -> sendChunk());
+    }
+  }
+
+  /**
+   * Read the next region of the file when the stream is writable, this is called on the connection event loop.
+   */
+  private void sendChunk() {
+    int size;
+    long pos;
+    synchronized (this) {
+      if (done || reading || remaining == 0) {
+        // The end of the response reports the result
+        return;
+      }
+    }
+    if (response.closed()) {
+      handleEnd(Future.failedFuture(ConnectionBase.CLOSED_EXCEPTION));
+      return;
+    }
+    if (stream.isNotWritable()) {
+      // Wait for the drain handler
+      return;
+    }
+    synchronized (this) {
+      size = (int) Math.min(remaining, Math.min(MAX_CHUNK_SIZE, Math.max(MIN_CHUNK_SIZE, stream.windowSize())));
+      pos = position;
+      reading = true;
+    }
+    ByteBuf buf = PartialPooledByteBufAllocator.INSTANCE.directBuffer(size);
+    context.<Void>executeBlockingInternal(promise -> {
+      try {
+        ByteBuffer bb = buf.nioBuffer(0, size);
+        long p = pos;
+        while (bb.hasRemaining()) {
+          int n = ch.read(bb, p);
+          if (n == -1) {
+            throw new EOFException("Unexpected end of file at position " + p);
+          }
+          p += n;
+        }
+        buf.writerIndex(size);
+        promise.complete();
+      } catch (IOException e) {
+        promise.fail(e);
+      }
+    }, false, ar -> {
+      boolean cancelled;
+      boolean last;
+      synchronized (this) {
+        reading = false;
+        cancelled = done;
+        position += size;
+        remaining -= size;
+        last = remaining == 0;
+      }
+      if (ar.failed() || cancelled) {
+        buf.release();
+        handleEnd(ar);
+        return;
+      }
+      try {
+        response.write(buf, last, res -> {
+          if (last || res.failed()) {
+            handleEnd(res);
+          }
+        });
+      } catch (IllegalStateException e) {
+        buf.release();
+        handleEnd(Future.failedFuture(e));
+        return;
+      }
+      if (!last) {
+        sendChunk();
+      }
+    });
+  }
+
+  private void handleEnd(AsyncResult<Void> res) {
+    synchronized (this) {
+      if (done) {
+        return;
+      }
+      done = true;
+    }
+    try {
+      ch.close();
+    } catch (IOException e) {
+      if (res.succeeded()) {
+        res = Future.failedFuture(e);
+      }
+    }
+    handler.handle(res);
+  }
+}
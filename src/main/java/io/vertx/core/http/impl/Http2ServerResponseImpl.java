@@ -27,7 +27,7 @@ import io.vertx.core.Handler;
 import io.vertx.core.MultiMap;
 import io.vertx.core.Promise;
 import io.vertx.core.buffer.Buffer;
-import io.vertx.core.file.AsyncFile;
+import io.vertx.core.impl.ContextInternal;
 import io.vertx.core.http.Cookie;
 import io.vertx.core.http.HttpHeaders;
 import io.vertx.core.http.HttpMethod;
@@ -40,6 +40,7 @@ import io.vertx.core.net.impl.ConnectionBase;
 import io.vertx.core.spi.observability.HttpResponse;
 import io.vertx.core.streams.ReadStream;
 
+import java.io.IOException;
 import java.util.Map;
 
 import static io.vertx.core.http.HttpHeaders.SET_COOKIE;
@@ -73,6 +74,7 @@ public class Http2ServerResponseImpl implements HttpServerResponse, HttpResponse
   private Handler<Void> closeHandler;
   private Handler<Void> endHandler;
   private Future<NetSocket> netSocket;
+  private Http2FileSender fileSender;
 
   public Http2ServerResponseImpl(Http2ServerConnection conn,
                                  Http2ServerStream stream,
@@ -109,12 +111,17 @@ public class Http2ServerResponseImpl implements HttpServerResponse, HttpResponse
     Handler<Throwable> exceptionHandler;
     Handler<Void> endHandler;
     Handler<Void> closeHandler;
+    Http2FileSender fileSender;
     synchronized (conn) {
       closed = true;
       boolean failed = !ended;
       exceptionHandler = failed ? this.exceptionHandler : null;
       endHandler = failed ? this.endHandler : null;
       closeHandler = this.closeHandler;
+      fileSender = this.fileSender;
+    }
+    if (fileSender != null) {
+      fileSender.handleClose();
     }
     if (exceptionHandler != null) {
       stream.context.emit(ConnectionBase.CLOSED_EXCEPTION, exceptionHandler);
@@ -593,27 +600,30 @@ public class Http2ServerResponseImpl implements HttpServerResponse, HttpResponse
     } else {
       h = ar -> {};
     }
-    HttpUtils.resolveFile(stream.vertx, filename, offset, length, ar -> {
+    ContextInternal context = conn.getContext();
+    context.<Http2FileSender>executeBlockingInternal(promise -> {
+      try {
+        promise.complete(Http2FileSender.open(stream.vertx, filename, offset, length));
+      } catch (IOException e) {
+        promise.fail(e);
+      }
+    }, ar -> {
       if (ar.succeeded()) {
-        AsyncFile file = ar.result();
-        long contentLength = Math.min(length, file.getReadLength());
-        if (headers.get(HttpHeaderNames.CONTENT_LENGTH) == null) {
-          putHeader(HttpHeaderNames.CONTENT_LENGTH, String.valueOf(contentLength));
-        }
-        if (headers.get(HttpHeaderNames.CONTENT_TYPE) == null) {
-          String contentType = MimeMapping.getMimeTypeForFilename(filename);
-          if (contentType != null) {
-            putHeader(HttpHeaderNames.CONTENT_TYPE, contentType);
+        Http2FileSender sender = ar.result();
+        synchronized (conn) {
+          if (headers.get(HttpHeaderNames.CONTENT_LENGTH) == null) {
+            putHeader(HttpHeaderNames.CONTENT_LENGTH, String.valueOf(sender.length()));
+          }
+          if (headers.get(HttpHeaderNames.CONTENT_TYPE) == null) {
+            String contentType = MimeMapping.getMimeTypeForFilename(filename);
+            if (contentType != null) {
+              putHeader(HttpHeaderNames.CONTENT_TYPE, contentType);
+            }
           }
+          checkSendHeaders(false);
+          fileSender = sender;
         }
-        checkSendHeaders(false);
-        file.pipeTo(this, ar1 -> file.close(ar2 -> {
-          Throwable failure = ar1.failed() ? ar1.cause() : ar2.failed() ? ar2.cause() : null;
-          if(failure == null)
-            h.handle(ar1);
-          else
-            h.handle(Future.failedFuture(failure));
-        }));
+        sender.send(this, stream, context, h);
       } else {
         h.handle(ar.mapEmpty());
       }
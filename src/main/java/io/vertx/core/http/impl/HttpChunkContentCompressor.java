@@ -14,14 +14,23 @@ package io.vertx.core.http.impl;
 import io.netty.buffer.ByteBuf;
 import io.netty.channel.ChannelHandlerContext;
 import io.netty.channel.ChannelPromise;
+import io.netty.channel.embedded.EmbeddedChannel;
 import io.netty.handler.codec.http.DefaultHttpContent;
 import io.netty.handler.codec.http.HttpContentCompressor;
+import io.netty.handler.codec.http.HttpHeaderNames;
+import io.netty.handler.codec.http.HttpResponse;
+import io.vertx.core.http.CompressionCodec;
+
+import java.util.List;
 
 /**
  * @author <a href="mailto:nmaurer@redhat.com">Norman Maurer</a>
  */
 final class HttpChunkContentCompressor extends HttpContentCompressor {
 
+  private final List<CompressionCodec> codecs;
+  private ChannelHandlerContext ctx;
+
   @Override
   public void write(ChannelHandlerContext ctx, Object msg, ChannelPromise promise) throws Exception {
     if (msg instanceof ByteBuf) {
@@ -38,8 +47,30 @@ final class HttpChunkContentCompressor extends HttpContentCompressor {
     super.write(ctx, msg, promise);
   }
 
-  HttpChunkContentCompressor(int compressionLevel) {
+  HttpChunkContentCompressor(int compressionLevel, List<CompressionCodec> codecs) {
     super(compressionLevel);
+    this.codecs = codecs;
+  }
+
+  @Override
+  public void handlerAdded(ChannelHandlerContext ctx) throws Exception {
+    this.ctx = ctx;
+    super.handlerAdded(ctx);
   }
 
+  @Override
+  protected Result beginEncode(HttpResponse headers, String acceptEncoding) throws Exception {
+    if (codecs != null && !headers.headers().contains(HttpHeaderNames.CONTENT_ENCODING)) {
+      for (CompressionCodec codec : codecs) {
+        if (HttpUtils.acceptsEncoding(acceptEncoding, codec.contentEncoding())) {
+          return new Result(codec.contentEncoding(), new EmbeddedChannel(
+            ctx.channel().id(),
+            ctx.channel().metadata().hasDisconnect(),
+            ctx.channel().config(),
+            codec.createEncoder()));
+        }
+      }
+    }
+    return super.beginEncode(headers, acceptEncoding);
+  }
 }
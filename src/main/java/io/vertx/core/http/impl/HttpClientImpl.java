@@ -212,7 +212,7 @@ public class HttpClientImpl implements HttpClient, MetricsProvider, Closeable {
       }
       ClientMetrics metrics = this.metrics != null ? this.metrics.createEndpointMetrics(key.serverAddr, maxPoolSize) : null;
       HttpChannelConnector connector = new HttpChannelConnector(this, channelGroup, ctx, metrics, options.getProtocolVersion(), key.ssl ? sslHelper : null, key.peerAddr, key.serverAddr);
-      return new ClientHttpStreamEndpoint(metrics, metrics, options.getMaxWaitQueueSize(), maxSize, host, port, ctx, connector, dispose);
+      return new ClientHttpStreamEndpoint(metrics, metrics, options.getMaxWaitQueueSize(), maxSize, host, port, ctx, connector, options.getConnectionSelector(), dispose);
     });
   }
 
@@ -393,7 +393,7 @@ public class HttpClientImpl implements HttpClient, MetricsProvider, Closeable {
   }
 
   private void request(RequestOptions options, PromiseInternal<HttpClientRequest> promise) {
-    request(options.getMethod(), options.getServer(), getHost(options), getPort(options), options.isSsl(), options.getURI(), options.getHeaders(), options.getTimeout(), options.getFollowRedirects(), promise);
+    request(options.getMethod(), options.getServer(), getHost(options), getPort(options), options.isSsl(), options.getURI(), options.getHeaders(), options.getTimeout(), options.getHedgingDelay(), options.getFollowRedirects(), promise);
   }
 
   @Override
@@ -412,7 +412,7 @@ public class HttpClientImpl implements HttpClient, MetricsProvider, Closeable {
   }
 
   private void request(HttpMethod method, int port, String host, String requestURI, PromiseInternal<HttpClientRequest> promise) {
-    request(method, null, host, port, null, requestURI, null, 0L, null, promise);
+    request(method, null, host, port, null, requestURI, null, 0L, 0L, null, promise);
   }
 
   @Override
@@ -529,6 +529,7 @@ public class HttpClientImpl implements HttpClient, MetricsProvider, Closeable {
                        String requestURI,
                        MultiMap headers,
                        long timeout,
+                       long hedgingDelay,
                        Boolean followRedirects,
                        PromiseInternal<HttpClientRequest> requestPromise) {
     Objects.requireNonNull(method, "no null method accepted");
@@ -567,7 +568,7 @@ public class HttpClientImpl implements HttpClient, MetricsProvider, Closeable {
       peerHost = peerHost.substring(0, peerHost.length() -  1);
     }
     SocketAddress peerAddress = SocketAddress.inetSocketAddress(port, peerHost);
-    request(method, peerAddress, server, host, port, useSSL, requestURI, headers, timeout, followRedirects, requestPromise);
+    request(method, peerAddress, server, host, port, useSSL, requestURI, headers, timeout, hedgingDelay, followRedirects, requestPromise);
   }
 
   private void request(
@@ -580,6 +581,7 @@ public class HttpClientImpl implements HttpClient, MetricsProvider, Closeable {
     String requestURI,
     MultiMap headers,
     long timeout,
+    long hedgingDelay,
     Boolean followRedirects,
     PromiseInternal<HttpClientRequest> requestPromise) {
     ContextInternal ctx = requestPromise.context();
@@ -592,39 +594,52 @@ public class HttpClientImpl implements HttpClient, MetricsProvider, Closeable {
     } else {
       timerID = -1L;
     }
+    createStream(ctx, key, ar -> {
+      if (ar.succeeded()) {
+        HttpClientStream stream = ar.result();
+        if (hedgingDelay > 0L && HedgedHttpClientStream.isIdempotent(method)) {
+          stream = new HedgedHttpClientStream(this, ctx, key, hedgingDelay, stream);
+        }
+        HttpClientRequestImpl req = new HttpClientRequestImpl(this, stream, ctx.promise(), useSSL, method, server, host, port, requestURI);
+        if (headers != null) {
+          req.headers().setAll(headers);
+        }
+        if (followRedirects != null) {
+          req.setFollowRedirects(followRedirects);
+        }
+        if (timerID >= 0L) {
+          if (!vertx.cancelTimer(timerID)) {
+            req.reset(0);
+            return;
+          }
+          req.setTimeout(timeout);
+        }
+        requestPromise.complete(req);
+      } else {
+        requestPromise.tryFail(ar.cause());
+      }
+    });
+  }
+
+  /**
+   * Obtain a connection from the pool for the given {@code key} and create a stream on it.
+   *
+   * @param ctx the context of the stream
+   * @param key the endpoint key
+   * @param handler the handler notified with the stream
+   */
+  void createStream(ContextInternal ctx, EndpointKey key, Handler<AsyncResult<HttpClientStream>> handler) {
     EventLoopContext eventLoopContext;
     if (ctx instanceof EventLoopContext) {
       eventLoopContext = (EventLoopContext) ctx;
     } else {
       eventLoopContext = (EventLoopContext) vertx.createEventLoopContext(ctx.nettyEventLoop(), ctx.workerPool(), ctx.classLoader());
     }
-    httpCM.getConnection(eventLoopContext, key, ar1 -> {
-      if (ar1.succeeded()) {
-        HttpClientConnection conn = ar1.result();
-        conn.createStream(ctx, ar2 -> {
-          if (ar2.succeeded()) {
-            HttpClientStream stream = ar2.result();
-            HttpClientRequestImpl req = new HttpClientRequestImpl(this, stream, ctx.promise(), useSSL, method, server, host, port, requestURI);
-            if (headers != null) {
-              req.headers().setAll(headers);
-            }
-            if (followRedirects != null) {
-              req.setFollowRedirects(followRedirects);
-            }
-            if (timerID >= 0L) {
-              if (!vertx.cancelTimer(timerID)) {
-                req.reset(0);
-                return;
-              }
-              req.setTimeout(timeout);
-            }
-            requestPromise.complete(req);
-          } else {
-            requestPromise.tryFail(ar2.cause());
-          }
-        });
+    httpCM.getConnection(eventLoopContext, key, ar -> {
+      if (ar.succeeded()) {
+        ar.result().createStream(ctx, handler);
       } else {
-        requestPromise.tryFail(ar1.cause());
+        handler.handle(Future.failedFuture(ar.cause()));
       }
     });
   }
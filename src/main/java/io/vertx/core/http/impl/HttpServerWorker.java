@@ -252,7 +252,7 @@ public class HttpServerWorker implements Handler<Channel> {
       pipeline.addLast("inflater", new HttpContentDecompressor(false));
     }
     if (options.isCompressionSupported()) {
-      pipeline.addLast("deflater", new HttpChunkContentCompressor(options.getCompressionLevel()));
+      pipeline.addLast("deflater", new HttpChunkContentCompressor(options.getCompressionLevel(), options.getCompressors()));
     }
     if (sslHelper.isSSL() || options.isCompressionSupported()) {
       // only add ChunkedWriteHandler when SSL is enabled otherwise it is not needed as FileRegion is used.
@@ -21,28 +21,18 @@ import io.netty.handler.codec.http2.Http2Headers;
 import io.netty.handler.codec.http2.Http2Settings;
 import io.netty.util.AsciiString;
 import io.netty.util.CharsetUtil;
-import io.vertx.core.AsyncResult;
 import io.vertx.core.Context;
-import io.vertx.core.Future;
-import io.vertx.core.Handler;
 import io.vertx.core.MultiMap;
 import io.vertx.core.Vertx;
 import io.vertx.core.buffer.Buffer;
-import io.vertx.core.file.AsyncFile;
-import io.vertx.core.file.FileSystem;
-import io.vertx.core.file.OpenOptions;
 import io.vertx.core.http.HttpServerRequest;
 import io.vertx.core.http.HttpServerResponse;
 import io.vertx.core.http.StreamPriority;
-import io.vertx.core.impl.VertxInternal;
 import io.vertx.core.net.NetSocket;
 import io.vertx.core.spi.tracing.TagExtractor;
 import io.vertx.core.streams.WriteStream;
 
 import java.io.File;
-import java.io.FileNotFoundException;
-import java.io.IOException;
-import java.io.RandomAccessFile;
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.nio.charset.StandardCharsets;
@@ -706,6 +696,71 @@ public final class HttpUtils {
     return null;
   }
 
+  /**
+   * Check whether an {@code Accept-Encoding} header value accepts the given content {@code encoding}, either by name
+   * or by the {@code *} wildcard, an encoding with a {@code q=0} quality is not accepted. An explicit entry for the
+   * encoding takes precedence over the wildcard.
+   */
+  static boolean acceptsEncoding(String acceptEncoding, String encoding) {
+    if (acceptEncoding == null) {
+      return false;
+    }
+    float wildcard = 0.0f;
+    for (String token : acceptEncoding.split(",")) {
+      String coding = token;
+      float q = 1.0f;
+      int idx = token.indexOf(';');
+      if (idx != -1) {
+        coding = token.substring(0, idx);
+        int eq = token.indexOf('=', idx);
+        if (eq != -1) {
+          try {
+            q = Float.parseFloat(token.substring(eq + 1).trim());
+          } catch (NumberFormatException e) {
+            q = 0.0f;
+          }
+        }
+      }
+      coding = coding.trim();
+      if (coding.equalsIgnoreCase(encoding)) {
+        // An explicit entry takes precedence over the wildcard
+        return q > 0.0f;
+      } else if (coding.equals("*")) {
+        wildcard = q;
+      }
+    }
+    return wildcard > 0.0f;
+  }
+
+  private static final String[] PRECOMPRESSED_ENCODINGS = { "br", "zstd", "gzip" };
+  private static final String[] PRECOMPRESSED_SUFFIXES = { ".br", ".zst", ".gz" };
+
+  /**
+   * Resolve the precompressed sibling of {@code file} to serve for the {@code Accept-Encoding} header value, the
+   * siblings are tried in the {@code .br}, {@code .zst}, {@code .gz} order.
+   *
+   * @return the index of the sibling in the precompressed encodings or {@code -1} when none applies
+   */
+  static int resolvePrecompressed(String file, String acceptEncoding) {
+    if (acceptEncoding == null) {
+      return -1;
+    }
+    for (int i = 0;i < PRECOMPRESSED_ENCODINGS.length;i++) {
+      if (acceptsEncoding(acceptEncoding, PRECOMPRESSED_ENCODINGS[i]) && new File(file + PRECOMPRESSED_SUFFIXES[i]).isFile()) {
+        return i;
+      }
+    }
+    return -1;
+  }
+
+  static String precompressedEncoding(int index) {
+    return PRECOMPRESSED_ENCODINGS[index];
+  }
+
+  static String precompressedFile(String file, int index) {
+    return file + PRECOMPRESSED_SUFFIXES[index];
+  }
+
   static HttpVersion toNettyHttpVersion(io.vertx.core.http.HttpVersion version) {
     switch (version) {
       case HTTP_1_0: {
@@ -884,29 +939,4 @@ public final class HttpUtils {
     return method.equals(HttpMethod.POST) || method.equals(HttpMethod.PUT) || method.equals(HttpMethod.PATCH)
       || method.equals(HttpMethod.DELETE);
   }
-
-  static void resolveFile(VertxInternal vertx, String filename, long offset, long length, Handler<AsyncResult<AsyncFile>> resultHandler) {
-    File file_ = vertx.resolveFile(filename);
-    if (!file_.exists()) {
-      resultHandler.handle(Future.failedFuture(new FileNotFoundException()));
-      return;
-    }
-
-    //We open the fileName using a RandomAccessFile to make sure that this is an actual file that can be read.
-    //i.e is not a directory
-    try(RandomAccessFile raf = new RandomAccessFile(file_, "r")) {
-      FileSystem fs = vertx.fileSystem();
-      fs.open(filename, new OpenOptions().setCreate(false).setWrite(false), ar -> {
-        if (ar.succeeded()) {
-          AsyncFile file = ar.result();
-          long contentLength = Math.min(length, file_.length() - offset);
-          file.setReadPos(offset);
-          file.setReadLength(contentLength);
-        }
-        resultHandler.handle(ar);
-      });
-    } catch (IOException e) {
-      resultHandler.handle(Future.failedFuture(e));
-    }
-  }
 }
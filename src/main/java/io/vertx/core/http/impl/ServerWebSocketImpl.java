@@ -11,6 +11,7 @@
 
 package io.vertx.core.http.impl;
 
+import io.netty.buffer.ByteBuf;
 import io.netty.channel.Channel;
 import io.netty.channel.ChannelHandler;
 import io.netty.channel.ChannelPipeline;
@@ -23,6 +24,7 @@ import io.vertx.core.MultiMap;
 import io.vertx.core.Promise;
 import io.vertx.core.http.HttpVersion;
 import io.vertx.core.http.ServerWebSocket;
+import io.vertx.core.http.SlowConsumerPolicy;
 import io.vertx.core.http.WebSocketFrame;
 import io.vertx.core.impl.ContextInternal;
 import io.vertx.core.spi.metrics.HttpServerMetrics;
@@ -30,6 +32,8 @@ import io.vertx.core.spi.metrics.HttpServerMetrics;
 import javax.net.ssl.SSLPeerUnverifiedException;
 import javax.net.ssl.SSLSession;
 import javax.security.cert.X509Certificate;
+import java.util.ArrayDeque;
+import java.util.Deque;
 
 import static io.netty.handler.codec.http.HttpResponseStatus.BAD_REQUEST;
 
@@ -60,6 +64,8 @@ public class ServerWebSocketImpl extends WebSocketImplBase<ServerWebSocketImpl>
   private Http1xServerRequest request;
   private Integer status;
   private Promise<Integer> handshakePromise;
+  // Broadcast frames waiting for the end of the fragmented message being written
+  private Deque<ByteBuf> pendingBroadcasts;
 
   ServerWebSocketImpl(ContextInternal context,
                       Http1xServerConnection conn,
@@ -176,6 +182,44 @@ public class ServerWebSocketImpl extends WebSocketImplBase<ServerWebSocketImpl>
     }
   }
 
+  /**
+   * Write the frames of a message broadcast by a {@link WebSocketGroupImpl}, the {@code frames} are already
+   * encoded and shared with the other members of the group.
+   *
+   * @return whether the frames have been written
+   */
+  boolean writeBroadcast(ByteBuf frames, SlowConsumerPolicy policy) {
+    synchronized (conn) {
+      if (checkAccept() != Boolean.TRUE || isClosed()) {
+        return false;
+      }
+      if (policy == SlowConsumerPolicy.QUEUE || !conn.isNotWritable()) {
+        if (isWritingFragmentedMessage()) {
+          // The frames of a message cannot be interleaved with the frames of another message
+          if (pendingBroadcasts == null) {
+            pendingBroadcasts = new ArrayDeque<>();
+          }
+          pendingBroadcasts.add(frames.retainedDuplicate());
+        } else {
+          conn.writeToChannel(frames.retainedDuplicate());
+        }
+        return true;
+      }
+    }
+    if (policy == SlowConsumerPolicy.CLOSE) {
+      close((short) 1008, "Slow consumer");
+    }
+    return false;
+  }
+
+  @Override
+  void handleFragmentedMessageWritten() {
+    ByteBuf frames;
+    while (pendingBroadcasts != null && (frames = pendingBroadcasts.poll()) != null) {
+      conn.writeToChannel(frames);
+    }
+  }
+
   private Boolean checkAccept() {
     return tryHandshake(SC_SWITCHING_PROTOCOLS);
   }
@@ -268,6 +312,12 @@ public class ServerWebSocketImpl extends WebSocketImplBase<ServerWebSocketImpl>
 
   @Override
   protected void handleClose(boolean graceful) {
+    synchronized (conn) {
+      ByteBuf frames;
+      while (pendingBroadcasts != null && (frames = pendingBroadcasts.poll()) != null) {
+        frames.release();
+      }
+    }
     HttpServerMetrics metrics = conn.metrics;
     if (METRICS_ENABLED && metrics != null) {
       metrics.disconnected(getMetric());
@@ -38,6 +38,8 @@ class VertxHttp2ConnectionHandler<C extends Http2ConnectionBase> extends Http2Co
   private Handler<C> addHandler;
   private Handler<C> removeHandler;
   private final boolean useDecompressor;
+  // State accessed exclusively from the event loop thread
+  private boolean read;
 
   public VertxHttp2ConnectionHandler(
       Function<VertxHttp2ConnectionHandler<C>, C> connectionFactory,
@@ -192,7 +194,7 @@ class VertxHttp2ConnectionHandler<C extends Http2ConnectionBase> extends Http2Co
   void writeHeaders(Http2Stream stream, Http2Headers headers, boolean end, int streamDependency, short weight, boolean exclusive, FutureListener<Void> listener) {
     ChannelPromise promise = listener == null ? chctx.voidPromise() : chctx.newPromise().addListener(listener);
     encoder().writeHeaders(chctx, stream.id(), headers, streamDependency, weight, exclusive, 0, end, promise);
-    chctx.channel().flush();
+    checkFlush();
   }
 
   void writeData(Http2Stream stream, ByteBuf chunk, boolean end, FutureListener<Void> listener) {
@@ -206,7 +208,7 @@ class VertxHttp2ConnectionHandler<C extends Http2ConnectionBase> extends Http2Co
         onError(chctx, true, e);
       }
     }
-    chctx.channel().flush();
+    checkFlush();
   }
 
   ChannelFuture writePing(long data) {
@@ -234,7 +236,7 @@ class VertxHttp2ConnectionHandler<C extends Http2ConnectionBase> extends Http2Co
     try {
       boolean windowUpdateSent = decoder().flowController().consumeBytes(stream, numBytes);
       if (windowUpdateSent) {
-        chctx.channel().flush();
+        checkFlush();
       }
     } catch (Http2Exception e) {
       onError(chctx, true, e);
@@ -243,12 +245,22 @@ class VertxHttp2ConnectionHandler<C extends Http2ConnectionBase> extends Http2Co
 
   void writeFrame(Http2Stream stream, byte type, short flags, ByteBuf payload) {
     encoder().writeFrame(chctx, type, stream.id(), new Http2Flags(flags), payload, chctx.newPromise());
-    chctx.flush();
+    checkFlush();
   }
 
   void writeReset(int streamId, long code) {
     encoder().writeRstStream(chctx, streamId, code, chctx.newPromise());
-    chctx.flush();
+    checkFlush();
+  }
+
+  /**
+   * Flush the frames written so far unless a read is in progress, the frames are then flushed by
+   * {@link #channelReadComplete} so the frames produced during a read cycle are sent in a single write.
+   */
+  private void checkFlush() {
+    if (!read) {
+      chctx.channel().flush();
+    }
   }
 
   void writeGoAway(long errorCode, int lastStreamId, ByteBuf debugData) {
@@ -360,6 +372,7 @@ class VertxHttp2ConnectionHandler<C extends Http2ConnectionBase> extends Http2Co
 
   @Override
   public void channelRead(ChannelHandlerContext ctx, Object msg) throws Exception {
+    read = true;
     if (msg instanceof Http2StreamFrame) {
       // Handle HTTP/2 clear text upgrade request
       if (msg instanceof Http2HeadersFrame) {
@@ -377,6 +390,13 @@ class VertxHttp2ConnectionHandler<C extends Http2ConnectionBase> extends Http2Co
     }
   }
 
+  @Override
+  public void channelReadComplete(ChannelHandlerContext ctx) throws Exception {
+    read = false;
+    // Super writes the pending flow controlled bytes and flushes
+    super.channelReadComplete(ctx);
+  }
+
   @Override
   public void onPingRead(ChannelHandlerContext ctx, long data) throws Http2Exception {
     throw new UnsupportedOperationException();
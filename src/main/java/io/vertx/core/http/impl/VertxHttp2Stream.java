@@ -161,6 +161,13 @@ abstract class VertxHttp2Stream<C extends Http2ConnectionBase> {
     return !writable;
   }
 
+  /**
+   * @return the number of bytes the stream flow-control window allows to send, this must be called from the event loop
+   */
+  int windowSize() {
+    return conn.handler.encoder().flowController().windowSize(stream);
+  }
+
   public final void writeFrame(int type, int flags, ByteBuf payload) {
     EventLoop eventLoop = conn.getContext().nettyEventLoop();
     if (eventLoop.inEventLoop()) {
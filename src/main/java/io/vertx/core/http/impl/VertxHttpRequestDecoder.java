@@ -32,9 +32,46 @@ public class VertxHttpRequestDecoder extends HttpRequestDecoder {
   @Override
   protected HttpMessage createMessage(String[] initialLine) {
     return new DefaultHttpRequest(
-      HttpVersion.valueOf(initialLine[2]),
-      HttpMethod.valueOf(initialLine[0]),
+      version(initialLine[2]),
+      method(initialLine[0]),
       initialLine[1],
-      HeadersMultiMap.httpHeaders());
+      HeadersMultiMap.decodedHttpHeaders());
+  }
+
+  /**
+   * Resolve the most common methods without the map lookup performed by {@link HttpMethod#valueOf}.
+   */
+  private static HttpMethod method(String name) {
+    switch (name.length()) {
+      case 3:
+        if (name.charAt(0) == 'G' && name.charAt(1) == 'E' && name.charAt(2) == 'T') {
+          return HttpMethod.GET;
+        }
+        if (name.charAt(0) == 'P' && name.charAt(1) == 'U' && name.charAt(2) == 'T') {
+          return HttpMethod.PUT;
+        }
+        break;
+      case 4:
+        if (name.charAt(0) == 'P' && name.charAt(1) == 'O' && name.charAt(2) == 'S' && name.charAt(3) == 'T') {
+          return HttpMethod.POST;
+        }
+        break;
+    }
+    return HttpMethod.valueOf(name);
+  }
+
+  /**
+   * Resolve the HTTP/1.x versions without the trimming and parsing performed by {@link HttpVersion#valueOf}.
+   */
+  private static HttpVersion version(String text) {
+    if (text.length() == 8 && text.startsWith("HTTP/1.")) {
+      char minor = text.charAt(7);
+      if (minor == '1') {
+        return HttpVersion.HTTP_1_1;
+      } else if (minor == '0') {
+        return HttpVersion.HTTP_1_0;
+      }
+    }
+    return HttpVersion.valueOf(text);
   }
 }
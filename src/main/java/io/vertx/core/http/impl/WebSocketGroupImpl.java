@@ -0,0 +1,131 @@
+/*
+ * Copyright (c) 2011-2019 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.core.http.impl;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.util.CharsetUtil;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.ServerWebSocket;
+import io.vertx.core.http.SlowConsumerPolicy;
+import io.vertx.core.http.WebSocketFrame;
+import io.vertx.core.http.WebSocketGroup;
+import io.vertx.core.impl.Arguments;
+import io.vertx.core.impl.ConcurrentHashSet;
+import io.vertx.core.net.impl.PartialPooledByteBufAllocator;
+
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Encodes a broadcast message in a single buffer containing the unmasked WebSocket frames of the message, each member
+ * writes a retained duplicate of this buffer bypassing the pipeline frame encoders.
+ */
+public class WebSocketGroupImpl implements WebSocketGroup {
+
+  private static final int OPCODE_CONTINUATION = 0x0;
+  private static final int OPCODE_TEXT = 0x1;
+  private static final int OPCODE_BINARY = 0x2;
+
+  private final SlowConsumerPolicy policy;
+  private final int maxFrameSize;
+  private final Set<ServerWebSocket> members = new ConcurrentHashSet<>();
+
+  public WebSocketGroupImpl(SlowConsumerPolicy policy, int maxFrameSize) {
+    Arguments.require(maxFrameSize > 0, "maxFrameSize must be > 0");
+    this.policy = Objects.requireNonNull(policy, "No null policy accepted");
+    this.maxFrameSize = maxFrameSize;
+  }
+
+  @Override
+  public WebSocketGroup add(ServerWebSocket webSocket) {
+    members.add(Objects.requireNonNull(webSocket, "No null WebSocket accepted"));
+    return this;
+  }
+
+  @Override
+  public WebSocketGroup remove(ServerWebSocket webSocket) {
+    members.remove(webSocket);
+    return this;
+  }
+
+  @Override
+  public int size() {
+    return members.size();
+  }
+
+  @Override
+  public int writeTextMessage(String text) {
+    return broadcast(OPCODE_TEXT, Unpooled.wrappedBuffer(text.getBytes(CharsetUtil.UTF_8)));
+  }
+
+  @Override
+  public int writeBinaryMessage(Buffer data) {
+    return broadcast(OPCODE_BINARY, data.getByteBuf());
+  }
+
+  private int broadcast(int opcode, ByteBuf payload) {
+    ByteBuf frames = encode(opcode, payload);
+    int count = 0;
+    try {
+      for (ServerWebSocket member : members) {
+        if (member.isClosed()) {
+          members.remove(member);
+        } else if (write(member, opcode, payload, frames)) {
+          count++;
+        }
+      }
+    } finally {
+      frames.release();
+    }
+    return count;
+  }
+
+  private boolean write(ServerWebSocket member, int opcode, ByteBuf payload, ByteBuf frames) {
+    if (member instanceof ServerWebSocketImpl) {
+      return ((ServerWebSocketImpl) member).writeBroadcast(frames, policy);
+    }
+    // Not our implementation, the frames are encoded by the member
+    Buffer data = Buffer.buffer(payload.duplicate());
+    member.writeFrame(opcode == OPCODE_TEXT ? WebSocketFrame.textFrame(data.toString(), true) : WebSocketFrame.binaryFrame(data, true));
+    return true;
+  }
+
+  /**
+   * Encode the {@code payload} in server frames (i.e unmasked) of at most {@code maxFrameSize} bytes.
+   */
+  private ByteBuf encode(int opcode, ByteBuf payload) {
+    int remaining = payload.readableBytes();
+    int numFrames = Math.max(1, (remaining + maxFrameSize - 1) / maxFrameSize);
+    // A frame header is at most 10 bytes long when unmasked
+    ByteBuf frames = PartialPooledByteBufAllocator.INSTANCE.directBuffer(remaining + numFrames * 10);
+    int index = payload.readerIndex();
+    do {
+      int len = Math.min(remaining, maxFrameSize);
+      remaining -= len;
+      frames.writeByte((remaining == 0 ? 0x80 : 0x00) | opcode);
+      if (len < 126) {
+        frames.writeByte(len);
+      } else if (len <= 0xFFFF) {
+        frames.writeByte(126);
+        frames.writeShort(len);
+      } else {
+        frames.writeByte(127);
+        frames.writeLong(len);
+      }
+      frames.writeBytes(payload, index, len);
+      index += len;
+      opcode = OPCODE_CONTINUATION;
+    } while (remaining > 0);
+    return frames;
+  }
+}
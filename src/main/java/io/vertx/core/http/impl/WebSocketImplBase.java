@@ -82,6 +82,7 @@ public abstract class WebSocketImplBase<S extends WebSocketBase> implements WebS
   protected final Http1xConnectionBase conn;
   private boolean writable;
   private boolean closed;
+  private boolean writingFragmentedMessage;
   private Short closeStatusCode;
   private String closeReason;
   private long closeTimeoutID = -1L;
@@ -392,10 +393,31 @@ public abstract class WebSocketImplBase<S extends WebSocketBase> implements WebS
       }
       PromiseInternal<Void> promise = context.promise();
       conn.writeToChannel(encodeFrame((WebSocketFrameImpl) frame), promise);
+      if (frame.isText() || frame.isBinary() || frame.isContinuation()) {
+        boolean fragmentedMessageWritten = writingFragmentedMessage && frame.isFinal();
+        writingFragmentedMessage = !frame.isFinal();
+        if (fragmentedMessageWritten) {
+          handleFragmentedMessageWritten();
+        }
+      }
       return promise.future();
     }
   }
 
+  /**
+   * @return whether a fragmented message is being written, i.e its final frame has not been written yet, must be
+   *         called under the connection lock
+   */
+  boolean isWritingFragmentedMessage() {
+    return writingFragmentedMessage;
+  }
+
+  /**
+   * Called under the connection lock after the final frame of a fragmented message has been written.
+   */
+  void handleFragmentedMessageWritten() {
+  }
+
   public final S writeFrame(WebSocketFrame frame, Handler<AsyncResult<Void>> handler) {
     Future<Void> fut = writeFrame(frame);
     if (handler != null) {
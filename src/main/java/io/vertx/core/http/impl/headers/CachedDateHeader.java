@@ -0,0 +1,55 @@
+/*
+ * Copyright (c) 2011-2019 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.core.http.impl.headers;
+
+import io.netty.handler.codec.DateFormatter;
+import io.netty.util.AsciiString;
+import io.netty.util.concurrent.FastThreadLocal;
+
+import java.util.Date;
+
+/**
+ * The value of the {@code Date} header, formatted at most once per second and per thread.
+ * <p/>
+ * Each event loop thread has its own instance so no synchronization is needed.
+ */
+public final class CachedDateHeader {
+
+  private static final FastThreadLocal<CachedDateHeader> CURRENT = new FastThreadLocal<CachedDateHeader>() {
+    @Override
+    protected CachedDateHeader initialValue() {
+      return new CachedDateHeader();
+    }
+  };
+
+  /**
+   * @return the current date formatted according to RFC 1123
+   */
+  public static AsciiString now() {
+    return CURRENT.get().value(System.currentTimeMillis());
+  }
+
+  private long second = -1L;
+  private AsciiString value;
+
+  private CachedDateHeader() {
+  }
+
+  private AsciiString value(long now) {
+    long s = now / 1000;
+    if (s != second) {
+      second = s;
+      value = new AsciiString(DateFormatter.format(new Date(s * 1000)));
+    }
+    return value;
+  }
+}
@@ -13,6 +13,8 @@ package io.vertx.core.http.impl.headers;
 
 import io.netty.buffer.ByteBuf;
 import io.netty.buffer.ByteBufUtil;
+import io.netty.buffer.Unpooled;
+import io.netty.handler.codec.http.HttpHeaderNames;
 import io.netty.handler.codec.http.HttpHeaders;
 import io.netty.util.AsciiString;
 import io.netty.util.CharsetUtil;
@@ -22,6 +24,7 @@ import io.vertx.core.http.impl.HttpUtils;
 
 import java.util.AbstractMap;
 import java.util.Arrays;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
@@ -54,6 +57,34 @@ public final class HeadersMultiMap extends HttpHeaders implements MultiMap {
     }
   }
 
+  /**
+   * Well-known header names, in their lower case and canonical forms, keyed by their exact text.
+   */
+  private static final Map<String, AsciiString> WELL_KNOWN_NAMES = new HashMap<>();
+
+  static {
+    AsciiString[] names = {
+      HttpHeaderNames.ACCEPT, HttpHeaderNames.ACCEPT_CHARSET, HttpHeaderNames.ACCEPT_ENCODING,
+      HttpHeaderNames.ACCEPT_LANGUAGE, HttpHeaderNames.AUTHORIZATION, HttpHeaderNames.CACHE_CONTROL,
+      HttpHeaderNames.CONNECTION, HttpHeaderNames.CONTENT_ENCODING, HttpHeaderNames.CONTENT_LENGTH,
+      HttpHeaderNames.CONTENT_TYPE, HttpHeaderNames.COOKIE, HttpHeaderNames.DATE, HttpHeaderNames.EXPECT,
+      HttpHeaderNames.HOST, HttpHeaderNames.IF_MODIFIED_SINCE, HttpHeaderNames.IF_NONE_MATCH,
+      HttpHeaderNames.KEEP_ALIVE, HttpHeaderNames.ORIGIN, HttpHeaderNames.PRAGMA, HttpHeaderNames.REFERER,
+      HttpHeaderNames.TE, HttpHeaderNames.TRANSFER_ENCODING, HttpHeaderNames.UPGRADE, HttpHeaderNames.USER_AGENT
+    };
+    for (AsciiString name : names) {
+      WELL_KNOWN_NAMES.put(name.toString(), name);
+      StringBuilder canonical = new StringBuilder(name.length());
+      boolean upper = true;
+      for (int i = 0;i < name.length();i++) {
+        char c = name.charAt(i);
+        canonical.append(upper ? Character.toUpperCase(c) : c);
+        upper = c == '-';
+      }
+      WELL_KNOWN_NAMES.put(canonical.toString(), AsciiString.cached(canonical.toString()));
+    }
+  }
+
   /**
    * @return a case insensitive multi-map suited for HTTP header validation
    */
@@ -61,6 +92,49 @@ public final class HeadersMultiMap extends HttpHeaders implements MultiMap {
     return new HeadersMultiMap(HTTP_VALIDATOR);
   }
 
+  /**
+   * Like {@link #httpHeaders()} but well-known header names added as {@code String} are replaced by a shared
+   * {@link AsciiString} with the same text. Decoded messages don't retain a per-request copy of these names and
+   * lookups with the HTTP header constants benefit from the identity check and the cached hash code.
+   *
+   * @return a case insensitive multi-map suited for decoding HTTP headers
+   */
+  public static HeadersMultiMap decodedHttpHeaders() {
+    return new HeadersMultiMap(HTTP_VALIDATOR, true);
+  }
+
+  /**
+   * Create a copy of {@code headers} that is encoded once for HTTP/1.x.
+   * <p/>
+   * When the returned map is added to an empty {@link HeadersMultiMap}, the encoded block is shared and written
+   * with a single copy by {@link #encode(ByteBuf)}. The block remains valid until one of its entries is removed or
+   * modified, headers added afterwards are encoded as usual.
+   *
+   * @param headers the headers to encode
+   * @return the pre-encoded headers
+   */
+  public static HeadersMultiMap preEncoded(MultiMap headers) {
+    HeadersMultiMap map = httpHeaders();
+    // Every entry is added through the validator, the source might not validate its entries
+    if (headers instanceof HeadersMultiMap) {
+      HeadersMultiMap other = (HeadersMultiMap) headers;
+      for (MapEntry e = other.head.after;e != other.head;e = e.after) {
+        map.add(e.key, e.value);
+      }
+    } else {
+      map.addAll(headers.entries());
+    }
+    int count = 0;
+    for (MapEntry e = map.head.after;e != map.head;e = e.after) {
+      count++;
+    }
+    ByteBuf buf = Unpooled.directBuffer();
+    map.encode(buf);
+    map.encoded = Unpooled.unreleasableBuffer(buf);
+    map.encodedCount = count;
+    return map;
+  }
+
   /**
    * @return a all-purpose case insensitive multi-map that does not perform validation
    */
@@ -70,7 +144,8 @@ public final class HeadersMultiMap extends HttpHeaders implements MultiMap {
 
   @Override
   public MultiMap setAll(MultiMap headers) {
-    return set0(headers);
+    clear();
+    return addAll(headers);
   }
 
   @Override
@@ -84,6 +159,9 @@ public final class HeadersMultiMap extends HttpHeaders implements MultiMap {
   }
 
   private final BiConsumer<CharSequence, CharSequence> validator;
+  private final boolean internNames;
+  private ByteBuf encoded;          // The pre-encoded block of the first entries
+  private int encodedCount;         // The number of first entries covered by the encoded block
   private final HeadersMultiMap.MapEntry[] entries = new HeadersMultiMap.MapEntry[16];
   private final HeadersMultiMap.MapEntry head = new HeadersMultiMap.MapEntry();
 
@@ -92,13 +170,24 @@ public final class HeadersMultiMap extends HttpHeaders implements MultiMap {
   }
 
   public HeadersMultiMap(BiConsumer<CharSequence, CharSequence> validator) {
+    this(validator, false);
+  }
+
+  private HeadersMultiMap(BiConsumer<CharSequence, CharSequence> validator, boolean internNames) {
     this.validator = validator;
+    this.internNames = internNames;
     head.before = head.after = head;
   }
 
   @Override
   public HeadersMultiMap add(CharSequence name, CharSequence value) {
     Objects.requireNonNull(value);
+    if (internNames && name instanceof String) {
+      AsciiString interned = WELL_KNOWN_NAMES.get(name);
+      if (interned != null) {
+        name = interned;
+      }
+    }
     int h = AsciiString.hashCode(name);
     int i = h & 0x0000000F;
     add0(h, i, name, value);
@@ -137,9 +226,29 @@ public final class HeadersMultiMap extends HttpHeaders implements MultiMap {
 
   @Override
   public MultiMap addAll(MultiMap headers) {
+    if (headers instanceof HeadersMultiMap) {
+      HeadersMultiMap other = (HeadersMultiMap) headers;
+      if (other.encoded != null && head.after == head) {
+        // Share the pre-encoded block, the entries were validated when the block was created
+        copyEntries(other);
+        encoded = other.encoded;
+        encodedCount = other.encodedCount;
+        return this;
+      }
+    }
     return addAll(headers.entries());
   }
 
+  private void copyEntries(HeadersMultiMap other) {
+    for (MapEntry e = other.head.after;e != other.head;e = e.after) {
+      int i = e.hash & 0x0000000F;
+      MapEntry copy = new MapEntry(e.hash, e.key, e.value);
+      copy.next = entries[i];
+      entries[i] = copy;
+      copy.addBefore(head);
+    }
+  }
+
   @Override
   public MultiMap addAll(Map<String, String> map) {
     return addAll(map.entrySet());
@@ -349,6 +458,7 @@ public final class HeadersMultiMap extends HttpHeaders implements MultiMap {
   public HeadersMultiMap clear() {
     Arrays.fill(entries, null);
     head.before = head.after = head;
+    encoded = null;
     return this;
   }
 
@@ -429,6 +539,12 @@ public final class HeadersMultiMap extends HttpHeaders implements MultiMap {
 
   public void encode(ByteBuf buf) {
     HeadersMultiMap.MapEntry current = head.after;
+    if (encoded != null) {
+      buf.writeBytes(encoded, encoded.readerIndex(), encoded.readableBytes());
+      for (int i = 0;i < encodedCount;i++) {
+        current = current.after;
+      }
+    }
     while (current != head) {
       encoderHeader(current.key, current.value, buf);
       current = current.after;
@@ -514,6 +630,7 @@ public final class HeadersMultiMap extends HttpHeaders implements MultiMap {
       }
       CharSequence oldValue = this.value;
       this.value = value;
+      encoded = null;
       return oldValue;
     }
 
@@ -536,6 +653,7 @@ public final class HeadersMultiMap extends HttpHeaders implements MultiMap {
           prev.next = next;
         }
         e.remove();
+        encoded = null;
       } else {
         prev = e;
       }
@@ -171,7 +171,7 @@ public class VertxImpl implements VertxInternal, MetricsProvider {
     this.tracer = tracer;
     this.clusterManager = clusterManager;
     this.nodeSelector = nodeSelector;
-    this.eventBus = clusterManager != null ? new ClusteredEventBus(this, options, clusterManager, nodeSelector) : new EventBusImpl(this);
+    this.eventBus = clusterManager != null ? new ClusteredEventBus(this, options, clusterManager, nodeSelector) : new EventBusImpl(this, options.getEventBusOptions());
     this.sharedData = new SharedDataImpl(this, clusterManager);
     this.deploymentManager = new DeploymentManager(this);
     this.verticleManager = new VerticleManager(this, deploymentManager);
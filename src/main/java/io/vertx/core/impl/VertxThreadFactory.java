@@ -27,7 +27,7 @@ public class VertxThreadFactory implements ThreadFactory {
   private final long maxExecTime;
   private final TimeUnit maxExecTimeUnit;
 
-  VertxThreadFactory(String prefix, BlockedThreadChecker checker, boolean worker, long maxExecTime, TimeUnit maxExecTimeUnit) {
+  public VertxThreadFactory(String prefix, BlockedThreadChecker checker, boolean worker, long maxExecTime, TimeUnit maxExecTimeUnit) {
     this.prefix = prefix;
     this.checker = checker;
     this.worker = worker;
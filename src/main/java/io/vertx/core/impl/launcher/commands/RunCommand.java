@@ -54,7 +54,6 @@ public class RunCommand extends BareCommand {
   protected String vertxApplicationBackgroundId;
   protected String onRedeployCommand;
   protected Watcher watcher;
-  private long redeployScanPeriod;
   private long redeployGracePeriod;
   private long redeployTerminationPeriod;
 
@@ -167,11 +166,11 @@ public class RunCommand extends BareCommand {
   }
 
   @Option(longName = "redeploy-scan-period", argName = "period")
-  @Description("When redeploy is enabled, this option configures the file system scanning period to detect file " +
-      "changes. The time is given in milliseconds. 250 ms by default.")
+  @Description("Not used anymore, when redeploy is enabled the file changes are notified by the file system.")
   @DefaultValue("250")
+  @Deprecated
   public void setRedeployScanPeriod(long period) {
-    this.redeployScanPeriod = period;
+    // Kept for the command lines still using the option
   }
 
   @Option(longName = "redeploy-grace-period", argName = "period")
@@ -289,8 +288,7 @@ public class RunCommand extends BareCommand {
         this::startAsBackgroundApplication,  // On deploy
         this::stopBackgroundApplication, // On undeploy
         onRedeployCommand, // In between command
-        redeployGracePeriod, // The redeploy grace period
-        redeployScanPeriod); // The redeploy scan period
+        redeployGracePeriod); // The redeploy grace period
 
     // Close the watcher when the JVM is terminating.
     // Notice that the vert.x finalizer is not registered when we run in redeploy mode.
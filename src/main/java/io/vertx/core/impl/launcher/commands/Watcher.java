@@ -12,16 +12,24 @@
 package io.vertx.core.impl.launcher.commands;
 
 import io.vertx.core.Handler;
+import io.vertx.core.file.FileChangeEvent;
+import io.vertx.core.file.impl.FileWatcher;
 import io.vertx.core.impl.logging.Logger;
 import io.vertx.core.impl.logging.LoggerFactory;
 
 import java.io.File;
+import java.io.IOException;
 import java.nio.file.WatchService;
 import java.util.*;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.stream.Collectors;
 
 /**
- * A file alteration monitor based on a home made file system scan and watching files matching a set of includes
+ * A file alteration monitor based on a {@link WatchService} and watching files matching a set of includes
  * patterns. These patterns are Ant patterns (can use {@literal **, * or ?}). This class takes 2 {@link Handler} as
  * parameter and orchestrate the redeployment method when a matching file is modified (created, updated or deleted).
  * Users have the possibility to execute a shell command during the redeployment. On a file change, the {@code undeploy}
@@ -32,27 +40,28 @@ import java.util.stream.Collectors;
  *
  * @author Clement Escoffier <clement@apache.org>
  */
-public class Watcher implements Runnable {
+public class Watcher {
 
   private final static Logger LOGGER = LoggerFactory.getLogger(Watcher.class);
 
   private final long gracePeriod;
-  private final Map<File, Map<File, FileInfo>> fileMap = new LinkedHashMap<>();
-  private final Set<File> filesToWatch = new HashSet<>();
-  private final long scanPeriod;
   private final List<File> roots;
   private final File cwd;
-
-  /**
-   * This field is always access from the scan thread. No need to be volatile.
-   */
-  private long lastChange = -1;
+  private final List<FileWatcher> watchers = new CopyOnWriteArrayList<>();
 
   private final List<String> includes;
   private final Handler<Handler<Void>> deploy;
   private final Handler<Handler<Void>> undeploy;
   private final String cmd;
 
+  // Runs the redeployments, off the thread notifying the file changes
+  private final ExecutorService redeployer = Executors.newSingleThreadExecutor(r -> {
+    Thread thread = new Thread(r, "vertx-redeploy");
+    thread.setDaemon(true);
+    return thread;
+  });
+  private final AtomicBoolean redeployScheduled = new AtomicBoolean();
+
   private volatile boolean closed;
 
   /**
@@ -65,10 +74,29 @@ public class Watcher implements Runnable {
    * @param onRedeployCommand an optional command executed after the un-deployment and before the deployment
    * @param gracePeriod       the amount of time in milliseconds to wait between two redeploy even
    *                          if there are changes
-   * @param scanPeriod        the time in millisecond between 2 file system scans
+   * @param scanPeriod        not used anymore, the changes are notified by the file system
+   * @deprecated the scan period is not used anymore, use
+   *             {@link #Watcher(File, List, Handler, Handler, String, long)} instead
    */
+  @Deprecated
   public Watcher(File root, List<String> includes, Handler<Handler<Void>> deploy, Handler<Handler<Void>> undeploy,
                  String onRedeployCommand, long gracePeriod, long scanPeriod) {
+    this(root, includes, deploy, undeploy, onRedeployCommand, gracePeriod);
+  }
+
+  /**
+   * Creates a new {@link Watcher}.
+   *
+   * @param root              the root directory
+   * @param includes          the list of include patterns, should not be {@code null} or empty
+   * @param deploy            the function called when deployment is required
+   * @param undeploy          the function called when un-deployment is required
+   * @param onRedeployCommand an optional command executed after the un-deployment and before the deployment
+   * @param gracePeriod       the amount of time in milliseconds to wait between two redeploy even
+   *                          if there are changes
+   */
+  public Watcher(File root, List<String> includes, Handler<Handler<Void>> deploy, Handler<Handler<Void>> undeploy,
+                 String onRedeployCommand, long gracePeriod) {
     this.gracePeriod = gracePeriod;
     this.includes = sanitizeIncludePatterns(includes);
     this.roots = extractRoots(root, this.includes);
@@ -77,8 +105,6 @@ public class Watcher implements Runnable {
     this.deploy = deploy;
     this.undeploy = undeploy;
     this.cmd = onRedeployCommand;
-    this.scanPeriod = scanPeriod;
-    addFilesToWatchedList(roots);
   }
 
   static List<File> extractRoots(File root, List<String> includes) {
@@ -107,116 +133,37 @@ public class Watcher implements Runnable {
     }).collect(Collectors.toList());
   }
 
-  private void addFilesToWatchedList(List<File> roots) {
-    roots.forEach(this::addFileToWatchedList);
-  }
-
-  private void addFileToWatchedList(File file) {
-    filesToWatch.add(file);
-    Map<File, FileInfo> map = new HashMap<>();
-    if (file.isDirectory()) {
-      // We're watching a directory contents and its children for changes
-      File[] children = file.listFiles();
-      if (children != null) {
-        for (File child : children) {
-          map.put(child, new FileInfo(child.lastModified(), child.length()));
-          if (child.isDirectory()) {
-            addFileToWatchedList(child);
-          }
-        }
-      }
-    } else {
-      // Not a directory - we're watching a specific file - e.g. a jar
-      map.put(file, new FileInfo(file.lastModified(), file.length()));
-    }
-    fileMap.put(file, map);
-  }
-
   /**
-   * Checks whether or not a change has occurred in one of the watched file that match one of the given include pattern
-   * . Are detected: new files, modified file and deleted files. File modification is detected using
-   * {@link File#lastModified()}, so the behavior depends on the file system precision.
-   *
-   * @return {@code true} if a change occurred requiring the redeployment.
+   * Called from the file watcher thread with the changes debounced over the grace period, the redeployment is
+   * handed off to the redeployment thread so the file watcher thread is not blocked while it runs.
    */
-  private boolean changesHaveOccurred() {
+  private void handleChanges(List<FileChangeEvent> changes) {
+    if (closed) {
+      return;
+    }
     boolean changed = false;
-    for (File toWatch : new HashSet<>(filesToWatch)) {
-
-      // The new files in the directory
-      Map<File, File> newFiles = new LinkedHashMap<>();
-      if (toWatch.isDirectory()) {
-        File[] files = toWatch.exists() ? toWatch.listFiles() : new File[]{};
-
-        if (files == null) {
-          // something really bad happened to the file system.
-          throw new IllegalStateException("Cannot scan the file system to detect file changes");
-        }
-
-        for (File file : files) {
-          newFiles.put(file, file);
-        }
-      } else {
-        newFiles.put(toWatch, toWatch);
+    for (FileChangeEvent change : changes) {
+      File file = new File(change.path());
+      LOGGER.trace("File: " + file + " " + change.type());
+      if (match(file)) {
+        changed = true;
       }
-
-      // Lookup the old list for that file/directory
-      Map<File, FileInfo> currentFileMap = fileMap.get(toWatch);
-      for (Map.Entry<File, FileInfo> currentEntry : new HashMap<>(currentFileMap).entrySet()) {
-        File currFile = currentEntry.getKey();
-        FileInfo currInfo = currentEntry.getValue();
-        File newFile = newFiles.get(currFile);
-        if (newFile == null) {
-          // File has been deleted
-          currentFileMap.remove(currFile);
-          if (currentFileMap.isEmpty()) {
-            fileMap.remove(toWatch);
-            filesToWatch.remove(toWatch);
-          }
-          LOGGER.trace("File: " + currFile + " has been deleted");
-          if (match(currFile)) {
-            changed = true;
-          }
-        } else if (newFile.lastModified() != currInfo.lastModified || newFile.length() != currInfo.length) {
-          // File has been modified
-          currentFileMap.put(newFile, new FileInfo(newFile.lastModified(), newFile.length()));
-          LOGGER.trace("File: " + currFile + " has been modified");
-          if (match(currFile)) {
-            changed = true;
-          }
-        }
-      }
-
-      // Now process any added files
-      for (File newFile : newFiles.keySet()) {
-        if (!currentFileMap.containsKey(newFile)) {
-          // Add new file
-          currentFileMap.put(newFile, new FileInfo(newFile.lastModified(), newFile.length()));
-          if (newFile.isDirectory()) {
-            addFileToWatchedList(newFile);
-          }
-          LOGGER.trace("File was added: " + newFile);
-          if (match(newFile)) {
-            changed = true;
+    }
+    // The changes notified while a redeployment is scheduled are redeployed by it
+    if (changed && redeployScheduled.compareAndSet(false, true)) {
+      try {
+        redeployer.execute(() -> {
+          redeployScheduled.set(false);
+          if (!closed) {
+            trigger();
           }
-        }
+        });
+      } catch (RejectedExecutionException ignore) {
+        // Closed
       }
     }
-
-    long now = System.currentTimeMillis();
-    if (changed) {
-      lastChange = now;
-    }
-
-    if (lastChange != -1 && now - lastChange >= gracePeriod) {
-      lastChange = -1;
-      return true;
-    }
-
-    return false;
   }
 
-
   /**
    * Checks whether the given file matches one of the {@link #includes} patterns.
    *
@@ -259,48 +206,61 @@ public class Watcher implements Runnable {
   }
 
   /**
-   * Starts watching. The watch processing is made in another thread started in this method.
+   * Starts watching. The changes are notified by the thread polling the file system changes.
    *
    * @return the current watcher.
    */
   public Watcher watch() {
-    new Thread(this).start();
+    for (File root : roots) {
+      if (roots.stream().anyMatch(other -> other != root && other.isDirectory() && root.toPath().startsWith(other.toPath()))) {
+        // Already watched with the directory containing it
+        continue;
+      }
+      watch(root);
+    }
     LOGGER.info("Starting the vert.x application in redeploy mode");
     deploy.handle(null);
 
     return this;
   }
 
+  /**
+   * Watch a root, a root that does not exist is watched once it is created and a deleted root is watched again
+   * once it is created again.
+   */
+  private void watch(File root) {
+    FileWatcher watcher;
+    try {
+      watcher = new FileWatcher(root.toPath(), true, gracePeriod, this::handleChanges, err -> {
+        if (err != null) {
+          LOGGER.error("An error have been encountered while watching " + root + " - leaving the redeploy mode", err);
+          close();
+        } else if (!closed) {
+          watch(root);
+        }
+      });
+    } catch (IOException e) {
+      LOGGER.warn("Cannot watch " + root, e);
+      return;
+    }
+    watchers.add(watcher);
+    if (closed) {
+      watcher.close();
+    }
+  }
+
   /**
    * Stops watching. This method stops the underlying {@link WatchService}.
    */
   public void close() {
     LOGGER.info("Stopping redeployment");
-    // closing the redeployment thread. If waiting, it will shutdown at the next iteration.
     closed = true;
+    watchers.forEach(FileWatcher::close);
+    redeployer.shutdown();
     // Un-deploy application on close.
     undeploy.handle(null);
   }
 
-  /**
-   * The watching thread runnable method.
-   */
-  @Override
-  public void run() {
-    try {
-      while (!closed) {
-        if (changesHaveOccurred()) {
-          trigger();
-        }
-        // Wait for the next scan.
-        Thread.sleep(scanPeriod);
-      }
-    } catch (Throwable e) {
-      LOGGER.error("An error have been encountered while watching resources - leaving the redeploy mode", e);
-      close();
-    }
-  }
-
   /**
    * Redeployment process.
    */
@@ -347,14 +307,4 @@ public class Watcher implements Runnable {
     }
     onCompletion.handle(null);
   }
-
-  private static final class FileInfo {
-    long lastModified;
-    long length;
-
-    private FileInfo(long lastModified, long length) {
-      this.lastModified = lastModified;
-      this.length = length;
-    }
-  }
 }
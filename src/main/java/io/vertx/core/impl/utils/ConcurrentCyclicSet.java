@@ -0,0 +1,337 @@
+/*
+ * Copyright (c) 2011-2019 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.core.impl.utils;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * A cyclic set of distinct elements that can be used for round robin, like {@link ConcurrentCyclicSequence} but
+ * modified in place so adding or removing an element does not copy the whole set.
+ * <p/>
+ * The set is read without locking by several threads, a read uses the state published by the last modification.
+ * Modifications are not thread safe, they must be serialized by the caller.
+ * <p/>
+ * An element is appended to an array with spare capacity and removing an element clears its slot, the array is
+ * compacted into a new array when half of its slots are cleared: adding or removing an element takes amortized
+ * constant time. Since a cleared slot is never reused, a reader using a previous state sees a subset of the
+ * elements of this state and never sees an element twice.
+ * <p/>
+ * The set can be partitioned by a key of its elements, each partition is a set of its own with its own position
+ * in the cycle, so the elements of a key are chosen in turn without scanning the other elements.
+ */
+public class ConcurrentCyclicSet<T> implements Iterable<T> {
+
+  private static final int INITIAL_CAPACITY = 4;
+  // Above this length the position of the elements is indexed instead of being searched
+  private static final int INDEX_THRESHOLD = 16;
+  private static final State EMPTY = new State(new Object[0], 0, 0);
+
+  private static final class State {
+
+    private final Object[] elements;
+    private final int length;
+    private final int size;
+
+    private State(Object[] elements, int length, int size) {
+      this.elements = elements;
+      this.length = length;
+      this.size = size;
+    }
+  }
+
+  private final AtomicInteger pos = new AtomicInteger();
+  private final Function<? super T, ?> partition;
+  private final ConcurrentMap<Object, ConcurrentCyclicSet<T>> partitions;
+  private volatile State state = EMPTY;
+  // Only accessed by modifications
+  private Map<Object, Integer> index;
+
+  public ConcurrentCyclicSet() {
+    this(null);
+  }
+
+  /**
+   * @param partition the function returning the key of the partition of an element or {@code null} when the
+   *                  element belongs to no partition, it must return the same key for an element while it belongs
+   *                  to the set
+   */
+  public ConcurrentCyclicSet(Function<? super T, ?> partition) {
+    this.partition = partition;
+    this.partitions = partition != null ? new ConcurrentHashMap<>() : null;
+  }
+
+  /**
+   * Add {@code element} at the tail of this set.
+   *
+   * @param element the element to add
+   * @return whether the element was added, i.e it did not belong to the set
+   */
+  public boolean add(T element) {
+    Objects.requireNonNull(element, "element");
+    State s = state;
+    if (index != null ? index.containsKey(element) : position(s.elements, s.length, element) != -1) {
+      return false;
+    }
+    Object[] elements = s.elements;
+    int length = s.length;
+    if (length == elements.length) {
+      elements = compact(s, Math.max(INITIAL_CAPACITY, s.size * 2));
+      length = s.size;
+    }
+    elements[length] = element;
+    if (index != null) {
+      index.put(element, length);
+    } else if (length == INDEX_THRESHOLD) {
+      reindex(elements, length + 1);
+    }
+    state = new State(elements, length + 1, s.size + 1);
+    if (partition != null) {
+      Object key = partition.apply(element);
+      if (key != null) {
+        partitions.computeIfAbsent(key, k -> new ConcurrentCyclicSet<>()).add(element);
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Remove {@code element} from this set.
+   *
+   * @param element the element to remove
+   * @return whether the set contained the element
+   */
+  public boolean remove(T element) {
+    State s = state;
+    Object[] elements = s.elements;
+    int i = position(s, element);
+    if (i == -1) {
+      return false;
+    }
+    elements[i] = null;
+    int size = s.size - 1;
+    if (size == 0) {
+      index = null;
+      state = EMPTY;
+    } else if (s.length - size > s.length / 2) {
+      State compacted = new State(elements, s.length, size);
+      state = new State(compact(compacted, Math.max(INITIAL_CAPACITY, size * 2)), size, size);
+    } else {
+      state = new State(elements, s.length, size);
+    }
+    if (partition != null) {
+      Object key = partition.apply(element);
+      ConcurrentCyclicSet<T> elementsOfKey = key != null ? partitions.get(key) : null;
+      if (elementsOfKey != null && elementsOfKey.remove(element) && elementsOfKey.size() == 0) {
+        partitions.remove(key);
+      }
+    }
+    return true;
+  }
+
+  private int position(State s, Object element) {
+    if (index != null) {
+      Integer i = index.remove(element);
+      return i != null ? i : -1;
+    }
+    return position(s.elements, s.length, element);
+  }
+
+  private static int position(Object[] elements, int length, Object element) {
+    for (int i = 0;i < length;i++) {
+      if (element.equals(elements[i])) {
+        return i;
+      }
+    }
+    return -1;
+  }
+
+  /**
+   * Copy the elements of {@code s} to a new array of {@code capacity} slots.
+   */
+  private Object[] compact(State s, int capacity) {
+    Object[] elements = s.elements;
+    Object[] copy = new Object[capacity];
+    int j = 0;
+    for (int i = 0;i < s.length;i++) {
+      Object element = elements[i];
+      if (element != null) {
+        copy[j++] = element;
+      }
+    }
+    reindex(copy, j);
+    return copy;
+  }
+
+  private void reindex(Object[] elements, int length) {
+    if (length > INDEX_THRESHOLD) {
+      index = new HashMap<>(length * 2);
+      for (int i = 0;i < length;i++) {
+        index.put(elements[i], i);
+      }
+    } else {
+      index = null;
+    }
+  }
+
+  /**
+   * @return the next element in the cycle or {@code null} when the set is empty
+   */
+  @SuppressWarnings("unchecked")
+  public T next() {
+    State s = state;
+    if (s.size == 0) {
+      return null;
+    }
+    Object[] elements = s.elements;
+    int length = s.length;
+    // Take the next position until its slot is not cleared, choosing the element found after a cleared slot would
+    // choose this element more often than the others
+    for (int i = 0;i < length;i++) {
+      Object element = elements[Math.abs(pos.getAndIncrement() % length)];
+      if (element != null) {
+        return (T) element;
+      }
+    }
+    return (T) first(elements, length);
+  }
+
+  /**
+   * Returns the next element of the partition of {@code key}, the elements of a partition are chosen in turn.
+   * When the set is not partitioned or the partition is empty, the next element is returned like {@link #next()}.
+   *
+   * @param key the key of the partition
+   * @return the element or {@code null} when the set is empty
+   */
+  public T nextOf(Object key) {
+    ConcurrentCyclicSet<T> elementsOfKey = key != null && partitions != null ? partitions.get(key) : null;
+    if (elementsOfKey != null) {
+      T element = elementsOfKey.next();
+      if (element != null) {
+        return element;
+      }
+    }
+    return next();
+  }
+
+  /**
+   * Compares two elements of the set chosen at random and returns the element that {@code comparator}
+   * orders first.
+   * <p/>
+   * The elements are chosen at random instead of in turn so the threads choosing an element do not contend on
+   * the position in the cycle.
+   *
+   * @param comparator the comparator ordering the elements
+   * @return the element or {@code null} when the set is empty
+   */
+  @SuppressWarnings("unchecked")
+  public T next(Comparator<? super T> comparator) {
+    State s = state;
+    if (s.size == 0) {
+      return null;
+    }
+    Object[] elements = s.elements;
+    int length = s.length;
+    if (s.size == 1) {
+      return (T) first(elements, length);
+    }
+    ThreadLocalRandom random = ThreadLocalRandom.current();
+    T element = (T) any(elements, length, null, random);
+    if (element == null) {
+      return null;
+    }
+    T other = (T) any(elements, length, element, random);
+    return other != null && comparator.compare(other, element) < 0 ? other : element;
+  }
+
+  /**
+   * @return an element chosen at random other than {@code excluded}, slots being concurrently cleared it might not
+   *         find any
+   */
+  private static Object any(Object[] elements, int length, Object excluded, ThreadLocalRandom random) {
+    // Choose another slot when the slot is cleared, like next()
+    for (int i = 0;i < length;i++) {
+      Object element = elements[random.nextInt(length)];
+      if (element != null && element != excluded) {
+        return element;
+      }
+    }
+    for (int i = 0;i < length;i++) {
+      Object element = elements[i];
+      if (element != null && element != excluded) {
+        return element;
+      }
+    }
+    return null;
+  }
+
+  /**
+   * @return the first element of the cycle, slots being concurrently cleared it might not find any
+   */
+  private static Object first(Object[] elements, int length) {
+    for (int i = 0;i < length;i++) {
+      Object element = elements[i];
+      if (element != null) {
+        return element;
+      }
+    }
+    return null;
+  }
+
+  /**
+   * @return the size of this set
+   */
+  public int size() {
+    return state.size;
+  }
+
+  /**
+   * @return an iterator over the elements of the current state in the cycle order starting at the first element,
+   *         the iterator will not throw {@link ConcurrentModificationException}
+   */
+  @Override
+  public Iterator<T> iterator() {
+    State s = state;
+    return new Iterator<T>() {
+      int i = 0;
+      Object next = advance();
+      private Object advance() {
+        Object[] elements = s.elements;
+        while (i < s.length) {
+          Object element = elements[i++];
+          if (element != null) {
+            return element;
+          }
+        }
+        return null;
+      }
+      @Override
+      public boolean hasNext() {
+        return next != null;
+      }
+      @SuppressWarnings("unchecked")
+      @Override
+      public T next() {
+        Object element = next;
+        if (element == null) {
+          throw new NoSuchElementException();
+        }
+        next = advance();
+        return (T) element;
+      }
+    };
+  }
+}
@@ -64,6 +64,19 @@ public class Json {
     return CODEC.toBuffer(obj);
   }
 
+  /**
+   * Like {@link #encodeToBuffer(Object)} with the expected size of the JSON representation, the buffer is allocated
+   * with this capacity so it does not grow while encoding.
+   *
+   * @param obj a POJO
+   * @param sizeHint the expected size in bytes, {@code 0} uses an estimate learned from the previous encodings
+   * @return a Buffer containing the JSON representation of the given POJO.
+   * @throws EncodeException if a property cannot be encoded.
+   */
+  public static Buffer encodeToBuffer(Object obj, int sizeHint) throws EncodeException {
+    return CODEC.toBuffer(obj, false, sizeHint);
+  }
+
   /**
    * Encode a POJO to JSON with pretty indentation, using the underlying Jackson mapper.
    *
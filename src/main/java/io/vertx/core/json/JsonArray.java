@@ -38,6 +38,7 @@ import static java.time.format.DateTimeFormatter.ISO_INSTANT;
 public class JsonArray implements Iterable<Object>, ClusterSerializable, Shareable {
 
   private List<Object> list;
+  private boolean frozen;
 
   /**
    * Create an instance from a String of JSON, this string must be a valid array otherwise an exception will be thrown.
@@ -567,6 +568,38 @@ public class JsonArray implements Iterable<Object>, ClusterSerializable, Shareab
     return new JsonArray(copiedList);
   }
 
+  /**
+   * Make this JSON array read-only.
+   * <p>
+   * The elements are copied into a list owned by this array, the nested JSON objects and arrays are copied as
+   * read-only instances and the binary values are copied as base64 strings, so neither the list this array was
+   * created from nor the values that were added to it can change it afterwards.
+   * <p>
+   * Any attempt to modify a frozen JSON array throws an {@link UnsupportedOperationException}, a modifiable
+   * JSON array can be obtained with {@link #copy()}. Since it cannot change, a frozen JSON array can be shared,
+   * e.g it is not copied when it is sent on the local event bus.
+   *
+   * @return a reference to this, so the API can be used fluently
+   */
+  public JsonArray freeze() {
+    if (!frozen) {
+      List<Object> frozenList = new ArrayList<>(list.size());
+      for (Object val : list) {
+        frozenList.add(freezeValue(val));
+      }
+      list = Collections.unmodifiableList(frozenList);
+      frozen = true;
+    }
+    return this;
+  }
+
+  /**
+   * @return whether this JSON array is read-only, see {@link #freeze()}
+   */
+  public boolean isFrozen() {
+    return frozen;
+  }
+
   /**
    * Get a Stream over the entries in the JSON array
    *
@@ -11,6 +11,7 @@
 package io.vertx.core.json;
 
 import io.vertx.core.buffer.Buffer;
+import io.vertx.core.json.impl.LazyJsonMap;
 import io.vertx.core.shareddata.Shareable;
 import io.vertx.core.shareddata.impl.ClusterSerializable;
 
@@ -38,6 +39,7 @@ import static java.time.format.DateTimeFormatter.ISO_INSTANT;
 public class JsonObject implements Iterable<Map.Entry<String, Object>>, ClusterSerializable, Shareable {
 
   private Map<String, Object> map;
+  private boolean frozen;
 
   /**
    * Create an instance from a string of JSON
@@ -88,6 +90,30 @@ public class JsonObject implements Iterable<Map.Entry<String, Object>>, ClusterS
     }
   }
 
+  /**
+   * Create an instance decoded lazily from a buffer.
+   * <p/>
+   * The fields are located when the object is first accessed and a value is decoded when it is accessed, the
+   * nested JSON objects are decoded lazily as well. As long as the object is not modified, {@link #toBuffer()},
+   * {@link #encode()} and {@link #copy()} reuse the buffer bytes instead of encoding the object again, which is
+   * efficient when a few fields are read from a large object that is forwarded. The bytes are checked to be a
+   * well-formed JSON object before they are reused. Reading a JSON array field disables the reuse, since the array
+   * could then be modified.
+   * <p/>
+   * The buffer must not be modified afterwards, an invalid buffer is reported when the object is first accessed and
+   * an invalid value is reported when it is accessed. Since reading a value might decode it, the object must not be
+   * read concurrently unless it is {@link #freeze() frozen}.
+   *
+   * @param buf the buffer to decode
+   * @return the lazily decoded instance
+   */
+  public static JsonObject lazy(Buffer buf) {
+    if (buf == null) {
+      throw new NullPointerException();
+    }
+    return new JsonObject(new LazyJsonMap(buf));
+  }
+
   /**
    * Create a JsonObject from the fields of a Java object.
    * Faster than calling `new JsonObject(Json.encode(obj))`.
@@ -725,6 +751,10 @@ public class JsonObject implements Iterable<Map.Entry<String, Object>>, ClusterS
    * @return the string encoding.
    */
   public String encode() {
+    Buffer buf = lazyBuffer();
+    if (buf != null) {
+      return buf.toString();
+    }
     return Json.CODEC.toString(this, false);
   }
 
@@ -744,7 +774,29 @@ public class JsonObject implements Iterable<Map.Entry<String, Object>>, ClusterS
    * @return the buffer encoding.
    */
   public Buffer toBuffer() {
-    return Json.CODEC.toBuffer(this, false);
+    return toBuffer(0);
+  }
+
+  /**
+   * Encode this JSON object as buffer, the buffer is allocated with the expected size of the encoding so it does
+   * not grow while encoding.
+   *
+   * @param sizeHint the expected size in bytes, {@code 0} uses an estimate learned from the previous encodings
+   * @return the buffer encoding.
+   */
+  public Buffer toBuffer(int sizeHint) {
+    Buffer buf = lazyBuffer();
+    if (buf != null) {
+      return buf.copy();
+    }
+    return Json.CODEC.toBuffer(this, false, sizeHint);
+  }
+
+  /**
+   * @return the bytes of an unmodified lazy JSON object, {@code null} otherwise
+   */
+  private Buffer lazyBuffer() {
+    return map instanceof LazyJsonMap ? ((LazyJsonMap) map).buffer() : null;
   }
 
   /**
@@ -754,8 +806,13 @@ public class JsonObject implements Iterable<Map.Entry<String, Object>>, ClusterS
    */
   @Override
   public JsonObject copy() {
+    Buffer buf = lazyBuffer();
+    if (buf != null) {
+      // The bytes are never modified
+      return new JsonObject(new LazyJsonMap(buf));
+    }
     Map<String, Object> copiedMap;
-    if (map instanceof LinkedHashMap) {
+    if (map instanceof LinkedHashMap || map instanceof LazyJsonMap || frozen) {
       copiedMap = new LinkedHashMap<>(map.size());
     } else {
       copiedMap = new HashMap<>(map.size());
@@ -767,6 +824,38 @@ public class JsonObject implements Iterable<Map.Entry<String, Object>>, ClusterS
     return new JsonObject(copiedMap);
   }
 
+  /**
+   * Make this JSON object read-only.
+   * <p>
+   * The entries are copied into a map owned by this object, the nested JSON objects and arrays are copied as
+   * read-only instances and the binary values are copied as base64 strings, so neither the map this object was
+   * created from nor the values that were put in it can change it afterwards.
+   * <p>
+   * Any attempt to modify a frozen JSON object throws an {@link UnsupportedOperationException}, a modifiable
+   * JSON object can be obtained with {@link #copy()}. Since it cannot change, a frozen JSON object can be shared,
+   * e.g it is not copied when it is sent on the local event bus.
+   *
+   * @return a reference to this, so the API can be used fluently
+   */
+  public JsonObject freeze() {
+    if (!frozen) {
+      Map<String, Object> frozenMap = new LinkedHashMap<>(map.size());
+      for (Map.Entry<String, Object> entry : map.entrySet()) {
+        frozenMap.put(entry.getKey(), freezeValue(entry.getValue()));
+      }
+      map = Collections.unmodifiableMap(frozenMap);
+      frozen = true;
+    }
+    return this;
+  }
+
+  /**
+   * @return whether this JSON object is read-only, see {@link #freeze()}
+   */
+  public boolean isFrozen() {
+    return frozen;
+  }
+
   /**
    * Get the underlying {@code Map} as is.
    *
@@ -81,6 +81,31 @@ public final class JsonUtil {
     return val;
   }
 
+  /**
+   * Returns a read-only copy of a JSON value: JSON objects and arrays are copied as frozen instances unless they are
+   * already frozen, binary values are copied as base64 strings and other values are copied with {@link #checkAndCopy}.
+   */
+  @SuppressWarnings("unchecked")
+  public static Object freezeValue(Object val) {
+    if (val instanceof JsonObject) {
+      JsonObject obj = (JsonObject) val;
+      return obj.isFrozen() ? obj : new JsonObject(obj.getMap()).freeze();
+    } else if (val instanceof JsonArray) {
+      JsonArray arr = (JsonArray) val;
+      return arr.isFrozen() ? arr : new JsonArray(arr.getList()).freeze();
+    } else if (val instanceof Map) {
+      return new JsonObject((Map) val).freeze();
+    } else if (val instanceof List) {
+      return new JsonArray((List) val).freeze();
+    } else if (val instanceof byte[]) {
+      return BASE64_ENCODER.encodeToString((byte[]) val);
+    } else if (val instanceof Buffer) {
+      return BASE64_ENCODER.encodeToString(((Buffer) val).getBytes());
+    } else {
+      return checkAndCopy(val);
+    }
+  }
+
   @SuppressWarnings("unchecked")
   public static Object checkAndCopy(Object val) {
     if (val == null) {
@@ -0,0 +1,395 @@
+/*
+ * Copyright (c) 2011-2019 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+package io.vertx.core.json.impl;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.json.DecodeException;
+import io.vertx.core.json.Json;
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+import io.vertx.core.json.jackson.JacksonCodec;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * The map of a JSON object decoded lazily from its encoded bytes.
+ * <p/>
+ * The top level fields are indexed on first access by scanning the bytes without decoding them, a field value
+ * is decoded when it is accessed and then kept in place of its location. A nested JSON object is decoded as a lazy
+ * JSON object over its own bytes.
+ * <p/>
+ * The original bytes are reused to encode the map as long as it is not modified, see {@link #buffer()}. A JSON
+ * array is decoded as a list that could be modified through the instance obtained from the map, so reading a JSON
+ * array field disables the reuse of the bytes.
+ * <p/>
+ * Since reading a field might decode it, this map must not be read concurrently.
+ */
+public final class LazyJsonMap extends AbstractMap<String, Object> {
+
+  private final Buffer buffer;
+  private LinkedHashMap<String, Object> fields;
+  private boolean dirty;
+  private boolean valid;
+
+  public LazyJsonMap(Buffer buffer) {
+    this.buffer = buffer;
+  }
+
+  /**
+   * The bytes are checked to be a single well-formed JSON object the first time they are returned, since locating the
+   * fields does not validate the values.
+   *
+   * @return the encoded bytes of this map when they still represent it, {@code null} when this map or one of its
+   * decoded nested values might have been modified
+   * @throws DecodeException when the bytes are not a well-formed JSON object
+   */
+  public Buffer buffer() {
+    if (dirty) {
+      return null;
+    }
+    if (!valid) {
+      validate();
+      valid = true;
+    }
+    if (fields != null) {
+      for (Object val : fields.values()) {
+        if (val instanceof JsonObject) {
+          Map<String, Object> map = ((JsonObject) val).getMap();
+          if (!(map instanceof LazyJsonMap)) {
+            return null;
+          }
+          LazyJsonMap nested = (LazyJsonMap) map;
+          // Its bytes are part of the bytes of this map
+          nested.valid = true;
+          if (nested.buffer() == null) {
+            return null;
+          }
+        } else if (val instanceof JsonArray || val instanceof Map || val instanceof List) {
+          // Might have been modified through the instance obtained from the map
+          return null;
+        }
+      }
+    }
+    return buffer;
+  }
+
+  @Override
+  public int size() {
+    return fields().size();
+  }
+
+  @Override
+  public boolean isEmpty() {
+    return fields().isEmpty();
+  }
+
+  @Override
+  public boolean containsKey(Object key) {
+    return fields().containsKey(key);
+  }
+
+  @Override
+  public Object get(Object key) {
+    Map<String, Object> fields = fields();
+    Object val = fields.get(key);
+    if (val instanceof Location) {
+      val = decode((Location) val);
+      fields.put((String) key, val);
+    }
+    return val;
+  }
+
+  @Override
+  public Object put(String key, Object value) {
+    dirty = true;
+    return decoded(fields().put(key, value));
+  }
+
+  @Override
+  public Object remove(Object key) {
+    dirty = true;
+    return decoded(fields().remove(key));
+  }
+
+  @Override
+  public void clear() {
+    dirty = true;
+    fields().clear();
+  }
+
+  @Override
+  public Set<String> keySet() {
+    Set<String> keys = fields().keySet();
+    return new AbstractSet<String>() {
+      @Override
+      public Iterator<String> iterator() {
+        Iterator<String> it = keys.iterator();
+        return new Iterator<String>() {
+          @Override
+          public boolean hasNext() {
+            return it.hasNext();
+          }
+          @Override
+          public String next() {
+            return it.next();
+          }
+          @Override
+          public void remove() {
+            dirty = true;
+            it.remove();
+          }
+        };
+      }
+      @Override
+      public boolean contains(Object o) {
+        return keys.contains(o);
+      }
+      @Override
+      public int size() {
+        return keys.size();
+      }
+    };
+  }
+
+  @Override
+  public Set<Entry<String, Object>> entrySet() {
+    Map<String, Object> fields = fields();
+    for (Entry<String, Object> entry : fields.entrySet()) {
+      Object val = entry.getValue();
+      if (val instanceof Location) {
+        entry.setValue(decode((Location) val));
+      }
+    }
+    Set<Entry<String, Object>> entries = fields.entrySet();
+    return new AbstractSet<Entry<String, Object>>() {
+      @Override
+      public Iterator<Entry<String, Object>> iterator() {
+        Iterator<Entry<String, Object>> it = entries.iterator();
+        return new Iterator<Entry<String, Object>>() {
+          @Override
+          public boolean hasNext() {
+            return it.hasNext();
+          }
+          @Override
+          public Entry<String, Object> next() {
+            Entry<String, Object> entry = it.next();
+            return new SimpleEntry<String, Object>(entry) {
+              @Override
+              public Object setValue(Object value) {
+                dirty = true;
+                super.setValue(value);
+                return entry.setValue(value);
+              }
+            };
+          }
+          @Override
+          public void remove() {
+            dirty = true;
+            it.remove();
+          }
+        };
+      }
+      @Override
+      public int size() {
+        return entries.size();
+      }
+    };
+  }
+
+  private void validate() {
+    try (JsonParser parser = JacksonCodec.createParser(buffer)) {
+      if (parser.nextToken() != JsonToken.START_OBJECT) {
+        throw new DecodeException("Invalid JSON object: " + buffer);
+      }
+      parser.skipChildren();
+      if (parser.nextToken() != null) {
+        throw new DecodeException("Unexpected trailing token");
+      }
+    } catch (IOException e) {
+      throw new DecodeException("Failed to decode:" + e.getMessage(), e);
+    }
+  }
+
+  private Object decoded(Object val) {
+    return val instanceof Location ? decode((Location) val) : val;
+  }
+
+  private Object decode(Location location) {
+    Buffer slice = buffer.slice(location.start, location.end);
+    if (buffer.getByte(location.start) == '{') {
+      return new JsonObject(new LazyJsonMap(slice));
+    }
+    return Json.CODEC.fromBuffer(slice, Object.class);
+  }
+
+  private LinkedHashMap<String, Object> fields() {
+    if (fields == null) {
+      try {
+        fields = index();
+      } catch (DecodeException e) {
+        // Let the codec decode what the scanner does not handle, e.g comments, or report the actual error
+        Map<String, Object> map = Json.CODEC.fromBuffer(buffer, Map.class);
+        if (map == null) {
+          throw new DecodeException("Invalid JSON object: " + buffer);
+        }
+        fields = new LinkedHashMap<>(map);
+        dirty = true;
+      }
+    }
+    return fields;
+  }
+
+  /**
+   * Locate the top level fields of the JSON object, the values are not validated.
+   */
+  private LinkedHashMap<String, Object> index() {
+    LinkedHashMap<String, Object> fields = new LinkedHashMap<>();
+    int len = buffer.length();
+    int pos = skipWhitespace(0, len);
+    expect(pos, len, '{');
+    pos = skipWhitespace(pos + 1, len);
+    if (pos < len && buffer.getByte(pos) == '}') {
+      pos++;
+    } else {
+      while (true) {
+        expect(pos, len, '"');
+        int keyEnd = skipString(pos, len);
+        String key = decodeKey(pos, keyEnd);
+        pos = skipWhitespace(keyEnd, len);
+        expect(pos, len, ':');
+        pos = skipWhitespace(pos + 1, len);
+        int valueEnd = skipValue(pos, len);
+        fields.put(key, new Location(pos, valueEnd));
+        pos = skipWhitespace(valueEnd, len);
+        if (pos < len && buffer.getByte(pos) == ',') {
+          pos = skipWhitespace(pos + 1, len);
+        } else {
+          expect(pos, len, '}');
+          pos++;
+          break;
+        }
+      }
+    }
+    if (skipWhitespace(pos, len) != len) {
+      throw new DecodeException("Unexpected trailing token");
+    }
+    return fields;
+  }
+
+  private String decodeKey(int start, int end) {
+    for (int i = start + 1;i < end - 1;i++) {
+      if (buffer.getByte(i) == '\\') {
+        return Json.CODEC.fromBuffer(buffer.slice(start, end), String.class);
+      }
+    }
+    return buffer.getString(start + 1, end - 1, StandardCharsets.UTF_8.name());
+  }
+
+  private void expect(int pos, int len, char c) {
+    if (pos >= len || buffer.getByte(pos) != c) {
+      throw new DecodeException("Expected '" + c + "' at position " + pos);
+    }
+  }
+
+  private int skipWhitespace(int pos, int len) {
+    while (pos < len) {
+      byte b = buffer.getByte(pos);
+      if (b != ' ' && b != '\n' && b != '\r' && b != '\t') {
+        break;
+      }
+      pos++;
+    }
+    return pos;
+  }
+
+  private int skipString(int pos, int len) {
+    for (int i = pos + 1;i < len;i++) {
+      byte b = buffer.getByte(i);
+      if (b == '\\') {
+        i++;
+      } else if (b == '"') {
+        return i + 1;
+      }
+    }
+    throw new DecodeException("Unterminated string at position " + pos);
+  }
+
+  private int skipValue(int pos, int len) {
+    if (pos >= len) {
+      throw new DecodeException("Expected a value at position " + pos);
+    }
+    byte b = buffer.getByte(pos);
+    if (b == '"') {
+      return skipString(pos, len);
+    }
+    if (b == '{' || b == '[') {
+      int depth = 0;
+      int i = pos;
+      while (i < len) {
+        b = buffer.getByte(i);
+        if (b == '"') {
+          i = skipString(i, len);
+          continue;
+        }
+        if (b == '{' || b == '[') {
+          depth++;
+        } else if (b == '}' || b == ']') {
+          if (--depth == 0) {
+            return i + 1;
+          }
+        } else if (b == '/') {
+          throw new DecodeException("Comments are not indexed");
+        }
+        i++;
+      }
+      throw new DecodeException("Unterminated value at position " + pos);
+    }
+    int i = pos;
+    while (i < len) {
+      b = buffer.getByte(i);
+      if (b == ',' || b == '}' || b == ']' || b == ' ' || b == '\n' || b == '\r' || b == '\t') {
+        break;
+      }
+      if (b == '/') {
+        throw new DecodeException("Comments are not indexed");
+      }
+      i++;
+    }
+    if (i == pos) {
+      throw new DecodeException("Expected a value at position " + pos);
+    }
+    return i;
+  }
+
+  /**
+   * The location of a value not yet decoded.
+   */
+  private static final class Location {
+
+    final int start;
+    final int end;
+
+    Location(int start, int end) {
+      this.start = start;
+      this.end = end;
+    }
+  }
+}
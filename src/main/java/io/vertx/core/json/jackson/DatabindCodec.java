@@ -18,7 +18,9 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.databind.module.SimpleModule;
 import io.netty.buffer.ByteBufInputStream;
+import io.netty.buffer.ByteBufOutputStream;
 import io.vertx.core.buffer.Buffer;
+import io.vertx.core.buffer.impl.BufferImpl;
 import io.vertx.core.json.DecodeException;
 import io.vertx.core.json.EncodeException;
 import io.vertx.core.json.JsonArray;
@@ -26,6 +28,7 @@ import io.vertx.core.json.JsonObject;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
 import java.time.Instant;
 import java.util.List;
 import java.util.Map;
@@ -177,9 +180,16 @@ public class DatabindCodec extends JacksonCodec {
 
   @Override
   public Buffer toBuffer(Object object, boolean pretty) throws EncodeException {
+    return toBuffer(object, pretty, 0);
+  }
+
+  @Override
+  public Buffer toBuffer(Object object, boolean pretty, int sizeHint) throws EncodeException {
     try {
       ObjectMapper mapper = pretty ? DatabindCodec.prettyMapper : DatabindCodec.mapper;
-      return Buffer.buffer(mapper.writeValueAsBytes(object));
+      BufferImpl buf = encodingBuffer(sizeHint);
+      mapper.writeValue((OutputStream) new ByteBufOutputStream(buf.byteBuf()), object);
+      return encoded(buf, sizeHint);
     } catch (Exception e) {
       throw new EncodeException("Failed to encode as JSON: " + e.getMessage());
     }
@@ -20,8 +20,8 @@ import com.fasterxml.jackson.core.type.TypeReference;
 import io.netty.buffer.ByteBuf;
 import io.netty.buffer.ByteBufInputStream;
 import io.netty.buffer.ByteBufOutputStream;
-import io.netty.buffer.Unpooled;
 import io.vertx.core.buffer.Buffer;
+import io.vertx.core.buffer.impl.BufferImpl;
 import io.vertx.core.json.DecodeException;
 import io.vertx.core.json.EncodeException;
 import io.vertx.core.json.JsonArray;
@@ -56,6 +56,15 @@ public class JacksonCodec implements JsonCodec {
 
   private static final JsonFactory factory = new JsonFactory();
 
+  private static final int MIN_ESTIMATED_SIZE = 64;
+  // Larger encodings grow their buffer, which costs little compared to encoding them
+  private static final int MAX_ESTIMATED_SIZE = 4 * 1024;
+  // Smaller buffers are not trimmed, reallocating them would cost more than the memory it saves
+  private static final int TRIM_THRESHOLD = 1024;
+
+  // Running average of the sizes of the encodings without size hint
+  private static volatile int estimatedSize = 256;
+
   static {
     // Non-standard JSON but we allow C style comments in our JSON
     factory.configure(JsonParser.Feature.ALLOW_COMMENTS, true);
@@ -105,13 +114,17 @@ public class JacksonCodec implements JsonCodec {
 
   @Override
   public Buffer toBuffer(Object object, boolean pretty) throws EncodeException {
-    ByteBuf buf = Unpooled.buffer();
-    ByteBufOutputStream out = new ByteBufOutputStream(buf);
-    JsonGenerator generator = createGenerator(out, pretty);
+    return toBuffer(object, pretty, 0);
+  }
+
+  @Override
+  public Buffer toBuffer(Object object, boolean pretty, int sizeHint) throws EncodeException {
+    BufferImpl buf = encodingBuffer(sizeHint);
+    JsonGenerator generator = createGenerator(new ByteBufOutputStream(buf.byteBuf()), pretty);
     try {
       encodeJson(object, generator);
       generator.flush();
-      return Buffer.buffer(buf);
+      return encoded(buf, sizeHint);
     } catch (IOException e) {
       throw new EncodeException(e.getMessage(), e);
     } finally {
@@ -119,6 +132,34 @@ public class JacksonCodec implements JsonCodec {
     }
   }
 
+  /**
+   * Allocate the buffer to encode into, without size hint its capacity is the running average of the encoded sizes.
+   */
+  static BufferImpl encodingBuffer(int sizeHint) {
+    return (BufferImpl) BufferImpl.buffer(sizeHint > 0 ? sizeHint : estimatedSize);
+  }
+
+  /**
+   * Update the running average of the encoded sizes with the {@code buf} encoding, concurrent updates might
+   * be lost which is harmless for an estimate.
+   * <p>
+   * A buffer allocated with the estimate, larger than {@code TRIM_THRESHOLD} and using less than half of its capacity,
+   * e.g a small encoding following large ones, is trimmed so it does not retain the memory of the estimate.
+   */
+  static Buffer encoded(BufferImpl buf, int sizeHint) {
+    if (sizeHint <= 0) {
+      int length = buf.length();
+      int size = estimatedSize;
+      size += (length - size) >> 3;
+      estimatedSize = Math.max(MIN_ESTIMATED_SIZE, Math.min(MAX_ESTIMATED_SIZE, size));
+      ByteBuf byteBuf = buf.byteBuf();
+      if (byteBuf.capacity() > TRIM_THRESHOLD && byteBuf.capacity() - length > length) {
+        byteBuf.capacity(length);
+      }
+    }
+    return buf;
+  }
+
   public static JsonParser createParser(String str) {
     try {
       return factory.createParser(str);
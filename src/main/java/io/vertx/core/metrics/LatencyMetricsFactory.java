@@ -0,0 +1,56 @@
+/*
+ * Copyright (c) 2011-2019 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.core.metrics;
+
+import io.vertx.core.VertxOptions;
+import io.vertx.core.json.JsonObject;
+import io.vertx.core.metrics.impl.LatencyMetrics;
+import io.vertx.core.spi.VertxMetricsFactory;
+import io.vertx.core.spi.metrics.MetricsProvider;
+import io.vertx.core.spi.metrics.VertxMetrics;
+
+/**
+ * A metrics factory for the latency metrics shipped with Vert.x.
+ * <p>
+ * These metrics record latency histograms and counters for the HTTP servers, the HTTP clients, the worker pools
+ * and the event bus, they are enabled with:
+ *
+ * <pre>
+ *   new VertxOptions().setMetricsOptions(new MetricsOptions().setEnabled(true).setFactory(new LatencyMetricsFactory()));
+ * </pre>
+ *
+ * and read with {@link #snapshot(Measured)}.
+ */
+public class LatencyMetricsFactory implements VertxMetricsFactory {
+
+  /**
+   * Returns the snapshot of the metrics of a measured object, e.g a {@link io.vertx.core.Vertx} instance,
+   * an {@link io.vertx.core.http.HttpServer} or an {@link io.vertx.core.eventbus.EventBus}.
+   * <p>
+   * The latencies are in milliseconds and each latency is reported with its count, mean, max, and
+   * {@code p50}, {@code p90}, {@code p99} and {@code p999} percentiles.
+   *
+   * @param measured the measured object
+   * @return the snapshot or {@code null} when the object is not measured by the latency metrics
+   */
+  public static JsonObject snapshot(Measured measured) {
+    if (measured instanceof MetricsProvider) {
+      return LatencyMetrics.snapshot(((MetricsProvider) measured).getMetrics());
+    }
+    return null;
+  }
+
+  @Override
+  public VertxMetrics metrics(VertxOptions options) {
+    return new LatencyMetrics();
+  }
+}
@@ -0,0 +1,197 @@
+/*
+ * Copyright (c) 2011-2019 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.core.metrics.impl;
+
+import io.vertx.core.json.JsonObject;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * A lock-free histogram of durations in nanoseconds.
+ * <p/>
+ * The buckets are log-linear: each power of two is divided in {@link #SUB_BUCKET_COUNT} buckets, so a recorded
+ * value is known within 1/32 of its magnitude, from 0 to about 36 minutes, larger values are recorded in the last bucket.
+ * <p/>
+ * The counts are striped by thread, a stripe is allocated the first time a thread maps to it and is then updated
+ * without allocation. Event loop threads are created in sequence and usually map to distinct stripes. The stripes
+ * are merged when the histogram is read.
+ */
+public final class LatencyHistogram {
+
+  private static final int SUB_BUCKET_BITS = 5;
+  private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+  private static final int MAX_EXPONENT = 40;
+  static final int BUCKET_COUNT = (MAX_EXPONENT - SUB_BUCKET_BITS + 2) * SUB_BUCKET_COUNT;
+  // The slot of a stripe holding the sum of the recorded values
+  private static final int SUM = BUCKET_COUNT;
+  private static final int STRIPE_COUNT = stripeCount(2 * Runtime.getRuntime().availableProcessors());
+
+  private static int stripeCount(int n) {
+    int count = 1;
+    while (count < n) {
+      count <<= 1;
+    }
+    return count;
+  }
+
+  private final AtomicReferenceArray<AtomicLongArray> stripes = new AtomicReferenceArray<>(STRIPE_COUNT);
+
+  /**
+   * Record a duration.
+   *
+   * @param nanos the duration in nanoseconds, a negative duration is recorded as {@code 0}
+   */
+  public void record(long nanos) {
+    if (nanos < 0) {
+      nanos = 0;
+    }
+    AtomicLongArray stripe = stripe();
+    stripe.incrementAndGet(bucket(nanos));
+    stripe.addAndGet(SUM, nanos);
+  }
+
+  private AtomicLongArray stripe() {
+    int i = (int) Thread.currentThread().getId() & (STRIPE_COUNT - 1);
+    AtomicLongArray stripe = stripes.get(i);
+    if (stripe == null) {
+      stripes.compareAndSet(i, null, new AtomicLongArray(BUCKET_COUNT + 1));
+      stripe = stripes.get(i);
+    }
+    return stripe;
+  }
+
+  static int bucket(long value) {
+    if (value < SUB_BUCKET_COUNT) {
+      return (int) value;
+    }
+    int exponent = 63 - Long.numberOfLeadingZeros(value);
+    if (exponent > MAX_EXPONENT) {
+      return BUCKET_COUNT - 1;
+    }
+    int shift = exponent - SUB_BUCKET_BITS;
+    return ((shift + 1) << SUB_BUCKET_BITS) + (int) (value >>> shift) - SUB_BUCKET_COUNT;
+  }
+
+  /**
+   * @return the highest value recorded in {@code bucket}
+   */
+  static long highestValue(int bucket) {
+    if (bucket < SUB_BUCKET_COUNT) {
+      return bucket;
+    }
+    int shift = (bucket >>> SUB_BUCKET_BITS) - 1;
+    long mantissa = (bucket & (SUB_BUCKET_COUNT - 1)) + SUB_BUCKET_COUNT;
+    return ((mantissa + 1) << shift) - 1;
+  }
+
+  /**
+   * @return a snapshot of this histogram, concurrent recordings may be partially visible
+   */
+  public Snapshot snapshot() {
+    long[] counts = new long[BUCKET_COUNT];
+    long sum = 0;
+    for (int i = 0;i < STRIPE_COUNT;i++) {
+      AtomicLongArray stripe = stripes.get(i);
+      if (stripe != null) {
+        for (int j = 0;j < BUCKET_COUNT;j++) {
+          counts[j] += stripe.get(j);
+        }
+        sum += stripe.get(SUM);
+      }
+    }
+    return new Snapshot(counts, sum);
+  }
+
+  /**
+   * A merged view of the histogram, the values are the highest values of the buckets.
+   */
+  public static final class Snapshot {
+
+    private final long[] counts;
+    private final long count;
+    private final long sum;
+
+    private Snapshot(long[] counts, long sum) {
+      long count = 0;
+      for (long c : counts) {
+        count += c;
+      }
+      this.counts = counts;
+      this.count = count;
+      this.sum = sum;
+    }
+
+    /**
+     * @return the number of recorded values
+     */
+    public long count() {
+      return count;
+    }
+
+    /**
+     * @return the mean of the recorded values in nanoseconds, or {@code 0} when no value was recorded
+     */
+    public long mean() {
+      return count == 0 ? 0 : sum / count;
+    }
+
+    /**
+     * @return the largest recorded value in nanoseconds, or {@code 0} when no value was recorded
+     */
+    public long max() {
+      for (int i = counts.length - 1;i >= 0;i--) {
+        if (counts[i] != 0) {
+          return highestValue(i);
+        }
+      }
+      return 0;
+    }
+
+    /**
+     * @param quantile the quantile between {@code 0} and {@code 1}
+     * @return the value in nanoseconds at {@code quantile}, or {@code 0} when no value was recorded
+     */
+    public long valueAt(double quantile) {
+      if (count == 0) {
+        return 0;
+      }
+      long rank = Math.max(1, (long) Math.ceil(quantile * count));
+      long seen = 0;
+      for (int i = 0;i < counts.length;i++) {
+        seen += counts[i];
+        if (seen >= rank) {
+          return highestValue(i);
+        }
+      }
+      return max();
+    }
+
+    /**
+     * @return the json representation of this snapshot, the durations are in milliseconds
+     */
+    public JsonObject toJson() {
+      return new JsonObject()
+        .put("count", count)
+        .put("mean", millis(mean()))
+        .put("max", millis(max()))
+        .put("p50", millis(valueAt(0.5)))
+        .put("p90", millis(valueAt(0.9)))
+        .put("p99", millis(valueAt(0.99)))
+        .put("p999", millis(valueAt(0.999)));
+    }
+
+    private static double millis(long nanos) {
+      return nanos / 1_000_000D;
+    }
+  }
+}
@@ -0,0 +1,397 @@
+/*
+ * Copyright (c) 2011-2019 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.core.metrics.impl;
+
+import io.vertx.core.eventbus.Message;
+import io.vertx.core.eventbus.ReplyFailure;
+import io.vertx.core.http.HttpClientOptions;
+import io.vertx.core.http.HttpServerOptions;
+import io.vertx.core.json.JsonObject;
+import io.vertx.core.net.SocketAddress;
+import io.vertx.core.spi.metrics.*;
+import io.vertx.core.spi.observability.HttpRequest;
+import io.vertx.core.spi.observability.HttpResponse;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * A metrics implementation recording latency histograms and counters for the HTTP servers, the HTTP clients,
+ * the pools and the event bus.
+ * <p/>
+ * The recording is lock-free and does not allocate, besides the object tracking a request or a task that the
+ * SPI requires. The metrics are read with {@link #snapshot(Metrics)}.
+ */
+public class LatencyMetrics implements VertxMetrics {
+
+  /**
+   * @return the snapshot of {@code metrics}, or {@code null} when the metrics were not created by this implementation
+   */
+  public static JsonObject snapshot(Metrics metrics) {
+    if (metrics instanceof LatencyMetrics) {
+      return ((LatencyMetrics) metrics).toJson();
+    } else if (metrics instanceof Meter) {
+      return ((Meter) metrics).toJson();
+    } else {
+      return null;
+    }
+  }
+
+  private final ConcurrentMap<String, Meter> meters = new ConcurrentHashMap<>();
+
+  /**
+   * @return the meter of {@code name}, the meter is shared by the objects measured under the same name and removed
+   *         when the last of them is closed
+   */
+  @SuppressWarnings("unchecked")
+  private <M extends Meter> M meter(String name, Function<String, M> factory) {
+    return (M) meters.compute(name, (key, meter) -> {
+      if (meter == null) {
+        meter = factory.apply(key);
+      }
+      meter.refs++;
+      return meter;
+    });
+  }
+
+  @Override
+  public boolean isMetricsEnabled() {
+    return true;
+  }
+
+  @Override
+  public EventBusMetrics createEventBusMetrics() {
+    return meter("eventbus", EventBusMeter::new);
+  }
+
+  @Override
+  public HttpServerMetrics<?, ?, ?> createHttpServerMetrics(HttpServerOptions options, SocketAddress localAddress) {
+    return meter("http.server." + localAddress, HttpServerMeter::new);
+  }
+
+  @Override
+  public HttpClientMetrics<?, ?, ?, ?> createHttpClientMetrics(HttpClientOptions options) {
+    String name = options.getMetricsName();
+    return meter(name == null || name.isEmpty() ? "http.client" : "http.client." + name, HttpClientMeter::new);
+  }
+
+  @Override
+  public PoolMetrics<?> createPoolMetrics(String poolType, String poolName, int maxPoolSize) {
+    return meter("pool." + poolType + "." + poolName, PoolMeter::new);
+  }
+
+  /**
+   * @return the snapshots of the metrics, sorted by name
+   */
+  public JsonObject toJson() {
+    JsonObject json = new JsonObject();
+    for (Map.Entry<String, Meter> entry : new TreeMap<>(meters).entrySet()) {
+      json.put(entry.getKey(), entry.getValue().toJson());
+    }
+    return json;
+  }
+
+  /**
+   * Tracks a request or a task.
+   */
+  static final class Sample {
+
+    long start;
+    boolean ended;
+
+    Sample(long start) {
+      this.start = start;
+    }
+  }
+
+  abstract class Meter implements Metrics {
+
+    final String name;
+    // The number of objects measured, guarded by the entry of the meter
+    private int refs;
+
+    Meter(String name) {
+      this.name = name;
+    }
+
+    abstract JsonObject toJson();
+
+    @Override
+    public void close() {
+      meters.computeIfPresent(name, (key, meter) -> meter == this && --refs == 0 ? null : meter);
+    }
+  }
+
+  class HttpServerMeter extends Meter implements HttpServerMetrics<Sample, Void, Void> {
+
+    private final LongAdder requests = new LongAdder();
+    private final LongAdder active = new LongAdder();
+    private final LongAdder resets = new LongAdder();
+    private final LatencyHistogram latency = new LatencyHistogram();
+
+    HttpServerMeter(String name) {
+      super(name);
+    }
+
+    @Override
+    public Sample requestBegin(Void socketMetric, HttpRequest request) {
+      requests.increment();
+      active.increment();
+      return new Sample(System.nanoTime());
+    }
+
+    @Override
+    public void requestReset(Sample requestMetric) {
+      if (requestMetric != null && !requestMetric.ended) {
+        requestMetric.ended = true;
+        resets.increment();
+        active.decrement();
+      }
+    }
+
+    @Override
+    public void responseEnd(Sample requestMetric, long bytesWritten) {
+      if (requestMetric != null && !requestMetric.ended) {
+        requestMetric.ended = true;
+        latency.record(System.nanoTime() - requestMetric.start);
+        active.decrement();
+      }
+    }
+
+    @Override
+    JsonObject toJson() {
+      return new JsonObject()
+        .put("requests", requests.sum())
+        .put("active", active.sum())
+        .put("resets", resets.sum())
+        .put("latency", latency.snapshot().toJson());
+    }
+  }
+
+  class HttpClientMeter extends Meter implements HttpClientMetrics<Sample, Void, Void, Sample> {
+
+    private final LongAdder requests = new LongAdder();
+    private final LongAdder active = new LongAdder();
+    private final LongAdder resets = new LongAdder();
+    private final LatencyHistogram waitTime = new LatencyHistogram();
+    private final LatencyHistogram latency = new LatencyHistogram();
+
+    // The endpoints of the client record into the client histograms
+    private final ClientMetrics<Sample, Sample, HttpRequest, HttpResponse> endpoint = new ClientMetrics<Sample, Sample, HttpRequest, HttpResponse>() {
+
+      @Override
+      public Sample enqueueRequest() {
+        return new Sample(System.nanoTime());
+      }
+
+      @Override
+      public void dequeueRequest(Sample taskMetric) {
+        if (taskMetric != null) {
+          waitTime.record(System.nanoTime() - taskMetric.start);
+        }
+      }
+
+      @Override
+      public Sample requestBegin(String uri, HttpRequest request) {
+        requests.increment();
+        active.increment();
+        return new Sample(System.nanoTime());
+      }
+
+      @Override
+      public void requestReset(Sample requestMetric) {
+        if (requestMetric != null && !requestMetric.ended) {
+          requestMetric.ended = true;
+          resets.increment();
+          active.decrement();
+        }
+      }
+
+      @Override
+      public void responseEnd(Sample requestMetric, long bytesRead) {
+        if (requestMetric != null && !requestMetric.ended) {
+          requestMetric.ended = true;
+          latency.record(System.nanoTime() - requestMetric.start);
+          active.decrement();
+        }
+      }
+    };
+
+    HttpClientMeter(String name) {
+      super(name);
+    }
+
+    @Override
+    public ClientMetrics<Sample, Sample, HttpRequest, HttpResponse> createEndpointMetrics(SocketAddress remoteAddress, int maxPoolSize) {
+      return endpoint;
+    }
+
+    @Override
+    JsonObject toJson() {
+      return new JsonObject()
+        .put("requests", requests.sum())
+        .put("active", active.sum())
+        .put("resets", resets.sum())
+        .put("waitTime", waitTime.snapshot().toJson())
+        .put("latency", latency.snapshot().toJson());
+    }
+  }
+
+  class PoolMeter extends Meter implements PoolMetrics<Sample> {
+
+    private final LongAdder queued = new LongAdder();
+    private final LongAdder inUse = new LongAdder();
+    private final LongAdder completed = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private final LatencyHistogram waitTime = new LatencyHistogram();
+    private final LatencyHistogram usage = new LatencyHistogram();
+
+    PoolMeter(String name) {
+      super(name);
+    }
+
+    @Override
+    public Sample submitted() {
+      queued.increment();
+      return new Sample(System.nanoTime());
+    }
+
+    @Override
+    public void rejected(Sample sample) {
+      queued.decrement();
+      rejected.increment();
+    }
+
+    @Override
+    public Sample begin(Sample sample) {
+      long now = System.nanoTime();
+      if (sample == null) {
+        sample = new Sample(now);
+      } else {
+        queued.decrement();
+        waitTime.record(now - sample.start);
+        sample.start = now;
+      }
+      inUse.increment();
+      return sample;
+    }
+
+    @Override
+    public void end(Sample sample, boolean succeeded) {
+      if (sample != null) {
+        inUse.decrement();
+        usage.record(System.nanoTime() - sample.start);
+        if (succeeded) {
+          completed.increment();
+        } else {
+          failed.increment();
+        }
+      }
+    }
+
+    @Override
+    JsonObject toJson() {
+      return new JsonObject()
+        .put("queued", queued.sum())
+        .put("inUse", inUse.sum())
+        .put("completed", completed.sum())
+        .put("failed", failed.sum())
+        .put("rejected", rejected.sum())
+        .put("waitTime", waitTime.snapshot().toJson())
+        .put("usage", usage.snapshot().toJson());
+    }
+  }
+
+  /**
+   * The event bus SPI does not track a message from its scheduling to its delivery, so only counters are recorded.
+   */
+  class EventBusMeter extends Meter implements EventBusMetrics<Void> {
+
+    private final LongAdder handlers = new LongAdder();
+    private final LongAdder pending = new LongAdder();
+    private final LongAdder sent = new LongAdder();
+    private final LongAdder published = new LongAdder();
+    private final LongAdder received = new LongAdder();
+    private final LongAdder delivered = new LongAdder();
+    private final LongAdder discarded = new LongAdder();
+    private final LongAdder replyFailures = new LongAdder();
+
+    EventBusMeter(String name) {
+      super(name);
+    }
+
+    @Override
+    public Void handlerRegistered(String address, String repliedAddress) {
+      handlers.increment();
+      return null;
+    }
+
+    @Override
+    public void handlerUnregistered(Void handler) {
+      handlers.decrement();
+    }
+
+    @Override
+    public void scheduleMessage(Void handler, boolean local) {
+      pending.increment();
+    }
+
+    @Override
+    public void discardMessage(Void handler, boolean local, Message<?> msg) {
+      pending.decrement();
+      discarded.increment();
+    }
+
+    @Override
+    public void messageDelivered(Void handler, boolean local) {
+      pending.decrement();
+      delivered.increment();
+    }
+
+    @Override
+    public void messageSent(String address, boolean publish, boolean local, boolean remote) {
+      if (publish) {
+        published.increment();
+      } else {
+        sent.increment();
+      }
+    }
+
+    @Override
+    public void messageReceived(String address, boolean publish, boolean local, int handlers) {
+      received.increment();
+    }
+
+    @Override
+    public void replyFailure(String address, ReplyFailure failure) {
+      replyFailures.increment();
+    }
+
+    @Override
+    JsonObject toJson() {
+      return new JsonObject()
+        .put("handlers", handlers.sum())
+        .put("pending", pending.sum())
+        .put("sent", sent.sum())
+        .put("published", published.sum())
+        .put("received", received.sum())
+        .put("delivered", delivered.sum())
+        .put("discarded", discarded.sum())
+        .put("replyFailures", replyFailures.sum());
+    }
+  }
+}
@@ -16,6 +16,7 @@ import io.vertx.core.Context;
 import io.vertx.core.Future;
 import io.vertx.core.Handler;
 import io.vertx.core.http.ConnectionPoolTooBusyException;
+import io.vertx.core.http.ConnectionSelector;
 import io.vertx.core.impl.ContextInternal;
 
 import java.io.File;
@@ -69,6 +70,10 @@ import java.util.function.Consumer;
  * </ul>
  * Waiter notifications happens on the event-loop thread to avoid races with connection event happening on the same thread.
  *
+ * <h3>Connection selection</h3>
+ * When several connections are available, the first one is lent unless the pool has a {@link ConnectionSelector},
+ * in which case the pool tracks the in-flight borrows and the latency of each connection and lets the selector choose.
+ *
  * <h3>Connection eviction</h3>
  * Connection can be evicted from the pool with {@link ConnectionListener#onEvict()}, after this call, the connection
  * is fully managed by the caller. This can be used for signaling a connection close or when the connection has
@@ -91,7 +96,7 @@ public class Pool<C> {
   /**
    * Pool state associated with a connection.
    */
-  private class Holder implements ConnectionListener<C> {
+  private class Holder implements ConnectionListener<C>, ConnectionSelector.Candidate {
 
     boolean initialized;      // Initialized
     boolean removed;          // Removed
@@ -99,6 +104,10 @@ public class Pool<C> {
     long concurrency;         // How many times we can borrow from the connection
     long capacity;            // How many times the connection is currently borrowed (0 <= capacity <= concurrency)
     long weight;              // The weight that participates in the pool weight
+    long latency;             // The smoothed borrow latency in nanoseconds (only tracked with a selector)
+    long[] borrowTimes;       // The borrow timestamps ring (only tracked with a selector)
+    int borrowHead;
+    int borrowCount;
 
     private void init(long concurrency, C conn, long weight) {
       this.concurrency = concurrency;
@@ -107,6 +116,46 @@ public class Pool<C> {
       this.capacity = concurrency;
     }
 
+    @Override
+    public long inFlight() {
+      return concurrency - capacity;
+    }
+
+    @Override
+    public long concurrency() {
+      return concurrency;
+    }
+
+    @Override
+    public long latency() {
+      return latency;
+    }
+
+    void borrowed() {
+      if (borrowTimes == null) {
+        borrowTimes = new long[4];
+      } else if (borrowCount == borrowTimes.length) {
+        long[] times = new long[borrowTimes.length * 2];
+        for (int i = 0;i < borrowCount;i++) {
+          times[i] = borrowTimes[(borrowHead + i) & (borrowTimes.length - 1)];
+        }
+        borrowTimes = times;
+        borrowHead = 0;
+      }
+      borrowTimes[(borrowHead + borrowCount++) & (borrowTimes.length - 1)] = System.nanoTime();
+    }
+
+    void recycled() {
+      if (borrowCount == 0) {
+        return;
+      }
+      long sample = System.nanoTime() - borrowTimes[borrowHead];
+      borrowHead = (borrowHead + 1) & (borrowTimes.length - 1);
+      borrowCount--;
+      // Exponentially weighted moving average with a 1/8 weight
+      latency = latency == 0L ? sample : latency + ((sample - latency) >> 3);
+    }
+
     @Override
     public void onConcurrencyChange(long concurrency) {
       setConcurrency(this, concurrency);
@@ -134,7 +183,7 @@ public class Pool<C> {
 
     @Override
     public String toString() {
-      return "Holder[removed=" + removed + ",capacity=" + capacity + ",concurrency=" + concurrency + "]";
+      return "Holder[removed=" + removed + ",capacity=" + capacity + ",concurrency=" + concurrency + ",latency=" + latency + "]";
     }
   }
 
@@ -148,6 +197,7 @@ public class Pool<C> {
 
   private final Deque<Holder> available;                            // Available connections, i.e having capacity > 0
   private final boolean fifo;                                       // Recycling policy
+  private final ConnectionSelector selector;                        // Selection policy, null selects the first available
   private long capacity;                                            // The total available connection capacity
   private long connecting;                                          // The number of connections in progress
 
@@ -165,6 +215,18 @@ public class Pool<C> {
               Consumer<C> connectionAdded,
               Consumer<C> connectionRemoved,
               boolean fifo) {
+    this(context, connector, queueMaxSize, initialWeight, maxWeight, connectionAdded, connectionRemoved, fifo, null);
+  }
+
+  public Pool(Context context,
+              ConnectionProvider<C> connector,
+              int queueMaxSize,
+              long initialWeight,
+              long maxWeight,
+              Consumer<C> connectionAdded,
+              Consumer<C> connectionRemoved,
+              boolean fifo,
+              ConnectionSelector selector) {
     this.context = (ContextInternal) context;
     this.weight = 0;
     this.maxWeight = maxWeight;
@@ -175,6 +237,7 @@ public class Pool<C> {
     this.connectionAdded = connectionAdded;
     this.connectionRemoved = connectionRemoved;
     this.fifo = fifo;
+    this.selector = selector;
   }
 
   public synchronized int waitersInQueue() {
@@ -265,14 +328,36 @@ public class Pool<C> {
     return queueMaxSize >= 0 && (waitersQueue.size() - connecting) > queueMaxSize;
   }
 
+  /**
+   * Let the selector choose among the available connections, a result that is not one of them falls back to the
+   * first available connection since the pool accounting relies on it.
+   */
+  private Holder select() {
+    ConnectionSelector.Candidate selected = selector.select(available);
+    if (selected instanceof Pool.Holder && available.contains(selected)) {
+      return (Holder) selected;
+    }
+    return available.peek();
+  }
+
   private Runnable nextTask() {
     if (waitersQueue.size() > 0) {
       // Acquire a task that will deliver a connection
       if (canAcquireConnection()) {
-        Holder conn = available.peek();
-        capacity--;
-        if (--conn.capacity == 0) {
-          available.poll();
+        Holder conn;
+        if (selector == null) {
+          conn = available.peek();
+          capacity--;
+          if (--conn.capacity == 0) {
+            available.poll();
+          }
+        } else {
+          conn = select();
+          capacity--;
+          if (--conn.capacity == 0) {
+            available.remove(conn);
+          }
+          conn.borrowed();
         }
         Waiter<C> waiter = waitersQueue.poll();
         return () -> waiter.handler.handle(Future.succeededFuture(conn.connection));
@@ -360,6 +445,9 @@ public class Pool<C> {
       while (holder.capacity > 0 && waitersQueue.size() > 0) {
         waiters.add(waitersQueue.poll());
         holder.capacity--;
+        if (selector != null) {
+          holder.borrowed();
+        }
       }
       if (holder.capacity > 0) {
         available.add(holder);
@@ -454,6 +542,9 @@ public class Pool<C> {
       throw new AssertionError("Attempt to recycle a connection more than permitted");
     }
     capacity++;
+    if (selector != null) {
+      holder.recycled();
+    }
     if (holder.capacity == 0) {
       if (fifo) {
         available.addLast(holder);
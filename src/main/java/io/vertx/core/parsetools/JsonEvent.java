@@ -17,6 +17,7 @@ import io.vertx.codegen.annotations.VertxGen;
 import io.vertx.core.buffer.Buffer;
 import io.vertx.core.json.JsonArray;
 import io.vertx.core.json.JsonObject;
+import io.vertx.core.json.pointer.JsonPointer;
 
 import java.time.Instant;
 
@@ -38,6 +39,12 @@ public interface JsonEvent {
    */
   String fieldName();
 
+  /**
+   * @return the pointer matched by the value when the parser is in {@link JsonParser#projectionMode projection mode},
+   *         {@code null} otherwise
+   */
+  JsonPointer pointer();
+
   /**
    * @return the json value for {@link JsonEventType#VALUE} events
    */
@@ -15,9 +15,12 @@ import io.vertx.codegen.annotations.Fluent;
 import io.vertx.codegen.annotations.VertxGen;
 import io.vertx.core.Handler;
 import io.vertx.core.buffer.Buffer;
+import io.vertx.core.json.pointer.JsonPointer;
 import io.vertx.core.parsetools.impl.JsonParserImpl;
 import io.vertx.core.streams.ReadStream;
 
+import java.util.List;
+
 /**
  * A parser class which allows to incrementally parse json elements and emit json parse events instead of parsing a json
  * element fully. This parser is convenient for parsing large json structures.
@@ -31,6 +34,10 @@ import io.vertx.core.streams.ReadStream;
  * Whenever the parser fails to parse or process the stream, the {@link #exceptionHandler(Handler)} is called with
  * the cause of the failure and the current handling stops. After such event, the parser should not handle data
  * anymore.
+ * <p/>
+ * The parser reads the content of a heap buffer in place instead of copying it, so it keeps the buffer until it has
+ * consumed it, e.g while the parser is paused: like a buffer written to a stream, a handled buffer must not be
+ * modified afterwards.
  *
  * @author <a href="mailto:julien@julienviet.com">Julien Viet</a>
  */
@@ -100,6 +107,34 @@ public interface JsonParser extends Handler<Buffer>, ReadStream<JsonEvent> {
   @Fluent
   JsonParser arrayValueMode();
 
+  /**
+   * Flip the parser to emit only the values located by the given {@code pointers}, the pointers are evaluated against
+   * each json element of the stream.
+   * <p/>
+   * A single value event is emitted for each matched value, the event {@link JsonEvent#pointer()} is the matched pointer.
+   * The other values are skipped without emitting events nor buffering them. A value nested in a matched value is
+   * not emitted on its own.
+   * <p/>
+   * Passing {@code null} flips the parser back to emit a stream of events.
+   *
+   * @param pointers the pointers of the values to emit
+   * @return  a reference to this, so the API can be used fluently
+   */
+  @Fluent
+  JsonParser projectionMode(List<JsonPointer> pointers);
+
+  /**
+   * Set whether the parser reuses the same {@link JsonEvent} instance for all the events it emits, this avoids
+   * an allocation per event when the handler does not retain the events. Defaults to {@code false}.
+   * <p/>
+   * When enabled, an event is only valid during the call of the handler.
+   *
+   * @param reuse whether to reuse events
+   * @return  a reference to this, so the API can be used fluently
+   */
+  @Fluent
+  JsonParser reuseEvents(boolean reuse);
+
   @Override
   JsonParser pause();
 
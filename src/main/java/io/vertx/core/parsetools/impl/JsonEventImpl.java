@@ -17,6 +17,7 @@ import io.vertx.core.json.DecodeException;
 import io.vertx.core.json.JsonArray;
 import io.vertx.core.json.JsonObject;
 import io.vertx.core.json.jackson.JacksonFactory;
+import io.vertx.core.json.pointer.JsonPointer;
 import io.vertx.core.parsetools.JsonEvent;
 import io.vertx.core.parsetools.JsonEventType;
 
@@ -30,14 +31,31 @@ import static java.time.format.DateTimeFormatter.ISO_INSTANT;
  */
 public class JsonEventImpl implements JsonEvent {
 
-  private final JsonEventType type;
-  private final String field;
-  private final Object value;
+  private JsonEventType type;
+  private String field;
+  private Object value;
+  private JsonPointer pointer;
 
   public JsonEventImpl(JsonEventType type, String field, Object value) {
+    this(type, field, value, null);
+  }
+
+  public JsonEventImpl(JsonEventType type, String field, Object value, JsonPointer pointer) {
+    this.type = type;
+    this.field = field;
+    this.value = value;
+    this.pointer = pointer;
+  }
+
+  /**
+   * Reset this event with a new state, this is used when the parser reuses its events.
+   */
+  JsonEventImpl reset(JsonEventType type, String field, Object value, JsonPointer pointer) {
     this.type = type;
     this.field = field;
     this.value = value;
+    this.pointer = pointer;
+    return this;
   }
 
   @Override
@@ -50,6 +68,11 @@ public class JsonEventImpl implements JsonEvent {
     return field;
   }
 
+  @Override
+  public JsonPointer pointer() {
+    return pointer;
+  }
+
   @Override
   public Object value() {
     return value;
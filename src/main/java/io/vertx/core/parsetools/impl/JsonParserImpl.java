@@ -17,6 +17,9 @@ import com.fasterxml.jackson.core.ObjectCodec;
 import com.fasterxml.jackson.core.base.ParserBase;
 import com.fasterxml.jackson.core.io.IOContext;
 import com.fasterxml.jackson.core.json.async.NonBlockingJsonParser;
+import io.netty.buffer.ByteBuf;
+import io.netty.util.collection.IntObjectHashMap;
+import io.netty.util.collection.IntObjectMap;
 import io.vertx.core.Handler;
 import io.vertx.core.VertxException;
 import io.vertx.core.buffer.Buffer;
@@ -25,6 +28,7 @@ import io.vertx.core.json.DecodeException;
 import io.vertx.core.json.JsonArray;
 import io.vertx.core.json.JsonObject;
 import io.vertx.core.json.jackson.JacksonCodec;
+import io.vertx.core.json.pointer.JsonPointer;
 import io.vertx.core.parsetools.JsonEvent;
 import io.vertx.core.parsetools.JsonEventType;
 import io.vertx.core.parsetools.JsonParser;
@@ -32,6 +36,7 @@ import io.vertx.core.streams.ReadStream;
 
 import java.io.IOException;
 import java.util.ArrayDeque;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -46,12 +51,15 @@ public class JsonParserImpl implements JsonParser {
   private Handler<JsonEvent> eventHandler;
   private BufferingHandler arrayHandler;
   private BufferingHandler objectHandler;
+  private ProjectingHandler projectingHandler;
   private Handler<Throwable> exceptionHandler;
   private String currentField;
   private Handler<Void> endHandler;
   private long demand = Long.MAX_VALUE;
   private boolean ended;
   private final ReadStream<Buffer> stream;
+  private byte[] input;
+  private JsonEventImpl reusedEvent;
 
   public JsonParserImpl(ReadStream<Buffer> stream) {
     this.stream = stream;
@@ -112,6 +120,18 @@ public class JsonParserImpl implements JsonParser {
     return this;
   }
 
+  private JsonEvent event(JsonEventType type, String field, Object value) {
+    return event(type, field, value, null);
+  }
+
+  private JsonEvent event(JsonEventType type, String field, Object value, JsonPointer pointer) {
+    JsonEventImpl event = reusedEvent;
+    if (event != null) {
+      return event.reset(type, field, value, pointer);
+    }
+    return new JsonEventImpl(type, field, value, pointer);
+  }
+
   private void handleEvent(JsonEvent event) {
     if (demand != Long.MAX_VALUE) {
       demand--;
@@ -131,7 +151,7 @@ public class JsonParserImpl implements JsonParser {
             tokenHandler = handler;
             handler.handle(token);
           } else {
-            handleEvent(new JsonEventImpl(JsonEventType.START_OBJECT, currentField, null));
+            handleEvent(event(JsonEventType.START_OBJECT, currentField, null));
           }
           break;
         }
@@ -141,7 +161,7 @@ public class JsonParserImpl implements JsonParser {
             tokenHandler = handler;
             handler.handle(token);
           } else {
-            handleEvent(new JsonEventImpl(JsonEventType.START_ARRAY, currentField, null));
+            handleEvent(event(JsonEventType.START_ARRAY, currentField, null));
           }
           break;
         }
@@ -152,35 +172,35 @@ public class JsonParserImpl implements JsonParser {
         case VALUE_STRING: {
           String f = currentField;
           currentField = null;
-          handleEvent(new JsonEventImpl(JsonEventType.VALUE, f, parser.getText()));
+          handleEvent(event(JsonEventType.VALUE, f, parser.getText()));
           break;
         }
         case VALUE_TRUE: {
-          handleEvent(new JsonEventImpl(JsonEventType.VALUE, currentField, Boolean.TRUE));
+          handleEvent(event(JsonEventType.VALUE, currentField, Boolean.TRUE));
           break;
         }
         case VALUE_FALSE: {
-          handleEvent(new JsonEventImpl(JsonEventType.VALUE, currentField, Boolean.FALSE));
+          handleEvent(event(JsonEventType.VALUE, currentField, Boolean.FALSE));
           break;
         }
         case VALUE_NULL: {
-          handleEvent(new JsonEventImpl(JsonEventType.VALUE, currentField, null));
+          handleEvent(event(JsonEventType.VALUE, currentField, null));
           break;
         }
         case VALUE_NUMBER_INT: {
-          handleEvent(new JsonEventImpl(JsonEventType.VALUE, currentField, parser.getLongValue()));
+          handleEvent(event(JsonEventType.VALUE, currentField, parser.getLongValue()));
           break;
         }
         case VALUE_NUMBER_FLOAT: {
-          handleEvent(new JsonEventImpl(JsonEventType.VALUE, currentField, parser.getDoubleValue()));
+          handleEvent(event(JsonEventType.VALUE, currentField, parser.getDoubleValue()));
           break;
         }
         case END_OBJECT: {
-          handleEvent(new JsonEventImpl(JsonEventType.END_OBJECT, null, null));
+          handleEvent(event(JsonEventType.END_OBJECT, null, null));
           break;
         }
         case END_ARRAY: {
-          handleEvent(new JsonEventImpl(JsonEventType.END_ARRAY, null, null));
+          handleEvent(event(JsonEventType.END_ARRAY, null, null));
           break;
         }
         default:
@@ -193,9 +213,23 @@ public class JsonParserImpl implements JsonParser {
 
   @Override
   public void handle(Buffer event) {
-    byte[] bytes = event.getBytes();
+    ByteBuf buf = event.getByteBuf();
     try {
-      parser.feedInput(bytes, 0, bytes.length);
+      int len = buf.readableBytes();
+      if (buf.hasArray()) {
+        // The parser reads the buffer in place and keeps it until it is consumed, see JsonParser
+        int start = buf.arrayOffset() + buf.readerIndex();
+        parser.feedInput(buf.array(), start, start + len);
+      } else {
+        byte[] bytes = input;
+        // The input array can be reused once the parser has consumed it
+        if (bytes == null || bytes.length < len || !parser.needMoreInput()) {
+          bytes = new byte[len];
+          input = bytes;
+        }
+        buf.getBytes(buf.readerIndex(), bytes, 0, len);
+        parser.feedInput(bytes, 0, len);
+      }
     } catch (IOException e) {
       if (exceptionHandler != null) {
         exceptionHandler.handle(e);
@@ -268,6 +302,24 @@ public class JsonParserImpl implements JsonParser {
     }
   }
 
+  @Override
+  public JsonParser reuseEvents(boolean reuse) {
+    reusedEvent = reuse ? new JsonEventImpl(null, null, null) : null;
+    return this;
+  }
+
+  @Override
+  public JsonParser projectionMode(List<JsonPointer> pointers) {
+    if (pointers != null) {
+      projectingHandler = new ProjectingHandler(pointers);
+      tokenHandler = projectingHandler;
+    } else if (projectingHandler != null) {
+      projectingHandler = null;
+      tokenHandler = this::handleToken;
+    }
+    return this;
+  }
+
   @Override
   public JsonParser objectEventMode() {
     if (objectHandler != null) {
@@ -282,7 +334,7 @@ public class JsonParserImpl implements JsonParser {
     if (objectHandler == null) {
       BufferingHandler handler = new BufferingHandler();
       handler.handler = buffer -> {
-        handleEvent(new JsonEventImpl(JsonEventType.VALUE, currentField, new JsonObject(handler.convert(Map.class))));
+        handleEvent(event(JsonEventType.VALUE, currentField, new JsonObject(handler.convert(Map.class))));
       };
       objectHandler = handler;
     }
@@ -303,7 +355,7 @@ public class JsonParserImpl implements JsonParser {
     if (arrayHandler == null) {
       BufferingHandler handler = new BufferingHandler();
       handler.handler = buffer -> {
-        handleEvent(new JsonEventImpl(JsonEventType.VALUE, currentField, new JsonArray(handler.convert(List.class))));
+        handleEvent(event(JsonEventType.VALUE, currentField, new JsonArray(handler.convert(List.class))));
       };
       arrayHandler = handler;
     }
@@ -428,7 +480,7 @@ public class JsonParserImpl implements JsonParser {
           case END_ARRAY:
             buffer.tokens.add(event);
             if (--depth == 0) {
-              tokenHandler = JsonParserImpl.this::handleToken;
+              tokenHandler = projectingHandler != null ? projectingHandler : JsonParserImpl.this::handleToken;
               handler.handle(null);
               buffer.close();
               buffer = null;
@@ -448,6 +500,153 @@ public class JsonParserImpl implements JsonParser {
     }
   }
 
+  /**
+   * A node of the tree of the projected pointers.
+   */
+  private static class PointerNode {
+
+    JsonPointer pointer;
+    Map<String, PointerNode> fields;
+    IntObjectMap<PointerNode> indexes;
+
+    PointerNode child(String token) {
+      if (fields == null) {
+        fields = new HashMap<>();
+      }
+      PointerNode child = fields.computeIfAbsent(token, t -> new PointerNode());
+      // A valid array index, i.e 0 or a number without leading zero
+      if (token.length() > 0 && token.length() < 10 && token.chars().allMatch(Character::isDigit) && (token.length() == 1 || token.charAt(0) != '0')) {
+        if (indexes == null) {
+          indexes = new IntObjectHashMap<>();
+        }
+        indexes.put(Integer.parseInt(token), child);
+      }
+      return child;
+    }
+  }
+
+  /**
+   * Emits the values located by a set of pointers, the path of the current token is tracked with the nodes
+   * of the pointers tree and the values that cannot be matched are skipped at the token level.
+   */
+  private class ProjectingHandler implements Handler<JsonToken> {
+
+    private final PointerNode root = new PointerNode();
+    private final PointerNode[] nodes;
+    private final boolean[] arrays;
+    private final int[] indexes;
+    private int depth;
+    private int skipDepth;
+
+    ProjectingHandler(List<JsonPointer> pointers) {
+      int maxDepth = 0;
+      for (JsonPointer pointer : pointers) {
+        PointerNode node = root;
+        String s = pointer.toString();
+        if (s.length() > 0) {
+          for (String token : s.substring(1).split("/", -1)) {
+            node = node.child(token.replace("~1", "/").replace("~0", "~"));
+          }
+        }
+        node.pointer = pointer;
+        maxDepth = Math.max(maxDepth, s.length() - s.replace("/", "").length());
+      }
+      nodes = new PointerNode[maxDepth + 1];
+      arrays = new boolean[maxDepth + 1];
+      indexes = new int[maxDepth + 1];
+    }
+
+    @Override
+    public void handle(JsonToken token) {
+      if (skipDepth > 0) {
+        if (token == JsonToken.START_OBJECT || token == JsonToken.START_ARRAY) {
+          skipDepth++;
+        } else if (token == JsonToken.END_OBJECT || token == JsonToken.END_ARRAY) {
+          skipDepth--;
+        }
+        return;
+      }
+      switch (token) {
+        case FIELD_NAME:
+          currentField = parser.getCurrentName();
+          return;
+        case END_OBJECT:
+        case END_ARRAY:
+          depth--;
+          return;
+      }
+      PointerNode node;
+      String field;
+      if (depth == 0) {
+        node = root;
+        field = null;
+      } else if (arrays[depth - 1]) {
+        PointerNode parent = nodes[depth - 1];
+        node = parent.indexes != null ? parent.indexes.get(indexes[depth - 1]) : null;
+        indexes[depth - 1]++;
+        field = null;
+      } else {
+        PointerNode parent = nodes[depth - 1];
+        node = parent.fields != null ? parent.fields.get(currentField) : null;
+        field = currentField;
+      }
+      boolean container = token == JsonToken.START_OBJECT || token == JsonToken.START_ARRAY;
+      if (node == null) {
+        if (container) {
+          skipDepth = 1;
+        }
+      } else if (node.pointer != null) {
+        emit(token, field, node.pointer);
+      } else if (container) {
+        nodes[depth] = node;
+        arrays[depth] = token == JsonToken.START_ARRAY;
+        indexes[depth] = 0;
+        depth++;
+      }
+    }
+
+    private void emit(JsonToken token, String field, JsonPointer pointer) {
+      try {
+        switch (token) {
+          case START_OBJECT:
+          case START_ARRAY: {
+            BufferingHandler handler = new BufferingHandler();
+            boolean object = token == JsonToken.START_OBJECT;
+            handler.handler = v -> {
+              Object value = object ? new JsonObject(handler.convert(Map.class)) : new JsonArray(handler.convert(List.class));
+              handleEvent(event(JsonEventType.VALUE, field, value, pointer));
+            };
+            tokenHandler = handler;
+            handler.handle(token);
+            break;
+          }
+          case VALUE_STRING:
+            handleEvent(event(JsonEventType.VALUE, field, parser.getText(), pointer));
+            break;
+          case VALUE_TRUE:
+            handleEvent(event(JsonEventType.VALUE, field, Boolean.TRUE, pointer));
+            break;
+          case VALUE_FALSE:
+            handleEvent(event(JsonEventType.VALUE, field, Boolean.FALSE, pointer));
+            break;
+          case VALUE_NULL:
+            handleEvent(event(JsonEventType.VALUE, field, null, pointer));
+            break;
+          case VALUE_NUMBER_INT:
+            handleEvent(event(JsonEventType.VALUE, field, parser.getLongValue(), pointer));
+            break;
+          case VALUE_NUMBER_FLOAT:
+            handleEvent(event(JsonEventType.VALUE, field, parser.getDoubleValue(), pointer));
+            break;
+          default:
+            throw new UnsupportedOperationException("Token " + token + " not implemented");
+        }
+      } catch (IOException e) {
+        throw new DecodeException(e.getMessage());
+      }
+    }
+  }
+
   @Override
   public JsonParser write(Buffer buffer) {
     handle(buffer);
@@ -29,13 +29,17 @@ public class RecordParserImpl implements RecordParser {
   // Empty and unmodifiable
   private static final Buffer EMPTY_BUFFER = Buffer.buffer(Unpooled.EMPTY_BUFFER);
 
-  private Buffer buff = EMPTY_BUFFER;
+  // The data is addressed as the concatenation of the carry and the chunk: the carry holds a copy of the data left
+  // unparsed by the previous chunks, the chunk is the buffer being parsed, which is never copied or modified
+  private Buffer carry = EMPTY_BUFFER;
+  private Buffer chunk = EMPTY_BUFFER;
   private int pos;            // Current position in buffer
   private int start;          // Position of beginning of current record
   private int delimPos;       // Position of current match in delimiter array
 
   private boolean delimited;
   private byte[] delim;
+  private int[] delimFailure; // Knuth-Morris-Pratt failure function of the delimiter
   private int recordSize;
   private int maxRecordSize;
   private long demand = Long.MAX_VALUE;
@@ -142,9 +146,25 @@ public class RecordParserImpl implements RecordParser {
     Objects.requireNonNull(delim, "delim");
     delimited = true;
     this.delim = delim.getBytes();
+    this.delimFailure = failure(this.delim);
     delimPos = 0;
   }
 
+  private static int[] failure(byte[] delim) {
+    int[] failure = new int[delim.length];
+    int k = 0;
+    for (int i = 1;i < delim.length;i++) {
+      while (k > 0 && delim[i] != delim[k]) {
+        k = failure[k - 1];
+      }
+      if (delim[i] == delim[k]) {
+        k++;
+      }
+      failure[i] = k;
+    }
+    return failure;
+  }
+
   /**
    * Flip the parser into fixed size mode, where the record size is specified by {@code size} in bytes.
    * <p>
@@ -189,10 +209,10 @@ public class RecordParserImpl implements RecordParser {
           }
           if (next == -1) {
             if (streamEnded) {
-              if (buff.length() == 0) {
+              if (length() == 0) {
                 break;
               }
-              next = buff.length();
+              next = length();
             } else {
               ReadStream<Buffer> s = stream;
               if (s != null) {
@@ -207,7 +227,7 @@ public class RecordParserImpl implements RecordParser {
           if (demand != Long.MAX_VALUE) {
             demand--;
           }
-          Buffer event = buff.getBuffer(start, next);
+          Buffer event = record(start, next);
           start = pos;
           Handler<Buffer> handler = eventHandler;
           if (handler != null) {
@@ -225,12 +245,19 @@ public class RecordParserImpl implements RecordParser {
           break;
         }
       } while (true);
-      int len = buff.length();
-      if (start == len) {
-        buff = EMPTY_BUFFER;
-      } else if (start > 0) {
-        buff = buff.getBuffer(start, len);
+      int carryLen = carry.length();
+      if (start == length()) {
+        carry = EMPTY_BUFFER;
+      } else if (start < carryLen) {
+        if (start > 0) {
+          carry = carry.getBuffer(start, carryLen);
+        }
+        carry.appendBuffer(chunk);
+      } else {
+        // Only the data of the record spanning the next chunk is copied
+        carry = chunk.getBuffer(start - carryLen, chunk.length());
       }
+      chunk = EMPTY_BUFFER;
       pos -= start;
       start = 0;
       if (streamEnded) {
@@ -242,27 +269,80 @@ public class RecordParserImpl implements RecordParser {
   }
 
   private int parseDelimited() {
-    int len = buff.length();
-    for (; pos < len; pos++) {
-      if (buff.getByte(pos) == delim[delimPos]) {
-        delimPos++;
-        if (delimPos == delim.length) {
-          pos++;
-          delimPos = 0;
-          return pos - delim.length;
+    int carryLen = carry.length();
+    if (pos < carryLen) {
+      int end = scan(carry, pos);
+      if (end != -1) {
+        pos = end;
+        return pos - delim.length;
+      }
+      pos = carryLen;
+    }
+    int chunkLen = chunk.length();
+    int end = scan(chunk, pos - carryLen);
+    if (end == -1) {
+      pos = carryLen + chunkLen;
+      return -1;
+    }
+    pos = carryLen + end;
+    return pos - delim.length;
+  }
+
+  /**
+   * Scan {@code buffer} from {@code from} to its end for the end of the delimiter, the state of the match is kept
+   * in {@link #delimPos} so a delimiter can span buffers.
+   *
+   * @return the position after the delimiter or {@code -1}
+   */
+  private int scan(Buffer buffer, int from) {
+    int to = buffer.length();
+    int i = from;
+    while (i < to) {
+      if (delimPos == 0) {
+        i = buffer.indexOf(delim[0], i);
+        if (i == -1) {
+          return -1;
         }
+        i++;
+        delimPos = 1;
       } else {
-        if (delimPos > 0) {
-          pos -= delimPos;
-          delimPos = 0;
+        byte b = buffer.getByte(i++);
+        int k = delimPos;
+        while (k > 0 && b != delim[k]) {
+          k = delimFailure[k - 1];
         }
+        if (b == delim[k]) {
+          k++;
+        }
+        delimPos = k;
+      }
+      if (delimPos == delim.length) {
+        delimPos = 0;
+        return i;
       }
     }
     return -1;
   }
 
+  private Buffer record(int from, int to) {
+    int carryLen = carry.length();
+    if (to <= carryLen) {
+      return carry.getBuffer(from, to);
+    } else if (from >= carryLen) {
+      return chunk.getBuffer(from - carryLen, to - carryLen);
+    } else {
+      return Buffer.buffer(to - from)
+        .appendBuffer(carry, from, carryLen - from)
+        .appendBuffer(chunk, 0, to - carryLen);
+    }
+  }
+
+  private int length() {
+    return carry.length() + chunk.length();
+  }
+
   private int parseFixed() {
-    int len = buff.length();
+    int len = length();
     if (len - start >= recordSize) {
       int end = start + recordSize;
       pos = end;
@@ -277,13 +357,13 @@ public class RecordParserImpl implements RecordParser {
    * @param buffer  a chunk of data
    */
   public void handle(Buffer buffer) {
-    if (buff.length() == 0) {
-      buff = buffer;
-    } else {
-      buff.appendBuffer(buffer);
+    if (chunk.length() > 0) {
+      // Parsing is in progress, the positions remain valid when the chunk moves to the carry
+      carry = carry.length() == 0 ? Buffer.buffer(chunk.length()).appendBuffer(chunk) : carry.appendBuffer(chunk);
     }
+    chunk = buffer;
     handleParsing();
-    if (buff != null && maxRecordSize > 0 && buff.length() > maxRecordSize) {
+    if (maxRecordSize > 0 && carry.length() > maxRecordSize) {
       IllegalStateException ex = new IllegalStateException("The current record is too long");
       if (exceptionHandler != null) {
         exceptionHandler.handle(ex);
@@ -46,6 +46,8 @@ public interface ClusterManager {
    * <p>
    * Implementations must signal the provided {@code nodeSelector} when messaging handler registrations are added or removed
    * by sending a {@link RegistrationUpdateEvent} with {@link NodeSelector#registrationsUpdated(RegistrationUpdateEvent)}.
+   * When {@link NodeSelector#acceptsRegistrationDeltas()} returns {@code true}, implementations can send events
+   * created with {@link RegistrationUpdateEvent#delta} carrying only the registrations added or removed.
    *
    * @param vertx        the Vert.x instance
    * @param nodeSelector the {@link NodeSelector} that must receive {@link RegistrationUpdateEvent}.
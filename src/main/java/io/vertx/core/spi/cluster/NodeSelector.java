@@ -58,6 +58,19 @@ public interface NodeSelector {
    */
   void registrationsUpdated(RegistrationUpdateEvent event);
 
+  /**
+   * Whether this selector accepts {@link RegistrationUpdateEvent#isDelta() delta} events carrying only the
+   * registrations added or removed, instead of the whole list of registrations of an address.
+   * <p>
+   * A {@link ClusterManager} may send delta events only when this returns {@code true}. Cluster managers are not
+   * required to send delta events, so a selector accepting them must still handle full events.
+   *
+   * @return {@code false} by default
+   */
+  default boolean acceptsRegistrationDeltas() {
+    return false;
+  }
+
   /**
    * Invoked by the {@link ClusterManager} when some handler registrations have been lost.
    */
@@ -23,10 +23,35 @@ public class RegistrationUpdateEvent {
 
   private final String address;
   private final List<RegistrationInfo> registrations;
+  private final List<RegistrationInfo> added;
+  private final List<RegistrationInfo> removed;
 
   public RegistrationUpdateEvent(String address, List<RegistrationInfo> registrations) {
     this.address = address;
     this.registrations = registrations == null ? Collections.emptyList() : registrations;
+    this.added = Collections.emptyList();
+    this.removed = Collections.emptyList();
+  }
+
+  private RegistrationUpdateEvent(String address, List<RegistrationInfo> added, List<RegistrationInfo> removed) {
+    this.address = address;
+    this.registrations = null;
+    this.added = added == null ? Collections.emptyList() : added;
+    this.removed = removed == null ? Collections.emptyList() : removed;
+  }
+
+  /**
+   * Create an event carrying only the changes of the messaging handler registrations.
+   * <p>
+   * Such events must be sent only to a {@link NodeSelector} accepting them, see {@link NodeSelector#acceptsRegistrationDeltas()}.
+   *
+   * @param address the address
+   * @param added the registrations added
+   * @param removed the registrations removed
+   * @return the event
+   */
+  public static RegistrationUpdateEvent delta(String address, List<RegistrationInfo> added, List<RegistrationInfo> removed) {
+    return new RegistrationUpdateEvent(address, added, removed);
   }
 
   /**
@@ -37,14 +62,42 @@ public class RegistrationUpdateEvent {
   }
 
   /**
-   * @return the new state of messaging handler registrations
+   * @return the new state of messaging handler registrations, or {@code null} when this event is a delta
    */
   public List<RegistrationInfo> registrations() {
     return registrations;
   }
 
+  /**
+   * @return whether this event carries only the changes of the messaging handler registrations
+   */
+  public boolean isDelta() {
+    return registrations == null;
+  }
+
+  /**
+   * @return the messaging handler registrations added, empty when this event is not a delta
+   */
+  public List<RegistrationInfo> added() {
+    return added;
+  }
+
+  /**
+   * @return the messaging handler registrations removed, empty when this event is not a delta
+   */
+  public List<RegistrationInfo> removed() {
+    return removed;
+  }
+
   @Override
   public String toString() {
+    if (isDelta()) {
+      return "RegistrationUpdateEvent{" +
+        "address='" + address + '\'' +
+        ", added=" + added +
+        ", removed=" + removed +
+        '}';
+    }
     return "RegistrationUpdateEvent{" +
       "address='" + address + '\'' +
       ", registrations=" + registrations +
@@ -54,7 +54,16 @@ public class DefaultNodeSelector implements NodeSelector {
 
   @Override
   public void registrationsUpdated(RegistrationUpdateEvent event) {
-    selectors.dataReceived(event.address(), event.registrations());
+    if (event.isDelta()) {
+      selectors.deltaReceived(event.address(), event.added(), event.removed());
+    } else {
+      selectors.dataReceived(event.address(), event.registrations());
+    }
+  }
+
+  @Override
+  public boolean acceptsRegistrationDeltas() {
+    return true;
   }
 
   @Override
@@ -0,0 +1,75 @@
+/*
+ * Copyright (c) 2011-2019 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.core.spi.cluster.impl.selector;
+
+import io.vertx.core.impl.utils.ConcurrentCyclicSet;
+import io.vertx.core.spi.cluster.RegistrationInfo;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A selector updated in place when registrations are added or removed, in amortized constant time.
+ * <p>
+ * Sending cycles over the registrations, so a node is selected as many times as it has registrations like
+ * {@link WeightedRoundRobinSelector}. Publishing uses the set of the nodes having at least one registration.
+ * <p>
+ * The selection is lock-free, the modifications must be serialized.
+ */
+class MutableRoundRobinSelector implements RoundRobinSelector {
+
+  private final ConcurrentCyclicSet<RegistrationInfo> registrations = new ConcurrentCyclicSet<>();
+  private final ConcurrentCyclicSet<String> nodeIds = new ConcurrentCyclicSet<>();
+  // The number of registrations of each node, only accessed by modifications
+  private final Map<String, Integer> counts = new HashMap<>();
+
+  MutableRoundRobinSelector(List<RegistrationInfo> registrations) {
+    for (RegistrationInfo registration : registrations) {
+      add(registration);
+    }
+  }
+
+  void add(RegistrationInfo registration) {
+    if (registrations.add(registration)) {
+      String nodeId = registration.nodeId();
+      if (counts.merge(nodeId, 1, Integer::sum) == 1) {
+        nodeIds.add(nodeId);
+      }
+    }
+  }
+
+  void remove(RegistrationInfo registration) {
+    if (registrations.remove(registration)) {
+      String nodeId = registration.nodeId();
+      if (counts.merge(nodeId, -1, Integer::sum) == 0) {
+        counts.remove(nodeId);
+        nodeIds.remove(nodeId);
+      }
+    }
+  }
+
+  boolean isEmpty() {
+    return registrations.size() == 0;
+  }
+
+  @Override
+  public String selectForSend() {
+    RegistrationInfo registration = registrations.next();
+    return registration != null ? registration.nodeId() : null;
+  }
+
+  @Override
+  public Iterable<String> selectForPublish() {
+    return nodeIds;
+  }
+}
@@ -12,8 +12,10 @@
 package io.vertx.core.spi.cluster.impl.selector;
 
 import io.vertx.core.Promise;
+import io.vertx.core.spi.cluster.RegistrationInfo;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -26,41 +28,90 @@ class SelectorEntry {
   final RoundRobinSelector selector;
   final Promise<RoundRobinSelector> selectorPromise;
   final int counter;
+  // The registrations of an immutable selector, a mutable selector is created from them for the first delta
+  private final List<RegistrationInfo> registrations;
+  // The deltas received while the entry is not ready, in order
+  private final List<Delta> deltas;
 
   SelectorEntry() {
     selector = null;
     selectorPromise = Promise.promise();
     counter = 0;
+    registrations = null;
+    deltas = Collections.emptyList();
   }
 
-  private SelectorEntry(RoundRobinSelector selector, Promise<RoundRobinSelector> selectorPromise, int counter) {
+  private SelectorEntry(RoundRobinSelector selector, Promise<RoundRobinSelector> selectorPromise, int counter, List<RegistrationInfo> registrations, List<Delta> deltas) {
     this.selector = selector;
     this.selectorPromise = selectorPromise;
     this.counter = counter;
+    this.registrations = registrations;
+    this.deltas = deltas;
   }
 
   SelectorEntry increment() {
-    return new SelectorEntry(null, selectorPromise, counter + 1);
+    return new SelectorEntry(null, selectorPromise, counter + 1, null, deltas);
   }
 
-  SelectorEntry data(List<String> nodeIds) {
-    if (nodeIds == null || nodeIds.isEmpty()) {
+  /**
+   * Buffer a delta received while the entry is not ready, it is applied to the registrations the entry is
+   * initialized with.
+   *
+   * @return the entry buffering the delta
+   */
+  SelectorEntry buffer(List<RegistrationInfo> added, List<RegistrationInfo> removed) {
+    List<Delta> list = new ArrayList<>(deltas.size() + 1);
+    list.addAll(deltas);
+    list.add(new Delta(added, removed));
+    return new SelectorEntry(null, selectorPromise, counter, null, list);
+  }
+
+  SelectorEntry data(List<RegistrationInfo> registrations) {
+    if (!deltas.isEmpty()) {
+      // The registrations might have been read before or after a buffered delta, applying the deltas in order
+      // gives the current registrations either way since adding or removing a registration twice has no effect
+      MutableRoundRobinSelector mutable = new MutableRoundRobinSelector(registrations != null ? registrations : Collections.emptyList());
+      for (Delta delta : deltas) {
+        delta.apply(mutable);
+      }
+      return mutable.isEmpty() ? null : new SelectorEntry(mutable, selectorPromise, counter, null, Collections.emptyList());
+    }
+    if (registrations == null || registrations.isEmpty()) {
       return null;
     }
-    Map<String, Integer> weights = computeWeights(nodeIds);
+    Map<String, Integer> weights = computeWeights(registrations);
     RoundRobinSelector selector;
     if (isEvenlyDistributed(weights)) {
       selector = new SimpleRoundRobinSelector(new ArrayList<>(weights.keySet()));
     } else {
       selector = new WeightedRoundRobinSelector(weights);
     }
-    return new SelectorEntry(selector, selectorPromise, counter);
+    return new SelectorEntry(selector, selectorPromise, counter, registrations, Collections.emptyList());
+  }
+
+  /**
+   * Apply a delta to the selector of a ready entry, the calls must be serialized.
+   *
+   * @return the entry or {@code null} when no registration remains
+   */
+  SelectorEntry delta(List<RegistrationInfo> added, List<RegistrationInfo> removed) {
+    SelectorEntry entry;
+    MutableRoundRobinSelector mutable;
+    if (selector instanceof MutableRoundRobinSelector) {
+      entry = this;
+      mutable = (MutableRoundRobinSelector) selector;
+    } else {
+      mutable = new MutableRoundRobinSelector(registrations);
+      entry = new SelectorEntry(mutable, selectorPromise, counter, null, Collections.emptyList());
+    }
+    new Delta(added, removed).apply(mutable);
+    return mutable.isEmpty() ? null : entry;
   }
 
-  private Map<String, Integer> computeWeights(List<String> nodeIds) {
+  private Map<String, Integer> computeWeights(List<RegistrationInfo> registrations) {
     Map<String, Integer> weights = new HashMap<>();
-    for (String nodeId : nodeIds) {
-      weights.merge(nodeId, 1, Math::addExact);
+    for (RegistrationInfo registration : registrations) {
+      weights.merge(registration.nodeId(), 1, Math::addExact);
     }
     return weights;
   }
@@ -76,4 +127,24 @@ class SelectorEntry {
   boolean isNotReady() {
     return selector == null;
   }
+
+  private static class Delta {
+
+    final List<RegistrationInfo> added;
+    final List<RegistrationInfo> removed;
+
+    Delta(List<RegistrationInfo> added, List<RegistrationInfo> removed) {
+      this.added = added;
+      this.removed = removed;
+    }
+
+    void apply(MutableRoundRobinSelector selector) {
+      for (RegistrationInfo registration : removed) {
+        selector.remove(registration);
+      }
+      for (RegistrationInfo registration : added) {
+        selector.add(registration);
+      }
+    }
+  }
 }
@@ -73,7 +73,7 @@ public class Selectors {
   }
 
   public void dataReceived(String address, List<RegistrationInfo> registrations) {
-    List<String> accessible = computeAccessible(registrations);
+    List<RegistrationInfo> accessible = computeAccessible(registrations);
     while (true) {
       SelectorEntry previous = map.get(address);
       if (previous == null) {
@@ -98,13 +98,27 @@ public class Selectors {
     }
   }
 
-  private List<String> computeAccessible(List<RegistrationInfo> registrations) {
+  /**
+   * Apply the registrations added or removed to the selector of {@code address}, the selector is updated in place.
+   * <p>
+   * A delta received while the registrations of {@code address} are being initialized is buffered and applied to the
+   * initial registrations, since they might have been read before the delta.
+   */
+  public void deltaReceived(String address, List<RegistrationInfo> added, List<RegistrationInfo> removed) {
+    List<RegistrationInfo> accessibleAdded = computeAccessible(added);
+    List<RegistrationInfo> accessibleRemoved = computeAccessible(removed);
+    // The entry is locked while the selector is updated
+    map.computeIfPresent(address, (addr, entry) -> {
+      return entry.isNotReady() ? entry.buffer(accessibleAdded, accessibleRemoved) : entry.delta(accessibleAdded, accessibleRemoved);
+    });
+  }
+
+  private List<RegistrationInfo> computeAccessible(List<RegistrationInfo> registrations) {
     if (registrations == null || registrations.isEmpty()) {
       return Collections.emptyList();
     }
     return registrations.stream()
       .filter(this::isAccessible)
-      .map(RegistrationInfo::nodeId)
       .collect(toList());
   }
 
@@ -62,6 +62,19 @@ public interface JsonCodec {
    */
   Buffer toBuffer(Object object, boolean pretty) throws EncodeException;
 
+  /**
+   * Like {@link #toBuffer(Object, boolean)} with the expected size of the encoding, the buffer is allocated with
+   * this capacity so it does not grow while encoding.
+   *
+   * @param object the object to encode
+   * @param pretty {@code true} to format the json prettily
+   * @param sizeHint the expected size in bytes, {@code 0} lets the codec estimate it
+   * @return the json encoded buffer
+   */
+  default Buffer toBuffer(Object object, boolean pretty, int sizeHint) throws EncodeException {
+    return toBuffer(object, pretty);
+  }
+
   /**
    * Like {@link #toString(Object)} but with a json {@link Buffer}
    */
@@ -0,0 +1,113 @@
+/*
+ * Copyright (c) 2011-2019 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.benchmarks;
+
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.buffer.BufferReader;
+import io.vertx.core.buffer.BufferWriter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Compares the usual {@code getXXX}/{@code appendXXX} idioms of protocol codecs with the reader, the writer
+ * and {@code indexOf}.
+ */
+@State(Scope.Thread)
+public class BufferBenchmark extends BenchmarkBase {
+
+  private static final int RECORDS = 256;
+  private static final String NAME = "io.vertx.core.eventbus.address";
+
+  private Buffer records;
+  private Buffer headers;
+  private Buffer crlfcrlf;
+
+  @Setup
+  public void setup() {
+    records = Buffer.buffer();
+    BufferWriter writer = records.writer();
+    for (int i = 0;i < RECORDS;i++) {
+      writer.writeInt(i).writeLong(i).writeInt(NAME.length()).writeString(NAME);
+    }
+    headers = Buffer.buffer();
+    for (int i = 0;i < 32;i++) {
+      headers.appendString("x-header-" + i + ": some-value-" + i + "\r\n");
+    }
+    headers.appendString("\r\n");
+    crlfcrlf = Buffer.buffer("\r\n\r\n");
+  }
+
+  @Benchmark
+  public void readGetBytes(Blackhole blackhole) {
+    Buffer buff = records;
+    int pos = 0;
+    for (int i = 0;i < RECORDS;i++) {
+      blackhole.consume(buff.getInt(pos));
+      blackhole.consume(buff.getLong(pos + 4));
+      int len = buff.getInt(pos + 12);
+      pos += 16;
+      blackhole.consume(new String(buff.getBytes(pos, pos + len), StandardCharsets.UTF_8));
+      pos += len;
+    }
+  }
+
+  @Benchmark
+  public void readReader(Blackhole blackhole) {
+    BufferReader reader = records.reader();
+    for (int i = 0;i < RECORDS;i++) {
+      blackhole.consume(reader.readInt());
+      blackhole.consume(reader.readLong());
+      blackhole.consume(reader.readString(reader.readInt()));
+    }
+  }
+
+  @Benchmark
+  public Buffer writeAppend() {
+    Buffer buff = Buffer.buffer();
+    for (int i = 0;i < RECORDS;i++) {
+      byte[] bytes = NAME.getBytes(StandardCharsets.UTF_8);
+      buff.appendInt(i).appendLong(i).appendInt(bytes.length).appendBytes(bytes);
+    }
+    return buff;
+  }
+
+  @Benchmark
+  public Buffer writeWriter() {
+    BufferWriter writer = Buffer.buffer().writer();
+    for (int i = 0;i < RECORDS;i++) {
+      writer.writeInt(i).writeLong(i).writeInt(NAME.length()).writeString(NAME);
+    }
+    return writer.buffer();
+  }
+
+  @Benchmark
+  public int searchGetByte() {
+    Buffer buff = headers;
+    int len = buff.length() - 3;
+    for (int i = 0;i < len;i++) {
+      if (buff.getByte(i) == '\r' && buff.getByte(i + 1) == '\n' && buff.getByte(i + 2) == '\r' && buff.getByte(i + 3) == '\n') {
+        return i;
+      }
+    }
+    return -1;
+  }
+
+  @Benchmark
+  public int searchIndexOf() {
+    return headers.indexOf(crlfcrlf);
+  }
+}
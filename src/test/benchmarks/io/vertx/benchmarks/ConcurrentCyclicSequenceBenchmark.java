@@ -11,6 +11,7 @@
 package io.vertx.benchmarks;
 
 import io.vertx.core.impl.utils.ConcurrentCyclicSequence;
+import io.vertx.core.impl.utils.ConcurrentCyclicSet;
 import org.openjdk.jmh.annotations.*;
 
 import java.util.stream.IntStream;
@@ -24,6 +25,7 @@ public class ConcurrentCyclicSequenceBenchmark extends BenchmarkBase {
   private ConcurrentCyclicSequence<String> seq4;
   private ConcurrentCyclicSequence<String> seq8;
   private ConcurrentCyclicSequence<String> seq16;
+  private ConcurrentCyclicSet<String> set16;
 
   private static ConcurrentCyclicSequence<String> gen(int size) {
     return new ConcurrentCyclicSequence<>(IntStream.range(0, size + 1).mapToObj(i -> "" + i).toArray(String[]::new));
@@ -36,6 +38,10 @@ public class ConcurrentCyclicSequenceBenchmark extends BenchmarkBase {
     seq4 = gen(4);
     seq8 = gen(8);
     seq16 = gen(16);
+    set16 = new ConcurrentCyclicSet<>();
+    for (String s : seq16) {
+      set16.add(s);
+    }
   }
 
   @Benchmark
@@ -62,4 +68,52 @@ public class ConcurrentCyclicSequenceBenchmark extends BenchmarkBase {
   public String size16() {
     return seq16.next();
   }
+
+  @Benchmark
+  public String setSize16() {
+    return set16.next();
+  }
+
+  /**
+   * Registers then unregisters {@code size} consumers at the same address.
+   */
+  @State(Scope.Thread)
+  public static class RegistrationStorm {
+
+    @Param({"1000", "10000", "50000"})
+    public int size;
+
+    private String[] elements;
+
+    @Setup
+    public void setup() {
+      elements = IntStream.range(0, size).mapToObj(i -> "" + i).toArray(String[]::new);
+    }
+  }
+
+  @Benchmark
+  @Threads(1)
+  public int registrationStormSequence(RegistrationStorm storm) {
+    ConcurrentCyclicSequence<String> seq = new ConcurrentCyclicSequence<>();
+    for (String element : storm.elements) {
+      seq = seq.add(element);
+    }
+    for (String element : storm.elements) {
+      seq = seq.remove(element);
+    }
+    return seq.size();
+  }
+
+  @Benchmark
+  @Threads(1)
+  public int registrationStormSet(RegistrationStorm storm) {
+    ConcurrentCyclicSet<String> set = new ConcurrentCyclicSet<>();
+    for (String element : storm.elements) {
+      set.add(element);
+    }
+    for (String element : storm.elements) {
+      set.remove(element);
+    }
+    return set.size();
+  }
 }
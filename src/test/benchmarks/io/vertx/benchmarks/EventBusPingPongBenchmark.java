@@ -0,0 +1,86 @@
+/*
+ * Copyright (c) 2011-2019 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.benchmarks;
+
+import io.vertx.core.Context;
+import io.vertx.core.Vertx;
+import io.vertx.core.eventbus.DeliveryOptions;
+import io.vertx.core.eventbus.EventBus;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+
+/**
+ * Ping-pong between two consumers sharing the same event loop context.
+ */
+@State(Scope.Thread)
+public class EventBusPingPongBenchmark extends BenchmarkBase {
+
+  private static final int EXCHANGES = 1000;
+
+  @Param({"false", "true"})
+  public boolean inline;
+
+  private Vertx vertx;
+  private Context context;
+  private EventBus eventBus;
+  private DeliveryOptions options;
+  private int remaining;
+  private CompletableFuture<Void> done;
+
+  @Setup
+  public void setup() throws Exception {
+    vertx = Vertx.vertx();
+    eventBus = vertx.eventBus();
+    context = vertx.getOrCreateContext();
+    options = new DeliveryOptions().setInlineDelivery(inline);
+    CountDownLatch latch = new CountDownLatch(1);
+    context.runOnContext(v -> {
+      eventBus.<Integer>consumer("ping", msg -> eventBus.send("pong", msg.body(), options));
+      eventBus.<Integer>consumer("pong", msg -> {
+        if (--remaining > 0) {
+          eventBus.send("ping", msg.body(), options);
+        } else {
+          done.complete(null);
+        }
+      });
+      latch.countDown();
+    });
+    latch.await();
+  }
+
+  @TearDown
+  public void tearDown() throws Exception {
+    CountDownLatch latch = new CountDownLatch(1);
+    vertx.close(ar -> latch.countDown());
+    latch.await();
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(EXCHANGES)
+  public void pingPong() {
+    CompletableFuture<Void> fut = new CompletableFuture<>();
+    context.runOnContext(v -> {
+      done = fut;
+      remaining = EXCHANGES;
+      eventBus.send("ping", 0, options);
+    });
+    fut.join();
+  }
+}
@@ -50,6 +50,7 @@ public class HeadersEncodeBenchmark extends BenchmarkBase {
   private HttpHeaders emptyHeaders;
   private HttpHeaders nettySmallHeaders;
   private HttpHeaders vertxSmallHeaders;
+  private HttpHeaders vertxPreEncodedSmallHeaders;
 
   @Setup
   public void setup() {
@@ -60,6 +61,7 @@ public class HeadersEncodeBenchmark extends BenchmarkBase {
     vertxSmallHeaders = HeadersMultiMap.httpHeaders();
     setBaseHeaders(nettySmallHeaders);
     setBaseHeaders(vertxSmallHeaders);
+    vertxPreEncodedSmallHeaders = HeadersMultiMap.preEncoded((HeadersMultiMap) vertxSmallHeaders);
   }
 
   @Benchmark
@@ -82,4 +84,11 @@ public class HeadersEncodeBenchmark extends BenchmarkBase {
     encoder.encodeHeaders(vertxSmallHeaders, byteBuf);
     consume(byteBuf);
   }
+
+  @Benchmark
+  public void vertxPreEncodedSmall() throws Exception {
+    byteBuf.resetWriterIndex();
+    encoder.encodeHeaders(vertxPreEncodedSmallHeaders, byteBuf);
+    consume(byteBuf);
+  }
 }
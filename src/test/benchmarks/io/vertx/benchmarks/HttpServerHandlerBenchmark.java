@@ -66,6 +66,9 @@ public class HttpServerHandlerBenchmark extends BenchmarkBase {
   ByteBuf GET;
   int readerIndex;
   int writeIndex;
+  ByteBuf GET_WITH_HEADERS;
+  int withHeadersReaderIndex;
+  int withHeadersWriteIndex;
   VertxInternal vertx;
   EmbeddedChannel vertxChannel;
   EmbeddedChannel nettyChannel;
@@ -295,6 +298,18 @@ public class HttpServerHandlerBenchmark extends BenchmarkBase {
         "\r\n").getBytes()));
     readerIndex = GET.readerIndex();
     writeIndex = GET.writerIndex();
+
+    GET_WITH_HEADERS = Unpooled.unreleasableBuffer(Unpooled.copiedBuffer((
+      "GET /path/to/resource?foo=bar HTTP/1.1\r\n" +
+        "Host: localhost:8080\r\n" +
+        "User-Agent: Mozilla/5.0 (X11; Linux x86_64; rv:68.0) Gecko/20100101 Firefox/68.0\r\n" +
+        "Accept: text/html,application/xhtml+xml,application/xml;q=0.9,*/*;q=0.8\r\n" +
+        "Accept-Language: en-US,en;q=0.5\r\n" +
+        "Accept-Encoding: gzip, deflate\r\n" +
+        "Connection: keep-alive\r\n" +
+        "\r\n").getBytes()));
+    withHeadersReaderIndex = GET_WITH_HEADERS.readerIndex();
+    withHeadersWriteIndex = GET_WITH_HEADERS.writerIndex();
   }
 
   @Benchmark
@@ -319,6 +334,20 @@ public class HttpServerHandlerBenchmark extends BenchmarkBase {
     consume(result);
   }
 
+  @Fork(value = 1, jvmArgsAppend = {
+      "-Dvertx.threadChecks=false",
+      "-Dvertx.disableContextTimings=true",
+      "-Dvertx.disableTCCL=true",
+      "-Dvertx.disableHttpHeadersValidation=true",
+  })
+  @Benchmark
+  public void vertxOptWithHeaders() {
+    GET_WITH_HEADERS.setIndex(withHeadersReaderIndex, withHeadersWriteIndex);
+    vertxChannel.writeInbound(GET_WITH_HEADERS);
+    ByteBuf result = (ByteBuf) vertxChannel.outboundMessages().poll();
+    consume(result);
+  }
+
   @Benchmark
   public void netty() {
     GET.setIndex(readerIndex, writeIndex);
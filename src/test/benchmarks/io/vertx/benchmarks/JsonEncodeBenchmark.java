@@ -36,6 +36,7 @@ public class JsonEncodeBenchmark extends BenchmarkBase {
   private JsonObject deep;
   private JsonCodec jacksonCodec;
   private JsonCodec databindCodec;
+  private int wideSize;
 
   @Setup
   public void setup() {
@@ -45,6 +46,7 @@ public class JsonEncodeBenchmark extends BenchmarkBase {
     deep = loadJson(classLoader.getResource("deep_bench.json"));
     jacksonCodec = new JacksonCodec();
     databindCodec = new DatabindCodec();
+    wideSize = wide.toBuffer().length();
   }
 
   private JsonObject loadJson(URL url) {
@@ -123,6 +125,16 @@ public class JsonEncodeBenchmark extends BenchmarkBase {
     bufferDatabind(wide, blackhole);
   }
 
+  @Benchmark
+  public void wideBufferJacksonSizeHint(Blackhole blackhole) throws Exception {
+    blackhole.consume(jacksonCodec.toBuffer(wide, false, wideSize));
+  }
+
+  @Benchmark
+  public void wideBufferDatabindSizeHint(Blackhole blackhole) throws Exception {
+    blackhole.consume(databindCodec.toBuffer(wide, false, wideSize));
+  }
+
   private void bufferJackson(JsonObject jsonObject, Blackhole blackhole) throws Exception {
     blackhole.consume(jsonObject.toBuffer());
   }
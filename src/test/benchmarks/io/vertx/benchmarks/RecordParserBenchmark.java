@@ -0,0 +1,85 @@
+/*
+ * Copyright (c) 2011-2019 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.benchmarks;
+
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.parsetools.RecordParser;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Parses 1MB of log lines or CSV rows received in chunks of {@code chunkSize} bytes.
+ */
+@State(Scope.Thread)
+public class RecordParserBenchmark extends BenchmarkBase {
+
+  private static final int SIZE = 1024 * 1024;
+
+  @Param({"1024", "16384", "65536"})
+  public int chunkSize;
+
+  private List<Buffer> logChunks;
+  private List<Buffer> csvChunks;
+
+  @Setup
+  public void setup() {
+    Random random = new Random(0);
+    Buffer log = Buffer.buffer(SIZE);
+    while (log.length() < SIZE) {
+      log.appendString("2019-01-01T00:00:00.000Z INFO [io.vertx.core.impl.VertxImpl] request " + random.nextInt() + " handled in " + random.nextInt(1000) + "ms\n");
+    }
+    Buffer csv = Buffer.buffer(SIZE);
+    while (csv.length() < SIZE) {
+      csv.appendString(random.nextInt() + "," + random.nextLong() + ",\"" + Long.toHexString(random.nextLong()) + "\"," + random.nextDouble() + "\r\n");
+    }
+    logChunks = chunks(log);
+    csvChunks = chunks(csv);
+  }
+
+  private List<Buffer> chunks(Buffer data) {
+    List<Buffer> chunks = new ArrayList<>();
+    for (int i = 0;i < data.length();i += chunkSize) {
+      chunks.add(data.getBuffer(i, Math.min(data.length(), i + chunkSize)));
+    }
+    return chunks;
+  }
+
+  @Benchmark
+  public void logLines(Blackhole blackhole) {
+    parse(RecordParser.newDelimited("\n", blackhole::consume), logChunks);
+  }
+
+  @Benchmark
+  public void csvRows(Blackhole blackhole) {
+    parse(RecordParser.newDelimited("\r\n", blackhole::consume), csvChunks);
+  }
+
+  @Benchmark
+  public void singleRecord(Blackhole blackhole) {
+    // A single record spanning all the chunks
+    parse(RecordParser.newDelimited("\0", blackhole::consume), logChunks);
+  }
+
+  private void parse(RecordParser parser, List<Buffer> chunks) {
+    for (Buffer chunk : chunks) {
+      parser.handle(chunk);
+    }
+  }
+}
@@ -1138,4 +1138,173 @@ public class BufferTest {
     duplicate.release();
     assertEquals(1, duplicate.refCnt());
   }
+
+  @Test
+  public void testIndexOfByte() {
+    Buffer buff = Buffer.buffer("0123456789abcdef0123456789abcdef");
+    for (int i = 0;i < buff.length();i++) {
+      byte b = buff.getByte(i);
+      assertEquals(i % 16, buff.indexOf(b));
+      assertEquals(i, buff.indexOf(b, i));
+      assertEquals(i < 16 ? i + 16 : -1, buff.indexOf(b, i + 1));
+    }
+    assertEquals(-1, buff.indexOf((byte) 'z'));
+    assertEquals(0, buff.indexOf((byte) '0', -1));
+    assertEquals(-1, buff.indexOf((byte) '0', buff.length()));
+    Buffer padded = PADDED_BUFFER_FACTORY.apply("0123456789abcdef".getBytes());
+    assertEquals(15, padded.indexOf((byte) 'f'));
+    assertEquals(-1, padded.indexOf((byte) 0));
+    assertEquals(2, Buffer.buffer(new byte[] { 0, (byte) 0x80, (byte) 0xFF }).indexOf((byte) 0xFF));
+  }
+
+  @Test
+  public void testIndexOfBuffer() {
+    Buffer buff = Buffer.buffer("GET /index.html HTTP/1.1\r\nHost: localhost\r\n\r\n");
+    assertEquals(24, buff.indexOf(Buffer.buffer("\r\n")));
+    assertEquals(41, buff.indexOf(Buffer.buffer("\r\n"), 25));
+    assertEquals(41, buff.indexOf(Buffer.buffer("\r\n\r\n")));
+    assertEquals(-1, buff.indexOf(Buffer.buffer("\r\n\r\n\r\n")));
+    assertEquals(-1, buff.indexOf(Buffer.buffer("HTTP/2")));
+    assertEquals(0, buff.indexOf(Buffer.buffer()));
+    assertEquals(10, buff.indexOf(Buffer.buffer(), 10));
+    assertEquals(-1, buff.indexOf(Buffer.buffer(), buff.length() + 1));
+    assertEquals(2, Buffer.buffer("aaab").indexOf(Buffer.buffer("ab")));
+  }
+
+  @Test
+  public void testReadWrite() {
+    Buffer buff = Buffer.buffer();
+    buff.writer()
+      .writeByte((byte) -1)
+      .writeShort((short) 1234)
+      .writeShortLE((short) 1234)
+      .writeInt(123456)
+      .writeIntLE(123456)
+      .writeLong(123456789L)
+      .writeLongLE(123456789L)
+      .writeFloat(1.5f)
+      .writeDouble(2.5d)
+      .writeString("h\u00e9llo")
+      .writeBuffer(Buffer.buffer("world"));
+    assertEquals(1 + 2 + 2 + 4 + 4 + 8 + 8 + 4 + 8 + 6 + 5, buff.length());
+    assertEquals(1234, buff.getShortLE(3));
+    assertEquals(123456, buff.getIntLE(9));
+    BufferReader reader = buff.reader();
+    assertEquals(buff, reader.buffer());
+    assertEquals(-1, reader.readByte());
+    assertEquals(1234, reader.readShort());
+    assertEquals(1234, reader.readShortLE());
+    assertEquals(123456, reader.readInt());
+    assertEquals(123456, reader.readIntLE());
+    assertEquals(123456789L, reader.readLong());
+    assertEquals(123456789L, reader.readLongLE());
+    assertEquals(1.5f, reader.readFloat(), 0f);
+    assertEquals(2.5d, reader.readDouble(), 0d);
+    assertEquals(11, reader.remaining());
+    assertEquals("h\u00e9llo", reader.readString(6));
+    Buffer slice = reader.readSlice(5);
+    assertEquals("world", slice.toString());
+    assertEquals(0, reader.remaining());
+    slice.setByte(0, (byte) 'W');
+    assertEquals('W', buff.getByte(buff.length() - 5));
+    reader.position(0);
+    assertEquals(255, reader.readUnsignedByte());
+    assertEquals(1234, reader.readUnsignedShort());
+    reader.position(buff.length() - 5);
+    Buffer copy = reader.readBuffer(5);
+    copy.setByte(0, (byte) 'w');
+    assertEquals('W', buff.getByte(buff.length() - 5));
+  }
+
+  @Test
+  public void testReadUnsigned() {
+    Buffer buff = Buffer.buffer();
+    buff.writer().writeInt(-1).writeIntLE(-2).writeShortLE((short) -3);
+    BufferReader reader = buff.reader();
+    assertEquals(0xFFFFFFFFL, reader.readUnsignedInt());
+    assertEquals(0xFFFFFFFEL, reader.readUnsignedIntLE());
+    assertEquals(0xFFFD, reader.readUnsignedShortLE());
+  }
+
+  @Test
+  public void testReadOutOfBounds() {
+    BufferReader reader = Buffer.buffer(new byte[] { 1, 2, 3 }).reader();
+    assertIndexOutOfBoundsException(reader::readInt);
+    assertEquals(0, reader.position());
+    assertIndexOutOfBoundsException(() -> reader.readString(4));
+    assertIndexOutOfBoundsException(() -> reader.skip(-1));
+    assertEquals(0, reader.position());
+    assertEquals(0x0102, reader.readShort());
+    assertIndexOutOfBoundsException(reader::readShort);
+    assertEquals(2, reader.position());
+    assertIllegalArgumentException(() -> reader.position(4));
+    assertIllegalArgumentException(() -> reader.position(-1));
+  }
+
+  @Test
+  public void testReaderIndexOf() {
+    BufferReader reader = Buffer.buffer("key1=value1;key2=value2").reader();
+    int idx = reader.indexOf((byte) '=');
+    assertEquals("key1", reader.readString(idx - reader.position()));
+    reader.skip(1);
+    idx = reader.indexOf((byte) ';');
+    assertEquals("value1", reader.readString(idx - reader.position()));
+    reader.skip(1);
+    assertEquals(16, reader.indexOf(Buffer.buffer("=")));
+    assertEquals(-1, reader.indexOf((byte) ';'));
+  }
+
+  @Test
+  public void testVarInt() {
+    int[] values = { 0, 1, 127, 128, 255, 300, 16383, 16384, Integer.MAX_VALUE, -1, Integer.MIN_VALUE };
+    int[] lengths = { 1, 1, 1, 2, 2, 2, 2, 3, 5, 5, 5 };
+    for (int i = 0;i < values.length;i++) {
+      Buffer buff = Buffer.buffer();
+      buff.writer().writeVarInt(values[i]);
+      assertEquals(lengths[i], buff.length());
+      BufferReader reader = buff.reader();
+      assertEquals(values[i], reader.readVarInt());
+      assertEquals(0, reader.remaining());
+    }
+    assertEquals(Buffer.buffer(new byte[] { (byte) 0xAC, 0x02 }), Buffer.buffer().writer().writeVarInt(300).buffer());
+  }
+
+  @Test
+  public void testVarLong() {
+    long[] values = { 0, 127, 128, Integer.MAX_VALUE, Long.MAX_VALUE, -1, Long.MIN_VALUE };
+    int[] lengths = { 1, 1, 2, 5, 9, 10, 10 };
+    for (int i = 0;i < values.length;i++) {
+      Buffer buff = Buffer.buffer();
+      buff.writer().writeVarLong(values[i]);
+      assertEquals(lengths[i], buff.length());
+      BufferReader reader = buff.reader();
+      assertEquals(values[i], reader.readVarLong());
+      assertEquals(0, reader.remaining());
+    }
+  }
+
+  @Test
+  public void testMalformedVarInt() {
+    BufferReader truncated = Buffer.buffer(new byte[] { (byte) 0x80, (byte) 0x80 }).reader();
+    assertIndexOutOfBoundsException(truncated::readVarInt);
+    assertEquals(0, truncated.position());
+    BufferReader tooLong = Buffer.buffer(new byte[] { (byte) 0x80, (byte) 0x80, (byte) 0x80, (byte) 0x80, (byte) 0x80, 0 }).reader();
+    try {
+      tooLong.readVarInt();
+      fail();
+    } catch (IllegalStateException ignore) {
+    }
+    assertEquals(0, tooLong.position());
+  }
+
+  @Test
+  public void testAppendUtf8String() {
+    String s = "a\u00e9\u20ac\uD83D\uDE00";
+    Buffer buff = Buffer.buffer(Unpooled.buffer(0, 4));
+    buff.appendString(s);
+    assertEquals(s, buff.toString());
+    assertEquals(s.getBytes(StandardCharsets.UTF_8).length, buff.length());
+    Buffer other = Buffer.buffer("prefix").appendString(s, "UTF-8");
+    assertEquals("prefix" + s, other.toString());
+  }
 }
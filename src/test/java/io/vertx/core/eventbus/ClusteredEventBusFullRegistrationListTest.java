@@ -0,0 +1,26 @@
+/*
+ * Copyright (c) 2011-2019 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.core.eventbus;
+
+import io.vertx.core.spi.cluster.ClusterManager;
+import io.vertx.test.fakecluster.FakeClusterManager;
+
+/**
+ * Runs the clustered event bus tests with the registration updates sent as full registration lists instead of deltas.
+ */
+public class ClusteredEventBusFullRegistrationListTest extends ClusteredEventBusTest {
+
+  @Override
+  protected ClusterManager getClusterManager() {
+    return new FakeClusterManager().registrationDeltas(false);
+  }
+}
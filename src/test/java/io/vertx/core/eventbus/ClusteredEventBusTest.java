@@ -15,6 +15,7 @@ import io.vertx.core.Promise;
 import io.vertx.core.Vertx;
 import io.vertx.core.VertxOptions;
 import io.vertx.core.impl.VertxInternal;
+import io.vertx.core.json.JsonObject;
 import io.vertx.core.spi.cluster.NodeSelector;
 import io.vertx.core.spi.cluster.RegistrationUpdateEvent;
 import io.vertx.core.spi.cluster.WrappedClusterManager;
@@ -24,6 +25,8 @@ import io.vertx.test.tls.Cert;
 import org.junit.Test;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 import java.util.concurrent.ConcurrentLinkedDeque;
 import java.util.concurrent.CountDownLatch;
@@ -78,6 +81,22 @@ public class ClusteredEventBusTest extends ClusteredEventBusTestBase {
     await();
   }
 
+  @Test
+  public void testSendBatch() throws Exception {
+    startNodes(2);
+    List<Object> received = Collections.synchronizedList(new ArrayList<>());
+    vertices[1].eventBus().consumer(ADDRESS1, msg -> {
+      received.add(msg.body());
+      if (received.size() == 4) {
+        assertEquals(Arrays.asList("foo", 3, null, new JsonObject().put("bar", "juu")), received);
+        testComplete();
+      }
+    }).completionHandler(onSuccess(v -> {
+      vertices[0].eventBus().sendBatch(ADDRESS1, Arrays.asList("foo", 3, null, new JsonObject().put("bar", "juu")));
+    }));
+    await();
+  }
+
   @Test
   public void testDecoderSendAsymmetric() throws Exception {
     startNodes(2);
@@ -18,6 +18,8 @@ import io.vertx.core.impl.ConcurrentHashSet;
 import io.vertx.core.impl.ContextInternal;
 import io.vertx.core.impl.EventLoopContext;
 import io.vertx.core.impl.VertxInternal;
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
 import io.vertx.core.streams.Pump;
 import io.vertx.core.streams.ReadStream;
 import io.vertx.test.core.TestUtils;
@@ -29,8 +31,11 @@ import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.BiFunction;
 import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import static io.vertx.test.core.TestUtils.*;
 
@@ -1479,5 +1484,345 @@ public class LocalEventBusTest extends EventBusTestBase {
     producer.close(onSuccess(v -> testComplete()));
     await();
   }
-}
 
+  @Test
+  public void testSendFrozenJson() {
+    JsonObject obj = new JsonObject().put("foo", "bar").freeze();
+    JsonArray arr = new JsonArray().add("foo").freeze();
+    JsonObject mutable = new JsonObject().put("foo", "bar");
+    List<Object> received = Collections.synchronizedList(new ArrayList<>());
+    eb.consumer(ADDRESS1, msg -> {
+      received.add(msg.body());
+      if (received.size() == 3) {
+        assertSame(obj, received.get(0));
+        assertSame(arr, received.get(1));
+        assertNotSame(mutable, received.get(2));
+        assertEquals(mutable, received.get(2));
+        testComplete();
+      }
+    }).completionHandler(onSuccess(v -> {
+      eb.send(ADDRESS1, obj);
+      eb.send(ADDRESS1, arr);
+      eb.send(ADDRESS1, mutable);
+    }));
+    await();
+  }
+
+  @Test
+  public void testInlineDelivery() {
+    vertx.runOnContext(v1 -> {
+      AtomicInteger received = new AtomicInteger();
+      eb.<String>consumer(ADDRESS1, msg -> {
+        assertEquals("ping", msg.body());
+        received.incrementAndGet();
+      }).completionHandler(onSuccess(v2 -> {
+        eb.send(ADDRESS1, "ping", new DeliveryOptions().setInlineDelivery(true));
+        assertEquals(1, received.get());
+        eb.send(ADDRESS1, "ping");
+        assertEquals(1, received.get());
+        testComplete();
+      }));
+    });
+    await();
+  }
+
+  @Test
+  public void testInlineDeliveryIsNotReentrant() {
+    int num = 10;
+    DeliveryOptions options = new DeliveryOptions().setInlineDelivery(true);
+    vertx.runOnContext(v1 -> {
+      AtomicInteger depth = new AtomicInteger();
+      List<Integer> received = new ArrayList<>();
+      eb.<Integer>consumer(ADDRESS1, msg -> {
+        assertEquals(1, depth.incrementAndGet());
+        received.add(msg.body());
+        if (msg.body() < num) {
+          eb.send(ADDRESS1, msg.body() + 1, options);
+        } else {
+          assertEquals(Arrays.asList(1, 2, 3, 4, 5, 6, 7, 8, 9, 10), received);
+          testComplete();
+        }
+        depth.decrementAndGet();
+      }).completionHandler(onSuccess(v2 -> {
+        eb.send(ADDRESS1, 1, options);
+      }));
+    });
+    await();
+  }
+
+  @Test
+  public void testInlineDeliveryPreservesOrder() {
+    DeliveryOptions options = new DeliveryOptions().setInlineDelivery(true);
+    vertx.runOnContext(v1 -> {
+      List<String> received = new ArrayList<>();
+      eb.<String>consumer(ADDRESS1, msg -> {
+        received.add(msg.body());
+        if (received.size() == 3) {
+          assertEquals(Arrays.asList("1", "2", "3"), received);
+          testComplete();
+        }
+      }).completionHandler(onSuccess(v2 -> {
+        eb.send(ADDRESS1, "1");
+        eb.send(ADDRESS1, "2", options);
+        eb.send(ADDRESS1, "3", options);
+        assertEquals(Collections.emptyList(), received);
+      }));
+    });
+    await();
+  }
+
+  @Test
+  public void testReplyTimeoutsExpireInDeadlineOrder() {
+    eb.consumer(ADDRESS1, msg -> {
+      // Do not reply
+    });
+    List<Long> timeouts = Collections.synchronizedList(new ArrayList<>());
+    for (long timeout : new long[] { 300, 100, 200, 100 }) {
+      eb.request(ADDRESS1, "ping", new DeliveryOptions().setSendTimeout(timeout), onFailure(err -> {
+        assertEquals(ReplyFailure.TIMEOUT, ((ReplyException) err).failureType());
+        timeouts.add(timeout);
+        if (timeouts.size() == 4) {
+          assertEquals(Arrays.asList(100L, 100L, 200L, 300L), timeouts);
+          testComplete();
+        }
+      }));
+    }
+    await();
+  }
+
+  @Test
+  public void testReplyTimeoutAfterUndeployingTheRequester() {
+    eb.consumer(ADDRESS1, msg -> {
+      // Do not reply
+    });
+    // The verticle request arms the reply timer from the context of the deployment
+    vertx.deployVerticle(new AbstractVerticle() {
+      @Override
+      public void start() {
+        vertx.eventBus().request(ADDRESS1, "ping", new DeliveryOptions().setSendTimeout(500), ar -> {});
+      }
+    }, onSuccess(id -> {
+      vertx.undeploy(id, onSuccess(v -> {
+        eb.request(ADDRESS1, "ping", new DeliveryOptions().setSendTimeout(1000), onFailure(err -> {
+          assertEquals(ReplyFailure.TIMEOUT, ((ReplyException) err).failureType());
+          testComplete();
+        }));
+      }));
+    }));
+    await();
+  }
+
+  @Test
+  public void testReplyAfterTimeoutIsDiscarded() {
+    AtomicReference<Message<String>> request = new AtomicReference<>();
+    eb.<String>consumer(ADDRESS1, request::set);
+    eb.request(ADDRESS1, "ping", new DeliveryOptions().setSendTimeout(100), onFailure(err -> {
+      assertEquals(ReplyFailure.TIMEOUT, ((ReplyException) err).failureType());
+      request.get().replyAndRequest("pong", onFailure(err2 -> {
+        assertEquals(ReplyFailure.NO_HANDLERS, ((ReplyException) err2).failureType());
+        testComplete();
+      }));
+    }));
+    await();
+  }
+
+  @Test
+  public void testReplyToForgedTokenIsRejected() {
+    eb.<String>consumer(ADDRESS1, msg -> {
+      String address = msg.replyAddress();
+      int sep = address.lastIndexOf('.');
+      String forged = address.substring(0, sep + 1) + (address.endsWith("0") ? "1" : "0");
+      eb.request(forged, "forged", onFailure(err -> {
+        assertEquals(ReplyFailure.NO_HANDLERS, ((ReplyException) err).failureType());
+        msg.reply("pong");
+      }));
+    });
+    eb.request(ADDRESS1, "ping", onSuccess(reply -> {
+      assertEquals("pong", reply.body());
+      testComplete();
+    }));
+    await();
+  }
+
+  @Test
+  public void testSendBatch() {
+    List<Object> received = new ArrayList<>();
+    eb.consumer(ADDRESS1, msg -> {
+      assertNull(msg.replyAddress());
+      received.add(msg.body());
+      if (received.size() == 3) {
+        assertEquals(Arrays.asList("foo", 3, null), received);
+        testComplete();
+      }
+    }).completionHandler(onSuccess(v -> {
+      eb.sendBatch(ADDRESS1, Arrays.asList("foo", 3, null));
+    }));
+    await();
+  }
+
+  @Test
+  public void testSendBatchToPausedConsumer() {
+    MessageConsumerImpl<String> consumer = (MessageConsumerImpl<String>) eb.<String>consumer(ADDRESS1);
+    consumer.setMaxBufferedMessages(2);
+    List<String> discarded = new ArrayList<>();
+    consumer.discardHandler(msg -> discarded.add(msg.body()));
+    List<String> received = new ArrayList<>();
+    consumer.handler(msg -> {
+      received.add(msg.body());
+      if (received.size() == 2) {
+        // Like single messages, the newest messages of the batch are discarded
+        assertEquals(Arrays.asList("1", "2"), received);
+        assertEquals(Collections.singletonList("3"), discarded);
+        testComplete();
+      }
+    });
+    consumer.pause();
+    consumer.completionHandler(onSuccess(v -> {
+      eb.sendBatch(ADDRESS1, Arrays.asList("1", "2", "3"));
+      vertx.setTimer(20, id -> consumer.resume());
+    }));
+    await();
+  }
+
+  @Test
+  public void testBatchHandler() {
+    List<List<String>> batches = new ArrayList<>();
+    eb.<String>consumer(ADDRESS1).batchHandler(2, 100, batch -> {
+      batches.add(batch.stream().map(Message::body).collect(Collectors.toList()));
+      if (batches.size() == 3) {
+        assertEquals(Arrays.asList(Arrays.asList("1", "2"), Arrays.asList("3", "4"), Collections.singletonList("5")), batches);
+        testComplete();
+      }
+    }).completionHandler(onSuccess(v -> {
+      for (int i = 1;i <= 5;i++) {
+        eb.send(ADDRESS1, "" + i);
+      }
+    }));
+    await();
+  }
+
+  @Test
+  public void testBatchHandlerFlushesBeforeEnd() {
+    List<String> events = new ArrayList<>();
+    MessageConsumer<String> consumer = eb.consumer(ADDRESS1);
+    consumer.endHandler(v -> {
+      events.add("end");
+      assertEquals(Arrays.asList("1", "2", "end"), events);
+      testComplete();
+    });
+    consumer.batchHandler(10, 10_000, batch -> {
+      batch.forEach(msg -> events.add(msg.body()));
+    }).completionHandler(onSuccess(v -> {
+      eb.send(ADDRESS1, "1");
+      eb.send(ADDRESS1, "2");
+      vertx.setTimer(20, id -> consumer.unregister());
+    }));
+    await();
+  }
+
+  @Test
+  public void testBatchHandlerWithSendBatch() {
+    eb.<Integer>consumer(ADDRESS1).batchHandler(100, 10_000, batch -> {
+      assertEquals(100, batch.size());
+      for (int i = 0;i < 100;i++) {
+        assertEquals(i, (int) batch.get(i).body());
+      }
+      testComplete();
+    }).completionHandler(onSuccess(v -> {
+      eb.sendBatch(ADDRESS1, IntStream.range(0, 100).boxed().collect(Collectors.toList()));
+    }));
+    await();
+  }
+
+  @Test
+  public void testLocalConsumerSelection() {
+    Vertx vertx = vertx(new VertxOptions().setEventBusOptions(new EventBusOptions().setConsumerSelection(ConsumerSelection.LOCAL)));
+    EventBus eb = vertx.eventBus();
+    int numConsumers = 4;
+    int numMessages = 20;
+    List<Context> contexts = new ArrayList<>();
+    AtomicReference<Thread> sender = new AtomicReference<>();
+    AtomicInteger received = new AtomicInteger();
+    AtomicInteger registered = new AtomicInteger();
+    for (int i = 0;i < numConsumers;i++) {
+      Context ctx = vertx.getOrCreateContext();
+      contexts.add(ctx);
+      ctx.runOnContext(v1 -> {
+        eb.consumer(ADDRESS1, msg -> {
+          assertSame(sender.get(), Thread.currentThread());
+          if (received.incrementAndGet() == numMessages) {
+            testComplete();
+          }
+        }).completionHandler(onSuccess(v2 -> {
+          if (registered.incrementAndGet() == numConsumers) {
+            contexts.get(numConsumers - 1).runOnContext(v3 -> {
+              sender.set(Thread.currentThread());
+              for (int j = 0;j < numMessages;j++) {
+                eb.send(ADDRESS1, "msg");
+              }
+            });
+          }
+        }));
+      });
+    }
+    await();
+  }
+
+  @Test
+  public void testLeastPendingConsumerSelection() {
+    Vertx vertx = vertx(new VertxOptions().setEventBusOptions(new EventBusOptions().setConsumerSelection(ConsumerSelection.LEAST_PENDING)));
+    EventBus eb = vertx.eventBus();
+    Context ctx1 = vertx.getOrCreateContext();
+    Context ctx2 = vertx.getOrCreateContext();
+    int numBuffered = 5;
+    ctx1.runOnContext(v1 -> {
+      MessageConsumer<String> paused = eb.<String>consumer(ADDRESS1, msg -> fail()).pause();
+      paused.completionHandler(onSuccess(v2 -> {
+        // Only the paused consumer is registered, it buffers the messages
+        for (int i = 0;i < numBuffered;i++) {
+          eb.send(ADDRESS1, "buffered");
+        }
+        // Executed after the buffered messages delivery
+        ctx1.runOnContext(v3 -> {
+          ctx2.runOnContext(v4 -> {
+            AtomicInteger received = new AtomicInteger();
+            eb.<String>consumer(ADDRESS1, msg -> {
+              assertEquals("msg", msg.body());
+              if (received.incrementAndGet() == numBuffered - 1) {
+                testComplete();
+              }
+            }).completionHandler(onSuccess(v5 -> {
+              for (int i = 0;i < numBuffered - 1;i++) {
+                eb.send(ADDRESS1, "msg");
+              }
+            }));
+          });
+        });
+      }));
+    });
+    await();
+  }
+
+  @Test
+  public void testManyConsumersAtSameAddress() {
+    int num = 10_000;
+    List<MessageConsumer<String>> consumers = new ArrayList<>();
+    AtomicInteger received = new AtomicInteger();
+    for (int i = 0;i < num;i++) {
+      consumers.add(eb.consumer(ADDRESS1, msg -> received.incrementAndGet()));
+    }
+    eb.publish(ADDRESS1, "msg");
+    assertWaitUntil(() -> received.get() == num);
+    List<Future> futures = new ArrayList<>();
+    for (MessageConsumer<String> consumer : consumers) {
+      futures.add(consumer.unregister());
+    }
+    CompositeFuture.all(futures).onComplete(onSuccess(v -> {
+      eb.request(ADDRESS1, "msg", onFailure(err -> {
+        assertEquals(ReplyFailure.NO_HANDLERS, ((ReplyException) err).failureType());
+        testComplete();
+      }));
+    }));
+    await();
+  }
+}
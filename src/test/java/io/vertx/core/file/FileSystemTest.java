@@ -33,6 +33,7 @@ import java.io.File;
 import java.io.IOException;
 import java.nio.file.*;
 import java.nio.file.attribute.*;
+import java.util.ArrayList;
 import java.util.EnumSet;
 import java.util.HashSet;
 import java.util.List;
@@ -1194,6 +1195,75 @@ public class FileSystemTest extends VertxTestBase {
     await();
   }
 
+  @Test
+  public void testReadAsyncMemoryMapped() throws Exception {
+    String fileName = "some-file.dat";
+    byte[] content = TestUtils.randomByteArray(10000);
+    createFile(fileName, content);
+    OpenOptions options = new OpenOptions().setMemoryMapped(true).setMemoryMapWindowSize(1500);
+    vertx.fileSystem().open(testDir + pathSep + fileName, options, onSuccess(file -> {
+      Buffer buff = Buffer.buffer();
+      file.read(buff, 0, 0, 4000, onSuccess(res1 -> {
+        assertEquals(Buffer.buffer(content).getBuffer(0, 4000), res1);
+        file.read(buff, 4000, 9000, 2000, onSuccess(res2 -> {
+          assertEquals(5000, res2.length());
+          assertEquals(Buffer.buffer(content).getBuffer(9000, 10000), res2.getBuffer(4000, 5000));
+          file.read(Buffer.buffer(), 0, 10000, 100, onSuccess(res3 -> {
+            assertEquals(0, res3.length());
+            file.close(onSuccess(v -> testComplete()));
+          }));
+        }));
+      }));
+    }));
+    await();
+  }
+
+  @Test
+  public void testReadStreamMemoryMapped() throws Exception {
+    String fileName = "some-file.dat";
+    byte[] content = TestUtils.randomByteArray(10000);
+    createFile(fileName, content);
+    OpenOptions options = new OpenOptions().setMemoryMapped(true).setMemoryMapWindowSize(1500);
+    vertx.fileSystem().open(testDir + pathSep + fileName, options, onSuccess(file -> {
+      Buffer buff = Buffer.buffer();
+      file.setReadBufferSize(1000);
+      file.setReadPos(500);
+      file.handler(chunk -> {
+        assertTrue(chunk.length() <= 1000);
+        buff.appendBuffer(chunk);
+      });
+      file.exceptionHandler(this::fail);
+      file.endHandler(v -> {
+        assertEquals(Buffer.buffer(content).getBuffer(500, 10000), buff);
+        file.close(onSuccess(v2 -> testComplete()));
+      });
+    }));
+    await();
+  }
+
+  @Test
+  public void testReadStreamMemoryMappedBuffersOutliveTheFile() throws Exception {
+    String fileName = "some-file.dat";
+    byte[] content = TestUtils.randomByteArray(10000);
+    createFile(fileName, content);
+    OpenOptions options = new OpenOptions().setMemoryMapped(true).setMemoryMapWindowSize(1500);
+    vertx.fileSystem().open(testDir + pathSep + fileName, options, onSuccess(file -> {
+      List<Buffer> chunks = new ArrayList<>();
+      file.handler(chunks::add);
+      file.exceptionHandler(this::fail);
+      file.endHandler(v -> {
+        file.close(onSuccess(v2 -> {
+          // The views are still readable once the file is closed
+          Buffer buff = Buffer.buffer();
+          chunks.forEach(buff::appendBuffer);
+          assertEquals(Buffer.buffer(content), buff);
+          testComplete();
+        }));
+      });
+    }));
+    await();
+  }
+
   @Test
   public void testWriteStream() {
     String fileName = "some-file.dat";
@@ -1382,14 +1452,60 @@ public class FileSystemTest extends VertxTestBase {
     testReadStream(ReadStrategy.FETCH);
   }
 
+  @Test
+  public void testReadStreamReadAhead() throws Exception {
+    testReadStream(ReadStrategy.NONE, 100, file -> file.setReadBufferSize(1000).setMaxReadBufferSize(4000).setReadAheadDepth(4));
+  }
+
+  @Test
+  public void testReadStreamReadAheadSeek() throws Exception {
+    String fileName = "some-file.dat";
+    byte[] content = TestUtils.randomByteArray(100000);
+    createFile(fileName, content);
+    vertx.fileSystem().open(testDir + pathSep + fileName, new OpenOptions(), onSuccess(file -> {
+      file.setReadBufferSize(1000).setMaxReadBufferSize(1000).setReadAheadDepth(4);
+      Buffer received = Buffer.buffer();
+      file.handler(chunk -> {
+        boolean first = received.length() == 0;
+        received.appendBuffer(chunk);
+        if (first) {
+          // The reads issued ahead of the old position must not be delivered
+          file.setReadPos(50000);
+          file.setReadLength(10000);
+        }
+      });
+      file.exceptionHandler(this::fail);
+      file.endHandler(v -> {
+        Buffer expected = Buffer.buffer(content).getBuffer(0, 1000).appendBuffer(Buffer.buffer(content).getBuffer(50000, 60000));
+        assertEquals(expected, received);
+        file.close(onSuccess(v2 -> testComplete()));
+      });
+    }));
+    await();
+  }
+
+  @Test
+  public void testReadStreamReadAheadFlowing() throws Exception {
+    testReadStream(ReadStrategy.FLOWING, 100, file -> file.setReadBufferSize(1000).setMaxReadBufferSize(4000).setReadAheadDepth(4));
+  }
+
+  @Test
+  public void testReadStreamReadAheadFetch() throws Exception {
+    testReadStream(ReadStrategy.FETCH, 100, file -> file.setReadBufferSize(1000).setMaxReadBufferSize(4000).setReadAheadDepth(4));
+  }
+
   private void testReadStream(ReadStrategy strategy) throws Exception {
+    testReadStream(strategy, 10, file -> {});
+  }
+
+  private void testReadStream(ReadStrategy strategy, int chunks, Handler<AsyncFile> config) throws Exception {
     String fileName = "some-file.dat";
     int chunkSize = 1000;
-    int chunks = 10;
     byte[] content = TestUtils.randomByteArray(chunkSize * chunks);
     createFile(fileName, content);
     vertx.fileSystem().open(testDir + pathSep + fileName, new OpenOptions(), ar -> {
       if (ar.succeeded()) {
+        config.handle(ar.result());
         AtomicInteger inProgress = new AtomicInteger();
         AtomicBoolean ended = new AtomicBoolean();
         Buffer buff = Buffer.buffer();
@@ -1464,6 +1580,32 @@ public class FileSystemTest extends VertxTestBase {
     await();
   }
 
+  @Test
+  public void testReadStreamMaxReadBufferSize() throws Exception {
+    String fileName = "some-file.dat";
+    byte[] content = TestUtils.randomByteArray(100000);
+    createFile(fileName, content);
+    vertx.fileSystem().open(testDir + pathSep + fileName, new OpenOptions(), onSuccess(rs -> {
+      rs.setReadBufferSize(1000);
+      rs.setMaxReadBufferSize(8000);
+      Buffer buff = Buffer.buffer();
+      List<Integer> sizes = new ArrayList<>();
+      rs.handler(chunk -> {
+        buff.appendBuffer(chunk);
+        sizes.add(chunk.length());
+      });
+      rs.exceptionHandler(this::fail);
+      rs.endHandler(v -> {
+        assertEquals(Buffer.buffer(content), buff);
+        assertEquals(1000, (int) sizes.get(0));
+        assertTrue(sizes.stream().allMatch(size -> size <= 8000));
+        assertTrue(sizes.contains(8000));
+        rs.close(onSuccess(v2 -> testComplete()));
+      });
+    }));
+    await();
+  }
+
   @Test
   public void testReadStreamSetReadPos() throws Exception {
     String fileName = "some-file.dat";
@@ -1753,6 +1895,129 @@ public class FileSystemTest extends VertxTestBase {
     });
   }
 
+  @Test
+  public void testWatch() throws Exception {
+    Path dir = Paths.get(testDir, "watched");
+    Files.createDirectories(dir.resolve("sub"));
+    Path file = dir.resolve("sub").resolve("some-file.txt");
+    List<FileChangeEvent> events = new ArrayList<>();
+    vertx.fileSystem().watch(dir.toString(), new WatchOptions().setDebounce(50), onSuccess(stream -> {
+      stream.endHandler(v -> {
+        assertEquals(FileChangeType.DELETE, events.get(events.size() - 1).type());
+        assertEquals(dir.toAbsolutePath().toString(), events.get(events.size() - 1).path());
+        testComplete();
+      });
+      stream.handler(event -> {
+        events.add(event);
+        try {
+          if (events.size() == 1) {
+            assertEquals(FileChangeType.CREATE, event.type());
+            assertEquals(file.toAbsolutePath().toString(), event.path());
+            Files.write(file, "hello".getBytes());
+          } else if (events.size() == 2) {
+            assertEquals(FileChangeType.MODIFY, event.type());
+            assertEquals(file.toAbsolutePath().toString(), event.path());
+            vertx.fileSystem().deleteRecursiveBlocking(dir.toString(), true);
+          }
+        } catch (IOException e) {
+          fail(e);
+        }
+      });
+      vertx.fileSystem().createFileBlocking(file.toString());
+    }));
+    await();
+  }
+
+  @Test
+  public void testWatchDebounce() throws Exception {
+    Path file = Paths.get(testDir, "some-file.txt");
+    vertx.fileSystem().watch(file.toString(), new WatchOptions().setDebounce(200), onSuccess(stream -> {
+      stream.handler(event -> {
+        // Created then modified within the debounce period
+        assertEquals(FileChangeType.CREATE, event.type());
+        assertEquals(file.toAbsolutePath().toString(), event.path());
+        stream.handler(null);
+        testComplete();
+      });
+      try {
+        Files.write(file, "hello".getBytes());
+        Files.write(Paths.get(testDir, "other-file.txt"), "hello".getBytes());
+        Files.write(file, "world".getBytes(), StandardOpenOption.APPEND);
+      } catch (IOException e) {
+        fail(e);
+      }
+    }));
+    await();
+  }
+
+  @Test
+  public void testWatchFileDeleted() throws Exception {
+    Path file = Paths.get(testDir, "some-file.txt");
+    Files.write(file, "hello".getBytes());
+    vertx.fileSystem().watch(file.toString(), new WatchOptions().setDebounce(50), onSuccess(stream -> {
+      stream.endHandler(v -> testComplete());
+      stream.handler(event -> {
+        assertEquals(FileChangeType.DELETE, event.type());
+        assertEquals(file.toAbsolutePath().toString(), event.path());
+      });
+      vertx.fileSystem().deleteBlocking(file.toString());
+    }));
+    await();
+  }
+
+  @Test
+  public void testWatchSameDirectoryTwice() throws Exception {
+    Path file = Paths.get(testDir, "some-file.txt");
+    AtomicInteger watching = new AtomicInteger();
+    waitFor(2);
+    for (int i = 0;i < 2;i++) {
+      vertx.fileSystem().watch(testDir, new WatchOptions().setDebounce(50), onSuccess(stream -> {
+        // The streams share the watch key of the directory
+        stream.handler(event -> {
+          assertEquals(FileChangeType.CREATE, event.type());
+          assertEquals(file.toAbsolutePath().toString(), event.path());
+          stream.handler(null);
+          complete();
+        });
+        if (watching.incrementAndGet() == 2) {
+          vertx.fileSystem().createFileBlocking(file.toString());
+        }
+      }));
+    }
+    await();
+  }
+
+  @Test
+  public void testWatchDirectoryCreatedLater() throws Exception {
+    Path dir = Paths.get(testDir, "watched");
+    Path file = dir.resolve("sub").resolve("some-file.txt");
+    vertx.fileSystem().watch(dir.toString(), new WatchOptions().setDebounce(50), onSuccess(stream -> {
+      stream.handler(event -> {
+        if (event.path().equals(file.toAbsolutePath().toString())) {
+          assertEquals(FileChangeType.CREATE, event.type());
+          stream.handler(null);
+          testComplete();
+        }
+      });
+      try {
+        Files.createDirectories(file.getParent());
+        Files.write(file, "hello".getBytes());
+      } catch (IOException e) {
+        fail(e);
+      }
+    }));
+    await();
+  }
+
+  @Test
+  public void testWatchNonExistentDirectory() {
+    vertx.fileSystem().watch(testDir + pathSep + "does-not-exist" + pathSep + "file.txt", new WatchOptions(), onFailure(err -> {
+      assertTrue(err instanceof FileSystemException);
+      testComplete();
+    }));
+    await();
+  }
+
   @Test
   public void testOpenOptions() {
     OpenOptions opts = new OpenOptions();
@@ -1803,6 +2068,8 @@ public class FileSystemTest extends VertxTestBase {
     assertEquals(def.isSparse(), json.isSparse());
     assertEquals(def.isSync(), json.isSync());
     assertEquals(def.isDsync(), json.isDsync());
+    assertEquals(def.isMemoryMapped(), json.isMemoryMapped());
+    assertEquals(def.getMemoryMapWindowSize(), json.getMemoryMapWindowSize());
   }
 
   @Test
@@ -13,6 +13,7 @@ package io.vertx.core.http;
 
 import io.netty.channel.Channel;
 import io.netty.channel.ChannelHandler;
+import io.netty.handler.codec.DateFormatter;
 import io.netty.handler.codec.TooLongFrameException;
 import io.vertx.core.*;
 import io.vertx.core.Future;
@@ -3705,6 +3706,153 @@ public class Http1xTest extends HttpTest {
     }
   }
 
+  @Test
+  public void testSendDateHeader() throws Exception {
+    server.close();
+    server = vertx.createHttpServer(createBaseServerOptions().setSendDateHeader(true));
+    server.requestHandler(req -> {
+      if (req.path().equals("/custom")) {
+        req.response().putHeader(HttpHeaders.DATE, "custom");
+      }
+      req.response().end();
+    });
+    startServer(testAddress);
+    client.request(new RequestOptions(requestOptions).setURI("/")).compose(HttpClientRequest::send).onComplete(onSuccess(resp1 -> {
+      String date = resp1.getHeader(HttpHeaders.DATE);
+      assertNotNull(date);
+      assertNotNull(DateFormatter.parseHttpDate(date));
+      client.request(new RequestOptions(requestOptions).setURI("/custom")).compose(HttpClientRequest::send).onComplete(onSuccess(resp2 -> {
+        assertEquals("custom", resp2.getHeader(HttpHeaders.DATE));
+        testComplete();
+      }));
+    }));
+    await();
+  }
+
+  @Test
+  public void testCustomConnectionSelector() throws Exception {
+    AtomicInteger selections = new AtomicInteger();
+    ConnectionSelector selector = candidates -> {
+      selections.incrementAndGet();
+      return candidates.iterator().next();
+    };
+    server.requestHandler(req -> req.response().end());
+    startServer(testAddress);
+    client.close();
+    client = vertx.createHttpClient(createBaseClientOptions().setKeepAlive(true).setMaxPoolSize(1).setConnectionSelector(selector));
+    client.request(requestOptions).compose(HttpClientRequest::send).onComplete(onSuccess(resp1 -> {
+      resp1.endHandler(v1 -> {
+        // The second request borrows the recycled connection through the selector
+        client.request(requestOptions).compose(HttpClientRequest::send).onComplete(onSuccess(resp2 -> {
+          assertEquals(200, resp2.statusCode());
+          assertTrue(selections.get() > 0);
+          testComplete();
+        }));
+      });
+    }));
+    await();
+  }
+
+  @Test
+  public void testHedgedRequest() throws Exception {
+    AtomicInteger count = new AtomicInteger();
+    server.requestHandler(req -> {
+      if (count.getAndIncrement() == 0) {
+        // Simulate a stalled backend, the hedged request should win
+        return;
+      }
+      req.response().end("hedged");
+    });
+    startServer(testAddress);
+    client.close();
+    client = vertx.createHttpClient(new HttpClientOptions().setMaxPoolSize(2));
+    client.request(new RequestOptions(requestOptions).setHedgingDelay(100)).onComplete(onSuccess(req -> {
+      req.send(onSuccess(resp -> {
+        assertEquals(200, resp.statusCode());
+        resp.body(onSuccess(body -> {
+          assertEquals("hedged", body.toString());
+          assertEquals(2, count.get());
+          testComplete();
+        }));
+      }));
+    }));
+    await();
+  }
+
+  @Test
+  public void testHedgedRequestFallsBackToPrimary() throws Exception {
+    AtomicInteger count = new AtomicInteger();
+    server.requestHandler(req -> {
+      count.incrementAndGet();
+      vertx.setTimer(300, id -> req.response().end("primary"));
+    });
+    startServer(testAddress);
+    client.close();
+    // The duplicate cannot obtain a connection, the pool is busy and its wait queue is full
+    client = vertx.createHttpClient(new HttpClientOptions().setMaxPoolSize(1).setMaxWaitQueueSize(0));
+    client.request(new RequestOptions(requestOptions).setHedgingDelay(100)).onComplete(onSuccess(req -> {
+      req.send(onSuccess(resp -> {
+        assertEquals(200, resp.statusCode());
+        resp.body(onSuccess(body -> {
+          assertEquals("primary", body.toString());
+          assertEquals(1, count.get());
+          testComplete();
+        }));
+      }));
+    }));
+    await();
+  }
+
+  @Test
+  public void testHedgedRequestPause() throws Exception {
+    AtomicInteger count = new AtomicInteger();
+    server.requestHandler(req -> {
+      if (count.getAndIncrement() == 0) {
+        return;
+      }
+      req.response().end("hedged");
+    });
+    startServer(testAddress);
+    client.close();
+    client = vertx.createHttpClient(new HttpClientOptions().setMaxPoolSize(2));
+    client.request(new RequestOptions(requestOptions).setHedgingDelay(100)).onComplete(onSuccess(req -> {
+      req.send(onSuccess(resp -> {
+        resp.pause();
+        AtomicBoolean resumed = new AtomicBoolean();
+        resp.handler(buff -> assertTrue(resumed.get()));
+        resp.endHandler(v -> {
+          assertTrue(resumed.get());
+          testComplete();
+        });
+        vertx.setTimer(100, id -> {
+          resumed.set(true);
+          resp.resume();
+        });
+      }));
+    }));
+    await();
+  }
+
+  @Test
+  public void testHedgedRequestNotNeeded() throws Exception {
+    AtomicInteger count = new AtomicInteger();
+    server.requestHandler(req -> {
+      count.incrementAndGet();
+      req.response().end();
+    });
+    startServer(testAddress);
+    client.request(new RequestOptions(requestOptions).setHedgingDelay(1000)).onComplete(onSuccess(req -> {
+      req.send(onSuccess(resp -> {
+        assertEquals(200, resp.statusCode());
+        vertx.setTimer(1500, id -> {
+          assertEquals(1, count.get());
+          testComplete();
+        });
+      }));
+    }));
+    await();
+  }
+
   @Test
   public void testRequestTimeoutIsNotDelayedAfterResponseIsReceived() throws Exception {
     int n = 6;
@@ -19,6 +19,7 @@ import io.netty.channel.ChannelDuplexHandler;
 import io.netty.channel.ChannelFuture;
 import io.netty.channel.ChannelHandlerContext;
 import io.netty.channel.ChannelInitializer;
+import io.netty.channel.ChannelOutboundHandlerAdapter;
 import io.netty.channel.ChannelPipeline;
 import io.netty.channel.embedded.EmbeddedChannel;
 import io.netty.channel.nio.NioEventLoopGroup;
@@ -56,6 +57,7 @@ import io.vertx.core.http.impl.Http1xOrH2CHandler;
 import io.vertx.core.http.impl.HttpUtils;
 import io.vertx.core.impl.Utils;
 import io.vertx.core.impl.VertxInternal;
+import io.vertx.core.net.impl.ConnectionBase;
 import io.vertx.core.net.impl.SSLHelper;
 import io.vertx.core.streams.ReadStream;
 import io.vertx.core.streams.WriteStream;
@@ -1423,6 +1425,84 @@ public class Http2ServerTest extends Http2TestBase {
     testSendFile(expected, tmp.getAbsolutePath(), 0, expected.length());
   }
 
+  @Test
+  public void testSendFileCancelledByReset() throws Exception {
+    Buffer content = Buffer.buffer(TestUtils.randomAlphaString(1000 * 1000));
+    File tmp = createTempFile(content);
+    server.requestHandler(req -> {
+      req.response().sendFile(tmp.getAbsolutePath(), onFailure(err -> {
+        testComplete();
+      }));
+    });
+    startServer();
+    TestClient client = new TestClient();
+    ChannelFuture fut = client.connect(DEFAULT_HTTPS_PORT, DEFAULT_HTTPS_HOST, request -> {
+      request.decoder.frameListener(new Http2EventAdapter() {
+        boolean reset;
+        @Override
+        public int onDataRead(ChannelHandlerContext ctx, int streamId, ByteBuf data, int padding, boolean endOfStream) throws Http2Exception {
+          if (!reset) {
+            reset = true;
+            // Keep the flow-control window closed and cancel the stream
+            request.encoder.writeRstStream(ctx, streamId, Http2Error.CANCEL.code(), ctx.newPromise());
+            ctx.flush();
+          }
+          return 0;
+        }
+      });
+      int id = request.nextStreamId();
+      request.encoder.writeHeaders(request.context, id, GET("/"), 0, true, request.context.newPromise());
+      request.context.flush();
+    });
+    fut.sync();
+    await();
+  }
+
+  @Test
+  public void testSendFileConcurrentStreams() throws Exception {
+    int num = 4;
+    List<Buffer> expected = new ArrayList<>();
+    List<String> paths = new ArrayList<>();
+    for (int i = 0;i < num;i++) {
+      Buffer content = Buffer.buffer(TestUtils.randomAlphaString(500 * 1000));
+      expected.add(content);
+      paths.add(createTempFile(content).getAbsolutePath());
+    }
+    waitFor(num);
+    server.requestHandler(req -> {
+      req.response().sendFile(paths.get(Integer.parseInt(req.getParam("file"))));
+    });
+    startServer();
+    TestClient client = new TestClient();
+    ChannelFuture fut = client.connect(DEFAULT_HTTPS_PORT, DEFAULT_HTTPS_HOST, request -> {
+      Map<Integer, Integer> files = new HashMap<>();
+      Map<Integer, Buffer> buffers = new HashMap<>();
+      request.decoder.frameListener(new Http2EventAdapter() {
+        @Override
+        public int onDataRead(ChannelHandlerContext ctx, int streamId, ByteBuf data, int padding, boolean endOfStream) throws Http2Exception {
+          Buffer buffer = buffers.computeIfAbsent(streamId, id -> Buffer.buffer());
+          buffer.appendBuffer(Buffer.buffer(data.duplicate()));
+          if (endOfStream) {
+            Buffer content = expected.get(files.get(streamId));
+            vertx.runOnContext(v -> {
+              assertEquals(content, buffer);
+              complete();
+            });
+          }
+          return data.readableBytes() + padding;
+        }
+      });
+      for (int i = 0;i < num;i++) {
+        int id = request.nextStreamId();
+        files.put(id, i);
+        request.encoder.writeHeaders(request.context, id, GET("/?file=" + i), 0, true, request.context.newPromise());
+      }
+      request.context.flush();
+    });
+    fut.sync();
+    await();
+  }
+
   private void testSendFile(Buffer expected, String path, long offset, long length) throws Exception {
     waitFor(2);
     server.requestHandler(req -> {
@@ -3312,5 +3392,64 @@ public class Http2ServerTest extends Http2TestBase {
     await();
   }
 
+  @Test
+  public void testWritesDuringReadAreFlushedOnReadComplete() throws Exception {
+    AtomicInteger flushes = new AtomicInteger();
+    server.requestHandler(req -> {
+      countFlushes(req, flushes);
+      HttpServerResponse resp = req.response().setChunked(true);
+      resp.write("chunk-1");
+      resp.write("chunk-2");
+      resp.end("chunk-3");
+      // The request is handled while its frames are read, the response frames are flushed on read completion
+      assertEquals(0, flushes.get());
+    });
+    startServer();
+    client.request(requestOptions)
+      .compose(req -> req.send().compose(HttpClientResponse::body))
+      .onComplete(onSuccess(body -> {
+        assertEquals("chunk-1chunk-2chunk-3", body.toString());
+        assertTrue(flushes.get() > 0);
+        testComplete();
+      }));
+    await();
+  }
 
+  @Test
+  public void testWritesOutsideReadAreFlushedImmediately() throws Exception {
+    AtomicInteger flushes = new AtomicInteger();
+    server.requestHandler(req -> {
+      countFlushes(req, flushes);
+      HttpServerResponse resp = req.response().setChunked(true);
+      vertx.setTimer(10, id -> {
+        resp.write("chunk-1");
+        int count = flushes.get();
+        assertTrue(count > 0);
+        resp.end("chunk-2");
+        assertTrue(flushes.get() > count);
+      });
+    });
+    startServer();
+    client.request(requestOptions)
+      .compose(req -> req.send().compose(HttpClientResponse::body))
+      .onComplete(onSuccess(body -> {
+        assertEquals("chunk-1chunk-2", body.toString());
+        testComplete();
+      }));
+    await();
+  }
+
+  /**
+   * Count the flushes of the connection of {@code req}, the counter is reset when it is installed.
+   */
+  private static void countFlushes(HttpServerRequest req, AtomicInteger flushes) {
+    ((ConnectionBase) req.connection()).channel().pipeline().addFirst(new ChannelOutboundHandlerAdapter() {
+      @Override
+      public void flush(ChannelHandlerContext ctx) throws Exception {
+        flushes.incrementAndGet();
+        super.flush(ctx);
+      }
+    });
+    flushes.set(0);
+  }
 }
@@ -11,12 +11,21 @@
 
 package io.vertx.core.http;
 
+import io.netty.channel.ChannelHandler;
+import io.netty.handler.codec.compression.ZlibCodecFactory;
+import io.netty.handler.codec.compression.ZlibWrapper;
 import io.netty.util.CharsetUtil;
 import io.vertx.core.Handler;
 import io.vertx.core.MultiMap;
 import io.vertx.core.buffer.Buffer;
+import io.vertx.test.core.TestUtils;
 
+import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.nio.file.Files;
 
 import static io.vertx.core.http.HttpMethod.PUT;
 
@@ -41,6 +50,9 @@ public class HttpCompressionTest extends HttpTestBase {
       " * You may elect to redistribute this code under either of these licenses.\n" +
       " */";
 
+  @Rule
+  public TemporaryFolder testFolder = new TemporaryFolder();
+
   private HttpServer serverWithMinCompressionLevel, serverWithMaxCompressionLevel,serverWithClientDeCompression,serverWithServerDecompression = null;
   private HttpClient clientraw = null;
 
@@ -252,4 +264,113 @@ public class HttpCompressionTest extends HttpTestBase {
     }));
     await();
   }
+
+  @Test
+  public void testCompressionCodec() throws Exception {
+    server.close();
+    server = vertx.createHttpServer(new HttpServerOptions()
+      .setPort(DEFAULT_HTTP_PORT)
+      .setCompressionSupported(true)
+      .addCompressor(new CompressionCodec() {
+        @Override
+        public String contentEncoding() {
+          return "x-test";
+        }
+        @Override
+        public ChannelHandler createEncoder() {
+          return ZlibCodecFactory.newZlibEncoder(ZlibWrapper.ZLIB);
+        }
+      }));
+    server.requestHandler(req -> req.response().end(COMPRESS_TEST_STRING));
+    startServer();
+    clientraw.request(new RequestOptions()
+      .setPort(DEFAULT_HTTP_PORT)
+      .setHost(DEFAULT_HTTP_HOST)
+      .setURI(DEFAULT_TEST_URI))
+      .onComplete(onSuccess(req -> {
+        req.putHeader(HttpHeaders.ACCEPT_ENCODING, "gzip, x-test");
+        req.send(onSuccess(resp -> {
+          assertEquals("x-test", resp.getHeader(HttpHeaders.CONTENT_ENCODING));
+          resp.body(onSuccess(body -> {
+            assertFalse(COMPRESS_TEST_STRING.equals(body.toString(CharsetUtil.UTF_8)));
+            testComplete();
+          }));
+        }));
+      }));
+    await();
+  }
+
+  @Test
+  public void testPrecompressedFile() throws Exception {
+    File file = new File(testFolder.getRoot(), "index.html");
+    Files.write(file.toPath(), COMPRESS_TEST_STRING.getBytes(CharsetUtil.UTF_8));
+    byte[] gzipped = TestUtils.randomByteArray(64);
+    Files.write(new File(file.getPath() + ".gz").toPath(), gzipped);
+    server.close();
+    server = vertx.createHttpServer(new HttpServerOptions()
+      .setPort(DEFAULT_HTTP_PORT)
+      .setPrecompressedFilesSupported(true));
+    server.requestHandler(req -> req.response().sendFile(file.getAbsolutePath()));
+    startServer();
+    clientraw.request(new RequestOptions()
+      .setPort(DEFAULT_HTTP_PORT)
+      .setHost(DEFAULT_HTTP_HOST)
+      .setURI(DEFAULT_TEST_URI))
+      .onComplete(onSuccess(req -> {
+        req.putHeader(HttpHeaders.ACCEPT_ENCODING, "br;q=0, gzip");
+        req.send(onSuccess(resp -> {
+          assertEquals("gzip", resp.getHeader(HttpHeaders.CONTENT_ENCODING));
+          assertEquals("text/html", resp.getHeader(HttpHeaders.CONTENT_TYPE));
+          assertEquals("accept-encoding", resp.getHeader(HttpHeaders.VARY));
+          resp.body(onSuccess(body -> {
+            assertEquals(Buffer.buffer(gzipped), body);
+            clientraw.request(new RequestOptions()
+              .setPort(DEFAULT_HTTP_PORT)
+              .setHost(DEFAULT_HTTP_HOST)
+              .setURI(DEFAULT_TEST_URI))
+              .compose(req2 -> req2.send().compose(resp2 -> {
+                assertNull(resp2.getHeader(HttpHeaders.CONTENT_ENCODING));
+                return resp2.body();
+              }))
+              .onComplete(onSuccess(body2 -> {
+                assertEquals(COMPRESS_TEST_STRING, body2.toString(CharsetUtil.UTF_8));
+                testComplete();
+              }));
+          }));
+        }));
+      }));
+    await();
+  }
+
+  @Test
+  public void testPrecompressedFileExcludedFromWildcard() throws Exception {
+    File file = new File(testFolder.getRoot(), "index.html");
+    Files.write(file.toPath(), COMPRESS_TEST_STRING.getBytes(CharsetUtil.UTF_8));
+    byte[] brotli = TestUtils.randomByteArray(64);
+    byte[] gzipped = TestUtils.randomByteArray(64);
+    Files.write(new File(file.getPath() + ".br").toPath(), brotli);
+    Files.write(new File(file.getPath() + ".gz").toPath(), gzipped);
+    server.close();
+    server = vertx.createHttpServer(new HttpServerOptions()
+      .setPort(DEFAULT_HTTP_PORT)
+      .setPrecompressedFilesSupported(true));
+    server.requestHandler(req -> req.response().sendFile(file.getAbsolutePath()));
+    startServer();
+    clientraw.request(new RequestOptions()
+      .setPort(DEFAULT_HTTP_PORT)
+      .setHost(DEFAULT_HTTP_HOST)
+      .setURI(DEFAULT_TEST_URI))
+      .onComplete(onSuccess(req -> {
+        // The explicit br entry excludes br although the wildcard comes first
+        req.putHeader(HttpHeaders.ACCEPT_ENCODING, "*, br;q=0");
+        req.send(onSuccess(resp -> {
+          assertEquals("gzip", resp.getHeader(HttpHeaders.CONTENT_ENCODING));
+          resp.body(onSuccess(body -> {
+            assertEquals(Buffer.buffer(gzipped), body);
+            testComplete();
+          }));
+        }));
+      }));
+    await();
+  }
 }
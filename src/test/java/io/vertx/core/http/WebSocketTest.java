@@ -897,6 +897,118 @@ public class WebSocketTest extends VertxTestBase {
     await();
   }
 
+  @Test
+  public void testWebSocketGroupBroadcast() throws Exception {
+    int num = 5;
+    String text = TestUtils.randomUnicodeString(100);
+    // Larger than the maximum frame size, sent as several frames
+    Buffer data = TestUtils.randomBuffer(HttpServerOptions.DEFAULT_MAX_WEBSOCKET_FRAME_SIZE * 2 + 10);
+    WebSocketGroup group = WebSocketGroup.create();
+    AtomicInteger ready = new AtomicInteger();
+    waitFor(num);
+    server = vertx.createHttpServer(new HttpServerOptions().setPort(DEFAULT_HTTP_PORT)).webSocketHandler(ws -> {
+      group.add(ws);
+      ws.textMessageHandler(msg -> {
+        if (ready.incrementAndGet() == num) {
+          assertEquals(num, group.writeTextMessage(text));
+          assertEquals(num, group.writeBinaryMessage(data));
+        }
+      });
+    });
+    server.listen(onSuccess(s -> {
+      client = vertx.createHttpClient();
+      for (int i = 0;i < num;i++) {
+        client.webSocket(DEFAULT_HTTP_PORT, HttpTestBase.DEFAULT_HTTP_HOST, "/", onSuccess(ws -> {
+          AtomicBoolean receivedText = new AtomicBoolean();
+          ws.textMessageHandler(msg -> {
+            assertEquals(text, msg);
+            receivedText.set(true);
+          });
+          ws.binaryMessageHandler(msg -> {
+            assertTrue(receivedText.get());
+            assertEquals(data, msg);
+            complete();
+          });
+          ws.writeTextMessage("ready");
+        }));
+      }
+    }));
+    await();
+  }
+
+  @Test
+  public void testWebSocketGroupRemovesClosedMember() throws Exception {
+    WebSocketGroup group = WebSocketGroup.create();
+    server = vertx.createHttpServer(new HttpServerOptions().setPort(DEFAULT_HTTP_PORT)).webSocketHandler(ws -> {
+      group.add(ws);
+      ws.closeHandler(v -> {
+        assertEquals(1, group.size());
+        assertEquals(0, group.writeTextMessage("hello"));
+        assertEquals(0, group.size());
+        testComplete();
+      });
+    });
+    server.listen(onSuccess(s -> {
+      client = vertx.createHttpClient();
+      client.webSocket(DEFAULT_HTTP_PORT, HttpTestBase.DEFAULT_HTTP_HOST, "/", onSuccess(ws -> ws.close()));
+    }));
+    await();
+  }
+
+  @Test
+  public void testWebSocketGroupDropSlowConsumer() throws Exception {
+    Buffer data = TestUtils.randomBuffer(1024);
+    WebSocketGroup group = WebSocketGroup.create(SlowConsumerPolicy.DROP);
+    server = vertx.createHttpServer(new HttpServerOptions().setPort(DEFAULT_HTTP_PORT)).webSocketHandler(ws -> {
+      ws.setWriteQueueMaxSize(1024);
+      group.add(ws);
+      int count = 0;
+      while (group.writeBinaryMessage(data) == 1) {
+        count++;
+      }
+      assertTrue(count > 0);
+      assertTrue(ws.writeQueueFull());
+      assertEquals(1, group.size());
+      testComplete();
+    });
+    server.listen(onSuccess(s -> {
+      client = vertx.createHttpClient();
+      client.webSocket(DEFAULT_HTTP_PORT, HttpTestBase.DEFAULT_HTTP_HOST, "/", onSuccess(ws -> ws.pause()));
+    }));
+    await();
+  }
+
+  @Test
+  public void testWebSocketGroupBroadcastDuringFragmentedMessage() throws Exception {
+    WebSocketGroup group = WebSocketGroup.create();
+    server = vertx.createHttpServer(new HttpServerOptions().setPort(DEFAULT_HTTP_PORT)).webSocketHandler(ws -> {
+      group.add(ws);
+      ws.textMessageHandler(ready -> {
+        ws.writeFrame(WebSocketFrame.binaryFrame(Buffer.buffer("foo"), false));
+        // Written after the final frame of the fragmented message
+        assertEquals(1, group.writeTextMessage("broadcast"));
+        ws.writeFrame(WebSocketFrame.continuationFrame(Buffer.buffer("bar"), true));
+      });
+    });
+    server.listen(onSuccess(s -> {
+      client = vertx.createHttpClient();
+      client.webSocket(DEFAULT_HTTP_PORT, HttpTestBase.DEFAULT_HTTP_HOST, "/", onSuccess(ws -> {
+        AtomicBoolean receivedBinary = new AtomicBoolean();
+        ws.binaryMessageHandler(msg -> {
+          assertEquals(Buffer.buffer("foobar"), msg);
+          receivedBinary.set(true);
+        });
+        ws.textMessageHandler(msg -> {
+          assertTrue(receivedBinary.get());
+          assertEquals("broadcast", msg);
+          testComplete();
+        });
+        ws.writeTextMessage("ready");
+      }));
+    }));
+    await();
+  }
+
   private void testContinuationWriteFromConnectHandler(WebsocketVersion version) throws Exception {
     String path = "/some/path";
     String firstFrame = "AAA";
@@ -11,19 +11,26 @@
 
 package io.vertx.core.http.headers;
 
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
 import io.netty.util.AsciiString;
 import io.vertx.core.MultiMap;
 import io.vertx.core.http.impl.headers.HeadersMultiMap;
 import org.junit.Test;
 
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotEquals;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
 
 /**
  * @author <a href="mailto:julien@julienviet.com">Julien Viet</a>
@@ -57,6 +64,60 @@ public class VertxHttpHeadersTest extends HeadersTestBase {
     assertNotEquals(AsciiString.hashCode(sameBucket1), AsciiString.hashCode(sameBucket2));
   }
 
+  @Test
+  public void testPreEncoded() {
+    HeadersMultiMap template = HeadersMultiMap.httpHeaders();
+    template.add("content-type", "text/plain");
+    template.add("server", "vert.x");
+    HeadersMultiMap preEncoded = HeadersMultiMap.preEncoded(template);
+    HeadersMultiMap headers = HeadersMultiMap.httpHeaders();
+    headers.addAll(preEncoded);
+    headers.add("content-length", "5");
+    assertEquals("content-type: text/plain\r\nserver: vert.x\r\ncontent-length: 5\r\n", encode(headers));
+    assertEquals("text/plain", headers.get("Content-Type"));
+    headers.set("server", "other");
+    assertEquals("content-type: text/plain\r\ncontent-length: 5\r\nserver: other\r\n", encode(headers));
+    assertEquals("content-type: text/plain\r\nserver: vert.x\r\n", encode(preEncoded));
+  }
+
+  @Test
+  public void testPreEncodedValidatesEntries() {
+    MultiMap unvalidated = MultiMap.caseInsensitiveMultiMap();
+    unvalidated.add("x-header", "value\r\nset-cookie: injected");
+    try {
+      HeadersMultiMap.preEncoded(unvalidated);
+      fail();
+    } catch (IllegalArgumentException ignore) {
+    }
+    unvalidated = MultiMap.caseInsensitiveMultiMap();
+    unvalidated.add("x-header\r\n", "value");
+    try {
+      HeadersMultiMap.preEncoded(unvalidated);
+      fail();
+    } catch (IllegalArgumentException ignore) {
+    }
+  }
+
+  private static String encode(HeadersMultiMap headers) {
+    ByteBuf buf = Unpooled.buffer();
+    headers.encode(buf);
+    return buf.toString(StandardCharsets.US_ASCII);
+  }
+
+  @Test
+  public void testDecodedHeadersInternWellKnownNames() {
+    HeadersMultiMap mmap = HeadersMultiMap.decodedHttpHeaders();
+    mmap.add(new String("content-type"), "text/plain");
+    mmap.add(new String("User-Agent"), "vert.x");
+    mmap.add(new String("x-custom"), "value");
+    Iterator<Map.Entry<CharSequence, CharSequence>> it = mmap.iteratorCharSequence();
+    assertSame(io.vertx.core.http.HttpHeaders.CONTENT_TYPE, it.next().getKey());
+    // Case is preserved
+    assertEquals("User-Agent", it.next().getKey().toString());
+    assertEquals("vert.x", mmap.get("user-agent"));
+    assertEquals("value", mmap.get("X-Custom"));
+  }
+
   @Test
   public void testAddEmptyStringNameIterableStringValue() {
     MultiMap mmap = newMultiMap();
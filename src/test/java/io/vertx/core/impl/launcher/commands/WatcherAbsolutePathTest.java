@@ -52,6 +52,6 @@ public class WatcherAbsolutePathTest extends WatcherTest {
       if (next != null) {
         next.handle(null);
       }
-    }, null, 10, 10);
+    }, null, 10);
   }
 }
@@ -59,7 +59,7 @@ public class WatcherTest extends CommandTestBase {
       if (next != null) {
         next.handle(null);
       }
-    }, null, 10, 10);
+    }, null, 10);
   }
 
   @After
@@ -135,6 +135,33 @@ public class WatcherTest extends CommandTestBase {
     assertWaitUntil(() -> undeploy.get() == 1 && deploy.get() == 2);
   }
 
+  @Test
+  public void testRootCreatedLater() throws IOException {
+    watcher.close();
+    File late = new File(root, "late");
+    watcher = new Watcher(root, Collections.singletonList("late" + File.separator + "*.txt"), next -> {
+      deploy.incrementAndGet();
+      if (next != null) {
+        next.handle(null);
+      }
+    }, next -> {
+      undeploy.incrementAndGet();
+      if (next != null) {
+        next.handle(null);
+      }
+    }, null, 10);
+    watcher.watch();
+
+    // Initial deployment
+    assertWaitUntil(() -> deploy.get() == 1);
+
+    late.mkdirs();
+    new File(late, "foo.txt").createNewFile();
+
+    // undeployment followed by redeployment
+    assertWaitUntil(() -> deploy.get() >= 2);
+  }
+
   @Test
   public void testFileAdditionAndModificationInDirectory() throws IOException, InterruptedException {
     watcher.watch();
@@ -0,0 +1,240 @@
+/*
+ * Copyright (c) 2011-2019 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.core.impl.utils;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.Assert.*;
+
+public class ConcurrentCyclicSetTest {
+
+  @Test
+  public void testEmpty() {
+    ConcurrentCyclicSet<String> empty = new ConcurrentCyclicSet<>();
+    assertEquals(0, empty.size());
+    assertNull(empty.next());
+    assertNull(empty.nextOf("key"));
+    assertNull(empty.next(Comparator.<String>naturalOrder()));
+    assertFalse(empty.iterator().hasNext());
+    assertFalse(empty.remove("does-not-exist"));
+  }
+
+  @Test
+  public void testAddRemove() {
+    ConcurrentCyclicSet<String> set = new ConcurrentCyclicSet<>();
+    set.add("s1");
+    set.add("s2");
+    set.add("s3");
+    assertEquals(Arrays.asList("s1", "s2", "s3"), toList(set));
+    assertTrue(set.remove("s2"));
+    assertFalse(set.remove("s2"));
+    assertEquals(Arrays.asList("s1", "s3"), toList(set));
+    set.add("s2");
+    assertEquals(Arrays.asList("s1", "s3", "s2"), toList(set));
+    assertEquals(3, set.size());
+    assertTrue(set.remove("s1"));
+    assertTrue(set.remove("s3"));
+    assertTrue(set.remove("s2"));
+    assertEquals(0, set.size());
+    assertEquals(Collections.emptyList(), toList(set));
+    set.add("s4");
+    assertEquals(Collections.singletonList("s4"), toList(set));
+  }
+
+  @Test
+  public void testAddDuplicate() {
+    ConcurrentCyclicSet<Integer> set = new ConcurrentCyclicSet<>();
+    for (int i = 0;i < 100;i++) {
+      assertTrue(set.add(i));
+      assertFalse(set.add(i));
+      assertFalse(set.add(i / 2));
+    }
+    assertEquals(100, set.size());
+  }
+
+  @Test
+  public void testManyElements() {
+    int num = 10_000;
+    ConcurrentCyclicSet<Integer> set = new ConcurrentCyclicSet<>();
+    for (int i = 0;i < num;i++) {
+      set.add(i);
+    }
+    assertEquals(num, set.size());
+    // Remove the even elements, the set is compacted on the way
+    for (int i = 0;i < num;i += 2) {
+      assertTrue(set.remove(i));
+    }
+    assertEquals(num / 2, set.size());
+    assertEquals(IntStream.range(0, num).filter(i -> i % 2 == 1).boxed().collect(Collectors.toList()), toList(set));
+    for (int i = 1;i < num;i += 2) {
+      assertTrue(set.remove(i));
+      assertFalse(set.remove(i));
+    }
+    assertEquals(0, set.size());
+  }
+
+  @Test
+  public void testIteratorIsNotAffectedByAdd() {
+    ConcurrentCyclicSet<String> set = new ConcurrentCyclicSet<>();
+    set.add("s1");
+    set.add("s2");
+    Iterator<String> it = set.iterator();
+    set.add("s3");
+    List<String> list = new ArrayList<>();
+    it.forEachRemaining(list::add);
+    assertEquals(Arrays.asList("s1", "s2"), list);
+  }
+
+  @Test
+  public void testIteratorSeesSubsetAfterRemove() {
+    ConcurrentCyclicSet<Integer> set = new ConcurrentCyclicSet<>();
+    for (int i = 0;i < 100;i++) {
+      set.add(i);
+    }
+    Iterator<Integer> it = set.iterator();
+    for (int i = 0;i < 100;i += 3) {
+      set.remove(i);
+      set.add(100 + i);
+    }
+    Set<Integer> seen = new HashSet<>();
+    it.forEachRemaining(i -> {
+      assertTrue(i < 100);
+      assertTrue(seen.add(i));
+    });
+  }
+
+  @Test
+  public void testRoundRobin() {
+    ConcurrentCyclicSet<String> set = new ConcurrentCyclicSet<>();
+    set.add("s1");
+    set.add("s2");
+    set.add("s3");
+    List<String> list = new ArrayList<>();
+    for (int i = 0;i < 6;i++) {
+      list.add(set.next());
+    }
+    assertEquals(Arrays.asList("s1", "s2", "s3", "s1", "s2", "s3"), list);
+    set.remove("s2");
+    Set<String> seen = new HashSet<>();
+    for (int i = 0;i < 6;i++) {
+      seen.add(set.next());
+    }
+    assertEquals(new HashSet<>(Arrays.asList("s1", "s3")), seen);
+  }
+
+  @Test
+  public void testRoundRobinSkipsClearedSlots() {
+    ConcurrentCyclicSet<String> set = new ConcurrentCyclicSet<>();
+    set.add("s1");
+    set.add("s2");
+    set.add("s3");
+    set.add("s4");
+    set.add("s5");
+    // Not compacted, the slots of s2 and s4 are cleared
+    set.remove("s2");
+    set.remove("s4");
+    List<String> list = new ArrayList<>();
+    for (int i = 0;i < 6;i++) {
+      list.add(set.next());
+    }
+    assertEquals(Arrays.asList("s1", "s3", "s5", "s1", "s3", "s5"), list);
+  }
+
+  @Test
+  public void testConcurrentReads() throws Exception {
+    int num = 1000;
+    ConcurrentCyclicSet<Integer> set = new ConcurrentCyclicSet<>(elt -> elt == -1 ? "never-removed" : null);
+    set.add(-1);
+    AtomicBoolean failed = new AtomicBoolean();
+    AtomicBoolean done = new AtomicBoolean();
+    Thread[] readers = new Thread[4];
+    for (int i = 0;i < readers.length;i++) {
+      readers[i] = new Thread(() -> {
+        while (!done.get()) {
+          // The element which is never removed
+          if (set.nextOf("never-removed") != -1) {
+            failed.set(true);
+          }
+          Set<Integer> seen = new HashSet<>();
+          for (Integer elt : set) {
+            if (!seen.add(elt)) {
+              failed.set(true);
+            }
+          }
+        }
+      });
+      readers[i].start();
+    }
+    for (int j = 0;j < 10;j++) {
+      for (int i = 0;i < num;i++) {
+        set.add(i);
+      }
+      for (int i = 0;i < num;i++) {
+        set.remove(i);
+      }
+    }
+    done.set(true);
+    for (Thread reader : readers) {
+      reader.join();
+    }
+    assertFalse(failed.get());
+    assertEquals(Collections.singletonList(-1), toList(set));
+  }
+
+  @Test
+  public void testNextOfPartition() {
+    ConcurrentCyclicSet<String> set = new ConcurrentCyclicSet<>(s -> s.startsWith("c") ? null : s.substring(0, 1));
+    set.add("a1");
+    set.add("b1");
+    set.add("a2");
+    set.add("b2");
+    set.add("c1");
+    assertEquals(Arrays.asList("b1", "b2", "b1", "b2"), Arrays.asList(set.nextOf("b"), set.nextOf("b"), set.nextOf("b"), set.nextOf("b")));
+    assertEquals(Arrays.asList("a1", "a2"), Arrays.asList(set.nextOf("a"), set.nextOf("a")));
+    assertTrue(set.remove("b1"));
+    assertEquals(Arrays.asList("b2", "b2"), Arrays.asList(set.nextOf("b"), set.nextOf("b")));
+    assertTrue(set.remove("b2"));
+    // No element of the partition, chosen in turn
+    assertEquals("a1", set.nextOf("b"));
+    assertEquals(Arrays.asList("a1", "a2", "c1"), toList(set));
+  }
+
+  @Test
+  public void testNextComparing() {
+    ConcurrentCyclicSet<String> set = new ConcurrentCyclicSet<>();
+    set.add("b");
+    set.add("a");
+    for (int i = 0;i < 8;i++) {
+      assertEquals("a", set.next(Comparator.<String>naturalOrder()));
+    }
+  }
+
+  private static <T> List<T> toList(ConcurrentCyclicSet<T> set) {
+    ArrayList<T> ret = new ArrayList<>();
+    for (T elt : set) {
+      ret.add(elt);
+    }
+    return ret;
+  }
+}
@@ -25,6 +25,7 @@ import java.util.stream.Collectors;
 
 import static io.vertx.core.json.impl.JsonUtil.BASE64_DECODER;
 import static io.vertx.core.json.impl.JsonUtil.BASE64_ENCODER;
+import static io.vertx.test.core.TestUtils.assertUnsupportedOperationException;
 import static java.time.format.DateTimeFormatter.ISO_INSTANT;
 import static org.junit.Assert.*;
 
@@ -796,6 +797,56 @@ public class JsonArrayTest {
     assertEquals(5, copy.size());
   }
 
+  @Test
+  public void testFreeze() {
+    jsonArray.add("foo");
+    jsonArray.add(new JsonObject().put("foo", "bar"));
+    jsonArray.add(new JsonArray().add(123));
+    jsonArray.add(Collections.singletonMap("foo", "bar"));
+    assertFalse(jsonArray.isFrozen());
+    assertSame(jsonArray, jsonArray.freeze());
+    assertTrue(jsonArray.isFrozen());
+    assertTrue(jsonArray.getJsonObject(1).isFrozen());
+    assertTrue(jsonArray.getJsonArray(2).isFrozen());
+    assertTrue(jsonArray.getJsonObject(3).isFrozen());
+    assertEquals("foo", jsonArray.getString(0));
+    assertUnsupportedOperationException(() -> jsonArray.add("bar"));
+    assertUnsupportedOperationException(() -> jsonArray.set(0, "bar"));
+    assertUnsupportedOperationException(() -> jsonArray.remove(0));
+    assertUnsupportedOperationException(() -> jsonArray.clear());
+    assertUnsupportedOperationException(() -> jsonArray.getJsonObject(1).put("foo", "baz"));
+    assertUnsupportedOperationException(() -> jsonArray.getJsonArray(2).add(456));
+    Iterator<Object> iter = jsonArray.iterator();
+    iter.next();
+    assertUnsupportedOperationException(iter::remove);
+    JsonArray copy = jsonArray.copy();
+    assertFalse(copy.isFrozen());
+    assertEquals(jsonArray, copy);
+    copy.add("bar");
+    copy.getJsonObject(1).put("foo", "baz");
+    assertEquals(4, jsonArray.size());
+    assertEquals("bar", jsonArray.getJsonObject(1).getString("foo"));
+  }
+
+  @Test
+  public void testFreezeOwnsItsState() {
+    List<Object> list = new ArrayList<>();
+    JsonArray nested = new JsonArray().add(123);
+    byte[] bytes = TestUtils.randomByteArray(10);
+    list.add(nested);
+    list.add(bytes.clone());
+    JsonArray frozen = new JsonArray(list).freeze();
+    list.add("foo");
+    nested.add(456);
+    ((byte[]) list.get(1))[0]++;
+    assertFalse(nested.isFrozen());
+    assertEquals(2, frozen.size());
+    assertEquals(new JsonArray().add(123), frozen.getJsonArray(0));
+    assertArrayEquals(bytes, frozen.getBinary(1));
+    frozen.getBinary(1)[0]++;
+    assertArrayEquals(bytes, frozen.getBinary(1));
+  }
+
   @Test
   public void testInvalidValsOnCopy() {
     List<Object> invalid = new ArrayList<>();
@@ -12,6 +12,7 @@ package io.vertx.core.json;
 
 import com.fasterxml.jackson.core.type.TypeReference;
 import io.vertx.core.buffer.Buffer;
+import io.vertx.core.buffer.impl.BufferImpl;
 import io.vertx.core.http.HttpHeaders;
 import io.vertx.core.http.WebsocketVersion;
 import io.vertx.core.impl.Utils;
@@ -145,6 +146,33 @@ public class JsonCodecTest {
     assertArrayEquals(expected.getBytes(), json.getBytes());
   }
 
+  @Test
+  public void testEncodeToBufferWithSizeHint() {
+    JsonObject jsonObject = new JsonObject().put("mystr", TestUtils.randomAlphaString(1000)).put("myint", 123);
+    Buffer expected = Buffer.buffer(mapper.toString(jsonObject));
+    Buffer json = mapper.toBuffer(jsonObject, false, 4096);
+    assertEquals(expected, json);
+    assertEquals(4096, ((BufferImpl) json).byteBuf().capacity());
+    assertEquals(expected, mapper.toBuffer(jsonObject, false, 16));
+    assertEquals(Buffer.buffer(mapper.toString(jsonObject, true)), mapper.toBuffer(jsonObject, true, 16));
+    for (int i = 0;i < 100;i++) {
+      assertEquals(expected, mapper.toBuffer(jsonObject));
+    }
+  }
+
+  @Test
+  public void testEncodeToBufferAfterLargeEncodings() {
+    JsonObject large = new JsonObject().put("mystr", TestUtils.randomAlphaString(100_000));
+    for (int i = 0;i < 100;i++) {
+      mapper.toBuffer(large);
+    }
+    JsonObject small = new JsonObject().put("myint", 123);
+    Buffer json = mapper.toBuffer(small);
+    assertEquals(Buffer.buffer(mapper.toString(small)), json);
+    // The buffer does not retain the capacity learned from the large encodings
+    assertTrue(((BufferImpl) json).byteBuf().capacity() <= 2 * json.length());
+  }
+
   @Test
   public void testEncodeJsonArrayToBuffer() {
     JsonArray jsonArray = new JsonArray();
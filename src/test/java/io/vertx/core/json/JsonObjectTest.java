@@ -12,6 +12,8 @@
 package io.vertx.core.json;
 
 import io.vertx.core.buffer.Buffer;
+import io.vertx.core.eventbus.impl.codecs.JsonObjectMessageCodec;
+import io.vertx.core.json.impl.LazyJsonMap;
 import io.vertx.core.shareddata.Shareable;
 import io.vertx.test.core.TestUtils;
 import org.junit.Before;
@@ -27,6 +29,7 @@ import java.util.stream.Collectors;
 
 import static io.vertx.core.json.impl.JsonUtil.BASE64_DECODER;
 import static io.vertx.core.json.impl.JsonUtil.BASE64_ENCODER;
+import static io.vertx.test.core.TestUtils.assertUnsupportedOperationException;
 import static java.time.format.DateTimeFormatter.ISO_INSTANT;
 import static org.junit.Assert.*;
 
@@ -1390,6 +1393,195 @@ public class JsonObjectTest {
     assertEquals("blah", copy.getString("eek"));
   }
 
+  @Test
+  public void testFreeze() {
+    Map<String, Object> nestedMap = new HashMap<>();
+    nestedMap.put("foo", "bar");
+    jsonObject.put("foo", "bar");
+    jsonObject.put("obj", new JsonObject().put("quux", 123));
+    jsonObject.put("arr", new JsonArray().add("wibble"));
+    jsonObject.put("map", nestedMap);
+    assertFalse(jsonObject.isFrozen());
+    assertSame(jsonObject, jsonObject.freeze());
+    assertTrue(jsonObject.isFrozen());
+    assertTrue(jsonObject.getJsonObject("obj").isFrozen());
+    assertTrue(jsonObject.getJsonArray("arr").isFrozen());
+    assertTrue(jsonObject.getJsonObject("map").isFrozen());
+    assertEquals("bar", jsonObject.getString("foo"));
+    assertUnsupportedOperationException(() -> jsonObject.put("foo", "baz"));
+    assertUnsupportedOperationException(() -> jsonObject.remove("foo"));
+    assertUnsupportedOperationException(() -> jsonObject.clear());
+    assertUnsupportedOperationException(() -> jsonObject.mergeIn(new JsonObject().put("a", "b")));
+    assertUnsupportedOperationException(() -> jsonObject.getJsonObject("obj").put("quux", 456));
+    assertUnsupportedOperationException(() -> jsonObject.getJsonArray("arr").add("flib"));
+    assertUnsupportedOperationException(() -> jsonObject.getJsonObject("map").put("foo", "baz"));
+    Iterator<Map.Entry<String, Object>> iter = jsonObject.iterator();
+    iter.next();
+    assertUnsupportedOperationException(iter::remove);
+    JsonObject copy = jsonObject.copy();
+    assertFalse(copy.isFrozen());
+    assertEquals(jsonObject, copy);
+    assertEquals(new ArrayList<>(jsonObject.fieldNames()), new ArrayList<>(copy.fieldNames()));
+    copy.put("foo", "baz");
+    copy.getJsonObject("obj").put("quux", 456);
+    assertEquals("bar", jsonObject.getString("foo"));
+    assertEquals(123, (int) jsonObject.getJsonObject("obj").getInteger("quux"));
+  }
+
+  @Test
+  public void testLazy() {
+    Buffer buf = Buffer.buffer("{ \"foo\": \"bar\", \"num\": 123, \"obj\": {\"arr\": [1, 2]},\n \"esc\\\"key\": true, \"nul\": null }");
+    JsonObject lazy = JsonObject.lazy(buf);
+    assertEquals("bar", lazy.getString("foo"));
+    assertEquals(Arrays.asList("foo", "num", "obj", "esc\"key", "nul"), new ArrayList<>(lazy.fieldNames()));
+    assertEquals(5, lazy.size());
+    assertEquals(123, (int) lazy.getInteger("num"));
+    assertEquals(new JsonArray().add(1).add(2), lazy.getJsonObject("obj").getJsonArray("arr"));
+    assertTrue(lazy.getBoolean("esc\"key"));
+    assertTrue(lazy.containsKey("nul"));
+    assertNull(lazy.getValue("nul"));
+    assertEquals(new JsonObject(buf), lazy);
+    assertEquals(new JsonObject(buf), lazy.copy());
+  }
+
+  @Test
+  public void testLazyEncodeUnmodified() {
+    Buffer buf = Buffer.buffer("{ \"foo\": \"bar\", \"obj\": { \"num\": 123 } }");
+    JsonObject lazy = JsonObject.lazy(buf);
+    assertEquals(buf, lazy.toBuffer());
+    assertEquals("bar", lazy.getString("foo"));
+    assertEquals(123, (int) lazy.getJsonObject("obj").getInteger("num"));
+    assertEquals(buf, lazy.toBuffer());
+    assertEquals(buf.toString(), lazy.encode());
+    assertEquals(buf, lazy.copy().toBuffer());
+  }
+
+  @Test
+  public void testLazyEncodeModified() {
+    Buffer buf = Buffer.buffer("{ \"foo\": \"bar\", \"obj\": { \"num\": 123 }, \"arr\": [] }");
+    JsonObject lazy = JsonObject.lazy(buf);
+    lazy.put("foo", "baz");
+    assertEquals("{\"foo\":\"baz\",\"obj\":{\"num\":123},\"arr\":[]}", lazy.encode());
+    lazy = JsonObject.lazy(buf);
+    lazy.getJsonObject("obj").put("num", 456);
+    assertEquals("{\"foo\":\"bar\",\"obj\":{\"num\":456},\"arr\":[]}", lazy.toBuffer().toString());
+    JsonObject copy = lazy.copy();
+    copy.getJsonObject("obj").put("num", 789);
+    assertEquals(456, (int) lazy.getJsonObject("obj").getInteger("num"));
+    lazy = JsonObject.lazy(buf);
+    lazy.getJsonArray("arr").add(1);
+    assertEquals("{\"foo\":\"bar\",\"obj\":{\"num\":123},\"arr\":[1]}", lazy.encode());
+    lazy = JsonObject.lazy(buf);
+    Iterator<Map.Entry<String, Object>> it = lazy.iterator();
+    it.next();
+    it.remove();
+    assertEquals("{\"obj\":{\"num\":123},\"arr\":[]}", lazy.encode());
+  }
+
+  @Test
+  public void testLazyFreeze() {
+    Buffer buf = Buffer.buffer("{\"obj\":{\"num\":123}}");
+    JsonObject lazy = JsonObject.lazy(buf).freeze();
+    assertTrue(lazy.getJsonObject("obj").isFrozen());
+    assertUnsupportedOperationException(() -> lazy.getJsonObject("obj").put("num", 456));
+    assertEquals(buf, lazy.toBuffer());
+  }
+
+  @Test
+  public void testLazyInvalid() {
+    try {
+      JsonObject.lazy(Buffer.buffer("[1,2]")).size();
+      fail();
+    } catch (DecodeException ignore) {
+    }
+    try {
+      JsonObject.lazy(Buffer.buffer("{\"foo\":\"bar\"")).getString("foo");
+      fail();
+    } catch (DecodeException ignore) {
+    }
+    JsonObject lazy = JsonObject.lazy(Buffer.buffer("{\"foo\":tru,\"bar\":1}"));
+    assertEquals(1, (int) lazy.getInteger("bar"));
+    try {
+      lazy.getValue("foo");
+      fail();
+    } catch (DecodeException ignore) {
+    }
+    lazy = JsonObject.lazy(Buffer.buffer("{\"foo\": /* comment */ \"bar\"}"));
+    assertEquals("bar", lazy.getString("foo"));
+  }
+
+  @Test
+  public void testLazyEncodeInvalid() {
+    for (String invalid : Arrays.asList("not json", "[1,2]", "{\"foo\":[}", "{\"foo\":tru}", "{\"foo\":1} {}")) {
+      JsonObject lazy = JsonObject.lazy(Buffer.buffer(invalid));
+      try {
+        lazy.toBuffer();
+        fail("Should not reuse " + invalid);
+      } catch (DecodeException ignore) {
+      }
+    }
+    Buffer buf = Buffer.buffer("{\"foo\":tru,\"obj\":{\"num\":123}}");
+    JsonObject lazy = JsonObject.lazy(buf);
+    assertEquals(123, (int) lazy.getJsonObject("obj").getInteger("num"));
+    try {
+      lazy.encode();
+      fail();
+    } catch (DecodeException ignore) {
+    }
+  }
+
+  @Test
+  public void testLazyEncodeArrayRead() {
+    Buffer buf = Buffer.buffer("{\"arr\":[1, 2]}");
+    JsonObject lazy = JsonObject.lazy(buf);
+    assertEquals(buf, lazy.toBuffer());
+    assertEquals(2, lazy.getJsonArray("arr").size());
+    // Encoded again since the array could have been modified
+    assertEquals("{\"arr\":[1,2]}", lazy.encode());
+  }
+
+  @Test
+  public void testLazyMessageCodec() {
+    JsonObjectMessageCodec codec = new JsonObjectMessageCodec(true);
+    JsonObject sent = new JsonObject().put("foo", "bar").put("obj", new JsonObject().put("num", 123));
+    Buffer wire = Buffer.buffer("header");
+    codec.encodeToWire(wire, sent);
+    JsonObject received = codec.decodeFromWire(6, wire);
+    assertTrue(received.getMap() instanceof LazyJsonMap);
+    assertEquals(sent, received);
+    assertEquals(sent.toBuffer(), received.toBuffer());
+  }
+
+  @Test
+  public void testFreezeOwnsItsState() {
+    Map<String, Object> map = new HashMap<>();
+    JsonObject nested = new JsonObject().put("quux", 123);
+    List<Object> nestedList = new ArrayList<>();
+    nestedList.add("wibble");
+    byte[] bytes = TestUtils.randomByteArray(10);
+    Buffer buffer = TestUtils.randomBuffer(10);
+    map.put("obj", nested);
+    map.put("list", nestedList);
+    map.put("bytes", bytes.clone());
+    map.put("buffer", buffer.copy());
+    JsonObject frozen = new JsonObject(map).freeze();
+    map.put("foo", "bar");
+    nested.put("quux", 456);
+    nestedList.add("flib");
+    ((byte[]) map.get("bytes"))[0]++;
+    ((Buffer) map.get("buffer")).setByte(0, (byte) (buffer.getByte(0) + 1));
+    assertFalse(nested.isFrozen());
+    assertEquals(4, frozen.size());
+    assertEquals(123, (int) frozen.getJsonObject("obj").getInteger("quux"));
+    assertEquals(new JsonArray().add("wibble"), frozen.getJsonArray("list"));
+    assertArrayEquals(bytes, frozen.getBinary("bytes"));
+    assertEquals(buffer, frozen.getBuffer("buffer"));
+    frozen.getBinary("bytes")[0]++;
+    frozen.getBuffer("buffer").setByte(0, (byte) (buffer.getByte(0) + 1));
+    assertArrayEquals(bytes, frozen.getBinary("bytes"));
+    assertEquals(buffer, frozen.getBuffer("buffer"));
+  }
+
   @Test
   public void testInvalidValsOnCopy1() {
     Map<String, Object> invalid = new HashMap<>();
@@ -0,0 +1,105 @@
+/*
+ * Copyright (c) 2011-2019 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.core.metrics.impl;
+
+import io.vertx.core.json.JsonObject;
+import org.junit.Test;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+import static org.junit.Assert.*;
+
+public class LatencyHistogramTest {
+
+  @Test
+  public void testBuckets() {
+    for (long value = 0;value < 32;value++) {
+      assertEquals(value, LatencyHistogram.bucket(value));
+      assertEquals(value, LatencyHistogram.highestValue((int) value));
+    }
+    int previous = LatencyHistogram.bucket(31);
+    for (int i = 0;i < 100_000;i++) {
+      long value = 32 + ThreadLocalRandom.current().nextLong(1L << 39);
+      int bucket = LatencyHistogram.bucket(value);
+      long highest = LatencyHistogram.highestValue(bucket);
+      assertTrue(value <= highest);
+      assertTrue(highest - value <= value / 32);
+      assertEquals(bucket, LatencyHistogram.bucket(highest));
+      assertEquals(bucket + 1, LatencyHistogram.bucket(highest + 1));
+    }
+    for (int bucket = 32;bucket < LatencyHistogram.BUCKET_COUNT - 1;bucket++) {
+      assertEquals(LatencyHistogram.highestValue(bucket) + 1, lowestValue(bucket + 1));
+    }
+    assertEquals(previous + 1, LatencyHistogram.bucket(32));
+    assertEquals(LatencyHistogram.BUCKET_COUNT - 1, LatencyHistogram.bucket(Long.MAX_VALUE));
+  }
+
+  private static long lowestValue(int bucket) {
+    long value = LatencyHistogram.highestValue(bucket - 1) + 1;
+    assertEquals(bucket, LatencyHistogram.bucket(value));
+    return value;
+  }
+
+  @Test
+  public void testEmpty() {
+    LatencyHistogram.Snapshot snapshot = new LatencyHistogram().snapshot();
+    assertEquals(0, snapshot.count());
+    assertEquals(0, snapshot.mean());
+    assertEquals(0, snapshot.max());
+    assertEquals(0, snapshot.valueAt(0.99));
+  }
+
+  @Test
+  public void testPercentiles() {
+    LatencyHistogram histogram = new LatencyHistogram();
+    for (int i = 1;i <= 1000;i++) {
+      histogram.record(i * 1000L);
+    }
+    histogram.record(-1);
+    LatencyHistogram.Snapshot snapshot = histogram.snapshot();
+    assertEquals(1001, snapshot.count());
+    assertEquals(1000L * 1001 * 1000 / 2 / 1001, snapshot.mean());
+    assertAccurate(1_000_000, snapshot.max());
+    assertAccurate(500_000, snapshot.valueAt(0.5));
+    assertAccurate(990_000, snapshot.valueAt(0.99));
+    assertAccurate(999_000, snapshot.valueAt(0.999));
+    assertEquals(0, snapshot.valueAt(0));
+    JsonObject json = snapshot.toJson();
+    assertEquals(1001L, (long) json.getLong("count"));
+    assertEquals(snapshot.valueAt(0.99) / 1_000_000D, json.getDouble("p99"), 0D);
+  }
+
+  private static void assertAccurate(long expected, long actual) {
+    assertTrue(actual >= expected);
+    assertTrue(actual - expected <= expected / 32);
+  }
+
+  @Test
+  public void testConcurrentRecords() throws Exception {
+    LatencyHistogram histogram = new LatencyHistogram();
+    Thread[] threads = new Thread[8];
+    for (int i = 0;i < threads.length;i++) {
+      threads[i] = new Thread(() -> {
+        for (int j = 0;j < 10_000;j++) {
+          histogram.record(j);
+        }
+      });
+      threads[i].start();
+    }
+    for (Thread thread : threads) {
+      thread.join();
+    }
+    LatencyHistogram.Snapshot snapshot = histogram.snapshot();
+    assertEquals(80_000, snapshot.count());
+    assertEquals(9999 / 2, snapshot.mean());
+  }
+}
@@ -15,6 +15,7 @@ import io.vertx.core.*;
 import io.vertx.core.net.impl.clientconnection.ConnectResult;
 import io.vertx.core.net.impl.clientconnection.ConnectionListener;
 import io.vertx.core.net.impl.clientconnection.ConnectionProvider;
+import io.vertx.core.http.ConnectionSelector;
 import io.vertx.core.net.impl.clientconnection.Pool;
 import io.vertx.core.impl.ContextInternal;
 import io.vertx.test.core.VertxTestBase;
@@ -46,16 +47,22 @@ public class ConnectionPoolTest extends VertxTestBase {
     private int closeCount;
     private int seq;
     private final boolean fifo;
+    private final ConnectionSelector selector;
 
     FakeConnectionManager(int queueMaxSize, int poolMaxSize, ConnectionProvider<FakeConnection> connector) {
       this(queueMaxSize, poolMaxSize, connector, false);
     }
 
     FakeConnectionManager(int queueMaxSize, int poolMaxSize, ConnectionProvider<FakeConnection> connector, boolean fifo) {
+      this(queueMaxSize, poolMaxSize, connector, fifo, null);
+    }
+
+    FakeConnectionManager(int queueMaxSize, int poolMaxSize, ConnectionProvider<FakeConnection> connector, boolean fifo, ConnectionSelector selector) {
       this.queueMaxSize = queueMaxSize;
       this.poolMaxSize = poolMaxSize;
       this.connector = connector;
       this.fifo = fifo;
+      this.selector = selector;
     }
 
     synchronized int sequence() {
@@ -105,7 +112,7 @@ public class ConnectionPoolTest extends VertxTestBase {
             synchronized (FakeConnectionManager.this) {
               active.remove(conn);
             }
-          }, fifo
+          }, fifo, selector
           );
         }
       }
@@ -420,6 +427,59 @@ public class ConnectionPoolTest extends VertxTestBase {
     waiter3.assertSuccess(lastInConnection);
   }
 
+  @Test
+  public void testSelectLeastLoaded() {
+    FakeConnectionProvider connector = new FakeConnectionProvider();
+    FakeConnectionManager mgr = new FakeConnectionManager(-1, 2, connector, false, ConnectionSelector.LEAST_LOADED);
+    List<FakeWaiter> waiters = new ArrayList<>();
+    for (int i = 0;i < 4;i++) {
+      FakeWaiter waiter = new FakeWaiter();
+      mgr.getConnection(waiter);
+      waiters.add(waiter);
+    }
+    FakeConnection conn1 = connector.assertRequest();
+    conn1.concurrency(2).connect();
+    FakeConnection conn2 = connector.assertRequest();
+    conn2.concurrency(2).connect();
+    waiters.forEach(waiter -> assertWaitUntil(waiter::isSuccess));
+    conn1.recycle();
+    conn1.recycle();
+    // The LIFO recycling policy puts conn2 first, however it still has a request in-flight
+    conn2.recycle();
+    FakeWaiter waiter = new FakeWaiter();
+    mgr.getConnection(waiter);
+    assertWaitUntil(waiter::isSuccess);
+    waiter.assertSuccess(conn1);
+  }
+
+  @Test
+  public void testSelectorReturningNoCandidate() {
+    ConnectionSelector.Candidate foreign = new ConnectionSelector.Candidate() {
+      public long inFlight() { return 0; }
+      public long concurrency() { return 1; }
+      public long latency() { return 0; }
+    };
+    AtomicInteger selections = new AtomicInteger();
+    FakeConnectionProvider connector = new FakeConnectionProvider();
+    FakeConnectionManager mgr = new FakeConnectionManager(-1, 1, connector, false, candidates -> selections.getAndIncrement() == 0 ? null : foreign);
+    FakeWaiter waiter1 = new FakeWaiter();
+    mgr.getConnection(waiter1);
+    FakeConnection conn = connector.assertRequest();
+    conn.concurrency(2).connect();
+    assertWaitUntil(waiter1::isSuccess);
+    // The selector returns null then a candidate that is not available, the first available connection is lent
+    FakeWaiter waiter2 = new FakeWaiter();
+    mgr.getConnection(waiter2);
+    assertWaitUntil(waiter2::isSuccess);
+    waiter2.assertSuccess(conn);
+    conn.recycle();
+    FakeWaiter waiter3 = new FakeWaiter();
+    mgr.getConnection(waiter3);
+    assertWaitUntil(waiter3::isSuccess);
+    waiter3.assertSuccess(conn);
+    assertEquals(1, mgr.size());
+  }
+
   @Test
   public void testDiscardWaiterWhenFull() {
     FakeConnectionProvider connector = new FakeConnectionProvider();
@@ -12,14 +12,18 @@
 package io.vertx.core.parsetools;
 
 import com.fasterxml.jackson.core.type.TypeReference;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
 import io.vertx.core.Handler;
 import io.vertx.core.buffer.Buffer;
 import io.vertx.core.json.DecodeException;
 import io.vertx.core.json.JsonArray;
 import io.vertx.core.json.JsonObject;
+import io.vertx.core.json.pointer.JsonPointer;
 import io.vertx.test.core.TestUtils;
 import org.junit.Test;
 
+import java.nio.charset.StandardCharsets;
 import java.time.Instant;
 import java.time.format.DateTimeParseException;
 import java.util.ArrayList;
@@ -158,6 +162,116 @@ public class JsonParserTest {
     assertEquals(1, status.get());
   }
 
+  @Test
+  public void testParseSlicedAndDirectBuffers() {
+    JsonParser parser = JsonParser.newParser();
+    parser.objectValueMode();
+    List<Object> values = new ArrayList<>();
+    parser.handler(event -> values.add(event.value()));
+    Buffer sliced = Buffer.buffer("xx{\"foo\":\"bar\"}yy").slice(2, 15);
+    parser.handle(sliced);
+    ByteBuf direct = Unpooled.directBuffer();
+    direct.writeCharSequence("{\"juu\":", StandardCharsets.UTF_8);
+    parser.handle(Buffer.buffer(direct));
+    direct = Unpooled.directBuffer();
+    direct.writeCharSequence("\"daa\"}", StandardCharsets.UTF_8);
+    parser.handle(Buffer.buffer(direct));
+    parser.end();
+    assertEquals(Arrays.asList(new JsonObject().put("foo", "bar"), new JsonObject().put("juu", "daa")), values);
+  }
+
+  @Test
+  public void testPausedParserKeepsTheInput() {
+    JsonParser parser = JsonParser.newParser();
+    List<Object> values = new ArrayList<>();
+    parser.handler(event -> {
+      if (event.type() == JsonEventType.VALUE) {
+        values.add(event.value());
+      }
+    });
+    parser.pause();
+    parser.handle(Buffer.buffer("[\"foo\","));
+    assertEquals(Collections.emptyList(), values);
+    parser.resume();
+    parser.handle(Buffer.buffer("\"bar\"]"));
+    parser.end();
+    assertEquals(Arrays.asList("foo", "bar"), values);
+  }
+
+  @Test
+  public void testReuseEvents() {
+    JsonParser parser = JsonParser.newParser();
+    parser.reuseEvents(true);
+    List<JsonEvent> events = new ArrayList<>();
+    List<Object> values = new ArrayList<>();
+    parser.handler(event -> {
+      events.add(event);
+      values.add(event.type() == JsonEventType.VALUE ? event.fieldName() + "=" + event.value() : event.type());
+    });
+    parser.handle(Buffer.buffer("{\"foo\":\"bar\",\"num\":3}"));
+    parser.end();
+    assertEquals(Arrays.asList(JsonEventType.START_OBJECT, "foo=bar", "num=3", JsonEventType.END_OBJECT), values);
+    assertTrue(events.stream().allMatch(event -> event == events.get(0)));
+  }
+
+  @Test
+  public void testProjection() {
+    JsonParser parser = JsonParser.newParser();
+    JsonPointer id = JsonPointer.from("/id");
+    JsonPointer name = JsonPointer.from("/user/name");
+    JsonPointer tags = JsonPointer.from("/tags");
+    JsonPointer second = JsonPointer.from("/items/1/value");
+    JsonPointer escaped = JsonPointer.from("/a~1b");
+    parser.projectionMode(Arrays.asList(id, name, tags, second, escaped));
+    List<JsonEvent> events = new ArrayList<>();
+    parser.handler(events::add);
+    parser.handle(Buffer.buffer("{\"skipped\":{\"id\":0,\"user\":{\"name\":\"nested\"}},\"id\":1,\"user\":{\"age\":3,\"name\":\"julien\"}," +
+      "\"tags\":[\"a\",{\"b\":true}],\"items\":[{\"value\":0},{\"value\":2},{\"value\":3}],\"a/b\":null}"));
+    parser.handle(Buffer.buffer("{\"id\":2}"));
+    parser.end();
+    assertEquals(6, events.size());
+    events.forEach(event -> assertEquals(JsonEventType.VALUE, event.type()));
+    assertEquals(id, events.get(0).pointer());
+    assertEquals("id", events.get(0).fieldName());
+    assertEquals(1L, (long)events.get(0).longValue());
+    assertEquals(name, events.get(1).pointer());
+    assertEquals("julien", events.get(1).stringValue());
+    assertEquals(tags, events.get(2).pointer());
+    assertEquals(new JsonArray().add("a").add(new JsonObject().put("b", true)), events.get(2).arrayValue());
+    assertEquals(second, events.get(3).pointer());
+    assertEquals(2L, (long)events.get(3).longValue());
+    assertEquals(escaped, events.get(4).pointer());
+    assertTrue(events.get(4).isNull());
+    assertEquals(id, events.get(5).pointer());
+    assertEquals(2L, (long)events.get(5).longValue());
+  }
+
+  @Test
+  public void testProjectionRootPointer() {
+    JsonParser parser = JsonParser.newParser();
+    parser.projectionMode(Collections.singletonList(JsonPointer.create()));
+    List<Object> values = new ArrayList<>();
+    parser.handler(event -> values.add(event.value()));
+    parser.handle(Buffer.buffer("{\"foo\":\"bar\"} 3 [1]"));
+    parser.end();
+    assertEquals(Arrays.asList(new JsonObject().put("foo", "bar"), 3L, new JsonArray().add(1L)), values);
+  }
+
+  @Test
+  public void testProjectionFetch() {
+    JsonParser parser = JsonParser.newParser();
+    parser.projectionMode(Collections.singletonList(JsonPointer.from("/id")));
+    List<Object> values = new ArrayList<>();
+    parser.handler(event -> values.add(event.value()));
+    parser.pause();
+    parser.handle(Buffer.buffer("{\"id\":1,\"other\":[1,2,3]}{\"id\":2}"));
+    assertEquals(Collections.emptyList(), values);
+    parser.fetch(1);
+    assertEquals(Collections.singletonList(1L), values);
+    parser.fetch(1);
+    assertEquals(Arrays.asList(1L, 2L), values);
+  }
+
   @Test
   public void testParseArrayValue() {
     JsonParser parser = JsonParser.newParser();
@@ -275,6 +275,51 @@ public class RecordParserTest {
       new Integer[] { 18 }, Buffer.buffer("start-ab-c-ddd"));
   }
 
+  @Test
+  public void testOverlappingDelimiter() {
+    for (int chunkSize = 1;chunkSize <= 12;chunkSize++) {
+      doTestDelimited(Buffer.buffer("xaaabyaabaabzaaaab"), Buffer.buffer("aab"),
+        new Integer[] { chunkSize }, Buffer.buffer("xa"), Buffer.buffer("y"), Buffer.buffer(""), Buffer.buffer("zaa"));
+      doTestDelimited(Buffer.buffer("abababcabababababc"), Buffer.buffer("ababc"),
+        new Integer[] { chunkSize }, Buffer.buffer("ab"), Buffer.buffer("abab"));
+    }
+  }
+
+  @Test
+  public void testDelimiterAtEveryPosition() {
+    byte delim = (byte) 0xFF;
+    List<Buffer> records = new ArrayList<>();
+    Buffer input = Buffer.buffer();
+    for (int i = 0;i < 40;i++) {
+      Buffer record = Buffer.buffer();
+      for (int j = 0;j < i;j++) {
+        // Bytes close to the delimiter, with and without the high bit
+        record.appendByte((byte) (j % 2 == 0 ? 0xFE : 0x7F));
+      }
+      records.add(record);
+      input.appendBuffer(record).appendByte(delim);
+    }
+    for (int chunkSize : new int[] { 1, 7, 8, 9, 64, input.length() }) {
+      doTestDelimited(input, Buffer.buffer(new byte[] { delim }), new Integer[] { chunkSize }, records.toArray(new Buffer[0]));
+    }
+  }
+
+  @Test
+  public void testInputIsNotModified() {
+    List<Buffer> emitted = new ArrayList<>();
+    RecordParser parser = RecordParser.newDelimited("\n", emitted::add);
+    Buffer first = Buffer.buffer("abc\nde");
+    Buffer second = Buffer.buffer("f\ngh");
+    parser.handle(first);
+    parser.handle(second);
+    parser.handle(Buffer.buffer("i\n"));
+    assertEquals(Arrays.asList(Buffer.buffer("abc"), Buffer.buffer("def"), Buffer.buffer("ghi")), emitted);
+    assertEquals(Buffer.buffer("abc\nde"), first);
+    assertEquals(Buffer.buffer("f\ngh"), second);
+    emitted.get(0).appendString("-appended");
+    assertEquals(Buffer.buffer("abc\nde"), first);
+  }
+
   @Test
   public void testDelimitedMaxRecordSize() {
     doTestDelimitedMaxRecordSize(Buffer.buffer("ABCD\nEFGH\n"), Buffer.buffer("\n"), new Integer[] { 2 },
@@ -0,0 +1,140 @@
+/*
+ * Copyright (c) 2011-2019 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.core.spi.cluster.impl.selector;
+
+import io.vertx.core.spi.cluster.RegistrationInfo;
+import org.junit.Test;
+
+import java.util.*;
+import java.util.stream.IntStream;
+import java.util.stream.StreamSupport;
+
+import static java.util.stream.Collectors.toList;
+import static java.util.stream.Collectors.toSet;
+import static org.junit.Assert.*;
+
+public class MutableRoundRobinSelectorTest {
+
+  private static List<RegistrationInfo> registrations(Map<String, Integer> weights) {
+    List<RegistrationInfo> registrations = new ArrayList<>();
+    long seq = 0;
+    for (Map.Entry<String, Integer> entry : weights.entrySet()) {
+      for (int i = 0;i < entry.getValue();i++) {
+        registrations.add(new RegistrationInfo(entry.getKey(), seq++, false));
+      }
+    }
+    return registrations;
+  }
+
+  private static Map<String, Integer> sendCounts(RoundRobinSelector selector, int num) {
+    Map<String, Integer> counts = new HashMap<>();
+    IntStream.range(0, num).mapToObj(i -> selector.selectForSend()).forEach(nodeId -> counts.merge(nodeId, 1, Math::addExact));
+    return counts;
+  }
+
+  private static Set<String> publish(RoundRobinSelector selector) {
+    return StreamSupport.stream(selector.selectForPublish().spliterator(), false).collect(toSet());
+  }
+
+  @Test
+  public void testSelect() {
+    Map<String, Integer> weights = new HashMap<>();
+    weights.put("foo", 28);
+    weights.put("bar", 91);
+    weights.put("baz", 13);
+    MutableRoundRobinSelector selector = new MutableRoundRobinSelector(registrations(weights));
+    Map<String, Integer> counts = sendCounts(selector, 132 * 10);
+    for (Map.Entry<String, Integer> weight : weights.entrySet()) {
+      assertEquals(10 * weight.getValue(), counts.get(weight.getKey()).intValue());
+    }
+    assertEquals(weights.keySet(), publish(selector));
+  }
+
+  @Test
+  public void testDeltas() {
+    RegistrationInfo foo1 = new RegistrationInfo("foo", 1, false);
+    RegistrationInfo foo2 = new RegistrationInfo("foo", 2, false);
+    RegistrationInfo bar1 = new RegistrationInfo("bar", 1, false);
+    MutableRoundRobinSelector selector = new MutableRoundRobinSelector(Collections.singletonList(foo1));
+    assertEquals("foo", selector.selectForSend());
+    selector.add(bar1);
+    selector.add(bar1);
+    assertEquals(new HashSet<>(Arrays.asList("foo", "bar")), publish(selector));
+    Map<String, Integer> counts = sendCounts(selector, 10);
+    assertEquals(5, counts.get("foo").intValue());
+    assertEquals(5, counts.get("bar").intValue());
+    selector.add(foo2);
+    selector.remove(foo1);
+    assertEquals(new HashSet<>(Arrays.asList("foo", "bar")), publish(selector));
+    selector.remove(foo2);
+    selector.remove(foo2);
+    assertEquals(Collections.singleton("bar"), publish(selector));
+    assertEquals("bar", selector.selectForSend());
+    assertFalse(selector.isEmpty());
+    selector.remove(bar1);
+    assertTrue(selector.isEmpty());
+    assertNull(selector.selectForSend());
+    assertEquals(Collections.emptySet(), publish(selector));
+  }
+
+  @Test
+  public void testEntryDelta() {
+    RegistrationInfo foo = new RegistrationInfo("foo", 1, false);
+    RegistrationInfo bar = new RegistrationInfo("bar", 1, false);
+    SelectorEntry entry = new SelectorEntry().data(Collections.singletonList(foo));
+    assertFalse(entry.selector instanceof MutableRoundRobinSelector);
+    // The first delta creates a selector from the registrations of the entry
+    SelectorEntry updated = entry.delta(Collections.singletonList(bar), Collections.emptyList());
+    assertNotSame(entry, updated);
+    assertSame(entry.selectorPromise, updated.selectorPromise);
+    assertEquals(new HashSet<>(Arrays.asList("foo", "bar")), publish(updated.selector));
+    // The next ones update it in place
+    assertSame(updated, updated.delta(Collections.emptyList(), Collections.singletonList(foo)));
+    assertEquals(Collections.singleton("bar"), publish(updated.selector));
+    assertNull(updated.delta(Collections.emptyList(), Collections.singletonList(bar)));
+  }
+
+  @Test
+  public void testEntryBuffersDeltas() {
+    RegistrationInfo foo = new RegistrationInfo("foo", 1, false);
+    RegistrationInfo bar = new RegistrationInfo("bar", 1, false);
+    RegistrationInfo baz = new RegistrationInfo("baz", 1, false);
+    SelectorEntry entry = new SelectorEntry();
+    // Received while the registrations are read
+    entry = entry.buffer(Collections.singletonList(bar), Collections.emptyList());
+    entry = entry.increment();
+    entry = entry.buffer(Collections.singletonList(baz), Collections.singletonList(foo));
+    assertTrue(entry.isNotReady());
+    // The registrations were read before the deltas
+    SelectorEntry ready = entry.data(Collections.singletonList(foo));
+    assertSame(entry.selectorPromise, ready.selectorPromise);
+    assertEquals(new HashSet<>(Arrays.asList("bar", "baz")), publish(ready.selector));
+    // The registrations were read after the first delta
+    ready = entry.data(Arrays.asList(foo, bar));
+    assertEquals(new HashSet<>(Arrays.asList("bar", "baz")), publish(ready.selector));
+    // No registration remains
+    assertNull(new SelectorEntry().buffer(Collections.emptyList(), Collections.singletonList(foo)).data(Collections.singletonList(foo)));
+  }
+
+  @Test
+  public void testManyRegistrations() {
+    int num = 50_000;
+    List<RegistrationInfo> registrations = IntStream.range(0, num)
+      .mapToObj(i -> new RegistrationInfo("node-" + (i % 10), i, false))
+      .collect(toList());
+    MutableRoundRobinSelector selector = new MutableRoundRobinSelector(Collections.emptyList());
+    registrations.forEach(selector::add);
+    assertEquals(10, publish(selector).size());
+    registrations.forEach(selector::remove);
+    assertTrue(selector.isEmpty());
+  }
+}
@@ -0,0 +1,116 @@
+/*
+ * Copyright (c) 2011-2019 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.core.spi.metrics;
+
+import io.vertx.core.VertxOptions;
+import io.vertx.core.http.HttpClient;
+import io.vertx.core.http.HttpMethod;
+import io.vertx.core.http.HttpServer;
+import io.vertx.core.http.HttpTestBase;
+import io.vertx.core.json.JsonObject;
+import io.vertx.core.metrics.LatencyMetricsFactory;
+import io.vertx.core.metrics.MetricsOptions;
+import io.vertx.test.core.VertxTestBase;
+import org.junit.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class LatencyMetricsTest extends VertxTestBase {
+
+  @Override
+  protected VertxOptions getOptions() {
+    VertxOptions options = super.getOptions();
+    options.setMetricsOptions(new MetricsOptions().setEnabled(true).setFactory(new LatencyMetricsFactory()));
+    return options;
+  }
+
+  @Test
+  public void testHttp() {
+    int num = 10;
+    HttpServer server = vertx.createHttpServer();
+    server.requestHandler(req -> vertx.setTimer(5, id -> req.response().end()));
+    server.listen(HttpTestBase.DEFAULT_HTTP_PORT, HttpTestBase.DEFAULT_HTTP_HOST, onSuccess(s -> {
+      HttpClient client = vertx.createHttpClient();
+      AtomicInteger count = new AtomicInteger();
+      for (int i = 0;i < num;i++) {
+        client.request(HttpMethod.GET, HttpTestBase.DEFAULT_HTTP_PORT, HttpTestBase.DEFAULT_HTTP_HOST, "/")
+          .compose(req -> req.send().compose(resp -> resp.body()))
+          .onComplete(onSuccess(body -> {
+            if (count.incrementAndGet() == num) {
+              testComplete();
+            }
+          }));
+      }
+    }));
+    await();
+    assertWaitUntil(() -> LatencyMetricsFactory.snapshot(server).getJsonObject("latency").getLong("count") == num);
+    JsonObject serverMetrics = LatencyMetricsFactory.snapshot(server);
+    assertEquals(num, (long) serverMetrics.getLong("requests"));
+    assertEquals(0, (long) serverMetrics.getLong("active"));
+    assertTrue(serverMetrics.getJsonObject("latency").getDouble("p50") >= 5D);
+    assertWaitUntil(() -> LatencyMetricsFactory.snapshot(vertx).getJsonObject("http.client").getJsonObject("latency").getLong("count") == num);
+    JsonObject clientMetrics = LatencyMetricsFactory.snapshot(vertx).getJsonObject("http.client");
+    assertEquals(num, (long) clientMetrics.getLong("requests"));
+    assertTrue(clientMetrics.getJsonObject("latency").getDouble("p999") >= 5D);
+  }
+
+  @Test
+  public void testSharedMeterOutlivesFirstClose() {
+    HttpClient client1 = vertx.createHttpClient();
+    HttpClient client2 = vertx.createHttpClient();
+    assertSame(((MetricsProvider) client1).getMetrics(), ((MetricsProvider) client2).getMetrics());
+    client1.close().onComplete(onSuccess(v1 -> {
+      // Still used by the other client
+      assertTrue(LatencyMetricsFactory.snapshot(vertx).containsKey("http.client"));
+      client2.close().onComplete(onSuccess(v2 -> {
+        assertFalse(LatencyMetricsFactory.snapshot(vertx).containsKey("http.client"));
+        testComplete();
+      }));
+    }));
+    await();
+  }
+
+  @Test
+  public void testWorkerPool() {
+    int num = 10;
+    AtomicInteger count = new AtomicInteger();
+    for (int i = 0;i < num;i++) {
+      vertx.executeBlocking(p -> p.complete(), false, onSuccess(v -> {
+        if (count.incrementAndGet() == num) {
+          testComplete();
+        }
+      }));
+    }
+    await();
+    assertWaitUntil(() -> LatencyMetricsFactory.snapshot(vertx).getJsonObject("pool.worker.vert.x-worker-thread").getLong("completed") == num);
+    JsonObject poolMetrics = LatencyMetricsFactory.snapshot(vertx).getJsonObject("pool.worker.vert.x-worker-thread");
+    assertEquals(0, (long) poolMetrics.getLong("queued"));
+    assertEquals(num, (long) poolMetrics.getJsonObject("waitTime").getLong("count"));
+    assertEquals(num, (long) poolMetrics.getJsonObject("usage").getLong("count"));
+  }
+
+  @Test
+  public void testEventBus() {
+    vertx.eventBus().consumer("the-address", msg -> msg.reply("pong")).completionHandler(onSuccess(v -> {
+      vertx.eventBus().request("the-address", "ping", onSuccess(reply -> {
+        testComplete();
+      }));
+    }));
+    await();
+    // The reply handler is unregistered after the reply is handled
+    assertWaitUntil(() -> LatencyMetricsFactory.snapshot(vertx.eventBus()).getLong("handlers") == 1);
+    JsonObject eventBusMetrics = LatencyMetricsFactory.snapshot(vertx.eventBus());
+    assertEquals(2, (long) eventBusMetrics.getLong("sent"));
+    assertEquals(2, (long) eventBusMetrics.getLong("delivered"));
+    assertEquals(0, (long) eventBusMetrics.getLong("pending"));
+  }
+}
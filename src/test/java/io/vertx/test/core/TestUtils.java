@@ -336,6 +336,20 @@ public class TestUtils {
     }
   }
 
+  /**
+   * Asserts that an UnsupportedOperationException is thrown by the code block.
+   *
+   * @param runnable code block to execute
+   */
+  public static void assertUnsupportedOperationException(Runnable runnable) {
+    try {
+      runnable.run();
+      fail("Should throw UnsupportedOperationException");
+    } catch (UnsupportedOperationException e) {
+      // OK
+    }
+  }
+
   public static void assertIllegalStateExceptionAsync(Supplier<Future<?>> runnable) {
     Future<?> fut = runnable.get();
     assertTrue(fut.failed());
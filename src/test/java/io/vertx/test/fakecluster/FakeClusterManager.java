@@ -49,6 +49,16 @@ public class FakeClusterManager implements ClusterManager {
   private NodeListener nodeListener;
   private VertxInternal vertx;
   private NodeSelector nodeSelector;
+  private volatile boolean registrationDeltas = true;
+
+  /**
+   * Set whether the registration updates are sent as deltas to a node selector accepting them, otherwise the
+   * selector always receives the full registration list.
+   */
+  public FakeClusterManager registrationDeltas(boolean registrationDeltas) {
+    this.registrationDeltas = registrationDeltas;
+    return this;
+  }
 
   @Override
   public void init(Vertx vertx, NodeSelector nodeSelector) {
@@ -188,16 +198,25 @@ public class FakeClusterManager implements ClusterManager {
   @Override
   public void leave(Promise<Void> promise) {
     List<RegistrationUpdateEvent> events = new ArrayList<>();
+    List<RegistrationUpdateEvent> deltas = new ArrayList<>();
     registrations.keySet().forEach(address -> {
+      List<RegistrationInfo> removed = new ArrayList<>();
       List<RegistrationInfo> current = registrations.compute(address, (addr, infos) -> {
         if (infos == null) return null;
         return infos.stream()
-          .filter(info -> !info.nodeId().equals(nodeID))
+          .filter(info -> {
+            if (info.nodeId().equals(nodeID)) {
+              removed.add(info);
+              return false;
+            }
+            return true;
+          })
           .collect(collectingAndThen(toList(), list -> list.isEmpty() ? null : list));
       });
       events.add(new RegistrationUpdateEvent(address, current));
+      deltas.add(RegistrationUpdateEvent.delta(address, null, removed));
     });
-    fireRegistrationUpdateEvents(events, true);
+    fireRegistrationUpdateEvents(events, deltas, true);
     vertx.executeBlocking(fut -> {
       synchronized (this) {
         if (nodeID != null) {
@@ -213,15 +232,20 @@ public class FakeClusterManager implements ClusterManager {
     }, promise);
   }
 
-  private synchronized void fireRegistrationUpdateEvents(List<RegistrationUpdateEvent> events, boolean skipThisNode) {
+  /**
+   * Fire the {@code events} to the nodes, or the {@code deltas} to the nodes sending deltas to a selector accepting them.
+   */
+  private synchronized void fireRegistrationUpdateEvents(List<RegistrationUpdateEvent> events, List<RegistrationUpdateEvent> deltas, boolean skipThisNode) {
     for (String nid : getNodes()) {
       if (skipThisNode && Objects.equals(nodeID, nid)) {
         continue;
       }
-      for (RegistrationUpdateEvent event : events) {
-        FakeClusterManager clusterManager = nodes.get(nid);
-        if (clusterManager != null && clusterManager.isActive()) {
-          clusterManager.nodeSelector.registrationsUpdated(event);
+      FakeClusterManager clusterManager = nodes.get(nid);
+      if (clusterManager != null && clusterManager.isActive()) {
+        NodeSelector selector = clusterManager.nodeSelector;
+        boolean delta = clusterManager.registrationDeltas && selector.acceptsRegistrationDeltas();
+        for (RegistrationUpdateEvent event : delta ? deltas : events) {
+          selector.registrationsUpdated(event);
         }
       }
     }
@@ -246,7 +270,8 @@ public class FakeClusterManager implements ClusterManager {
     });
     promise.complete();
     RegistrationUpdateEvent event = new RegistrationUpdateEvent(address, current);
-    fireRegistrationUpdateEvents(Collections.singletonList(event), false);
+    RegistrationUpdateEvent delta = RegistrationUpdateEvent.delta(address, Collections.singletonList(registrationInfo), null);
+    fireRegistrationUpdateEvents(Collections.singletonList(event), Collections.singletonList(delta), false);
   }
 
   @Override
@@ -264,7 +289,8 @@ public class FakeClusterManager implements ClusterManager {
     });
     promise.complete();
     RegistrationUpdateEvent event = new RegistrationUpdateEvent(address, current);
-    fireRegistrationUpdateEvents(Collections.singletonList(event), false);
+    RegistrationUpdateEvent delta = RegistrationUpdateEvent.delta(address, null, Collections.singletonList(registrationInfo));
+    fireRegistrationUpdateEvents(Collections.singletonList(event), Collections.singletonList(delta), false);
   }
 
   @Override